@@ -0,0 +1,81 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import org.aston.java.intensive_39.kubrak.list.implemantations.SomeArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение адаптивной сортировки {@code SomeArrayList.sort(Comparator)} с исходной быстрой сортировкой
+ * {@link LegacyQuickSort} на одних и тех же данных.
+ *
+ * <p>Запуск: {@code java -jar benchmarks/target/benchmarks.jar AdaptiveSortBenchmark}.
+ *
+ * @author Konstantin_Kubrak
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class AdaptiveSortBenchmark {
+
+    private static final Comparator<Integer> NATURAL = Comparator.naturalOrder();
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"RANDOM", "SORTED", "NEARLY_SORTED", "REVERSED", "DUPLICATES"})
+    private DataShape shape;
+
+    private Integer[] data;
+
+    private Integer[] copy;
+
+    private SomeArrayList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+
+        data = shape.generate(size);
+        copy = new Integer[size];
+        list = new SomeArrayList<>(size);
+    }
+
+    @Setup(Level.Invocation)
+    public void refill() {
+
+        System.arraycopy(data, 0, copy, 0, size);
+        list.deleteAll();
+        for (Integer t : data) {
+            list.put(t);
+        }
+    }
+
+    @Benchmark
+    public SomeArrayList<Integer> adaptiveSort() {
+
+        list.sort(NATURAL);
+        return list;
+    }
+
+    @Benchmark
+    public Integer[] legacyQuickSort() {
+
+        LegacyQuickSort.sort(copy, size, NATURAL);
+        return copy;
+    }
+}
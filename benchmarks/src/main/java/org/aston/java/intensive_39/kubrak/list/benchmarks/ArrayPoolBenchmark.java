@@ -0,0 +1,73 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import org.aston.java.intensive_39.kubrak.list.implemantations.ArrayPool;
+import org.aston.java.intensive_39.kubrak.list.implemantations.CapacityPolicy;
+import org.aston.java.intensive_39.kubrak.list.implemantations.SomeArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Короткоживущие коллекции {@link SomeArrayList}: заполнение с расширением от начальной вместимости и выбрасывание,
+ * без пула массивов и с {@link ArrayPool}. Вариант с пулом возвращает массивы методом {@code release()}.
+ * Основной результат - выделение памяти на операцию и время сборок мусора, поэтому запускать нужно
+ * с профилировщиком сборщика мусора и сравнивать {@code gc.alloc.rate.norm}, {@code gc.count} и {@code gc.time}.
+ *
+ * <p>Запуск: {@code java -jar benchmarks/target/benchmarks.jar ArrayPoolBenchmark -prof gc}
+ *
+ * @author Konstantin_Kubrak
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ArrayPoolBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private Integer[] values;
+
+    private ArrayPool pool;
+
+    @Setup
+    public void setUp() {
+
+        values = DataShape.RANDOM.generate(size);
+        pool = new ArrayPool();
+    }
+
+    @Benchmark
+    public int withoutPool() {
+
+        SomeArrayList<Integer> list = new SomeArrayList<>();
+        for (Integer value : values) {
+            list.put(value);
+        }
+        return list.size();
+    }
+
+    @Benchmark
+    public int withPool() {
+
+        SomeArrayList<Integer> list = new SomeArrayList<>(8, CapacityPolicy.DEFAULT, pool);
+        for (Integer value : values) {
+            list.put(value);
+        }
+        int size = list.size();
+        list.release();
+        return size;
+    }
+}
@@ -0,0 +1,111 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение групповых операций {@code putAll}, {@code deleteRange} и {@code removeIf}
+ * с эквивалентными циклами из одиночных {@code put} и {@code delete}.
+ *
+ * <p>Запуск: {@code java -jar benchmarks/target/benchmarks.jar BulkOperationsBenchmark}.
+ *
+ * @author Konstantin_Kubrak
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class BulkOperationsBenchmark {
+
+    @Param({"SOME_ARRAY_LIST", "JDK_ARRAY_LIST"})
+    private ListImplementation implementation;
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private Integer[] data;
+
+    private SomeList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+
+        data = DataShape.RANDOM.generate(size);
+        list = implementation.create(size);
+    }
+
+    @Setup(Level.Invocation)
+    public void refill() {
+
+        list.deleteAll();
+        list.putAll(data);
+    }
+
+    @Benchmark
+    public SomeList<Integer> putLoopFromEmpty() {
+
+        SomeList<Integer> target = implementation.create();
+        for (Integer t : data) {
+            target.put(t);
+        }
+        return target;
+    }
+
+    @Benchmark
+    public SomeList<Integer> putAllFromEmpty() {
+
+        SomeList<Integer> target = implementation.create();
+        target.putAll(data);
+        return target;
+    }
+
+    @Benchmark
+    public SomeList<Integer> deleteOddLoop() {
+
+        for (int i = list.size() - 1; i >= 0; i--) {
+            if ((list.get(i) & 1) != 0) {
+                list.delete(i);
+            }
+        }
+        return list;
+    }
+
+    @Benchmark
+    public SomeList<Integer> removeIfOdd() {
+
+        list.removeIf(t -> (t & 1) != 0);
+        return list;
+    }
+
+    @Benchmark
+    public SomeList<Integer> deleteMiddleHalfLoop() {
+
+        int from = size / 4;
+        for (int i = 0; i < size / 2; i++) {
+            list.delete(from);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public SomeList<Integer> deleteRangeMiddleHalf() {
+
+        list.deleteRange(size / 4, size / 4 + size / 2);
+        return list;
+    }
+}
@@ -0,0 +1,111 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import org.aston.java.intensive_39.kubrak.list.implemantations.CapacityPolicy;
+import org.aston.java.intensive_39.kubrak.list.implemantations.SomeArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение политик изменения вместимости {@link CapacityPolicy}: время заполнения и очистки коллекции
+ * (бенчмарк JMH) и занимаемая коллекцией память в байтах на элемент (метод {@code main}).
+ *
+ * <p>Запуск бенчмарка: {@code java -jar benchmarks/target/benchmarks.jar CapacityFootprintBenchmark}.
+ * Таблица занимаемой памяти:
+ * {@code java -cp benchmarks/target/benchmarks.jar org.aston.java.intensive_39.kubrak.list.benchmarks.CapacityFootprintBenchmark}.
+ *
+ * @author Konstantin_Kubrak
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CapacityFootprintBenchmark {
+
+    /**
+     * Сравниваемые политики вместимости.
+     */
+    public enum Policy {
+
+        DEFAULT(CapacityPolicy.DEFAULT),
+        DENSE(CapacityPolicy.DENSE),
+        COMPACT(CapacityPolicy.COMPACT);
+
+        private final CapacityPolicy capacityPolicy;
+
+        Policy(CapacityPolicy capacityPolicy) {
+
+            this.capacityPolicy = capacityPolicy;
+        }
+    }
+
+    private static final Integer ELEMENT = 39;
+
+    @Param({"DEFAULT", "DENSE", "COMPACT"})
+    private Policy policy;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Benchmark
+    public SomeArrayList<Integer> fill() {
+
+        SomeArrayList<Integer> list = new SomeArrayList<>(policy.capacityPolicy);
+        for (int i = 0; i < size; i++) {
+            list.put(ELEMENT);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public SomeArrayList<Integer> fillThenDrain() {
+
+        SomeArrayList<Integer> list = fill();
+        for (int i = size - 1; i >= 0; i--) {
+            list.delete(i);
+        }
+        return list;
+    }
+
+    public static void main(String[] args) {
+
+        int[] sizes = {1_000, 10_000, 100_000, 1_000_000};
+        long elementSize = GraphLayout.parseInstance(ELEMENT).totalSize();
+        System.out.printf("%-8s %10s %14s %14s %14s%n", "policy", "size", "filled", "after delete", "trimmed");
+        for (Policy policy : Policy.values()) {
+            for (int size : sizes) {
+                SomeArrayList<Integer> list = new SomeArrayList<>(policy.capacityPolicy);
+                for (int i = 0; i < size; i++) {
+                    list.put(ELEMENT);
+                }
+                double filled = bytesPerElement(list, elementSize);
+                list.deleteRange(size / 10, size);
+                double deleted = bytesPerElement(list, elementSize);
+                list.trimToSize();
+                double trimmed = bytesPerElement(list, elementSize);
+                System.out.printf("%-8s %10d %14.2f %14.2f %14.2f%n", policy, size, filled, deleted, trimmed);
+            }
+        }
+    }
+
+    /**
+     * Занимаемая коллекцией память без учёта самих элементов (все ячейки ссылаются на один объект),
+     * делённая на количество элементов.
+     */
+    private static double bytesPerElement(SomeArrayList<Integer> list, long elementSize) {
+
+        return (double) (GraphLayout.parseInstance(list).totalSize() - elementSize) / list.size();
+    }
+}
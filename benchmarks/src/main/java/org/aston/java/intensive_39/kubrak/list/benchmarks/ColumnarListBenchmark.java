@@ -0,0 +1,163 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import org.aston.java.intensive_39.kubrak.list.implemantations.ColumnSchema;
+import org.aston.java.intensive_39.kubrak.list.implemantations.SomeArrayList;
+import org.aston.java.intensive_39.kubrak.list.implemantations.SomeColumnarList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Записи (timestamp, id, price) в {@code SomeArrayList<Trade>} против {@link SomeColumnarList}: проход по одному полю
+ * (сумма цен, поиск по идентификатору) и занимаемая память в байтах на запись (метод {@code main}).
+ * Записи создаются вперемешку с мусорными объектами, чтобы объекты не лежали в куче подряд, как в долгоживущих данных.
+ *
+ * <p>Запуск бенчмарка: {@code java -jar benchmarks/target/benchmarks.jar ColumnarListBenchmark}.
+ * Таблица занимаемой памяти:
+ * {@code java -cp benchmarks/target/benchmarks.jar org.aston.java.intensive_39.kubrak.list.benchmarks.ColumnarListBenchmark}.
+ *
+ * @author Konstantin_Kubrak
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ColumnarListBenchmark {
+
+    private static final ColumnSchema<Trade> SCHEMA = ColumnSchema.<Trade>builder()
+            .longColumn("timestamp", Trade::timestamp)
+            .intColumn("id", Trade::id)
+            .doubleColumn("price", Trade::price)
+            .build(row -> new Trade(row.getLong(0), row.getInt(1), row.getDouble(2)));
+
+    private static final int ID = SCHEMA.columnIndex("id");
+
+    private static final int PRICE = SCHEMA.columnIndex("price");
+
+    @Param({"1000000"})
+    private int size;
+
+    private SomeArrayList<Trade> objects;
+
+    private SomeColumnarList<Trade> columns;
+
+    private int lastId;
+
+    @Setup
+    public void setUp() {
+
+        objects = new SomeArrayList<>(size);
+        columns = new SomeColumnarList<>(SCHEMA, size);
+        fill(objects, columns, size);
+        lastId = objects.get(size - 1).id();
+    }
+
+    @Benchmark
+    public double sumPriceObjects() {
+
+        double sum = 0;
+        for (int i = 0; i < objects.size(); i++) {
+            sum += objects.get(i).price();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double sumPriceColumns() {
+
+        return columns.sumDouble(PRICE);
+    }
+
+    @Benchmark
+    public int findIdObjects() {
+
+        for (int i = 0; i < objects.size(); i++) {
+            if (objects.get(i).id() == lastId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public int findIdColumns() {
+
+        return columns.indexOfInt(ID, lastId);
+    }
+
+    public static void main(String[] args) {
+
+        System.out.printf("%10s %14s %14s%n", "size", "objects", "columns");
+        for (int size : new int[]{1_000, 100_000, 1_000_000}) {
+            SomeArrayList<Trade> objects = new SomeArrayList<>();
+            SomeColumnarList<Trade> columns = new SomeColumnarList<>(SCHEMA);
+            fill(objects, columns, size);
+            System.out.printf("%10d %14.2f %14.2f%n", size,
+                    (double) GraphLayout.parseInstance(objects).totalSize() / size,
+                    (double) GraphLayout.parseInstance(columns).totalSize() / size);
+        }
+    }
+
+    /**
+     * Заполнение обеих коллекций одинаковыми записями; последняя запись имеет уникальный идентификатор.
+     */
+    private static void fill(SomeArrayList<Trade> objects, SomeColumnarList<Trade> columns, int size) {
+
+        Random random = new Random(39);
+        Object[] garbage = new Object[1024];
+        for (int i = 0; i < size; i++) {
+            Trade trade = new Trade(1_700_000_000_000L + i, i == size - 1 ? -1 : random.nextInt(1 << 20), random.nextDouble() * 100);
+            objects.put(trade);
+            columns.put(trade);
+            garbage[i & (garbage.length - 1)] = new long[random.nextInt(8)];
+        }
+    }
+
+    /**
+     * Запись о сделке. Обычный класс, а не {@code record}: JOL не измеряет записи.
+     */
+    public static final class Trade {
+
+        private final long timestamp;
+
+        private final int id;
+
+        private final double price;
+
+        Trade(long timestamp, int id, double price) {
+
+            this.timestamp = timestamp;
+            this.id = id;
+            this.price = price;
+        }
+
+        long timestamp() {
+
+            return timestamp;
+        }
+
+        int id() {
+
+            return id;
+        }
+
+        double price() {
+
+            return price;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import org.aston.java.intensive_39.kubrak.list.implemantations.SomeArrayList;
+import org.aston.java.intensive_39.kubrak.list.implemantations.SomeConcurrentList;
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Пропускная способность {@code SomeConcurrentList} и {@code SomeArrayList} под синхронизированной обёрткой
+ * при одновременном доступе из нескольких потоков: только вставка, только чтение и смешанная нагрузка
+ * (95% чтений, 5% вставок).
+ *
+ * <p>Запуск с числом потоков по умолчанию: {@code java -jar benchmarks/target/benchmarks.jar ConcurrentListBenchmark -t 8}.
+ * Запуск для 1, 2, 4, 8, 16, 32 и 64 потоков:
+ * {@code java -cp benchmarks/target/benchmarks.jar org.aston.java.intensive_39.kubrak.list.benchmarks.ConcurrentListBenchmark}.
+ *
+ * @author Konstantin_Kubrak
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Threads(4)
+public class ConcurrentListBenchmark {
+
+    private static final int INITIAL_SIZE = 100_000;
+
+    private static final Integer ELEMENT = 39;
+
+    /**
+     * Сравниваемые потокобезопасные списки.
+     */
+    public enum Implementation {
+
+        SOME_CONCURRENT_LIST {
+            @Override
+            SomeList<Integer> create() {
+
+                return new SomeConcurrentList<>();
+            }
+        },
+
+        SYNCHRONIZED_SOME_ARRAY_LIST {
+            @Override
+            SomeList<Integer> create() {
+
+                return new SynchronizedListAdapter<>(new SomeArrayList<>());
+            }
+        };
+
+        abstract SomeList<Integer> create();
+    }
+
+    @Param({"SOME_CONCURRENT_LIST", "SYNCHRONIZED_SOME_ARRAY_LIST"})
+    private Implementation implementation;
+
+    private SomeList<Integer> list;
+
+    /**
+     * Список пересоздаётся на каждой итерации, чтобы вставки не накапливали элементы между итерациями.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+
+        list = implementation.create();
+        for (int i = 0; i < INITIAL_SIZE; i++) {
+            list.put(ELEMENT);
+        }
+    }
+
+    /**
+     * Генератор случайных чисел отдельного потока.
+     */
+    @State(Scope.Thread)
+    public static class ThreadRandom {
+
+        private final SplittableRandom random = new SplittableRandom(39);
+    }
+
+    @Benchmark
+    public void put() {
+
+        list.put(ELEMENT);
+    }
+
+    @Benchmark
+    public Integer get(ThreadRandom threadRandom) {
+
+        return list.get(threadRandom.random.nextInt(INITIAL_SIZE));
+    }
+
+    @Benchmark
+    public Integer mixed(ThreadRandom threadRandom) {
+
+        int dice = threadRandom.random.nextInt(100);
+        if (dice < 5) {
+            list.put(ELEMENT);
+            return ELEMENT;
+        }
+        return list.get(threadRandom.random.nextInt(INITIAL_SIZE));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+
+        for (int threads : new int[]{1, 2, 4, 8, 16, 32, 64}) {
+            Options options = new OptionsBuilder()
+                    .include(ConcurrentListBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Форма входных данных, на которых выполняются бенчмарки.
+ *
+ * @author Konstantin_Kubrak
+ */
+public enum DataShape {
+
+    /**
+     * Равномерно распределённые случайные неотрицательные значения.
+     */
+    RANDOM {
+        @Override
+        Integer[] generate(int size, Random random) {
+
+            Integer[] data = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                data[i] = random.nextInt(Integer.MAX_VALUE);
+            }
+            return data;
+        }
+    },
+
+    /**
+     * Значения, уже упорядоченные по возрастанию.
+     */
+    SORTED {
+        @Override
+        Integer[] generate(int size, Random random) {
+
+            Integer[] data = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                data[i] = i;
+            }
+            return data;
+        }
+    },
+
+    /**
+     * Упорядоченные по возрастанию значения, в которых примерно каждое сотое заменено случайным.
+     * Соответствует данным, добавляемым почти в порядке сортировки.
+     */
+    NEARLY_SORTED {
+        @Override
+        Integer[] generate(int size, Random random) {
+
+            Integer[] data = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                data[i] = random.nextInt(100) == 0 ? random.nextInt(size) : i;
+            }
+            return data;
+        }
+    },
+
+    /**
+     * Значения, упорядоченные по убыванию.
+     */
+    REVERSED {
+        @Override
+        Integer[] generate(int size, Random random) {
+
+            Integer[] data = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                data[i] = size - i;
+            }
+            return data;
+        }
+    },
+
+    /**
+     * Случайные значения с большим количеством повторов (не более 16 различных ключей).
+     */
+    DUPLICATES {
+        @Override
+        Integer[] generate(int size, Random random) {
+
+            Integer[] data = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                data[i] = random.nextInt(16);
+            }
+            return data;
+        }
+    };
+
+    /**
+     * Значение, гарантированно отсутствующее в данных любой формы.
+     */
+    public static final Integer MISSING = -1;
+
+    /**
+     * Зерно генератора, общее для всех форм, чтобы прогоны были воспроизводимыми.
+     */
+    private static final long SEED = 39L;
+
+    /**
+     * Метод формирует массив данных указанного размера.
+     *
+     * @param size количество элементов.
+     * @return возвращает массив данных данной формы.
+     */
+    public Integer[] generate(int size) {
+
+        return generate(size, new Random(SEED));
+    }
+
+    abstract Integer[] generate(int size, Random random);
+}
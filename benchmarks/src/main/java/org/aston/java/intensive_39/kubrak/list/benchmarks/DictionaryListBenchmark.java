@@ -0,0 +1,80 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import org.aston.java.intensive_39.kubrak.list.implemantations.SomeArrayList;
+import org.aston.java.intensive_39.kubrak.list.implemantations.SomeDictionaryList;
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Поиск и сортировка коллекции строк с небольшим количеством различных значений:
+ * {@link SomeArrayList} против {@link SomeDictionaryList} с однобайтовыми кодами.
+ * Искомое значение встречается только в последнем элементе, поэтому поиск проходит всю коллекцию.
+ * Строки создаются заново для каждого элемента, чтобы {@code equals} не срабатывал по ссылке.
+ *
+ * <p>Запуск: {@code java -jar benchmarks/target/benchmarks.jar DictionaryListBenchmark}.
+ *
+ * @author Konstantin_Kubrak
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DictionaryListBenchmark {
+
+    private static final String[] COUNTRIES = {"Belarus", "Georgia", "Kazakhstan", "Poland", "Serbia", "Uzbekistan"};
+
+    private static final String LAST = "Armenia";
+
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"ARRAY", "DICTIONARY"})
+    private String implementation;
+
+    private SomeList<String> list;
+
+    @Setup
+    public void setUp() {
+
+        list = "ARRAY".equals(implementation) ? new SomeArrayList<>(size) : new SomeDictionaryList<>(size);
+        Random random = new Random(39);
+        for (int i = 0; i < size - 1; i++) {
+            list.put(new String(COUNTRIES[random.nextInt(COUNTRIES.length)]));
+        }
+        list.put(new String(LAST));
+    }
+
+    @Benchmark
+    public int getIndexLast() {
+
+        return list.getIndex(LAST);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+
+        return list.contains("Armenia ");
+    }
+
+    @Benchmark
+    public SomeList<String> sortSorted() {
+
+        list.sort();
+        return list;
+    }
+}
@@ -0,0 +1,76 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import org.aston.java.intensive_39.kubrak.list.implemantations.ExternalSort;
+import org.aston.java.intensive_39.kubrak.list.implemantations.RecordCodecs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Внешняя сортировка {@link ExternalSort} набора {@code long} в зависимости от бюджета памяти
+ * (количества элементов в порции) и количества одновременно сливаемых серий.
+ * Входные значения генерируются на лету и в памяти целиком не хранятся, результат записывается в файл снимка.
+ *
+ * <p>Запуск: {@code java -jar benchmarks/target/benchmarks.jar ExternalSortBenchmark}.
+ *
+ * @author Konstantin_Kubrak
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class ExternalSortBenchmark {
+
+    @Param({"10000000"})
+    private int size;
+
+    @Param({"250000", "2000000"})
+    private int maxElementsInMemory;
+
+    @Param({"4", "64"})
+    private int fanIn;
+
+    private Path directory;
+
+    private Path output;
+
+    private ExternalSort<Long> sort;
+
+    @Setup
+    public void setUp() throws IOException {
+
+        directory = Files.createTempDirectory("external-sort-benchmark");
+        output = directory.resolve("sorted.snapshot");
+        sort = new ExternalSort<>(RecordCodecs.LONG, null, maxElementsInMemory, fanIn, directory);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+
+        Files.deleteIfExists(output);
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public long sortToFile() throws IOException {
+
+        return sort.sort(() -> new Random(39).longs(size).boxed().iterator(), output);
+    }
+}
@@ -0,0 +1,74 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение {@code SomeArrayList} и {@code SomeIndexedArrayList} на поиске элементов и на стоимости вставки,
+ * позволяющее определить размер коллекции, начиная с которого хеш-индекс окупается.
+ *
+ * <p>Запуск: {@code java -jar benchmarks/target/benchmarks.jar IndexedLookupBenchmark}.
+ *
+ * @author Konstantin_Kubrak
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class IndexedLookupBenchmark {
+
+    @Param({"SOME_ARRAY_LIST", "SOME_INDEXED_ARRAY_LIST"})
+    private ListImplementation implementation;
+
+    @Param({"4", "16", "64", "256", "10000", "1000000"})
+    private int size;
+
+    private SomeList<Integer> list;
+
+    private Integer probe;
+
+    private Integer value;
+
+    @Setup
+    public void setUp() {
+
+        Integer[] data = DataShape.RANDOM.generate(size);
+        list = implementation.createFilled(data);
+        probe = data[size / 2];
+        value = data[0];
+    }
+
+    @Benchmark
+    public int getIndexPresent() {
+
+        return list.getIndex(probe);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+
+        return list.contains(DataShape.MISSING);
+    }
+
+    @Benchmark
+    public SomeList<Integer> putThenDeleteLast() {
+
+        list.put(value);
+        list.delete(list.size() - 1);
+        return list;
+    }
+}
@@ -0,0 +1,161 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import org.aston.java.intensive_39.kubrak.list.implemantations.IngestionBuffer;
+import org.aston.java.intensive_39.kubrak.list.implemantations.SomeArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Приём событий от многих одновременных производителей в один {@link SomeArrayList}: {@code put} под общей
+ * блокировкой против {@link IngestionBuffer}. Каждый производитель - отдельный поток платформы, созданный один раз
+ * на весь запуск; одна операция - все производители одновременно добавляют по {@code eventsPerProducer} элементов,
+ * после чего буфер сливается методом {@code flush()}. Коллекция и буфер (без фонового слива) создаются перед каждой
+ * операцией и в измерение не входят.
+ *
+ * <p>Вариант с виртуальными потоками - {@code VirtualThreadIngestionBenchmark}, он собирается только на JDK 21
+ * и новее (профиль {@code jdk21} модуля бенчмарков).
+ *
+ * <p>Запуск: {@code java -jar benchmarks/target/benchmarks.jar IngestionBufferBenchmark}
+ *
+ * @author Konstantin_Kubrak
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class IngestionBufferBenchmark {
+
+    private static final Integer EVENT = 39;
+
+    @Param({"100", "1000"})
+    private int producers;
+
+    @Param({"1000"})
+    private int eventsPerProducer;
+
+    private Thread[] threads;
+
+    /**
+     * Барьер начала операции: производители ждут на нём вместе с потоком бенчмарка.
+     */
+    private CyclicBarrier start;
+
+    /**
+     * Барьер окончания операции: поток бенчмарка ждёт на нём, пока все производители добавят свои элементы.
+     */
+    private CyclicBarrier done;
+
+    private volatile Consumer<Integer> sink;
+
+    private volatile boolean stopped;
+
+    private SomeArrayList<Integer> list;
+
+    private IngestionBuffer<Integer> buffer;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+
+        start = new CyclicBarrier(producers + 1);
+        done = new CyclicBarrier(producers + 1);
+        threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            threads[p] = new Thread(this::produce, "producer-" + p);
+            threads[p].setDaemon(true);
+            threads[p].start();
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+
+        int stripes = Integer.highestOneBit(4 * Runtime.getRuntime().availableProcessors() - 1) << 1;
+        list = new SomeArrayList<>();
+        buffer = new IngestionBuffer<>(list, stripes, IngestionBuffer.DEFAULT_BATCH_SIZE,
+                IngestionBuffer.DEFAULT_MAX_PENDING_BATCHES, Duration.ZERO);
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownInvocation() {
+
+        buffer.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() throws Exception {
+
+        stopped = true;
+        start.await();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    @Benchmark
+    public int lockedPut() throws Exception {
+
+        SomeArrayList<Integer> target = list;
+        runProducers(event -> {
+            synchronized (target) {
+                target.put(event);
+            }
+        });
+        return target.size();
+    }
+
+    @Benchmark
+    public int ingestionBuffer() throws Exception {
+
+        runProducers(buffer::put);
+        buffer.flush();
+        return list.size();
+    }
+
+    private void runProducers(Consumer<Integer> operation) throws InterruptedException, BrokenBarrierException {
+
+        sink = operation;
+        start.await();
+        done.await();
+    }
+
+    /**
+     * Цикл потока-производителя: на каждую операцию бенчмарка добавляет {@code eventsPerProducer} элементов.
+     */
+    private void produce() {
+
+        try {
+            while (true) {
+                start.await();
+                if (stopped) {
+                    return;
+                }
+                Consumer<Integer> operation = sink;
+                for (int i = 0; i < eventsPerProducer; i++) {
+                    operation.accept(EVENT);
+                }
+                done.await();
+            }
+        } catch (InterruptedException | BrokenBarrierException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
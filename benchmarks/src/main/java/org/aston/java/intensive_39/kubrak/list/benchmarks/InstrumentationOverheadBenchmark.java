@@ -0,0 +1,94 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import org.aston.java.intensive_39.kubrak.list.implemantations.ListMetrics;
+import org.aston.java.intensive_39.kubrak.list.implemantations.SomeArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Стоимость сбора {@link ListMetrics} в горячих методах {@link SomeArrayList}. Одни и те же операции выполняются
+ * в JVM без сбора ({@code Disabled}) и со сбором ({@code Enabled}); при выключенном сборе результаты должны
+ * совпадать с коллекцией без инструментирования в пределах погрешности. Каждый вариант запускается в трёх JVM,
+ * так как разброс между запусками (размещение кучи, решения JIT) больше разницы, которую нужно увидеть.
+ *
+ * <p>Запуск: {@code java -jar benchmarks/target/benchmarks.jar InstrumentationOverheadBenchmark}.
+ *
+ * @author Konstantin_Kubrak
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public abstract class InstrumentationOverheadBenchmark {
+
+    @Param({"100000"})
+    private int size;
+
+    private Integer[] data;
+
+    private SomeArrayList<Integer> list;
+
+    private SomeArrayList<Integer> sortBuffer;
+
+    @Setup
+    public void setUp() {
+
+        data = DataShape.RANDOM.generate(size);
+        list = new SomeArrayList<>(size);
+        list.putAll(data);
+        sortBuffer = new SomeArrayList<>(size);
+    }
+
+    @Benchmark
+    public SomeArrayList<Integer> fillByPut() {
+
+        SomeArrayList<Integer> filled = new SomeArrayList<>();
+        for (Integer t : data) {
+            filled.put(t);
+        }
+        return filled;
+    }
+
+    @Benchmark
+    public SomeArrayList<Integer> insertDeleteMiddle() {
+
+        list.insert(-1, size / 2);
+        list.delete(size / 2);
+        return list;
+    }
+
+    @Benchmark
+    public int getIndexLast() {
+
+        return list.getIndex(data[size - 1]);
+    }
+
+    @Benchmark
+    public SomeArrayList<Integer> copyAndSort() {
+
+        sortBuffer.deleteAll();
+        sortBuffer.putAll(list);
+        sortBuffer.sort();
+        return sortBuffer;
+    }
+
+    @Fork(value = 3, jvmArgsAppend = {"-Xmx4g", "-DsomeList.metrics=false"})
+    public static class Disabled extends InstrumentationOverheadBenchmark {
+    }
+
+    @Fork(value = 3, jvmArgsAppend = {"-Xmx4g", "-DsomeList.metrics=true"})
+    public static class Enabled extends InstrumentationOverheadBenchmark {
+    }
+}
@@ -0,0 +1,82 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение способов обхода {@link SomeList}: цикл по индексам через {@code get}, итератор, {@code forEach},
+ * последовательный и параллельный потоки.
+ *
+ * <p>Запуск: {@code java -jar benchmarks/target/benchmarks.jar IterationBenchmark}.
+ *
+ * @author Konstantin_Kubrak
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class IterationBenchmark {
+
+    @Param({"SOME_ARRAY_LIST", "SOME_ARRAY_DEQUE", "SOME_CHUNKED_LIST", "JDK_ARRAY_LIST"})
+    private ListImplementation implementation;
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private SomeList<Integer> list;
+
+    @Setup
+    public void setUp() {
+
+        list = implementation.createFilled(DataShape.RANDOM.generate(size));
+    }
+
+    @Benchmark
+    public void indexedGet(Blackhole blackhole) {
+
+        for (int i = 0; i < list.size(); i++) {
+            blackhole.consume(list.get(i));
+        }
+    }
+
+    @Benchmark
+    public void iterator(Blackhole blackhole) {
+
+        for (Integer t : list) {
+            blackhole.consume(t);
+        }
+    }
+
+    @Benchmark
+    public void forEach(Blackhole blackhole) {
+
+        list.forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public long stream() {
+
+        return list.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long parallelStream() {
+
+        return list.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+}
@@ -0,0 +1,163 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Адаптер {@link ArrayList} к интерфейсу {@link SomeList}, используемый как эталон при сравнении.
+ *
+ * @param <T> тип элементов списка.
+ * @author Konstantin_Kubrak
+ */
+public class JdkArrayListAdapter<T> implements SomeList<T> {
+
+    private final List<T> delegate;
+
+    public JdkArrayListAdapter() {
+
+        this.delegate = new ArrayList<>();
+    }
+
+    public JdkArrayListAdapter(int initialCapacity) {
+
+        this.delegate = new ArrayList<>(initialCapacity);
+    }
+
+    @Override
+    public void put(T t) {
+
+        delegate.add(t);
+    }
+
+    @Override
+    public void insert(T t, int index) {
+
+        delegate.add(index, t);
+    }
+
+    @Override
+    public T get(int index) {
+
+        return delegate.get(index);
+    }
+
+    @Override
+    public void delete(int index) {
+
+        delegate.remove(index);
+    }
+
+    @Override
+    public void deleteAll() {
+
+        delegate.clear();
+    }
+
+    @Override
+    public void set(T t, int index) {
+
+        delegate.set(index, t);
+    }
+
+    @Override
+    public int size() {
+
+        return delegate.size();
+    }
+
+    @Override
+    public int getIndex(T t) {
+
+        return delegate.indexOf(t);
+    }
+
+    @Override
+    public boolean isEmpty() {
+
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public boolean contains(T t) {
+
+        return delegate.contains(t);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort() {
+
+        delegate.sort((Comparator<T>) Comparator.naturalOrder());
+    }
+
+    @Override
+    public void sort(Comparator<T> comparator) {
+
+        delegate.sort(comparator);
+    }
+
+    @Override
+    public void putAll(T[] array) {
+
+        delegate.addAll(Arrays.asList(array));
+    }
+
+    @Override
+    public void putAll(Collection<? extends T> collection) {
+
+        delegate.addAll(collection);
+    }
+
+    @Override
+    public void insertAll(T[] array, int index) {
+
+        delegate.addAll(index, Arrays.asList(array));
+    }
+
+    @Override
+    public void insertAll(Collection<? extends T> collection, int index) {
+
+        delegate.addAll(index, collection);
+    }
+
+    @Override
+    public void deleteRange(int from, int to) {
+
+        delegate.subList(from, to).clear();
+    }
+
+    @Override
+    public int removeIf(Predicate<? super T> filter) {
+
+        int initialSize = delegate.size();
+        delegate.removeIf(filter);
+        return initialSize - delegate.size();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+
+        return delegate.iterator();
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+
+        delegate.forEach(action);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+
+        return delegate.spliterator();
+    }
+}
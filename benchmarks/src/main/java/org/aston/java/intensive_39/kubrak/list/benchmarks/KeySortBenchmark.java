@@ -0,0 +1,130 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import org.aston.java.intensive_39.kubrak.list.implemantations.SomeArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сортировка {@link SomeArrayList} объектов по ключу: компаратор, извлекающий ключ при каждом сравнении,
+ * против поразрядной сортировки {@code sortByInt}/{@code sortByLong} и сортировки {@code sortBy}
+ * с однократно вычисленными ключами.
+ *
+ * <p>Перед каждым вызовом список заново заполняется исходными данными, время заполнения в замер не входит.
+ *
+ * <p>Запуск: {@code java -jar benchmarks/target/benchmarks.jar KeySortBenchmark}.
+ *
+ * @author Konstantin_Kubrak
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class KeySortBenchmark {
+
+    private static final Comparator<Item> BY_ID = Comparator.comparingInt(Item::id);
+
+    private static final Comparator<Item> BY_NAME = Comparator.comparing(Item::name);
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private Item[] data;
+
+    private SomeArrayList<Item> list;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+
+        Random random = new Random(39);
+        data = new Item[size];
+        for (int i = 0; i < size; i++) {
+            int id = random.nextInt();
+            data[i] = new Item(id, new StringBuilder("item-").append(Integer.toHexString(id)).reverse());
+        }
+        list = new SomeArrayList<>(size);
+    }
+
+    @Setup(Level.Invocation)
+    public void refill() {
+
+        list.deleteAll();
+        list.putAll(data);
+    }
+
+    @Benchmark
+    public SomeArrayList<Item> sortComparingInt() {
+
+        list.sort(BY_ID);
+        return list;
+    }
+
+    @Benchmark
+    public SomeArrayList<Item> sortByInt() {
+
+        list.sortByInt(Item::id);
+        return list;
+    }
+
+    @Benchmark
+    public SomeArrayList<Item> sortByLong() {
+
+        list.sortByLong(Item::id);
+        return list;
+    }
+
+    @Benchmark
+    public SomeArrayList<Item> sortComparingDerivedKey() {
+
+        list.sort(BY_NAME);
+        return list;
+    }
+
+    @Benchmark
+    public SomeArrayList<Item> sortByDerivedKey() {
+
+        list.sortBy(Item::name);
+        return list;
+    }
+
+    /**
+     * Сортируемый объект: числовой ключ и ключ, который вычисляется при каждом обращении.
+     */
+    public static final class Item {
+
+        private final int id;
+
+        private final CharSequence label;
+
+        private Item(int id, CharSequence label) {
+
+            this.id = id;
+            this.label = label;
+        }
+
+        int id() {
+
+            return id;
+        }
+
+        String name() {
+
+            return label.toString();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import java.util.Comparator;
+
+/**
+ * Копия исходной сортировки {@code SomeArrayList} (быстрая сортировка с одним опорным элементом из середины
+ * и двусторонним разбиением), сохранённая как эталон для сравнения с адаптивной сортировкой.
+ *
+ * @author Konstantin_Kubrak
+ */
+final class LegacyQuickSort {
+
+    private LegacyQuickSort() {
+    }
+
+    static <T> void sort(T[] array, int size, Comparator<T> comparator) {
+
+        quickSort(array, 0, size - 1, comparator);
+    }
+
+    private static <T> void quickSort(T[] array, int leftIndex, int rightIndex, Comparator<T> comparator) {
+
+        if (leftIndex < rightIndex) {
+            int divideIndex = partition(array, leftIndex, rightIndex, comparator);
+
+            quickSort(array, leftIndex, divideIndex - 1, comparator);
+            quickSort(array, divideIndex, rightIndex, comparator);
+        }
+    }
+
+    private static <T> int partition(T[] array, int from, int to, Comparator<T> comparator) {
+
+        int leftIndex = from;
+        int rightIndex = to;
+
+        T pivot = array[from + (to - from) / 2];
+        while (leftIndex <= rightIndex) {
+            while (comparator.compare(array[leftIndex], pivot) < 0) {
+                leftIndex++;
+            }
+            while (comparator.compare(array[rightIndex], pivot) > 0) {
+                rightIndex--;
+            }
+            if (leftIndex <= rightIndex) {
+                T tmp = array[leftIndex];
+                array[leftIndex] = array[rightIndex];
+                array[rightIndex] = tmp;
+                leftIndex++;
+                rightIndex--;
+            }
+        }
+        return leftIndex;
+    }
+}
@@ -0,0 +1,118 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import org.aston.java.intensive_39.kubrak.list.implemantations.SomeArrayDeque;
+import org.aston.java.intensive_39.kubrak.list.implemantations.SomeArrayList;
+import org.aston.java.intensive_39.kubrak.list.implemantations.SomeChunkedList;
+import org.aston.java.intensive_39.kubrak.list.implemantations.SomeIndexedArrayList;
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
+
+/**
+ * Реализации {@link SomeList}, сравниваемые в бенчмарках.
+ *
+ * @author Konstantin_Kubrak
+ */
+public enum ListImplementation {
+
+    SOME_ARRAY_LIST {
+        @Override
+        public <T> SomeList<T> create() {
+
+            return new SomeArrayList<>();
+        }
+
+        @Override
+        public <T> SomeList<T> create(int initialCapacity) {
+
+            return new SomeArrayList<>(initialCapacity);
+        }
+    },
+
+    SOME_ARRAY_DEQUE {
+        @Override
+        public <T> SomeList<T> create() {
+
+            return new SomeArrayDeque<>();
+        }
+
+        @Override
+        public <T> SomeList<T> create(int initialCapacity) {
+
+            return new SomeArrayDeque<>(initialCapacity);
+        }
+    },
+
+    SOME_CHUNKED_LIST {
+        @Override
+        public <T> SomeList<T> create() {
+
+            return new SomeChunkedList<>();
+        }
+
+        @Override
+        public <T> SomeList<T> create(int initialCapacity) {
+
+            return new SomeChunkedList<>();
+        }
+    },
+
+    SOME_INDEXED_ARRAY_LIST {
+        @Override
+        public <T> SomeList<T> create() {
+
+            return new SomeIndexedArrayList<>();
+        }
+
+        @Override
+        public <T> SomeList<T> create(int initialCapacity) {
+
+            return new SomeIndexedArrayList<>(initialCapacity);
+        }
+    },
+
+    JDK_ARRAY_LIST {
+        @Override
+        public <T> SomeList<T> create() {
+
+            return new JdkArrayListAdapter<>();
+        }
+
+        @Override
+        public <T> SomeList<T> create(int initialCapacity) {
+
+            return new JdkArrayListAdapter<>(initialCapacity);
+        }
+    };
+
+    /**
+     * Метод создаёт пустой список данной реализации с вместимостью по умолчанию.
+     *
+     * @param <T> тип элементов списка.
+     * @return возвращает новый пустой список.
+     */
+    public abstract <T> SomeList<T> create();
+
+    /**
+     * Метод создаёт пустой список данной реализации.
+     *
+     * @param initialCapacity изначальная вместимость списка.
+     * @param <T>             тип элементов списка.
+     * @return возвращает новый пустой список.
+     */
+    public abstract <T> SomeList<T> create(int initialCapacity);
+
+    /**
+     * Метод создаёт список данной реализации и заполняет его переданными элементами.
+     *
+     * @param data элементы, которыми будет заполнен список.
+     * @param <T>  тип элементов списка.
+     * @return возвращает заполненный список.
+     */
+    public <T> SomeList<T> createFilled(T[] data) {
+
+        SomeList<T> list = create(data.length);
+        for (T t : data) {
+            list.put(t);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,175 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import org.aston.java.intensive_39.kubrak.list.implemantations.RecordCodecs;
+import org.aston.java.intensive_39.kubrak.list.implemantations.SomeArrayList;
+import org.aston.java.intensive_39.kubrak.list.implemantations.SomeMappedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение {@code SomeMappedList} с записями {@code long} и {@code SomeArrayList<Long>}
+ * на чтении, вставке в конец и сортировке, а также время повторного открытия файла коллекции.
+ *
+ * <p>Запуск: {@code java -jar benchmarks/target/benchmarks.jar MappedListBenchmark}.
+ *
+ * @author Konstantin_Kubrak
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MappedListBenchmark {
+
+    @Param({"1000000", "10000000"})
+    private int size;
+
+    private Path directory;
+
+    private Path path;
+
+    private SomeMappedList<Long> mappedList;
+
+    private SomeArrayList<Long> arrayList;
+
+    private int[] positions;
+
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+
+        directory = Files.createTempDirectory("mapped-list-benchmark");
+        path = directory.resolve("list.bin");
+        mappedList = SomeMappedList.create(path, RecordCodecs.LONG);
+        arrayList = new SomeArrayList<>(size);
+        Random random = new Random(39);
+        for (int i = 0; i < size; i++) {
+            long value = random.nextLong();
+            mappedList.put(value);
+            arrayList.put(value);
+        }
+        mappedList.force();
+        positions = new int[1 << 16];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = random.nextInt(size);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+
+        mappedList.close();
+        Files.deleteIfExists(path);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public Long mappedRandomGet() {
+
+        return mappedList.get(positions[next++ & (positions.length - 1)]);
+    }
+
+    @Benchmark
+    public Long arrayRandomGet() {
+
+        return arrayList.get(positions[next++ & (positions.length - 1)]);
+    }
+
+    @Benchmark
+    public SomeMappedList<Long> mappedPutThenDeleteLast() {
+
+        mappedList.put(39L);
+        mappedList.delete(mappedList.size() - 1);
+        return mappedList;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int reopen() throws IOException {
+
+        try (SomeMappedList<Long> reopened = SomeMappedList.open(path, RecordCodecs.LONG)) {
+            return reopened.size();
+        }
+    }
+
+    /**
+     * Сортировка перемешанных записей; данные восстанавливаются перед каждым вызовом.
+     */
+    @State(Scope.Thread)
+    public static class SortState {
+
+        @Param({"1000000"})
+        private int size;
+
+        private Path directory;
+
+        private SomeMappedList<Long> mappedList;
+
+        private SomeArrayList<Long> arrayList;
+
+        private long[] values;
+
+        @Setup(Level.Trial)
+        public void createFile() throws IOException {
+
+            directory = Files.createTempDirectory("mapped-list-sort");
+            mappedList = SomeMappedList.create(directory.resolve("sort.bin"), RecordCodecs.LONG, 1 << 18);
+            arrayList = new SomeArrayList<>(size);
+            values = new Random(39).longs(size).toArray();
+        }
+
+        @Setup(Level.Invocation)
+        public void refill() {
+
+            mappedList.deleteAll();
+            arrayList.deleteAll();
+            for (long value : values) {
+                mappedList.put(value);
+                arrayList.put(value);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void deleteFile() throws IOException {
+
+            mappedList.close();
+            Files.deleteIfExists(mappedList.getPath());
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public SomeMappedList<Long> mappedSort(SortState state) {
+
+        state.mappedList.sort();
+        return state.mappedList;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public SomeArrayList<Long> arraySort(SortState state) {
+
+        state.arrayList.sort();
+        return state.arrayList;
+    }
+}
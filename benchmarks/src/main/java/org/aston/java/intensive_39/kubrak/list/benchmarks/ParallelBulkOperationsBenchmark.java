@@ -0,0 +1,143 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import org.aston.java.intensive_39.kubrak.list.implemantations.SomeArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Параллельные поэлементные операции {@link SomeArrayList} ({@code parallelForEach}, {@code map}, {@code filter},
+ * {@code reduce}) против последовательных циклов по {@code get(i)}. Каждый вложенный класс запускается в отдельной
+ * JVM с заданным количеством потоков общего пула {@link java.util.concurrent.ForkJoinPool}: от 1 до 32.
+ * Количество потоков выше числа ядер машины показывает только накладные расходы на задачи.
+ *
+ * <p>Запуск: {@code java -jar benchmarks/target/benchmarks.jar ParallelBulkOperationsBenchmark}, для одного варианта,
+ * например, {@code ParallelBulkOperationsBenchmark.Cores8}.
+ *
+ * @author Konstantin_Kubrak
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public abstract class ParallelBulkOperationsBenchmark {
+
+    private static final Function<Integer, Long> MAPPER = value -> (long) value * value;
+
+    private static final Predicate<Integer> FILTER = value -> (value & 3) == 0;
+
+    @Param({"4000000"})
+    private int size;
+
+    private SomeArrayList<Integer> list;
+
+    @Setup
+    public void setUp() {
+
+        list = new SomeArrayList<>(size);
+        list.putAll(DataShape.RANDOM.generate(size));
+    }
+
+    @Benchmark
+    public void forEachSequential(Blackhole blackhole) {
+
+        for (int i = 0; i < list.size(); i++) {
+            blackhole.consume(MAPPER.apply(list.get(i)));
+        }
+    }
+
+    @Benchmark
+    public void forEachParallel(Blackhole blackhole) {
+
+        list.parallelForEach(value -> blackhole.consume(MAPPER.apply(value)));
+    }
+
+    @Benchmark
+    public SomeArrayList<Long> mapSequential() {
+
+        SomeArrayList<Long> result = new SomeArrayList<>(list.size());
+        for (int i = 0; i < list.size(); i++) {
+            result.put(MAPPER.apply(list.get(i)));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public SomeArrayList<Long> mapParallel() {
+
+        return list.map(MAPPER);
+    }
+
+    @Benchmark
+    public SomeArrayList<Integer> filterSequential() {
+
+        SomeArrayList<Integer> result = new SomeArrayList<>();
+        for (int i = 0; i < list.size(); i++) {
+            Integer value = list.get(i);
+            if (FILTER.test(value)) {
+                result.put(value);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public SomeArrayList<Integer> filterParallel() {
+
+        return list.filter(FILTER);
+    }
+
+    @Benchmark
+    public Integer reduceSequential() {
+
+        Integer sum = 0;
+        for (int i = 0; i < list.size(); i++) {
+            sum = Integer.sum(sum, list.get(i));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Integer reduceParallel() {
+
+        return list.reduce(0, Integer::sum);
+    }
+
+    @Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Djava.util.concurrent.ForkJoinPool.common.parallelism=1"})
+    public static class Cores1 extends ParallelBulkOperationsBenchmark {
+    }
+
+    @Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Djava.util.concurrent.ForkJoinPool.common.parallelism=2"})
+    public static class Cores2 extends ParallelBulkOperationsBenchmark {
+    }
+
+    @Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Djava.util.concurrent.ForkJoinPool.common.parallelism=4"})
+    public static class Cores4 extends ParallelBulkOperationsBenchmark {
+    }
+
+    @Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Djava.util.concurrent.ForkJoinPool.common.parallelism=8"})
+    public static class Cores8 extends ParallelBulkOperationsBenchmark {
+    }
+
+    @Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Djava.util.concurrent.ForkJoinPool.common.parallelism=16"})
+    public static class Cores16 extends ParallelBulkOperationsBenchmark {
+    }
+
+    @Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Djava.util.concurrent.ForkJoinPool.common.parallelism=32"})
+    public static class Cores32 extends ParallelBulkOperationsBenchmark {
+    }
+}
@@ -0,0 +1,86 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import org.aston.java.intensive_39.kubrak.list.implemantations.SomeArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение последовательной {@code SomeArrayList.sort()} и параллельной {@code SomeArrayList.parallelSort()} сортировок
+ * с {@link Arrays#parallelSort(Comparable[])} в качестве эталона.
+ *
+ * <p>Запуск: {@code java -jar benchmarks/target/benchmarks.jar ParallelSortBenchmark}.
+ *
+ * @author Konstantin_Kubrak
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ParallelSortBenchmark {
+
+    @Param({"100000", "1000000", "10000000"})
+    private int size;
+
+    @Param({"RANDOM", "SORTED", "DUPLICATES"})
+    private DataShape shape;
+
+    private Integer[] data;
+
+    private Integer[] copy;
+
+    private SomeArrayList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+
+        data = shape.generate(size);
+        copy = new Integer[size];
+        list = new SomeArrayList<>(size);
+    }
+
+    @Setup(Level.Invocation)
+    public void refill() {
+
+        System.arraycopy(data, 0, copy, 0, size);
+        list.deleteAll();
+        for (Integer t : data) {
+            list.put(t);
+        }
+    }
+
+    @Benchmark
+    public SomeArrayList<Integer> sequentialSort() {
+
+        list.sort();
+        return list;
+    }
+
+    @Benchmark
+    public SomeArrayList<Integer> parallelSort() {
+
+        list.parallelSort();
+        return list;
+    }
+
+    @Benchmark
+    public Integer[] jdkParallelSort() {
+
+        Arrays.parallelSort(copy);
+        return copy;
+    }
+}
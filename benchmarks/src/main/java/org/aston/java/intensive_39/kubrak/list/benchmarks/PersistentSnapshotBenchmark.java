@@ -0,0 +1,105 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import org.aston.java.intensive_39.kubrak.list.implemantations.SomeArrayList;
+import org.aston.java.intensive_39.kubrak.list.implemantations.SomePersistentList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Стоимость снимка для читающих потоков после каждого изменения: копирование {@link SomeArrayList}
+ * против новой версии {@link SomePersistentList}, разделяющей неизменённые узлы с предыдущей.
+ * Дополнительно измеряются обход обеих коллекций и преобразования между ними.
+ *
+ * <p>Запуск: {@code java -jar benchmarks/target/benchmarks.jar PersistentSnapshotBenchmark}.
+ * Для сравнения нагрузки на сборщик мусора добавьте {@code -prof gc}.
+ *
+ * @author Konstantin_Kubrak
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PersistentSnapshotBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private SomeArrayList<Integer> arrayList;
+
+    private SomePersistentList<Integer> persistentList;
+
+    private int position;
+
+    @Setup
+    public void setUp() {
+
+        arrayList = new SomeArrayList<>(size);
+        for (Integer value : DataShape.RANDOM.generate(size)) {
+            arrayList.put(value);
+        }
+        persistentList = SomePersistentList.copyOf(arrayList);
+    }
+
+    @Benchmark
+    public SomeArrayList<Integer> setThenCopySnapshot() {
+
+        arrayList.set(position, nextPosition());
+        SomeArrayList<Integer> snapshot = new SomeArrayList<>(arrayList.size());
+        snapshot.putAll(arrayList);
+        return snapshot;
+    }
+
+    @Benchmark
+    public SomePersistentList<Integer> setPersistentVersion() {
+
+        persistentList = persistentList.withSet(position, nextPosition());
+        return persistentList;
+    }
+
+    @Benchmark
+    public long sumArrayList() {
+
+        long[] sum = new long[1];
+        arrayList.forEach(value -> sum[0] += value);
+        return sum[0];
+    }
+
+    @Benchmark
+    public long sumPersistentList() {
+
+        long[] sum = new long[1];
+        persistentList.forEach(value -> sum[0] += value);
+        return sum[0];
+    }
+
+    @Benchmark
+    public SomePersistentList<Integer> copyOfArrayList() {
+
+        return SomePersistentList.copyOf(arrayList);
+    }
+
+    @Benchmark
+    public SomeArrayList<Integer> toSomeArrayList() {
+
+        return persistentList.toSomeArrayList();
+    }
+
+    private int nextPosition() {
+
+        position = (position + 7919) % size;
+        return position;
+    }
+}
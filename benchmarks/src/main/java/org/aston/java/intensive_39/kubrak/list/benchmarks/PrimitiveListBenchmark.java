@@ -0,0 +1,127 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import org.aston.java.intensive_39.kubrak.list.implemantations.SomeArrayList;
+import org.aston.java.intensive_39.kubrak.list.implemantations.SomeIntArrayList;
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeIntList;
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение {@link SomeIntArrayList} и {@code SomeArrayList<Integer>} на сканировании и сортировке.
+ *
+ * <p>Сканирование не изменяет списки, поэтому они заполняются один раз за прогон; перед каждым вызовом
+ * сортировки заполняются заново только списки {@link SortState}.
+ *
+ * <p>Запуск: {@code java -jar benchmarks/target/benchmarks.jar PrimitiveListBenchmark}.
+ *
+ * @author Konstantin_Kubrak
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PrimitiveListBenchmark {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    private int size;
+
+    @Param({"RANDOM", "DUPLICATES"})
+    private DataShape shape;
+
+    private Integer[] data;
+
+    private SomeList<Integer> boxedList;
+
+    private SomeIntList intList;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+
+        data = shape.generate(size);
+        boxedList = new SomeArrayList<>(size);
+        intList = new SomeIntArrayList(size);
+        for (Integer t : data) {
+            boxedList.put(t);
+            intList.put(t);
+        }
+    }
+
+    @Benchmark
+    public boolean boxedContainsMissing() {
+
+        return boxedList.contains(DataShape.MISSING);
+    }
+
+    @Benchmark
+    public boolean primitiveContainsMissing() {
+
+        return intList.contains(DataShape.MISSING);
+    }
+
+    /**
+     * Списки для сортировки; данные восстанавливаются перед каждым вызовом.
+     */
+    @State(Scope.Thread)
+    public static class SortState {
+
+        @Param({"1000", "100000", "1000000", "10000000"})
+        private int size;
+
+        @Param({"RANDOM", "DUPLICATES"})
+        private DataShape shape;
+
+        private Integer[] data;
+
+        private SomeList<Integer> boxedList;
+
+        private SomeIntList intList;
+
+        @Setup(Level.Trial)
+        public void setUpTrial() {
+
+            data = shape.generate(size);
+            boxedList = new SomeArrayList<>(size);
+            intList = new SomeIntArrayList(size);
+        }
+
+        @Setup(Level.Invocation)
+        public void refill() {
+
+            boxedList.deleteAll();
+            intList.deleteAll();
+            for (Integer t : data) {
+                boxedList.put(t);
+                intList.put(t);
+            }
+        }
+    }
+
+    @Benchmark
+    public SomeList<Integer> boxedSort(SortState state) {
+
+        state.boxedList.sort();
+        return state.boxedList;
+    }
+
+    @Benchmark
+    public SomeIntList primitiveSort(SortState state) {
+
+        state.intList.sort();
+        return state.intList;
+    }
+}
@@ -0,0 +1,86 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение {@code SomeArrayList} и {@code SomeArrayDeque} при использовании в качестве очереди (FIFO) и стека (LIFO)
+ * с постоянным числом элементов в коллекции.
+ *
+ * <p>Запуск: {@code java -jar benchmarks/target/benchmarks.jar QueueWorkloadBenchmark}.
+ *
+ * @author Konstantin_Kubrak
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class QueueWorkloadBenchmark {
+
+    @Param({"SOME_ARRAY_LIST", "SOME_ARRAY_DEQUE"})
+    private ListImplementation implementation;
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private SomeList<Integer> list;
+
+    private Integer value;
+
+    @Setup
+    public void setUp() {
+
+        Integer[] data = DataShape.SORTED.generate(size);
+        list = implementation.createFilled(data);
+        value = data[0];
+    }
+
+    @Benchmark
+    public Integer fifoPutThenDeleteHead() {
+
+        list.put(value);
+        Integer head = list.get(0);
+        list.delete(0);
+        return head;
+    }
+
+    @Benchmark
+    public Integer lifoInsertHeadThenDeleteHead() {
+
+        list.insert(value, 0);
+        Integer head = list.get(0);
+        list.delete(0);
+        return head;
+    }
+
+    @Benchmark
+    public Integer lifoPutThenDeleteTail() {
+
+        list.put(value);
+        Integer tail = list.get(list.size() - 1);
+        list.delete(list.size() - 1);
+        return tail;
+    }
+
+    @Benchmark
+    public SomeList<Integer> insertThenDeleteMiddle() {
+
+        list.insert(value, list.size() / 2);
+        list.delete(list.size() / 2);
+        return list;
+    }
+}
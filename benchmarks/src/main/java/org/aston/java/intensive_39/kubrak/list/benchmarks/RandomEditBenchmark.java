@@ -0,0 +1,90 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение реализаций {@link SomeList} на вставке и удалении в случайных позициях,
+ * а также на чтении по случайному индексу и последовательном обходе.
+ *
+ * <p>Запуск: {@code java -jar benchmarks/target/benchmarks.jar RandomEditBenchmark}.
+ *
+ * @author Konstantin_Kubrak
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RandomEditBenchmark {
+
+    private static final int POSITIONS_MASK = 1023;
+
+    @Param({"SOME_ARRAY_LIST", "SOME_CHUNKED_LIST", "JDK_ARRAY_LIST"})
+    private ListImplementation implementation;
+
+    @Param({"100000", "1000000", "10000000"})
+    private int size;
+
+    private SomeList<Integer> list;
+
+    private Integer value;
+
+    private int[] randomPositions;
+
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+
+        Integer[] data = DataShape.SORTED.generate(size);
+        list = implementation.createFilled(data);
+        value = data[0];
+
+        Random random = new Random(size);
+        randomPositions = new int[POSITIONS_MASK + 1];
+        for (int i = 0; i < randomPositions.length; i++) {
+            randomPositions[i] = random.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    public SomeList<Integer> insertThenDeleteRandom() {
+
+        int position = randomPositions[cursor++ & POSITIONS_MASK];
+        list.insert(value, position);
+        list.delete(randomPositions[cursor & POSITIONS_MASK]);
+        return list;
+    }
+
+    @Benchmark
+    public Integer getRandom() {
+
+        return list.get(randomPositions[cursor++ & POSITIONS_MASK]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long sequentialScan() {
+
+        long sum = 0;
+        for (int i = 0; i < list.size(); i++) {
+            sum += list.get(i);
+        }
+        return sum;
+    }
+}
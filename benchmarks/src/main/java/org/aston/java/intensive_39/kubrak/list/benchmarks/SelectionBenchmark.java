@@ -0,0 +1,93 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import org.aston.java.intensive_39.kubrak.list.implemantations.SomeArrayList;
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Получение медианы и первых {@code k} элементов {@link SomeArrayList}: полная сортировка
+ * против {@code select} (O(n)) и {@code topK} (O(n log k)).
+ *
+ * <p>Перед каждым вызовом список заново заполняется исходными данными, время заполнения в замер не входит.
+ *
+ * <p>Запуск: {@code java -jar benchmarks/target/benchmarks.jar SelectionBenchmark}.
+ *
+ * @author Konstantin_Kubrak
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SelectionBenchmark {
+
+    private static final Comparator<Integer> REVERSE = Comparator.reverseOrder();
+
+    @Param({"1000000", "10000000"})
+    private int size;
+
+    @Param({"100"})
+    private int k;
+
+    @Param({"RANDOM", "DUPLICATES"})
+    private DataShape shape;
+
+    private Integer[] data;
+
+    private SomeArrayList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+
+        data = shape.generate(size);
+        list = new SomeArrayList<>(size);
+    }
+
+    @Setup(Level.Invocation)
+    public void refill() {
+
+        list.deleteAll();
+        list.putAll(data);
+    }
+
+    @Benchmark
+    public Integer sortThenMedian() {
+
+        list.sort(null);
+        return list.get(size / 2);
+    }
+
+    @Benchmark
+    public Integer selectMedian() {
+
+        return list.select(size / 2, null);
+    }
+
+    @Benchmark
+    public Integer sortThenTopK() {
+
+        list.sort(REVERSE);
+        return list.get(k - 1);
+    }
+
+    @Benchmark
+    public SomeList<Integer> topK() {
+
+        return list.topK(k, REVERSE);
+    }
+}
@@ -0,0 +1,125 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import org.aston.java.intensive_39.kubrak.list.implemantations.RecordCodecs;
+import org.aston.java.intensive_39.kubrak.list.implemantations.SomeArrayList;
+import org.aston.java.intensive_39.kubrak.list.implemantations.SomeLoggedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Время восстановления коллекции при запуске: повторное заполнение вызовами {@code put}
+ * против загрузки двоичного снимка {@code SomeArrayList.readFrom} и открытия {@code SomeLoggedList}
+ * со снимком и журналом, а также время записи снимка.
+ *
+ * <p>Запуск: {@code java -jar benchmarks/target/benchmarks.jar SnapshotBenchmark}.
+ *
+ * @author Konstantin_Kubrak
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SnapshotBenchmark {
+
+    /**
+     * Доля элементов, изменённых после снимка и записанных в журнал.
+     */
+    private static final int LOGGED_FRACTION = 100;
+
+    @Param({"1000000", "20000000"})
+    private int size;
+
+    private long[] values;
+
+    private SomeArrayList<Long> list;
+
+    private Path directory;
+
+    private Path snapshot;
+
+    private Path loggedSnapshot;
+
+    private Path log;
+
+    @Setup
+    public void setUp() throws IOException {
+
+        values = new Random(39).longs(size).toArray();
+        list = new SomeArrayList<>(size);
+        for (long value : values) {
+            list.put(value);
+        }
+        directory = Files.createTempDirectory("snapshot-benchmark");
+        snapshot = directory.resolve("list.snapshot");
+        list.writeTo(snapshot, RecordCodecs.LONG);
+        loggedSnapshot = directory.resolve("logged.snapshot");
+        log = directory.resolve("logged.log");
+        try (SomeLoggedList<Long> logged = SomeLoggedList.open(loggedSnapshot, log, RecordCodecs.LONG)) {
+            for (int i = 0; i < size - size / LOGGED_FRACTION; i++) {
+                logged.put(values[i]);
+            }
+            logged.checkpoint();
+            for (int i = size - size / LOGGED_FRACTION; i < size; i++) {
+                logged.put(values[i]);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+
+        Files.deleteIfExists(snapshot);
+        Files.deleteIfExists(loggedSnapshot);
+        Files.deleteIfExists(log);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public SomeArrayList<Long> rebuildByPut() {
+
+        SomeArrayList<Long> rebuilt = new SomeArrayList<>();
+        for (long value : values) {
+            rebuilt.put(value);
+        }
+        return rebuilt;
+    }
+
+    @Benchmark
+    public SomeArrayList<Long> readSnapshot() throws IOException {
+
+        return SomeArrayList.readFrom(snapshot, RecordCodecs.LONG);
+    }
+
+    @Benchmark
+    public int openSnapshotWithLog() throws IOException {
+
+        try (SomeLoggedList<Long> logged = SomeLoggedList.open(loggedSnapshot, log, RecordCodecs.LONG)) {
+            return logged.size();
+        }
+    }
+
+    @Benchmark
+    public Path writeSnapshot() throws IOException {
+
+        list.writeTo(snapshot, RecordCodecs.LONG);
+        return snapshot;
+    }
+}
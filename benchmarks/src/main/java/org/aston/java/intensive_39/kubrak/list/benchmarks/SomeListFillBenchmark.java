@@ -0,0 +1,56 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк заполнения пустого списка вызовами {@code put}, включая все расширения вместимости.
+ *
+ * <p>Запуск: {@code java -jar benchmarks/target/benchmarks.jar SomeListFillBenchmark}.
+ *
+ * @author Konstantin_Kubrak
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SomeListFillBenchmark {
+
+    @Param({"SOME_ARRAY_LIST", "JDK_ARRAY_LIST"})
+    private ListImplementation implementation;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    private int size;
+
+    private Integer[] data;
+
+    @Setup
+    public void setUp() {
+
+        data = DataShape.RANDOM.generate(size);
+    }
+
+    @Benchmark
+    public SomeList<Integer> putFromEmpty() {
+
+        SomeList<Integer> list = implementation.create();
+        for (Integer t : data) {
+            list.put(t);
+        }
+        return list;
+    }
+}
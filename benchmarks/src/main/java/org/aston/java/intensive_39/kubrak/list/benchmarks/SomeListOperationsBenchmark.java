@@ -0,0 +1,123 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк неразрушающих и сохраняющих размер операций {@link SomeList}:
+ * {@code put}, {@code insert}, {@code get}, {@code delete}, {@code getIndex}, {@code contains}.
+ *
+ * <p>Операции, изменяющие размер списка, выполняются парами (например, вставка в середину и удаление последнего элемента),
+ * чтобы размер списка оставался постоянным на протяжении всей итерации.
+ *
+ * <p>Запуск: {@code java -jar benchmarks/target/benchmarks.jar SomeListOperationsBenchmark}.
+ *
+ * @author Konstantin_Kubrak
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SomeListOperationsBenchmark {
+
+    private static final int POSITIONS_MASK = 1023;
+
+    @Param({"SOME_ARRAY_LIST", "JDK_ARRAY_LIST"})
+    private ListImplementation implementation;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    private int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "DUPLICATES"})
+    private DataShape shape;
+
+    private SomeList<Integer> list;
+
+    private Integer value;
+
+    private Integer probe;
+
+    private int[] randomPositions;
+
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+
+        Integer[] data = shape.generate(size);
+        list = implementation.createFilled(data);
+        value = data[0];
+        probe = data[size / 2];
+
+        Random random = new Random(size);
+        randomPositions = new int[POSITIONS_MASK + 1];
+        for (int i = 0; i < randomPositions.length; i++) {
+            randomPositions[i] = random.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    public SomeList<Integer> putThenDeleteLast() {
+
+        list.put(value);
+        list.delete(list.size() - 1);
+        return list;
+    }
+
+    @Benchmark
+    public SomeList<Integer> insertHeadThenDeleteLast() {
+
+        list.insert(value, 0);
+        list.delete(list.size() - 1);
+        return list;
+    }
+
+    @Benchmark
+    public SomeList<Integer> insertMiddleThenDeleteLast() {
+
+        list.insert(value, list.size() / 2);
+        list.delete(list.size() - 1);
+        return list;
+    }
+
+    @Benchmark
+    public SomeList<Integer> deleteMiddleThenPut() {
+
+        list.delete(list.size() / 2);
+        list.put(value);
+        return list;
+    }
+
+    @Benchmark
+    public Integer getRandom() {
+
+        return list.get(randomPositions[cursor++ & POSITIONS_MASK]);
+    }
+
+    @Benchmark
+    public int getIndex() {
+
+        return list.getIndex(probe);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+
+        return list.contains(DataShape.MISSING);
+    }
+}
@@ -0,0 +1,168 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк разрушающих операций {@link SomeList}: {@code sort()}, {@code sort(Comparator)} и {@code deleteAll()}.
+ *
+ * <p>Перед каждым вызовом список заново заполняется исходными данными, время заполнения в замер не входит.
+ * Сортировка тысячи элементов занимает десятки микросекунд - меньше, чем JMH надёжно измеряет по одному вызову
+ * с {@link Level#Invocation}, поэтому малые списки измеряются пакетом в {@link Batched}.
+ *
+ * <p>Запуск: {@code java -jar benchmarks/target/benchmarks.jar SomeListSortBenchmark}.
+ *
+ * @author Konstantin_Kubrak
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SomeListSortBenchmark {
+
+    private static final Comparator<Integer> REVERSE = Comparator.reverseOrder();
+
+    @Param({"SOME_ARRAY_LIST", "JDK_ARRAY_LIST"})
+    private ListImplementation implementation;
+
+    @Param({"100000", "1000000", "10000000"})
+    private int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "DUPLICATES"})
+    private DataShape shape;
+
+    private Integer[] data;
+
+    private SomeList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+
+        data = shape.generate(size);
+        list = implementation.create(size);
+    }
+
+    @Setup(Level.Invocation)
+    public void refill() {
+
+        list.deleteAll();
+        for (Integer t : data) {
+            list.put(t);
+        }
+    }
+
+    @Benchmark
+    public SomeList<Integer> sortNatural() {
+
+        list.sort();
+        return list;
+    }
+
+    @Benchmark
+    public SomeList<Integer> sortWithComparator() {
+
+        list.sort(REVERSE);
+        return list;
+    }
+
+    @Benchmark
+    public SomeList<Integer> deleteAll() {
+
+        list.deleteAll();
+        return list;
+    }
+
+    /**
+     * Те же операции на малых списках: за вызов обрабатывается {@link Batched#LISTS} списков, заполненных
+     * перед вызовом, а результат делится на их количество.
+     */
+    @State(Scope.Thread)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+    @OperationsPerInvocation(Batched.LISTS)
+    public static class Batched {
+
+        static final int LISTS = 1000;
+
+        @Param({"SOME_ARRAY_LIST", "JDK_ARRAY_LIST"})
+        private ListImplementation implementation;
+
+        @Param({"1000"})
+        private int size;
+
+        @Param({"RANDOM", "SORTED", "REVERSED", "DUPLICATES"})
+        private DataShape shape;
+
+        private Integer[] data;
+
+        private SomeList<Integer>[] lists;
+
+        @Setup(Level.Trial)
+        public void setUpTrial() {
+
+            data = shape.generate(size);
+            lists = new SomeList[LISTS];
+            for (int i = 0; i < LISTS; i++) {
+                lists[i] = implementation.create(size);
+            }
+        }
+
+        @Setup(Level.Invocation)
+        public void refill() {
+
+            for (SomeList<Integer> list : lists) {
+                list.deleteAll();
+                for (Integer t : data) {
+                    list.put(t);
+                }
+            }
+        }
+
+        @Benchmark
+        public SomeList<Integer>[] sortNatural() {
+
+            for (SomeList<Integer> list : lists) {
+                list.sort();
+            }
+            return lists;
+        }
+
+        @Benchmark
+        public SomeList<Integer>[] sortWithComparator() {
+
+            for (SomeList<Integer> list : lists) {
+                list.sort(REVERSE);
+            }
+            return lists;
+        }
+
+        @Benchmark
+        public SomeList<Integer>[] deleteAll() {
+
+            for (SomeList<Integer> list : lists) {
+                list.deleteAll();
+            }
+            return lists;
+        }
+    }
+}
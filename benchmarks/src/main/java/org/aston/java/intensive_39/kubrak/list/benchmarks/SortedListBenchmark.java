@@ -0,0 +1,89 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import org.aston.java.intensive_39.kubrak.list.implemantations.SomeArrayList;
+import org.aston.java.intensive_39.kubrak.list.implemantations.SomeSortedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение поиска в {@code SomeSortedList} (двоичный поиск) и в отсортированном {@code SomeArrayList}
+ * (линейный поиск), а также групповой вставки с поэлементной.
+ *
+ * <p>Запуск: {@code java -jar benchmarks/target/benchmarks.jar SortedListBenchmark}.
+ *
+ * @author Konstantin_Kubrak
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SortedListBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private Integer[] data;
+
+    private SomeArrayList<Integer> arrayList;
+
+    private SomeSortedList<Integer> sortedList;
+
+    private Integer probe;
+
+    @Setup
+    public void setUp() {
+
+        data = DataShape.RANDOM.generate(size);
+        arrayList = new SomeArrayList<>(size);
+        arrayList.putAll(data);
+        arrayList.sort();
+        sortedList = new SomeSortedList<>();
+        sortedList.putAll(data);
+        probe = data[size / 2];
+    }
+
+    @Benchmark
+    public int arrayListGetIndex() {
+
+        return arrayList.getIndex(probe);
+    }
+
+    @Benchmark
+    public int sortedListGetIndex() {
+
+        return sortedList.getIndex(probe);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public SomeSortedList<Integer> putOneByOne() {
+
+        SomeSortedList<Integer> list = new SomeSortedList<>();
+        for (Integer t : data) {
+            list.put(t);
+        }
+        return list;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public SomeSortedList<Integer> putAllMerged() {
+
+        SomeSortedList<Integer> list = new SomeSortedList<>();
+        list.putAll(data);
+        return list;
+    }
+}
@@ -0,0 +1,94 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
+
+import java.util.Comparator;
+
+/**
+ * Обёртка {@link SomeList}, синхронизирующая каждый вызов на одном мониторе.
+ * Используется как эталон внешней грубой блокировки при сравнении с {@code SomeConcurrentList}.
+ *
+ * @param <T> тип элементов списка.
+ * @author Konstantin_Kubrak
+ */
+public class SynchronizedListAdapter<T> implements SomeList<T> {
+
+    private final SomeList<T> delegate;
+
+    public SynchronizedListAdapter(SomeList<T> delegate) {
+
+        this.delegate = delegate;
+    }
+
+    @Override
+    public synchronized void put(T t) {
+
+        delegate.put(t);
+    }
+
+    @Override
+    public synchronized void insert(T t, int index) {
+
+        delegate.insert(t, index);
+    }
+
+    @Override
+    public synchronized T get(int index) {
+
+        return delegate.get(index);
+    }
+
+    @Override
+    public synchronized void delete(int index) {
+
+        delegate.delete(index);
+    }
+
+    @Override
+    public synchronized void deleteAll() {
+
+        delegate.deleteAll();
+    }
+
+    @Override
+    public synchronized void set(T t, int index) {
+
+        delegate.set(t, index);
+    }
+
+    @Override
+    public synchronized int size() {
+
+        return delegate.size();
+    }
+
+    @Override
+    public synchronized int getIndex(T t) {
+
+        return delegate.getIndex(t);
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public synchronized boolean contains(T t) {
+
+        return delegate.contains(t);
+    }
+
+    @Override
+    public synchronized void sort() {
+
+        delegate.sort();
+    }
+
+    @Override
+    public synchronized void sort(Comparator<T> comparator) {
+
+        delegate.sort(comparator);
+    }
+}
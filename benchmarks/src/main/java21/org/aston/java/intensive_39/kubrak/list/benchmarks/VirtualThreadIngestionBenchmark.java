@@ -0,0 +1,114 @@
+package org.aston.java.intensive_39.kubrak.list.benchmarks;
+
+import org.aston.java.intensive_39.kubrak.list.implemantations.IngestionBuffer;
+import org.aston.java.intensive_39.kubrak.list.implemantations.SomeArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Приём событий от тысяч производителей в виртуальных потоках в один {@link SomeArrayList}: {@code put}
+ * под общей блокировкой против {@link IngestionBuffer}. Одна операция - каждый производитель в своём виртуальном
+ * потоке добавляет {@code eventsPerProducer} элементов, после чего буфер сливается методом {@code flush()}.
+ * Создание виртуальных потоков входит в измерение обоих вариантов. Коллекция и буфер (без фонового слива)
+ * создаются перед каждой операцией.
+ *
+ * <p>Класс находится в {@code src/main/java21} и собирается профилем {@code jdk21}, который включается
+ * автоматически при сборке на JDK 21 и новее.
+ *
+ * <p>Запуск: {@code java -jar benchmarks/target/benchmarks.jar VirtualThreadIngestionBenchmark}
+ *
+ * @author Konstantin_Kubrak
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class VirtualThreadIngestionBenchmark {
+
+    private static final Integer EVENT = 39;
+
+    @Param({"1000", "10000"})
+    private int producers;
+
+    @Param({"1000"})
+    private int eventsPerProducer;
+
+    private SomeArrayList<Integer> list;
+
+    private IngestionBuffer<Integer> buffer;
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+
+        int stripes = Integer.highestOneBit(4 * Runtime.getRuntime().availableProcessors() - 1) << 1;
+        list = new SomeArrayList<>();
+        buffer = new IngestionBuffer<>(list, stripes, IngestionBuffer.DEFAULT_BATCH_SIZE,
+                IngestionBuffer.DEFAULT_MAX_PENDING_BATCHES, Duration.ZERO);
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownInvocation() {
+
+        buffer.close();
+    }
+
+    @Benchmark
+    public int lockedPut() throws InterruptedException {
+
+        SomeArrayList<Integer> target = list;
+        runProducers(event -> {
+            synchronized (target) {
+                target.put(event);
+            }
+        });
+        return target.size();
+    }
+
+    @Benchmark
+    public int ingestionBuffer() throws InterruptedException {
+
+        runProducers(buffer::put);
+        buffer.flush();
+        return list.size();
+    }
+
+    private void runProducers(Consumer<Integer> sink) throws InterruptedException {
+
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int p = 0; p < producers; p++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                        for (int i = 0; i < eventsPerProducer; i++) {
+                            sink.accept(EVENT);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            start.countDown();
+        }
+    }
+}
@@ -0,0 +1,423 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Адаптивная сортировка участка массива объектов, используемая {@link SomeArrayList#sort()}.
+ *
+ * <p>Сортировка выбирает стратегию в зависимости от входных данных:
+ * <ul>
+ *     <li>участки не длиннее {@link AdaptiveSort#INSERTION_SORT_THRESHOLD} сортируются вставками;</li>
+ *     <li>если данные состоят из небольшого числа упорядоченных серий (в среднем не короче
+ *     {@link AdaptiveSort#MIN_AVERAGE_RUN_LENGTH} элементов), убывающие серии разворачиваются,
+ *     а затем серии попарно сливаются, как в TimSort;</li>
+ *     <li>иначе выполняется быстрая сортировка с трёхсторонним разбиением, при котором элементы,
+ *     равные опорному, сразу исключаются из дальнейшей обработки. Рекурсия выполняется только для меньшей части,
+ *     поэтому глубина стека не превышает log(n), а при исчерпании бюджета глубины сортировка переходит
+ *     на пирамидальную, ограничивая худший случай O(n log n).</li>
+ * </ul>
+ *
+ * <p>Сортировка неустойчива. Устойчивая сортировка выполняется {@link ParallelMergeSortTask}.
+ *
+ * <p>На том же трёхстороннем разбиении построен выбор k-го элемента {@link AdaptiveSort#select}
+ * за ожидаемое время O(n), а выбор k наименьших элементов {@link AdaptiveSort#smallest} выполняется
+ * ограниченной пирамидой за O(n log k).
+ *
+ * @author Konstantin_Kubrak
+ */
+final class AdaptiveSort {
+
+    /**
+     * Размер участка, начиная с которого вместо разбиения используется сортировка вставками.
+     */
+    static final int INSERTION_SORT_THRESHOLD = 32;
+
+    /**
+     * Минимальная средняя длина серии, при которой выгодно слияние серий вместо быстрой сортировки.
+     */
+    private static final int MIN_AVERAGE_RUN_LENGTH = 32;
+
+    /**
+     * Размер участка, начиная с которого опорный элемент выбирается как медиана трёх медиан.
+     */
+    private static final int NINTHER_THRESHOLD = 128;
+
+    private AdaptiveSort() {
+    }
+
+    /**
+     * Сортировка диапазона {@code [from, to)} массива в порядке, заданном компаратором.
+     *
+     * @param array      сортируемый массив.
+     * @param from       начало диапазона (включительно).
+     * @param to         конец диапазона (исключительно).
+     * @param comparator компаратор, задающий порядок элементов.
+     * @param <T>        тип сортируемых элементов.
+     */
+    static <T> void sort(T[] array, int from, int to, Comparator<? super T> comparator) {
+
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(array, from, to, comparator);
+            return;
+        }
+        if (tryMergeRuns(array, from, to, comparator)) {
+            return;
+        }
+        quickSort(array, from, to, comparator, depthBudget(to - from));
+    }
+
+    /**
+     * Количество уровней разбиения, после которого быстрая сортировка переходит на пирамидальную: {@code 2 * log2(n)}.
+     */
+    static int depthBudget(int length) {
+
+        return 2 * (31 - Integer.numberOfLeadingZeros(Math.max(length, 1)));
+    }
+
+    /**
+     * Сортировка вставками диапазона {@code [from, to)}. Равные элементы не переставляются.
+     */
+    static <T> void insertionSort(T[] array, int from, int to, Comparator<? super T> comparator) {
+
+        for (int i = from + 1; i < to; i++) {
+            T current = array[i];
+            int j = i - 1;
+            while (j >= from && comparator.compare(array[j], current) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+        }
+    }
+
+    /**
+     * Слияние двух соседних упорядоченных участков {@code [from, middle)} и {@code [middle, to)}.
+     * Левый участок копируется в буфер под теми же индексами, поэтому длина буфера должна быть не меньше {@code middle}.
+     * Если участки уже следуют друг за другом в нужном порядке, слияние не выполняется.
+     * Как и в TimSort, начало левого участка, не превышающее первого элемента правого, и конец правого участка,
+     * не меньший последнего элемента левого, уже стоят на своих местах и в слиянии не участвуют.
+     * При равенстве элементов выбирается элемент левого участка, поэтому слияние устойчиво.
+     */
+    static <T> void merge(T[] array, T[] buffer, int from, int middle, int to, Comparator<? super T> comparator) {
+
+        if (comparator.compare(array[middle - 1], array[middle]) <= 0) {
+            return;
+        }
+        from = upperBound(array, from, middle, array[middle], comparator);
+        to = lowerBound(array, middle, to, array[middle - 1], comparator);
+        System.arraycopy(array, from, buffer, from, middle - from);
+        int left = from;
+        int right = middle;
+        int target = from;
+        while (left < middle && right < to) {
+            if (comparator.compare(buffer[left], array[right]) <= 0) {
+                array[target++] = buffer[left++];
+            } else {
+                array[target++] = array[right++];
+            }
+        }
+        System.arraycopy(buffer, left, array, target, middle - left);
+    }
+
+    /**
+     * Индекс первого элемента упорядоченного диапазона, строго большего ключа.
+     */
+    static <T> int upperBound(T[] array, int from, int to, T key, Comparator<? super T> comparator) {
+
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            if (comparator.compare(array[middle], key) <= 0) {
+                from = middle + 1;
+            } else {
+                to = middle;
+            }
+        }
+        return from;
+    }
+
+    /**
+     * Индекс первого элемента упорядоченного диапазона, не меньшего ключа.
+     */
+    static <T> int lowerBound(T[] array, int from, int to, T key, Comparator<? super T> comparator) {
+
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            if (comparator.compare(array[middle], key) < 0) {
+                from = middle + 1;
+            } else {
+                to = middle;
+            }
+        }
+        return from;
+    }
+
+    /**
+     * Попытка отсортировать диапазон слиянием естественных серий.
+     * Строго убывающие серии разворачиваются на месте, соседние серии, уже идущие по порядку, объединяются.
+     * Если серий оказывается слишком много, попытка прекращается и возвращается false;
+     * развёрнутые к этому моменту серии на корректность дальнейшей сортировки не влияют.
+     *
+     * @return возвращает true, если диапазон отсортирован.
+     */
+    private static <T> boolean tryMergeRuns(T[] array, int from, int to, Comparator<? super T> comparator) {
+
+        int maxRunCount = (to - from) / MIN_AVERAGE_RUN_LENGTH;
+        int[] runs = new int[Math.min(maxRunCount, 16) + 1];
+        runs[0] = from;
+        int runCount = 0;
+        int start = from;
+        while (start < to) {
+            int end = start + 1;
+            if (end < to && comparator.compare(array[start], array[end]) > 0) {
+                while (end + 1 < to && comparator.compare(array[end], array[end + 1]) > 0) {
+                    end++;
+                }
+                end++;
+                reverse(array, start, end);
+            } else {
+                while (end < to && comparator.compare(array[end - 1], array[end]) <= 0) {
+                    end++;
+                }
+            }
+            if (runCount == 0 || comparator.compare(array[start - 1], array[start]) > 0) {
+                if (++runCount > maxRunCount) {
+                    return false;
+                }
+                if (runCount == runs.length) {
+                    runs = Arrays.copyOf(runs, Math.min(runs.length << 1, maxRunCount + 1));
+                }
+            }
+            runs[runCount] = end;
+            start = end;
+        }
+        if (runCount > 1) {
+            mergeRuns(array, runs, runCount, comparator);
+        }
+        return true;
+    }
+
+    /**
+     * Попарное слияние серий, границы которых записаны в {@code runs[0..runCount]}, до тех пор, пока не останется одна.
+     */
+    private static <T> void mergeRuns(T[] array, int[] runs, int runCount, Comparator<? super T> comparator) {
+
+        T[] buffer = (T[]) new Object[runs[runCount]];
+        while (runCount > 1) {
+            int mergedCount = 0;
+            for (int i = 0; i + 2 <= runCount; i += 2) {
+                merge(array, buffer, runs[i], runs[i + 1], runs[i + 2], comparator);
+                runs[++mergedCount] = runs[i + 2];
+            }
+            if ((runCount & 1) != 0) {
+                runs[++mergedCount] = runs[runCount];
+            }
+            runCount = mergedCount;
+        }
+    }
+
+    /**
+     * Быстрая сортировка с трёхсторонним разбиением Дейкстры.
+     * После разбиения диапазон делится на части {@code < pivot}, {@code == pivot} и {@code > pivot};
+     * рекурсивно обрабатывается меньшая из крайних частей, большая обрабатывается в цикле.
+     */
+    private static <T> void quickSort(T[] array, int from, int to, Comparator<? super T> comparator, int depthBudget) {
+
+        while (to - from > INSERTION_SORT_THRESHOLD) {
+            if (ListMetrics.ENABLED && comparator instanceof SortProbe) {
+                ((SortProbe<?>) comparator).recordDepth(depthBudget);
+            }
+            if (depthBudget-- == 0) {
+                heapSort(array, from, to, comparator);
+                return;
+            }
+            long bounds = partition(array, from, to, choosePivot(array, from, to, comparator), comparator);
+            int lessEnd = (int) (bounds >>> 32);
+            int greaterStart = (int) bounds;
+            if (lessEnd - from < to - greaterStart) {
+                quickSort(array, from, lessEnd, comparator, depthBudget);
+                from = greaterStart;
+            } else {
+                quickSort(array, greaterStart, to, comparator, depthBudget);
+                to = lessEnd;
+            }
+        }
+        insertionSort(array, from, to, comparator);
+    }
+
+    /**
+     * Выбор элемента, который оказался бы на позиции {@code k} после сортировки диапазона {@code [from, to)}.
+     * Диапазон переупорядочивается так, что элементы левее {@code k} не больше выбранного, а правее не меньше.
+     * Как и в быстрой сортировке, диапазон делится трёхсторонним разбиением, но дальше обрабатывается только
+     * часть, содержащая позицию {@code k}; при исчерпании бюджета глубины оставшийся участок сортируется целиком.
+     *
+     * @param array      массив, в котором выбирается элемент.
+     * @param from       начало диапазона (включительно).
+     * @param to         конец диапазона (исключительно).
+     * @param k          позиция выбираемого элемента, {@code from <= k < to}.
+     * @param comparator компаратор, задающий порядок элементов.
+     * @param <T>        тип элементов.
+     */
+    static <T> void select(T[] array, int from, int to, int k, Comparator<? super T> comparator) {
+
+        int depthBudget = depthBudget(to - from);
+        while (to - from > INSERTION_SORT_THRESHOLD) {
+            if (depthBudget-- == 0) {
+                heapSort(array, from, to, comparator);
+                return;
+            }
+            long bounds = partition(array, from, to, choosePivot(array, from, to, comparator), comparator);
+            int lessEnd = (int) (bounds >>> 32);
+            int greaterStart = (int) bounds;
+            if (k < lessEnd) {
+                to = lessEnd;
+            } else if (k >= greaterStart) {
+                from = greaterStart;
+            } else {
+                return;
+            }
+        }
+        insertionSort(array, from, to, comparator);
+    }
+
+    /**
+     * Выбор {@code k} наименьших в порядке компаратора элементов диапазона {@code [from, to)} без изменения массива.
+     * Кандидаты хранятся в пирамиде размера {@code k}, в корне которой находится наибольший из них,
+     * поэтому каждый следующий элемент сравнивается только с корнем и в большинстве случаев сразу отбрасывается.
+     *
+     * @param array      массив, из которого выбираются элементы.
+     * @param from       начало диапазона (включительно).
+     * @param to         конец диапазона (исключительно).
+     * @param k          количество выбираемых элементов.
+     * @param comparator компаратор, задающий порядок элементов.
+     * @param <T>        тип элементов.
+     * @return возвращает массив из {@code min(k, to - from)} элементов, упорядоченный компаратором.
+     */
+    static <T> T[] smallest(T[] array, int from, int to, int k, Comparator<? super T> comparator) {
+
+        int count = Math.min(k, to - from);
+        T[] heap = (T[]) new Object[count];
+        if (count == 0) {
+            return heap;
+        }
+        System.arraycopy(array, from, heap, 0, count);
+        for (int i = (count >>> 1) - 1; i >= 0; i--) {
+            siftDown(heap, 0, i, count, comparator);
+        }
+        for (int i = from + count; i < to; i++) {
+            if (comparator.compare(array[i], heap[0]) < 0) {
+                heap[0] = array[i];
+                siftDown(heap, 0, 0, count, comparator);
+            }
+        }
+        for (int last = count - 1; last > 0; last--) {
+            swap(heap, 0, last);
+            siftDown(heap, 0, 0, last, comparator);
+        }
+        return heap;
+    }
+
+    /**
+     * Трёхстороннее разбиение Дейкстры диапазона {@code [from, to)} относительно опорного элемента.
+     * После разбиения элементы {@code [from, lessEnd)} меньше опорного, {@code [lessEnd, greaterStart)} равны ему,
+     * {@code [greaterStart, to)} больше него. Если сбор счётчиков включён, количество перестановок сообщается
+     * {@link SortProbe}; при выключенном сборе подсчёт удаляется JIT-компилятором вместе с проверкой.
+     *
+     * @return возвращает {@code lessEnd} в старших и {@code greaterStart} в младших 32 битах.
+     */
+    private static <T> long partition(T[] array, int from, int to, T pivot, Comparator<? super T> comparator) {
+
+        int lessEnd = from;
+        int current = from;
+        int greaterStart = to;
+        int swaps = 0;
+        while (current < greaterStart) {
+            int compare = comparator.compare(array[current], pivot);
+            if (compare < 0) {
+                swap(array, lessEnd++, current++);
+                swaps++;
+            } else if (compare > 0) {
+                swap(array, current, --greaterStart);
+                swaps++;
+            } else {
+                current++;
+            }
+        }
+        if (ListMetrics.ENABLED && comparator instanceof SortProbe) {
+            ((SortProbe<?>) comparator).swaps += swaps;
+        }
+        return ((long) lessEnd << 32) | greaterStart;
+    }
+
+    private static <T> T choosePivot(T[] array, int from, int to, Comparator<? super T> comparator) {
+
+        int last = to - 1;
+        int middle = (from + last) >>> 1;
+        if (to - from >= NINTHER_THRESHOLD) {
+            int step = (to - from) >>> 3;
+            return medianOfThree(
+                    medianOfThree(array[from], array[from + step], array[from + 2 * step], comparator),
+                    medianOfThree(array[middle - step], array[middle], array[middle + step], comparator),
+                    medianOfThree(array[last - 2 * step], array[last - step], array[last], comparator),
+                    comparator);
+        }
+        return medianOfThree(array[from], array[middle], array[last], comparator);
+    }
+
+    private static <T> T medianOfThree(T a, T b, T c, Comparator<? super T> comparator) {
+
+        if (comparator.compare(a, b) < 0) {
+            if (comparator.compare(b, c) < 0) {
+                return b;
+            }
+            return comparator.compare(a, c) < 0 ? c : a;
+        }
+        if (comparator.compare(a, c) < 0) {
+            return a;
+        }
+        return comparator.compare(b, c) < 0 ? c : b;
+    }
+
+    private static <T> void heapSort(T[] array, int from, int to, Comparator<? super T> comparator) {
+
+        int size = to - from;
+        for (int i = (size >>> 1) - 1; i >= 0; i--) {
+            siftDown(array, from, i, size, comparator);
+        }
+        for (int last = size - 1; last > 0; last--) {
+            swap(array, from, from + last);
+            siftDown(array, from, 0, last, comparator);
+        }
+    }
+
+    private static <T> void siftDown(T[] array, int offset, int node, int size, Comparator<? super T> comparator) {
+
+        T value = array[offset + node];
+        int child;
+        while ((child = 2 * node + 1) < size) {
+            if (child + 1 < size && comparator.compare(array[offset + child], array[offset + child + 1]) < 0) {
+                child++;
+            }
+            if (comparator.compare(value, array[offset + child]) >= 0) {
+                break;
+            }
+            array[offset + node] = array[offset + child];
+            node = child;
+        }
+        array[offset + node] = value;
+    }
+
+    private static <T> void reverse(T[] array, int from, int to) {
+
+        for (int left = from, right = to - 1; left < right; left++, right--) {
+            swap(array, left, right);
+        }
+    }
+
+    private static <T> void swap(T[] array, int left, int right) {
+
+        T tmp = array[left];
+        array[left] = array[right];
+        array[right] = tmp;
+    }
+}
@@ -0,0 +1,161 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import java.util.Arrays;
+
+/**
+ * Пул массивов {@code Object[]} для повторного использования внутренних массивов коллекций,
+ * которые часто создаются и сразу выбрасываются.
+ *
+ * <p>Массивы группируются по классам размера - степеням двойки от {@link ArrayPool#MIN_POOLED_LENGTH}
+ * до {@code maxPooledLength}; запрошенная длина округляется вверх до класса. Каждый поток хранит свой кэш:
+ * для каждого класса не больше {@code arraysPerSizeClass} массивов, поэтому взятие и возврат массива
+ * не требуют синхронизации. Массив, возвращённый из другого потока, попадает в кэш возвращающего потока.
+ * Массивы длиннее {@code maxPooledLength} выделяются точной длины и в пул не возвращаются.
+ *
+ * <p>Все массивы в пуле заполнены null. Возвращающий указывает длину использованного начального участка
+ * массива: только этот участок очищается, а остальные ячейки уже должны содержать null, как во внутреннем массиве
+ * {@link SomeArrayList} за пределами его размера.
+ *
+ * <p>Кэш потока удерживает до {@code arraysPerSizeClass * 2 * maxPooledLength} ссылок,
+ * то есть до 2 МБ при сжатых указателях для параметров по умолчанию.
+ *
+ * @author Konstantin_Kubrak
+ */
+public final class ArrayPool {
+
+    public static final int MIN_POOLED_LENGTH = 8;
+
+    public static final int DEFAULT_MAX_POOLED_LENGTH = 1 << 16;
+
+    public static final int DEFAULT_ARRAYS_PER_SIZE_CLASS = 4;
+
+    private static final int MIN_SHIFT = Integer.numberOfTrailingZeros(MIN_POOLED_LENGTH);
+
+    private final int maxPooledLength;
+
+    private final int arraysPerSizeClass;
+
+    private final int sizeClassCount;
+
+    private final ThreadLocal<Cache> caches;
+
+    /**
+     * Конструктор пула с наибольшей длиной массива {@link ArrayPool#DEFAULT_MAX_POOLED_LENGTH}
+     * и {@link ArrayPool#DEFAULT_ARRAYS_PER_SIZE_CLASS} массивами каждого класса размера в кэше потока.
+     */
+    public ArrayPool() {
+
+        this(DEFAULT_MAX_POOLED_LENGTH, DEFAULT_ARRAYS_PER_SIZE_CLASS);
+    }
+
+    /**
+     * Конструктор пула с указанием границ кэша.
+     *
+     * @param maxPooledLength    наибольшая длина хранимого массива, степень двойки не меньше {@link ArrayPool#MIN_POOLED_LENGTH}.
+     * @param arraysPerSizeClass наибольшее количество массивов одного класса размера в кэше потока.
+     */
+    public ArrayPool(int maxPooledLength, int arraysPerSizeClass) {
+
+        if (maxPooledLength < MIN_POOLED_LENGTH || Integer.bitCount(maxPooledLength) != 1) {
+            throw new IllegalArgumentException("Max pooled length must be a power of two not less than "
+                    + MIN_POOLED_LENGTH + ", got " + maxPooledLength);
+        }
+        if (arraysPerSizeClass < 1) {
+            throw new IllegalArgumentException("Illegal number of arrays per size class " + arraysPerSizeClass);
+        }
+        this.maxPooledLength = maxPooledLength;
+        this.arraysPerSizeClass = arraysPerSizeClass;
+        this.sizeClassCount = Integer.numberOfTrailingZeros(maxPooledLength) - MIN_SHIFT + 1;
+        this.caches = ThreadLocal.withInitial(Cache::new);
+    }
+
+    /**
+     * Метод возвращает заполненный null массив длиной не меньше запрошенной: из кэша потока, если там есть массив
+     * нужного класса размера, иначе новый.
+     *
+     * @param minLength наименьшая допустимая длина массива.
+     * @return возвращает массив длины класса размера, либо точной длины, если она больше {@code maxPooledLength}.
+     */
+    public Object[] acquire(int minLength) {
+
+        if (minLength < 0) {
+            throw new IllegalArgumentException("Illegal length " + minLength);
+        }
+        if (minLength > maxPooledLength) {
+            return new Object[minLength];
+        }
+        int sizeClass = sizeClassOf(minLength);
+        Cache cache = caches.get();
+        int count = cache.counts[sizeClass];
+        if (count == 0) {
+            return new Object[MIN_POOLED_LENGTH << sizeClass];
+        }
+        Object[][] stack = cache.arrays[sizeClass];
+        Object[] array = stack[--count];
+        stack[count] = null;
+        cache.counts[sizeClass] = count;
+        return array;
+    }
+
+    /**
+     * Метод очищает использованный участок массива и кладёт массив в кэш текущего потока.
+     * Массив, длина которого не является классом размера пула, или массив заполненного класса отбрасывается.
+     *
+     * @param array      возвращаемый массив; после вызова использовать его нельзя.
+     * @param usedLength длина начального участка, который мог содержать ссылки; остальные ячейки должны быть null.
+     */
+    public void release(Object[] array, int usedLength) {
+
+        int length = array.length;
+        if (length < MIN_POOLED_LENGTH || length > maxPooledLength || Integer.bitCount(length) != 1) {
+            return;
+        }
+        int sizeClass = sizeClassOf(length);
+        Cache cache = caches.get();
+        int count = cache.counts[sizeClass];
+        if (count == arraysPerSizeClass) {
+            return;
+        }
+        Arrays.fill(array, 0, usedLength, null);
+        cache.arrays[sizeClass][count] = array;
+        cache.counts[sizeClass] = count + 1;
+    }
+
+    /**
+     * Метод сообщает количество массивов в кэше текущего потока.
+     *
+     * @return возвращает количество массивов всех классов размера.
+     */
+    public int cachedArrays() {
+
+        int total = 0;
+        for (int count : caches.get().counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+
+        return "ArrayPool{maxPooledLength=" + maxPooledLength + ", arraysPerSizeClass=" + arraysPerSizeClass + "}";
+    }
+
+    private static int sizeClassOf(int length) {
+
+        if (length <= MIN_POOLED_LENGTH) {
+            return 0;
+        }
+        return Integer.SIZE - Integer.numberOfLeadingZeros(length - 1) - MIN_SHIFT;
+    }
+
+    /**
+     * Кэш одного потока: стек массивов и их количество для каждого класса размера.
+     */
+    private final class Cache {
+
+        private final Object[][][] arrays = new Object[sizeClassCount][arraysPerSizeClass][];
+
+        private final int[] counts = new int[sizeClassCount];
+    }
+}
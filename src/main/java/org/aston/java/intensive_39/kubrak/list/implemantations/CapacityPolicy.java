@@ -0,0 +1,171 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+/**
+ * Неизменяемая политика изменения вместимости {@link SomeArrayList}.
+ *
+ * <p>Политика задаётся четырьмя параметрами:
+ * <ul>
+ *     <li><i>коэффициент роста (growth factor)</i> — во сколько раз увеличивается внутренний массив при расширении;</li>
+ *     <li><i>порог заполнения (load threshold)</i> — доля вместимости, при достижении которой массив расширяется;</li>
+ *     <li><i>максимальный шаг (max step)</i> — наибольшее количество ячеек, добавляемых за одно расширение,
+ *     чтобы большие коллекции не удерживали сотни мегабайт пустого места;</li>
+ *     <li><i>порог сжатия (shrink threshold)</i> — доля вместимости, ниже которой массив после удаления сжимается;
+ *     0 означает, что массив никогда не сжимается.</li>
+ * </ul>
+ * Порог сжатия должен быть меньше отношения порога заполнения к коэффициенту роста: после сжатия коллекция
+ * оказывается заполнена ровно на это отношение, поэтому последующие вставки и удаления не вызывают
+ * повторного изменения вместимости сразу же (гистерезис).
+ *
+ * <p>Пороговые значения вычисляются политикой один раз при изменении вместимости, сам {@code SomeArrayList}
+ * при каждой вставке сравнивает только целые числа.
+ *
+ * @author Konstantin_Kubrak
+ */
+public final class CapacityPolicy {
+
+    /**
+     * Наибольшая длина массива, которую можно безопасно запросить у виртуальной машины.
+     */
+    static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    /**
+     * Исходная политика {@link SomeArrayList}: рост в 1.5 раза при заполнении на 75%, без сжатия.
+     */
+    public static final CapacityPolicy DEFAULT = new CapacityPolicy(1.5, 0.75, Integer.MAX_VALUE, 0);
+
+    /**
+     * Политика, заполняющая массив полностью перед расширением: рост в 1.5 раза, без сжатия.
+     */
+    public static final CapacityPolicy DENSE = new CapacityPolicy(1.5, 1.0, Integer.MAX_VALUE, 0);
+
+    /**
+     * Экономная политика для долгоживущих коллекций: рост в 1.25 раза при полном заполнении,
+     * не более чем на 1 << 20 ячеек за раз, сжатие при заполнении меньше чем на 25%.
+     */
+    public static final CapacityPolicy COMPACT = new CapacityPolicy(1.25, 1.0, 1 << 20, 0.25);
+
+    private final double growthFactor;
+
+    private final double loadThreshold;
+
+    private final int maxGrowthStep;
+
+    private final double shrinkThreshold;
+
+    /**
+     * Конструктор политики.
+     *
+     * @param growthFactor    коэффициент роста, больше 1.
+     * @param loadThreshold   порог заполнения, в диапазоне (0, 1].
+     * @param maxGrowthStep   максимальное количество ячеек, добавляемых за одно расширение, больше 0.
+     * @param shrinkThreshold порог сжатия, не меньше 0 и меньше {@code loadThreshold / growthFactor}.
+     */
+    public CapacityPolicy(double growthFactor, double loadThreshold, int maxGrowthStep, double shrinkThreshold) {
+
+        if (!(growthFactor > 1)) {
+            throw new IllegalArgumentException("Illegal growth factor " + growthFactor);
+        }
+        if (!(loadThreshold > 0 && loadThreshold <= 1)) {
+            throw new IllegalArgumentException("Illegal load threshold " + loadThreshold);
+        }
+        if (maxGrowthStep <= 0) {
+            throw new IllegalArgumentException("Illegal max growth step " + maxGrowthStep);
+        }
+        if (!(shrinkThreshold >= 0 && shrinkThreshold < loadThreshold / growthFactor)) {
+            throw new IllegalArgumentException("Illegal shrink threshold " + shrinkThreshold);
+        }
+        this.growthFactor = growthFactor;
+        this.loadThreshold = loadThreshold;
+        this.maxGrowthStep = maxGrowthStep;
+        this.shrinkThreshold = shrinkThreshold;
+    }
+
+    public double getGrowthFactor() {
+
+        return growthFactor;
+    }
+
+    public double getLoadThreshold() {
+
+        return loadThreshold;
+    }
+
+    public int getMaxGrowthStep() {
+
+        return maxGrowthStep;
+    }
+
+    public double getShrinkThreshold() {
+
+        return shrinkThreshold;
+    }
+
+    /**
+     * Метод возвращает количество элементов, при достижении которого массив указанной вместимости расширяется.
+     */
+    int growthLimit(int capacity) {
+
+        return (int) Math.ceil(capacity * loadThreshold);
+    }
+
+    /**
+     * Метод возвращает количество элементов, при падении ниже которого массив указанной вместимости сжимается.
+     */
+    int shrinkLimit(int capacity) {
+
+        return (int) (capacity * shrinkThreshold);
+    }
+
+    /**
+     * Метод возвращает наименьшую вместимость, при которой {@code required} элементов
+     * помещаются в коллекцию без расширения.
+     */
+    int capacityFor(int required) {
+
+        long capacity = (long) Math.ceil(required / loadThreshold);
+        while (capacity < MAX_ARRAY_LENGTH && growthLimit((int) capacity) < required) {
+            capacity++;
+        }
+        return checkLength(capacity);
+    }
+
+    /**
+     * Метод возвращает новую вместимость при расширении массива длиной {@code length}
+     * так, чтобы в него поместилось не меньше {@code required} элементов.
+     */
+    int grownCapacity(int length, int required) {
+
+        long step = Math.min((long) (length * (growthFactor - 1)) + 1, maxGrowthStep);
+        long grown = Math.min(length + step, MAX_ARRAY_LENGTH);
+        return Math.max((int) grown, capacityFor(required));
+    }
+
+    /**
+     * Метод возвращает новую вместимость при сжатии коллекции из {@code fillCount} элементов,
+     * но не меньше {@code minCapacity}.
+     */
+    int shrunkCapacity(int fillCount, int minCapacity) {
+
+        return Math.max(checkLength((long) Math.ceil(fillCount * growthFactor / loadThreshold)), minCapacity);
+    }
+
+    boolean shrinks() {
+
+        return shrinkThreshold > 0;
+    }
+
+    @Override
+    public String toString() {
+
+        return "CapacityPolicy{growthFactor=" + growthFactor + ", loadThreshold=" + loadThreshold
+                + ", maxGrowthStep=" + maxGrowthStep + ", shrinkThreshold=" + shrinkThreshold + "}";
+    }
+
+    private static int checkLength(long length) {
+
+        if (length > MAX_ARRAY_LENGTH) {
+            throw new OutOfMemoryError("Required array length " + length + " is too large");
+        }
+        return (int) length;
+    }
+}
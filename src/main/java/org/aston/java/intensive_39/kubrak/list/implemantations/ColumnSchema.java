@@ -0,0 +1,257 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Описание раскладки записей типа {@code T} по столбцам {@link SomeColumnarList}.
+ *
+ * <p>Каждый столбец задаётся именем, примитивным типом и функцией, извлекающей значение поля из записи.
+ * Номер столбца равен порядку его объявления в {@link Builder}. Для восстановления записи из столбцов
+ * задаётся фабрика, получающая {@link SomeColumnarList.Row} - представление строки коллекции:
+ * <pre>{@code
+ * ColumnSchema<Trade> schema = ColumnSchema.<Trade>builder()
+ *         .longColumn("timestamp", Trade::timestamp)
+ *         .intColumn("id", Trade::id)
+ *         .doubleColumn("price", Trade::price)
+ *         .build(row -> new Trade(row.getLong(0), row.getInt(1), row.getDouble(2)));
+ * }</pre>
+ * Схема неизменяема и может использоваться несколькими коллекциями.
+ *
+ * @param <T> тип записей.
+ * @author Konstantin_Kubrak
+ */
+public final class ColumnSchema<T> {
+
+    /**
+     * Тип значений столбца.
+     */
+    public enum ColumnType {
+        INT,
+        LONG,
+        DOUBLE
+    }
+
+    private final String[] names;
+
+    private final ColumnType[] types;
+
+    /**
+     * Номер массива столбца среди столбцов того же типа.
+     */
+    private final int[] slots;
+
+    private final Object[] accessors;
+
+    private final int[] countsByType;
+
+    private final Function<SomeColumnarList<T>.Row, T> factory;
+
+    private ColumnSchema(Builder<T> builder, Function<SomeColumnarList<T>.Row, T> factory) {
+
+        int columnCount = builder.names.size();
+        this.names = builder.names.toArray(new String[0]);
+        this.types = builder.types.toArray(new ColumnType[0]);
+        this.accessors = builder.accessors.toArray();
+        this.slots = new int[columnCount];
+        this.countsByType = new int[ColumnType.values().length];
+        for (int column = 0; column < columnCount; column++) {
+            slots[column] = countsByType[types[column].ordinal()]++;
+        }
+        this.factory = factory;
+    }
+
+    /**
+     * Метод создаёт построитель схемы без столбцов.
+     *
+     * @param <T> тип записей.
+     * @return возвращает новый построитель.
+     */
+    public static <T> Builder<T> builder() {
+
+        return new Builder<>();
+    }
+
+    /**
+     * Метод сообщает количество столбцов схемы.
+     *
+     * @return возвращает количество столбцов.
+     */
+    public int columnCount() {
+
+        return names.length;
+    }
+
+    /**
+     * Метод сообщает имя столбца.
+     *
+     * @param column номер столбца.
+     * @return возвращает имя столбца.
+     */
+    public String columnName(int column) {
+
+        return names[column];
+    }
+
+    /**
+     * Метод сообщает тип значений столбца.
+     *
+     * @param column номер столбца.
+     * @return возвращает тип столбца.
+     */
+    public ColumnType columnType(int column) {
+
+        return types[column];
+    }
+
+    /**
+     * Метод находит номер столбца по имени.
+     *
+     * @param name имя столбца.
+     * @return возвращает номер столбца.
+     */
+    public int columnIndex(String name) {
+
+        for (int column = 0; column < names.length; column++) {
+            if (names[column].equals(name)) {
+                return column;
+            }
+        }
+        throw new IllegalArgumentException("Unknown column " + name);
+    }
+
+    /**
+     * Метод сообщает размер одной строки во всех столбцах в байтах.
+     *
+     * @return возвращает количество байт на запись.
+     */
+    public int rowSize() {
+
+        return countsByType[ColumnType.INT.ordinal()] * Integer.BYTES
+                + (countsByType[ColumnType.LONG.ordinal()] + countsByType[ColumnType.DOUBLE.ordinal()]) * Long.BYTES;
+    }
+
+    int slot(int column) {
+
+        return slots[column];
+    }
+
+    int countOf(ColumnType type) {
+
+        return countsByType[type.ordinal()];
+    }
+
+    ToIntFunction<? super T> intAccessor(int column) {
+
+        return (ToIntFunction<? super T>) accessors[column];
+    }
+
+    ToLongFunction<? super T> longAccessor(int column) {
+
+        return (ToLongFunction<? super T>) accessors[column];
+    }
+
+    ToDoubleFunction<? super T> doubleAccessor(int column) {
+
+        return (ToDoubleFunction<? super T>) accessors[column];
+    }
+
+    Function<SomeColumnarList<T>.Row, T> factory() {
+
+        return factory;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder result = new StringBuilder("ColumnSchema{");
+        for (int column = 0; column < names.length; column++) {
+            result.append(column == 0 ? "" : ", ").append(names[column]).append(':').append(types[column]);
+        }
+        return result.append('}').toString();
+    }
+
+    /**
+     * Построитель схемы. Столбцы нумеруются в порядке вызова методов, имена столбцов должны быть различны.
+     *
+     * @param <T> тип записей.
+     */
+    public static final class Builder<T> {
+
+        private final List<String> names = new ArrayList<>();
+
+        private final List<ColumnType> types = new ArrayList<>();
+
+        private final List<Object> accessors = new ArrayList<>();
+
+        private Builder() {
+
+        }
+
+        /**
+         * Метод добавляет столбец значений {@code int}.
+         *
+         * @param name     имя столбца.
+         * @param accessor функция, извлекающая значение поля из записи.
+         * @return возвращает этот же построитель.
+         */
+        public Builder<T> intColumn(String name, ToIntFunction<? super T> accessor) {
+
+            return column(name, ColumnType.INT, accessor);
+        }
+
+        /**
+         * Метод добавляет столбец значений {@code long}.
+         *
+         * @param name     имя столбца.
+         * @param accessor функция, извлекающая значение поля из записи.
+         * @return возвращает этот же построитель.
+         */
+        public Builder<T> longColumn(String name, ToLongFunction<? super T> accessor) {
+
+            return column(name, ColumnType.LONG, accessor);
+        }
+
+        /**
+         * Метод добавляет столбец значений {@code double}.
+         *
+         * @param name     имя столбца.
+         * @param accessor функция, извлекающая значение поля из записи.
+         * @return возвращает этот же построитель.
+         */
+        public Builder<T> doubleColumn(String name, ToDoubleFunction<? super T> accessor) {
+
+            return column(name, ColumnType.DOUBLE, accessor);
+        }
+
+        /**
+         * Метод создаёт схему из объявленных столбцов.
+         *
+         * @param factory функция, создающая запись по представлению строки коллекции.
+         * @return возвращает схему.
+         */
+        public ColumnSchema<T> build(Function<SomeColumnarList<T>.Row, T> factory) {
+
+            if (names.isEmpty()) {
+                throw new IllegalStateException("Schema must have at least one column");
+            }
+            return new ColumnSchema<>(this, Objects.requireNonNull(factory));
+        }
+
+        private Builder<T> column(String name, ColumnType type, Object accessor) {
+
+            if (names.contains(Objects.requireNonNull(name))) {
+                throw new IllegalArgumentException("Duplicate column " + name);
+            }
+            names.add(name);
+            types.add(type);
+            accessors.add(Objects.requireNonNull(accessor));
+            return this;
+        }
+    }
+}
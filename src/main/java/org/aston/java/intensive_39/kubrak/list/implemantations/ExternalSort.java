@@ -0,0 +1,259 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.RecordCodec;
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * Внешняя сортировка наборов данных, которые не помещаются в память.
+ *
+ * <p>Сортировка выполняется в две фазы:
+ * <ul>
+ *     <li>входные элементы читаются порциями не более {@code maxElementsInMemory} элементов в {@link SomeArrayList},
+ *     каждая порция сортируется его методом {@link SomeArrayList#sort(Comparator)} и сбрасывается
+ *     во временный файл-серию в формате снимка с записями фиксированной длины, заданными {@link RecordCodec};</li>
+ *     <li>серии сливаются кучей курсоров, не более {@code fanIn} серий за раз. Если серий больше, они сначала
+ *     сливаются группами в более длинные промежуточные серии, пока их не останется не более {@code fanIn}.</li>
+ * </ul>
+ * Если все элементы поместились в одну порцию, временные файлы не создаются.
+ *
+ * <p>Память ограничена порцией элементов и буферами чтения по {@link ExternalSort#RUN_BUFFER_SIZE} байт
+ * на каждую одновременно сливаемую серию. Результат записывается в файл снимка, который можно загрузить
+ * {@link SomeArrayList#readFrom(Path, RecordCodec)}, либо добавляется в конец переданной коллекции.
+ * Входом может служить любая {@link SomeList} или другой {@link Iterable}, для потока — {@code stream::iterator}.
+ * Сортировка неустойчива. Временные файлы удаляются по завершении, в том числе при ошибке.
+ *
+ * @param <T> тип сортируемых элементов.
+ * @author Konstantin_Kubrak
+ */
+public final class ExternalSort<T> {
+
+    public static final int DEFAULT_MAX_ELEMENTS_IN_MEMORY = 1 << 20;
+
+    public static final int DEFAULT_FAN_IN = 64;
+
+    /**
+     * Размер буфера чтения одной серии при слиянии.
+     */
+    public static final int RUN_BUFFER_SIZE = 1 << 16;
+
+    private final RecordCodec<T> codec;
+
+    private final Comparator<T> comparator;
+
+    private final int maxElementsInMemory;
+
+    private final int fanIn;
+
+    private final Path temporaryDirectory;
+
+    /**
+     * Конструктор класса с размером порции {@link ExternalSort#DEFAULT_MAX_ELEMENTS_IN_MEMORY},
+     * количеством одновременно сливаемых серий {@link ExternalSort#DEFAULT_FAN_IN}
+     * и временными файлами в каталоге {@code java.io.tmpdir}.
+     *
+     * @param codec      преобразование элементов в записи фиксированной длины.
+     * @param comparator компаратор, задающий порядок; если null, используется естественный порядок.
+     */
+    public ExternalSort(RecordCodec<T> codec, Comparator<T> comparator) {
+
+        this(codec, comparator, DEFAULT_MAX_ELEMENTS_IN_MEMORY, DEFAULT_FAN_IN, Path.of(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * Конструктор класса с указанием бюджета памяти и количества одновременно сливаемых серий.
+     *
+     * @param codec               преобразование элементов в записи фиксированной длины.
+     * @param comparator          компаратор, задающий порядок; если null, используется естественный порядок.
+     * @param maxElementsInMemory наибольшее количество элементов, одновременно сортируемых в памяти.
+     * @param fanIn               наибольшее количество серий, сливаемых за один проход, не меньше двух.
+     * @param temporaryDirectory  каталог для временных файлов серий.
+     */
+    public ExternalSort(RecordCodec<T> codec, Comparator<T> comparator, int maxElementsInMemory, int fanIn,
+                        Path temporaryDirectory) {
+
+        if (maxElementsInMemory < 1 || maxElementsInMemory > CapacityPolicy.MAX_ARRAY_LENGTH) {
+            throw new IllegalArgumentException("Illegal number of elements in memory " + maxElementsInMemory);
+        }
+        if (fanIn < 2) {
+            throw new IllegalArgumentException("Fan-in must be at least 2, got " + fanIn);
+        }
+        this.codec = Objects.requireNonNull(codec);
+        this.comparator = Objects.nonNull(comparator) ? comparator : (Comparator<T>) Comparator.naturalOrder();
+        this.maxElementsInMemory = maxElementsInMemory;
+        this.fanIn = fanIn;
+        this.temporaryDirectory = Objects.requireNonNull(temporaryDirectory);
+    }
+
+    /**
+     * Метод сортирует элементы и записывает их в файл снимка.
+     *
+     * @param input  сортируемые элементы.
+     * @param output путь к файлу результата; существующий файл заменяется.
+     * @return возвращает количество отсортированных элементов.
+     */
+    public long sort(Iterable<? extends T> input, Path output) throws IOException {
+
+        try (SnapshotFormat.Writer<T> writer = new SnapshotFormat.Writer<>(output, codec, 0)) {
+            sort(input, writer::append);
+            writer.commit();
+            return writer.count();
+        }
+    }
+
+    /**
+     * Метод сортирует элементы и добавляет их в конец коллекции методом {@code put}.
+     *
+     * @param input  сортируемые элементы.
+     * @param output коллекция, в которую добавляются отсортированные элементы.
+     */
+    public void sort(Iterable<? extends T> input, SomeList<? super T> output) throws IOException {
+
+        sort(input, output::put);
+    }
+
+    /**
+     * Получатель отсортированных элементов.
+     */
+    private interface Sink<T> {
+
+        void accept(T t) throws IOException;
+    }
+
+    private void sort(Iterable<? extends T> input, Sink<? super T> sink) throws IOException {
+
+        List<Path> runs = new ArrayList<>();
+        try {
+            SomeArrayList<T> chunk = new SomeArrayList<>();
+            for (T t : input) {
+                chunk.put(t);
+                if (chunk.size() == maxElementsInMemory) {
+                    runs.add(spill(chunk));
+                }
+            }
+            if (runs.isEmpty()) {
+                chunk.sort(comparator);
+                for (int i = 0; i < chunk.size(); i++) {
+                    sink.accept(chunk.get(i));
+                }
+                return;
+            }
+            if (!chunk.isEmpty()) {
+                runs.add(spill(chunk));
+            }
+            while (runs.size() > fanIn) {
+                runs = mergePass(runs);
+            }
+            merge(runs, sink);
+        } finally {
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+        }
+    }
+
+    /**
+     * Внутренний метод класса, сортирующий порцию, записывающий её в новую серию и очищающий порцию.
+     */
+    private Path spill(SomeArrayList<T> chunk) throws IOException {
+
+        chunk.sort(comparator);
+        Path run = Files.createTempFile(temporaryDirectory, "external-sort", ".run");
+        try {
+            chunk.writeTo(run, codec);
+        } catch (IOException e) {
+            Files.deleteIfExists(run);
+            throw e;
+        }
+        chunk.deleteAll();
+        return run;
+    }
+
+    /**
+     * Внутренний метод класса, сливающий серии группами по {@code fanIn} в новые серии.
+     * Слитые серии удаляются сразу, поэтому на диске одновременно находится не больше двух копий данных.
+     */
+    private List<Path> mergePass(List<Path> runs) throws IOException {
+
+        List<Path> merged = new ArrayList<>();
+        try {
+            for (int from = 0; from < runs.size(); from += fanIn) {
+                List<Path> group = runs.subList(from, Math.min(runs.size(), from + fanIn));
+                if (group.size() == 1) {
+                    merged.add(group.get(0));
+                    continue;
+                }
+                Path run = Files.createTempFile(temporaryDirectory, "external-sort", ".run");
+                merged.add(run);
+                try (SnapshotFormat.Writer<T> writer = new SnapshotFormat.Writer<>(run, codec, 0)) {
+                    merge(group, writer::append);
+                    writer.commit();
+                }
+                for (Path source : group) {
+                    Files.delete(source);
+                }
+            }
+        } catch (IOException e) {
+            for (Path run : merged) {
+                Files.deleteIfExists(run);
+            }
+            throw e;
+        }
+        return merged;
+    }
+
+    /**
+     * Внутренний метод класса, сливающий серии при помощи кучи курсоров, упорядоченной по текущему элементу.
+     */
+    private void merge(List<Path> runs, Sink<? super T> sink) throws IOException {
+
+        List<SnapshotFormat.Reader<T>> readers = new ArrayList<>(runs.size());
+        try {
+            PriorityQueue<RunCursor<T>> queue = new PriorityQueue<>(runs.size(),
+                    (left, right) -> comparator.compare(left.current, right.current));
+            for (Path run : runs) {
+                SnapshotFormat.Reader<T> reader = new SnapshotFormat.Reader<>(run, codec, RUN_BUFFER_SIZE);
+                readers.add(reader);
+                if (reader.hasNext()) {
+                    queue.add(new RunCursor<>(reader, reader.next()));
+                }
+            }
+            while (!queue.isEmpty()) {
+                RunCursor<T> cursor = queue.poll();
+                sink.accept(cursor.current);
+                if (cursor.reader.hasNext()) {
+                    cursor.current = cursor.reader.next();
+                    queue.add(cursor);
+                }
+            }
+        } finally {
+            for (SnapshotFormat.Reader<T> reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * Курсор по серии при слиянии.
+     */
+    private static final class RunCursor<T> {
+
+        private final SnapshotFormat.Reader<T> reader;
+
+        private T current;
+
+        private RunCursor(SnapshotFormat.Reader<T> reader, T current) {
+
+            this.reader = reader;
+            this.current = current;
+        }
+    }
+}
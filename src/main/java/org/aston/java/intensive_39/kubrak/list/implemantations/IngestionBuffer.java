@@ -0,0 +1,281 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Буфер приёма элементов от многих потоков-производителей в один {@link SomeArrayList}, который сам
+ * не потокобезопасен.
+ *
+ * <p>Производители пишут в полосы (stripes) - буферы пакетов, каждый под своей блокировкой. Поток всегда пишет
+ * в одну и ту же полосу, выбранную по его идентификатору, поэтому при количестве полос не меньше числа активных
+ * потоков блокировки полос почти не конкурируют. Заполненный пакет ставится в ограниченную очередь, а полоса
+ * получает пустой пакет. Слив переносит пакеты из очереди в целевую коллекцию под общей блокировкой слива:
+ * одна проверка вместимости на все пакеты очереди и по одному {@link System#arraycopy} на пакет. Пустые пакеты
+ * после слива используются повторно.
+ *
+ * <p>Слив выполняется:
+ * <ul>
+ *     <li>фоновым потоком каждые {@code flushInterval}, вместе с недозаполненными пакетами полос;</li>
+ *     <li>методами {@link IngestionBuffer#flush()} и {@link IngestionBuffer#close()};</li>
+ *     <li>самим производителем, если очередь заполненных пакетов переполнена. Это обратное давление:
+ *     производители замедляются до скорости слива, а в буфере находится не больше
+ *     {@code (stripeCount + maxPendingBatches + 1) * batchSize} элементов.</li>
+ * </ul>
+ *
+ * <p>Элементы одного потока попадают в целевую коллекцию в порядке вставки; порядок элементов разных потоков
+ * не определён. Целевую коллекцию можно читать и изменять только методом {@link IngestionBuffer#read(Consumer)}
+ * либо после {@link IngestionBuffer#close()}.
+ *
+ * @param <T> тип принимаемых элементов.
+ * @author Konstantin_Kubrak
+ */
+public final class IngestionBuffer<T> implements AutoCloseable {
+
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    public static final int DEFAULT_MAX_PENDING_BATCHES = 64;
+
+    public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(10);
+
+    private final SomeArrayList<T> target;
+
+    private final Stripe[] stripes;
+
+    private final int batchSize;
+
+    /**
+     * Заполненные пакеты в порядке их заполнения. Ставятся в очередь только под блокировкой своей полосы.
+     */
+    private final ArrayBlockingQueue<Object[]> fullBatches;
+
+    /**
+     * Очищенные пакеты для повторного использования.
+     */
+    private final ArrayBlockingQueue<Object[]> freeBatches;
+
+    /**
+     * Блокировка целевой коллекции. Захватывается после блокировки полосы, но никогда до неё.
+     */
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    /**
+     * Фоновый поток периодического слива, либо null, если периодический слив выключен.
+     */
+    private final ScheduledExecutorService flusher;
+
+    private volatile boolean closed;
+
+    /**
+     * Конструктор буфера с параметрами по умолчанию: полос вчетверо больше числа процессоров (с округлением
+     * до степени двойки), пакеты по {@link IngestionBuffer#DEFAULT_BATCH_SIZE} элементов, не больше
+     * {@link IngestionBuffer#DEFAULT_MAX_PENDING_BATCHES} пакетов в очереди и слив каждые
+     * {@link IngestionBuffer#DEFAULT_FLUSH_INTERVAL}.
+     *
+     * @param target коллекция, в которую сливаются элементы.
+     */
+    public IngestionBuffer(SomeArrayList<T> target) {
+
+        this(target, Integer.highestOneBit(4 * Runtime.getRuntime().availableProcessors() - 1) << 1,
+                DEFAULT_BATCH_SIZE, DEFAULT_MAX_PENDING_BATCHES, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * Конструктор буфера с указанием всех параметров.
+     *
+     * @param target            коллекция, в которую сливаются элементы.
+     * @param stripeCount       количество полос, степень двойки.
+     * @param batchSize         количество элементов в пакете.
+     * @param maxPendingBatches наибольшее количество заполненных пакетов в очереди, после которого производители
+     *                          сливают очередь сами.
+     * @param flushInterval     период фонового слива; {@link Duration#ZERO} выключает фоновый слив.
+     */
+    public IngestionBuffer(SomeArrayList<T> target, int stripeCount, int batchSize, int maxPendingBatches,
+                           Duration flushInterval) {
+
+        Objects.requireNonNull(target);
+        if (stripeCount < 1 || Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException("Stripe count must be a power of two, got " + stripeCount);
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Illegal batch size " + batchSize);
+        }
+        if (maxPendingBatches < 1) {
+            throw new IllegalArgumentException("Illegal number of pending batches " + maxPendingBatches);
+        }
+        if (flushInterval.isNegative()) {
+            throw new IllegalArgumentException("Illegal flush interval " + flushInterval);
+        }
+        this.target = target;
+        this.batchSize = batchSize;
+        this.fullBatches = new ArrayBlockingQueue<>(maxPendingBatches);
+        this.freeBatches = new ArrayBlockingQueue<>(maxPendingBatches);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(new Object[batchSize]);
+        }
+        if (flushInterval.isZero()) {
+            this.flusher = null;
+        } else {
+            this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "ingestion-buffer-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long nanos = flushInterval.toNanos();
+            flusher.scheduleWithFixedDelay(this::flush, nanos, nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Метод добавляет элемент в полосу текущего потока. Если пакет полосы заполнен, он ставится в очередь слива,
+     * а при переполненной очереди текущий поток сливает её сам.
+     *
+     * @param t элемент, который необходимо добавить.
+     */
+    public void put(T t) {
+
+        if (closed) {
+            throw new IllegalStateException("Ingestion buffer is closed");
+        }
+        Stripe stripe = stripes[stripeIndex(Thread.currentThread().getId())];
+        stripe.lock.lock();
+        try {
+            stripe.elements[stripe.count++] = t;
+            if (stripe.count == batchSize) {
+                Object[] batch = stripe.elements;
+                stripe.elements = newBatch();
+                stripe.count = 0;
+                if (!fullBatches.offer(batch)) {
+                    drainLock.lock();
+                    try {
+                        drainFullBatches();
+                        appendBatch(batch);
+                    } finally {
+                        drainLock.unlock();
+                    }
+                }
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Метод сливает в целевую коллекцию все заполненные пакеты и недозаполненные пакеты всех полос.
+     * Элементы, добавленные до вызова метода в том же потоке, после него находятся в целевой коллекции.
+     */
+    public void flush() {
+
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                drainLock.lock();
+                try {
+                    drainFullBatches();
+                    if (stripe.count > 0) {
+                        target.appendArray(stripe.elements, stripe.count);
+                        Arrays.fill(stripe.elements, 0, stripe.count, null);
+                        stripe.count = 0;
+                    }
+                } finally {
+                    drainLock.unlock();
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Метод выполняет действие с целевой коллекцией под блокировкой слива, не дожидаясь слива буфера.
+     *
+     * @param action действие с целевой коллекцией; не должно обращаться к этому буферу.
+     */
+    public void read(Consumer<? super SomeArrayList<T>> action) {
+
+        drainLock.lock();
+        try {
+            action.accept(target);
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    /**
+     * Метод останавливает фоновый слив и сливает оставшиеся элементы. Вызывается после того, как все производители
+     * закончили добавление; последующие вызовы {@code put} выбрасывают {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+
+        closed = true;
+        if (Objects.nonNull(flusher)) {
+            flusher.shutdown();
+        }
+        flush();
+    }
+
+    /**
+     * Внутренний метод класса, переносящий все заполненные пакеты очереди в целевую коллекцию
+     * с одним расширением вместимости. Вызывается только под блокировкой слива.
+     */
+    private void drainFullBatches() {
+
+        int pending = fullBatches.size();
+        if (pending == 0) {
+            return;
+        }
+        target.reserveAdditional(pending * batchSize);
+        Object[] batch;
+        while (Objects.nonNull(batch = fullBatches.poll())) {
+            appendBatch(batch);
+        }
+    }
+
+    /**
+     * Внутренний метод класса, переносящий заполненный пакет в целевую коллекцию и возвращающий его в очередь
+     * пустых пакетов. Вызывается только под блокировкой слива.
+     */
+    private void appendBatch(Object[] batch) {
+
+        target.appendArray(batch, batchSize);
+        Arrays.fill(batch, null);
+        freeBatches.offer(batch);
+    }
+
+    private Object[] newBatch() {
+
+        Object[] batch = freeBatches.poll();
+        return Objects.nonNull(batch) ? batch : new Object[batchSize];
+    }
+
+    private int stripeIndex(long threadId) {
+
+        return (int) ((threadId * 0x9E3779B97F4A7C15L) >>> 32) & (stripes.length - 1);
+    }
+
+    /**
+     * Полоса: недозаполненный пакет и количество элементов в нём. Поля изменяются только под блокировкой полосы.
+     */
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private Object[] elements;
+
+        private int count;
+
+        private Stripe(Object[] elements) {
+
+            this.elements = elements;
+        }
+    }
+}
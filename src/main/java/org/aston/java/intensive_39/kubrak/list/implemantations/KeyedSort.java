@@ -0,0 +1,282 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Устойчивая сортировка участка массива объектов по ключу, который извлекается из каждого элемента ровно один раз.
+ *
+ * <ul>
+ *     <li>для ключей {@code int} и {@code long} выполняется поразрядная сортировка LSD по байтам: ключи со сдвинутым
+ *     знаковым битом раскладываются подсчётом, элементы переносятся вместе с ключами. Гистограммы всех разрядов
+ *     строятся одним проходом, а разряды, одинаковые у всех ключей, пропускаются, поэтому узкий диапазон ключей
+ *     сортируется за один-два прохода;</li>
+ *     <li>для ключей {@link Comparable} ключи сохраняются в массив рядом с элементами, и пары сортируются
+ *     восходящей сортировкой слиянием, сравнивая только ключи.</li>
+ * </ul>
+ * Участки не длиннее {@link AdaptiveSort#INSERTION_SORT_THRESHOLD} сортируются вставками по ключам.
+ *
+ * @author Konstantin_Kubrak
+ */
+final class KeyedSort {
+
+    private static final int DIGIT_BITS = 8;
+
+    private static final int RADIX = 1 << DIGIT_BITS;
+
+    private static final int DIGIT_MASK = RADIX - 1;
+
+    private KeyedSort() {
+    }
+
+    /**
+     * Устойчивая сортировка диапазона {@code [from, to)} по ключу {@code int}.
+     */
+    static <T> void sortByInt(T[] array, int from, int to, ToIntFunction<? super T> key) {
+
+        int length = to - from;
+        int[] keys = new int[length];
+        for (int i = 0; i < length; i++) {
+            keys[i] = key.applyAsInt(array[from + i]) ^ Integer.MIN_VALUE;
+        }
+        if (length <= AdaptiveSort.INSERTION_SORT_THRESHOLD) {
+            for (int i = 1; i < length; i++) {
+                int currentKey = keys[i];
+                T current = array[from + i];
+                int j = i - 1;
+                while (j >= 0 && Integer.compareUnsigned(keys[j], currentKey) > 0) {
+                    keys[j + 1] = keys[j];
+                    array[from + j + 1] = array[from + j];
+                    j--;
+                }
+                keys[j + 1] = currentKey;
+                array[from + j + 1] = current;
+            }
+            return;
+        }
+        int passes = Integer.SIZE / DIGIT_BITS;
+        int[][] counts = new int[passes][RADIX];
+        for (int k : keys) {
+            for (int pass = 0; pass < passes; pass++) {
+                counts[pass][(k >>> (pass * DIGIT_BITS)) & DIGIT_MASK]++;
+            }
+        }
+        T[] elements = Arrays.copyOfRange(array, from, to);
+        int[] keyBuffer = new int[length];
+        T[] elementBuffer = (T[]) new Object[length];
+        for (int pass = 0; pass < passes; pass++) {
+            int shift = pass * DIGIT_BITS;
+            int[] count = counts[pass];
+            if (count[(keys[0] >>> shift) & DIGIT_MASK] == length) {
+                continue;
+            }
+            toOffsets(count);
+            for (int i = 0; i < length; i++) {
+                int target = count[(keys[i] >>> shift) & DIGIT_MASK]++;
+                keyBuffer[target] = keys[i];
+                elementBuffer[target] = elements[i];
+            }
+            int[] swapKeys = keys;
+            keys = keyBuffer;
+            keyBuffer = swapKeys;
+            T[] swapElements = elements;
+            elements = elementBuffer;
+            elementBuffer = swapElements;
+        }
+        System.arraycopy(elements, 0, array, from, length);
+    }
+
+    /**
+     * Устойчивая сортировка диапазона {@code [from, to)} по ключу {@code long}.
+     */
+    static <T> void sortByLong(T[] array, int from, int to, ToLongFunction<? super T> key) {
+
+        int length = to - from;
+        long[] keys = new long[length];
+        for (int i = 0; i < length; i++) {
+            keys[i] = key.applyAsLong(array[from + i]) ^ Long.MIN_VALUE;
+        }
+        if (length <= AdaptiveSort.INSERTION_SORT_THRESHOLD) {
+            for (int i = 1; i < length; i++) {
+                long currentKey = keys[i];
+                T current = array[from + i];
+                int j = i - 1;
+                while (j >= 0 && Long.compareUnsigned(keys[j], currentKey) > 0) {
+                    keys[j + 1] = keys[j];
+                    array[from + j + 1] = array[from + j];
+                    j--;
+                }
+                keys[j + 1] = currentKey;
+                array[from + j + 1] = current;
+            }
+            return;
+        }
+        int passes = Long.SIZE / DIGIT_BITS;
+        int[][] counts = new int[passes][RADIX];
+        for (long k : keys) {
+            for (int pass = 0; pass < passes; pass++) {
+                counts[pass][(int) (k >>> (pass * DIGIT_BITS)) & DIGIT_MASK]++;
+            }
+        }
+        T[] elements = Arrays.copyOfRange(array, from, to);
+        long[] keyBuffer = new long[length];
+        T[] elementBuffer = (T[]) new Object[length];
+        for (int pass = 0; pass < passes; pass++) {
+            int shift = pass * DIGIT_BITS;
+            int[] count = counts[pass];
+            if (count[(int) (keys[0] >>> shift) & DIGIT_MASK] == length) {
+                continue;
+            }
+            toOffsets(count);
+            for (int i = 0; i < length; i++) {
+                int target = count[(int) (keys[i] >>> shift) & DIGIT_MASK]++;
+                keyBuffer[target] = keys[i];
+                elementBuffer[target] = elements[i];
+            }
+            long[] swapKeys = keys;
+            keys = keyBuffer;
+            keyBuffer = swapKeys;
+            T[] swapElements = elements;
+            elements = elementBuffer;
+            elementBuffer = swapElements;
+        }
+        System.arraycopy(elements, 0, array, from, length);
+    }
+
+    /**
+     * Устойчивая поразрядная сортировка номеров {@code [0, length)} по ключам, сравниваемым как беззнаковые.
+     * Массив ключей используется как рабочий и после вызова не упорядочен.
+     *
+     * @return возвращает перестановку: номер элемента, который должен стоять на каждой позиции.
+     */
+    static int[] sortedOrder(long[] keys, int length) {
+
+        int[] order = new int[length];
+        for (int i = 0; i < length; i++) {
+            order[i] = i;
+        }
+        int passes = Long.SIZE / DIGIT_BITS;
+        int[][] counts = new int[passes][RADIX];
+        for (int i = 0; i < length; i++) {
+            long k = keys[i];
+            for (int pass = 0; pass < passes; pass++) {
+                counts[pass][(int) (k >>> (pass * DIGIT_BITS)) & DIGIT_MASK]++;
+            }
+        }
+        long[] keyBuffer = new long[length];
+        int[] orderBuffer = new int[length];
+        for (int pass = 0; pass < passes && length > 0; pass++) {
+            int shift = pass * DIGIT_BITS;
+            int[] count = counts[pass];
+            if (count[(int) (keys[0] >>> shift) & DIGIT_MASK] == length) {
+                continue;
+            }
+            toOffsets(count);
+            for (int i = 0; i < length; i++) {
+                int target = count[(int) (keys[i] >>> shift) & DIGIT_MASK]++;
+                keyBuffer[target] = keys[i];
+                orderBuffer[target] = order[i];
+            }
+            long[] swapKeys = keys;
+            keys = keyBuffer;
+            keyBuffer = swapKeys;
+            int[] swapOrder = order;
+            order = orderBuffer;
+            orderBuffer = swapOrder;
+        }
+        return order;
+    }
+
+    /**
+     * Устойчивая сортировка диапазона {@code [from, to)} по ключу {@link Comparable}.
+     * Блоки по {@link AdaptiveSort#INSERTION_SORT_THRESHOLD} элементов сортируются вставками,
+     * затем соседние блоки сливаются попарно, попеременно из основных массивов в буферы и обратно.
+     */
+    static <T, K extends Comparable<? super K>> void sortBy(T[] array, int from, int to, Function<? super T, ? extends K> key) {
+
+        int length = to - from;
+        K[] keys = (K[]) new Comparable[length];
+        T[] elements = Arrays.copyOfRange(array, from, to);
+        for (int i = 0; i < length; i++) {
+            keys[i] = key.apply(elements[i]);
+        }
+        int block = AdaptiveSort.INSERTION_SORT_THRESHOLD;
+        for (int start = 0; start < length; start += block) {
+            insertionSort(keys, elements, start, Math.min(length, start + block));
+        }
+        K[] keyBuffer = (K[]) new Comparable[length];
+        T[] elementBuffer = (T[]) new Object[length];
+        for (int width = block; width < length; width <<= 1) {
+            for (int left = 0; left < length; left += width << 1) {
+                int middle = Math.min(length, left + width);
+                int right = Math.min(length, middle + width);
+                merge(keys, elements, keyBuffer, elementBuffer, left, middle, right);
+            }
+            K[] swapKeys = keys;
+            keys = keyBuffer;
+            keyBuffer = swapKeys;
+            T[] swapElements = elements;
+            elements = elementBuffer;
+            elementBuffer = swapElements;
+        }
+        System.arraycopy(elements, 0, array, from, length);
+    }
+
+    /**
+     * Превращение количества ключей с каждым значением разряда в позиции, с которых эти ключи будут записаны.
+     */
+    private static void toOffsets(int[] count) {
+
+        int offset = 0;
+        for (int digit = 0; digit < RADIX; digit++) {
+            int digitCount = count[digit];
+            count[digit] = offset;
+            offset += digitCount;
+        }
+    }
+
+    private static <T, K extends Comparable<? super K>> void insertionSort(K[] keys, T[] elements, int from, int to) {
+
+        for (int i = from + 1; i < to; i++) {
+            K currentKey = keys[i];
+            T current = elements[i];
+            int j = i - 1;
+            while (j >= from && keys[j].compareTo(currentKey) > 0) {
+                keys[j + 1] = keys[j];
+                elements[j + 1] = elements[j];
+                j--;
+            }
+            keys[j + 1] = currentKey;
+            elements[j + 1] = current;
+        }
+    }
+
+    /**
+     * Слияние упорядоченных участков {@code [from, middle)} и {@code [middle, to)} в буферы под теми же индексами.
+     * При равенстве ключей первым берётся элемент левого участка.
+     */
+    private static <T, K extends Comparable<? super K>> void merge(K[] keys, T[] elements, K[] keyTarget, T[] elementTarget,
+                                                                   int from, int middle, int to) {
+
+        int left = from;
+        int right = middle;
+        int target = from;
+        while (left < middle && right < to) {
+            if (keys[left].compareTo(keys[right]) <= 0) {
+                keyTarget[target] = keys[left];
+                elementTarget[target++] = elements[left++];
+            } else {
+                keyTarget[target] = keys[right];
+                elementTarget[target++] = elements[right++];
+            }
+        }
+        int leftRemaining = middle - left;
+        System.arraycopy(keys, left, keyTarget, target, leftRemaining);
+        System.arraycopy(elements, left, elementTarget, target, leftRemaining);
+        target += leftRemaining;
+        System.arraycopy(keys, right, keyTarget, target, to - right);
+        System.arraycopy(elements, right, elementTarget, target, to - right);
+    }
+}
@@ -0,0 +1,199 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import java.util.Comparator;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Счётчики внутренней работы {@link SomeArrayList}: расширения и сжатия массива, скопированные при этом байты,
+ * элементы, сдвинутые вставкой и удалением, длины линейного поиска и статистика сортировок.
+ * Расширения массива и сортировки дополнительно записываются в JDK Flight Recorder событиями
+ * {@code someList.Resize} и {@code someList.Sort}.
+ *
+ * <p>Сбор включается системным свойством {@code -DsomeList.metrics=true} при запуске JVM.
+ * Флаг {@link ListMetrics#ENABLED} является константой, поэтому при выключенном сборе JIT-компилятор C2
+ * удаляет проверки и вызовы счётчиков из скомпилированных горячих методов. До компиляции проверки выполняются,
+ * а байт-код методов немного больше; остаточная стоимость измеряется {@code InstrumentationOverheadBenchmark}.
+ * Счётчики общие для всех коллекций процесса и могут обновляться из разных потоков.
+ *
+ * @author Konstantin_Kubrak
+ */
+public final class ListMetrics {
+
+    static final boolean ENABLED = Boolean.getBoolean("someList.metrics");
+
+    /**
+     * Размер ссылки в массиве объектов для подсчёта скопированных байт: 4 байта при сжатых указателях,
+     * включённых по умолчанию для куч до 32 ГБ. Для JVM без сжатых указателей задаётся
+     * свойством {@code -DsomeList.referenceSize=8}.
+     */
+    private static final int REFERENCE_SIZE = Integer.getInteger("someList.referenceSize", 4);
+
+    private static final LongAdder RESIZES = new LongAdder();
+
+    private static final LongAdder BYTES_COPIED = new LongAdder();
+
+    private static final LongAdder ELEMENTS_SHIFTED = new LongAdder();
+
+    private static final LongAdder INDEX_SCANS = new LongAdder();
+
+    private static final LongAdder SCANNED_ELEMENTS = new LongAdder();
+
+    private static final LongAdder SORTS = new LongAdder();
+
+    private static final LongAdder SORT_COMPARISONS = new LongAdder();
+
+    private static final LongAdder SORT_SWAPS = new LongAdder();
+
+    private static final LongAccumulator MAX_SORT_DEPTH = new LongAccumulator(Math::max, 0);
+
+    private ListMetrics() {
+
+    }
+
+    /**
+     * @return возвращает true, если сбор счётчиков включён.
+     */
+    public static boolean isEnabled() {
+
+        return ENABLED;
+    }
+
+    /**
+     * @return возвращает количество замен внутреннего массива при расширении и сжатии.
+     */
+    public static long resizes() {
+
+        return RESIZES.sum();
+    }
+
+    /**
+     * @return возвращает количество байт ссылок, скопированных при заменах внутреннего массива.
+     */
+    public static long bytesCopied() {
+
+        return BYTES_COPIED.sum();
+    }
+
+    /**
+     * @return возвращает количество элементов, сдвинутых вставкой и удалением в середине коллекции.
+     */
+    public static long elementsShifted() {
+
+        return ELEMENTS_SHIFTED.sum();
+    }
+
+    /**
+     * @return возвращает количество линейных поисков {@code getIndex} и {@code contains}.
+     */
+    public static long indexScans() {
+
+        return INDEX_SCANS.sum();
+    }
+
+    /**
+     * @return возвращает суммарное количество элементов, просмотренных линейным поиском.
+     */
+    public static long scannedElements() {
+
+        return SCANNED_ELEMENTS.sum();
+    }
+
+    /**
+     * @return возвращает количество сортировок.
+     */
+    public static long sorts() {
+
+        return SORTS.sum();
+    }
+
+    /**
+     * @return возвращает суммарное количество сравнений, выполненных сортировками.
+     */
+    public static long sortComparisons() {
+
+        return SORT_COMPARISONS.sum();
+    }
+
+    /**
+     * @return возвращает суммарное количество перестановок при разбиении в быстрой сортировке.
+     */
+    public static long sortSwaps() {
+
+        return SORT_SWAPS.sum();
+    }
+
+    /**
+     * @return возвращает наибольшую глубину разбиения, достигнутую быстрой сортировкой.
+     */
+    public static long maxSortDepth() {
+
+        return MAX_SORT_DEPTH.get();
+    }
+
+    /**
+     * Метод обнуляет все счётчики.
+     */
+    public static void reset() {
+
+        RESIZES.reset();
+        BYTES_COPIED.reset();
+        ELEMENTS_SHIFTED.reset();
+        INDEX_SCANS.reset();
+        SCANNED_ELEMENTS.reset();
+        SORTS.reset();
+        SORT_COMPARISONS.reset();
+        SORT_SWAPS.reset();
+        MAX_SORT_DEPTH.reset();
+    }
+
+    static void recordResize(int oldCapacity, int newCapacity, int size) {
+
+        long bytes = (long) Math.min(oldCapacity, newCapacity) * REFERENCE_SIZE;
+        RESIZES.increment();
+        BYTES_COPIED.add(bytes);
+        ResizeEvent event = new ResizeEvent();
+        if (event.shouldCommit()) {
+            event.oldCapacity = oldCapacity;
+            event.newCapacity = newCapacity;
+            event.size = size;
+            event.bytesCopied = bytes;
+            event.commit();
+        }
+    }
+
+    static void recordShift(int elements) {
+
+        ELEMENTS_SHIFTED.add(elements);
+    }
+
+    static void recordScan(int elements) {
+
+        INDEX_SCANS.increment();
+        SCANNED_ELEMENTS.add(elements);
+    }
+
+    /**
+     * Метод сортирует диапазон при помощи {@link AdaptiveSort}, подсчитывая сравнения, перестановки и глубину
+     * через {@link SortProbe}, и записывает событие сортировки.
+     */
+    static <T> void sort(T[] array, int from, int to, Comparator<? super T> comparator) {
+
+        SortEvent event = new SortEvent();
+        event.begin();
+        SortProbe<T> probe = new SortProbe<>(comparator, to - from);
+        AdaptiveSort.sort(array, from, to, probe);
+        event.end();
+        SORTS.increment();
+        SORT_COMPARISONS.add(probe.comparisons);
+        SORT_SWAPS.add(probe.swaps);
+        MAX_SORT_DEPTH.accumulate(probe.maxDepth());
+        if (event.shouldCommit()) {
+            event.size = to - from;
+            event.comparisons = probe.comparisons;
+            event.swaps = probe.swaps;
+            event.maxDepth = probe.maxDepth();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Задача, выполняющая тело для каждого номера участка из диапазона {@code [fromChunk, toChunk)} в пуле {@link ForkJoinPool}.
+ *
+ * <p>Диапазон номеров рекурсивно делится пополам, пока не останется один участок. Границы участков и результаты
+ * по участкам вычисляет само тело, поэтому задача служит основой для всех поэлементных операций
+ * {@link SomeArrayList}: обхода, отображения, фильтрации и свёртки. Записи, сделанные телом, видны вызывающему
+ * потоку после возврата из {@link ParallelChunkTask#run(int, IntConsumer)}.
+ *
+ * @author Konstantin_Kubrak
+ */
+class ParallelChunkTask extends RecursiveAction {
+
+    private final int fromChunk;
+
+    private final int toChunk;
+
+    private final IntConsumer body;
+
+    private ParallelChunkTask(int fromChunk, int toChunk, IntConsumer body) {
+
+        this.fromChunk = fromChunk;
+        this.toChunk = toChunk;
+        this.body = body;
+    }
+
+    /**
+     * Выполнение тела для участков {@code [0, chunkCount)}: единственный участок обрабатывается в текущем потоке,
+     * несколько - в общем пуле {@link ForkJoinPool#commonPool()}.
+     *
+     * @param chunkCount количество участков.
+     * @param body       обработка участка по его номеру.
+     */
+    static void run(int chunkCount, IntConsumer body) {
+
+        if (chunkCount == 1) {
+            body.accept(0);
+        } else if (chunkCount > 1) {
+            ForkJoinPool.commonPool().invoke(new ParallelChunkTask(0, chunkCount, body));
+        }
+    }
+
+    @Override
+    protected void compute() {
+
+        if (toChunk - fromChunk == 1) {
+            body.accept(fromChunk);
+            return;
+        }
+        int middle = (fromChunk + toChunk) >>> 1;
+        invokeAll(new ParallelChunkTask(fromChunk, middle, body), new ParallelChunkTask(middle, toChunk, body));
+    }
+}
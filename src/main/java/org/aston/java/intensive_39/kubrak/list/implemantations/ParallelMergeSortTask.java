@@ -0,0 +1,83 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import java.util.Comparator;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Задача параллельной устойчивой сортировки слиянием участка массива в пуле {@link java.util.concurrent.ForkJoinPool}.
+ *
+ * <p>Диапазон {@code [from, to)} рекурсивно делится пополам, половины сортируются параллельно
+ * и затем сливаются через общий вспомогательный буфер. Участки не длиннее порога сортируются последовательно
+ * методом {@link ParallelMergeSortTask#sequentialSort(Object[], Object[], int, int, Comparator)}.
+ * При равенстве элементов всегда выбирается элемент из левой половины, поэтому сортировка устойчива.
+ *
+ * @param <T> тип сортируемых элементов.
+ * @author Konstantin_Kubrak
+ */
+class ParallelMergeSortTask<T> extends RecursiveAction {
+
+    private final T[] array;
+
+    private final T[] buffer;
+
+    private final int from;
+
+    private final int to;
+
+    private final int threshold;
+
+    private final Comparator<? super T> comparator;
+
+    /**
+     * @param array      сортируемый массив.
+     * @param buffer     вспомогательный буфер, длина которого не меньше {@code to}.
+     * @param from       начало диапазона (включительно).
+     * @param to         конец диапазона (исключительно).
+     * @param threshold  размер участка, ниже которого сортировка выполняется последовательно.
+     * @param comparator компаратор, задающий порядок элементов.
+     */
+    ParallelMergeSortTask(T[] array, T[] buffer, int from, int to, int threshold, Comparator<? super T> comparator) {
+
+        this.array = array;
+        this.buffer = buffer;
+        this.from = from;
+        this.to = to;
+        this.threshold = threshold;
+        this.comparator = comparator;
+    }
+
+    @Override
+    protected void compute() {
+
+        if (to - from <= threshold) {
+            sequentialSort(array, buffer, from, to, comparator);
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        invokeAll(new ParallelMergeSortTask<>(array, buffer, from, middle, threshold, comparator),
+                new ParallelMergeSortTask<>(array, buffer, middle, to, threshold, comparator));
+        AdaptiveSort.merge(array, buffer, from, middle, to, comparator);
+    }
+
+    /**
+     * Последовательная устойчивая сортировка слиянием диапазона {@code [from, to)}.
+     *
+     * @param array      сортируемый массив.
+     * @param buffer     вспомогательный буфер, длина которого не меньше {@code to}.
+     * @param from       начало диапазона (включительно).
+     * @param to         конец диапазона (исключительно).
+     * @param comparator компаратор, задающий порядок элементов.
+     * @param <T>        тип сортируемых элементов.
+     */
+    static <T> void sequentialSort(T[] array, T[] buffer, int from, int to, Comparator<? super T> comparator) {
+
+        if (to - from <= AdaptiveSort.INSERTION_SORT_THRESHOLD) {
+            AdaptiveSort.insertionSort(array, from, to, comparator);
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        sequentialSort(array, buffer, from, middle, comparator);
+        sequentialSort(array, buffer, middle, to, comparator);
+        AdaptiveSort.merge(array, buffer, from, middle, to, comparator);
+    }
+}
@@ -0,0 +1,90 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.RecordCodec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Готовые реализации {@link RecordCodec} для упакованных примитивных типов.
+ * Записи фиксированной длины не могут хранить null, поэтому при записи null выбрасывается {@link NullPointerException}.
+ *
+ * @author Konstantin_Kubrak
+ */
+public final class RecordCodecs {
+
+    /**
+     * Запись {@link Integer} длиной 4 байта.
+     */
+    public static final RecordCodec<Integer> INTEGER = new RecordCodec<>() {
+
+        @Override
+        public int recordSize() {
+
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Integer t) {
+
+            buffer.putInt(offset, t);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset) {
+
+            return buffer.getInt(offset);
+        }
+    };
+
+    /**
+     * Запись {@link Long} длиной 8 байт.
+     */
+    public static final RecordCodec<Long> LONG = new RecordCodec<>() {
+
+        @Override
+        public int recordSize() {
+
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Long t) {
+
+            buffer.putLong(offset, t);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset) {
+
+            return buffer.getLong(offset);
+        }
+    };
+
+    /**
+     * Запись {@link Double} длиной 8 байт.
+     */
+    public static final RecordCodec<Double> DOUBLE = new RecordCodec<>() {
+
+        @Override
+        public int recordSize() {
+
+            return Double.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Double t) {
+
+            buffer.putDouble(offset, t);
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer, int offset) {
+
+            return buffer.getDouble(offset);
+        }
+    };
+
+    private RecordCodecs() {
+
+    }
+}
@@ -0,0 +1,32 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Событие JDK Flight Recorder о замене внутреннего массива {@link SomeArrayList} при расширении или сжатии.
+ *
+ * @author Konstantin_Kubrak
+ */
+@Name("someList.Resize")
+@Label("SomeList Resize")
+@Category("SomeList")
+@Description("Internal array of a SomeArrayList was reallocated")
+final class ResizeEvent extends jdk.jfr.Event {
+
+    @Label("Old Capacity")
+    int oldCapacity;
+
+    @Label("New Capacity")
+    int newCapacity;
+
+    @Label("Size")
+    int size;
+
+    @Label("Bytes Copied")
+    @DataAmount
+    long bytesCopied;
+}
@@ -0,0 +1,298 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.RecordCodec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Двоичный формат снимка коллекции: заголовок длиной {@link SnapshotFormat#HEADER_SIZE} байт
+ * (сигнатура, длина записи, количество элементов, поколение снимка), за которым следуют записи фиксированной длины,
+ * полученные при помощи {@link RecordCodec}. Все числа записываются в порядке little-endian.
+ *
+ * <p>Файл читается и пишется через {@link FileChannel} буферами по {@link SnapshotFormat#BUFFER_SIZE} байт.
+ * Снимок сначала записывается во временный файл рядом с целевым и затем атомарно переименовывается,
+ * поэтому прерванная запись не портит предыдущий снимок.
+ *
+ * <p>Для данных, которые не помещаются в память целиком, снимок можно записывать и читать по одной записи
+ * при помощи {@link Writer} и {@link Reader}; количество записей в таком снимке ограничено только размером файла.
+ *
+ * @author Konstantin_Kubrak
+ */
+final class SnapshotFormat {
+
+    static final int HEADER_SIZE = 32;
+
+    static final int BUFFER_SIZE = 1 << 20;
+
+    private static final int MAGIC = 0x53414C31;
+
+    private SnapshotFormat() {
+
+    }
+
+    /**
+     * Заголовок прочитанного снимка.
+     */
+    static final class Header {
+
+        final long count;
+
+        final long generation;
+
+        private Header(long count, long generation) {
+
+            this.count = count;
+            this.generation = generation;
+        }
+    }
+
+    /**
+     * Метод записывает первые {@code count} элементов массива в файл снимка.
+     */
+    static <T> void write(Path path, Object[] elements, int count, RecordCodec<? super T> codec, long generation) throws IOException {
+
+        try (Writer<T> writer = new Writer<>(path, codec, generation)) {
+            for (int i = 0; i < count; i++) {
+                writer.append((T) elements[i]);
+            }
+            writer.commit();
+        }
+    }
+
+    /**
+     * Метод читает и проверяет заголовок снимка, оставляя позицию канала на первой записи.
+     * Количество записей должно помещаться в массив.
+     */
+    static Header readHeader(FileChannel channel, Path path, RecordCodec<?> codec) throws IOException {
+
+        return readHeader(channel, path, codec, CapacityPolicy.MAX_ARRAY_LENGTH);
+    }
+
+    private static Header readHeader(FileChannel channel, Path path, RecordCodec<?> codec, long maxCount) throws IOException {
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        fill(channel, header);
+        if (header.position() < HEADER_SIZE || header.getInt(0) != MAGIC) {
+            throw new IOException("File " + path + " is not a list snapshot");
+        }
+        if (header.getInt(4) != codec.recordSize()) {
+            throw new IOException("Record size " + header.getInt(4) + " does not match codec record size " + codec.recordSize());
+        }
+        long count = header.getLong(8);
+        if (count < 0 || count > maxCount || count > (channel.size() - HEADER_SIZE) / codec.recordSize()) {
+            throw new IOException("File " + path + " is truncated or corrupted");
+        }
+        return new Header(count, header.getLong(16));
+    }
+
+    /**
+     * Метод читает {@code count} записей и помещает элементы в начало массива.
+     */
+    static <T> void readRecords(FileChannel channel, Object[] elements, int count, RecordCodec<T> codec) throws IOException {
+
+        int recordSize = codec.recordSize();
+        ByteBuffer buffer = allocateRecords(recordSize);
+        int read = 0;
+        while (read < count) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), (long) (count - read) * recordSize));
+            fill(channel, buffer);
+            if (buffer.hasRemaining()) {
+                throw new IOException("Unexpected end of snapshot after " + read + " of " + count + " records");
+            }
+            for (int offset = 0; offset < buffer.limit(); offset += recordSize) {
+                elements[read++] = codec.read(buffer, offset);
+            }
+        }
+    }
+
+    /**
+     * Метод выделяет буфер чтения, длина которого кратна длине записи: каждый заполненный блок содержит
+     * только целые записи, и не меньше одной записи.
+     */
+    static ByteBuffer allocateRecords(int recordSize) {
+
+        return ByteBuffer.allocateDirect(Math.max(1, BUFFER_SIZE / recordSize) * recordSize)
+                .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Метод выделяет буфер записи снимка: место под заголовок и целое число записей, не меньше одной.
+     */
+    private static ByteBuffer allocateWithHeader(int recordSize) {
+
+        int records = Math.max(1, (BUFFER_SIZE - HEADER_SIZE) / recordSize);
+        return ByteBuffer.allocateDirect(HEADER_SIZE + records * recordSize).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Метод записывает в канал содержимое буфера от начала до текущей позиции и очищает буфер.
+     */
+    static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Метод читает из канала, пока буфер не заполнится или не закончится файл.
+     */
+    static void fill(FileChannel channel, ByteBuffer buffer) throws IOException {
+
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Последовательная запись снимка по одной записи. Заголовок с итоговым количеством записей пишется
+     * методом {@link Writer#commit()}, после чего временный файл атомарно заменяет целевой.
+     * Если {@code commit} не был вызван, {@link Writer#close()} удаляет временный файл.
+     */
+    static final class Writer<T> implements Closeable {
+
+        private final Path path;
+
+        private final Path temporary;
+
+        private final RecordCodec<? super T> codec;
+
+        private final int recordSize;
+
+        private final long generation;
+
+        private final FileChannel channel;
+
+        private final ByteBuffer buffer;
+
+        private long count;
+
+        private boolean committed;
+
+        Writer(Path path, RecordCodec<? super T> codec, long generation) throws IOException {
+
+            this.path = path;
+            this.temporary = path.resolveSibling(path.getFileName() + ".tmp");
+            this.codec = codec;
+            this.recordSize = codec.recordSize();
+            this.generation = generation;
+            this.channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            this.buffer = allocateWithHeader(recordSize);
+            buffer.position(HEADER_SIZE);
+        }
+
+        void append(T t) throws IOException {
+
+            if (buffer.remaining() < recordSize) {
+                drain(channel, buffer);
+            }
+            int offset = buffer.position();
+            codec.write(buffer, offset, t);
+            buffer.position(offset + recordSize);
+            count++;
+        }
+
+        long count() {
+
+            return count;
+        }
+
+        void commit() throws IOException {
+
+            drain(channel, buffer);
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(recordSize).putLong(count).putLong(generation).flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            channel.force(false);
+            channel.close();
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            committed = true;
+        }
+
+        @Override
+        public void close() throws IOException {
+
+            if (!committed) {
+                channel.close();
+                Files.deleteIfExists(temporary);
+            }
+        }
+    }
+
+    /**
+     * Последовательное чтение снимка по одной записи через буфер указанного размера.
+     */
+    static final class Reader<T> implements Closeable {
+
+        private final FileChannel channel;
+
+        private final RecordCodec<T> codec;
+
+        private final int recordSize;
+
+        private final ByteBuffer buffer;
+
+        private long remaining;
+
+        Reader(Path path, RecordCodec<T> codec, int bufferSize) throws IOException {
+
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.codec = codec;
+            this.recordSize = codec.recordSize();
+            try {
+                this.remaining = readHeader(channel, path, codec, Long.MAX_VALUE).count;
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+            this.buffer = ByteBuffer.allocateDirect(Math.max(1, bufferSize / recordSize) * recordSize)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            buffer.limit(0);
+        }
+
+        boolean hasNext() {
+
+            return remaining > 0;
+        }
+
+        T next() throws IOException {
+
+            if (!buffer.hasRemaining()) {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), remaining * recordSize));
+                fill(channel, buffer);
+                if (buffer.hasRemaining()) {
+                    throw new IOException("Unexpected end of snapshot with " + remaining + " records left");
+                }
+                buffer.flip();
+            }
+            int offset = buffer.position();
+            T t = codec.read(buffer, offset);
+            buffer.position(offset + recordSize);
+            remaining--;
+            return t;
+        }
+
+        @Override
+        public void close() throws IOException {
+
+            channel.close();
+        }
+    }
+}
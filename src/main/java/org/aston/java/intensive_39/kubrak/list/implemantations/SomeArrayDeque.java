@@ -0,0 +1,333 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Класс, представляющий из себя несинхронизированный список на основе кольцевого буфера.
+ *
+ * <p>Элементы хранятся в массиве, длина которого всегда является степенью двойки, начиная с позиции {@code head}
+ * и, при необходимости, продолжаясь с начала массива. Благодаря этому вставка и удаление как в конце,
+ * так и в начале списка ({@code put}, {@code insert(t, 0)}, {@code delete(0)}, {@code delete(size() - 1)})
+ * выполняются за амортизированное O(1), что позволяет использовать список в качестве очереди или стека.
+ * При вставке и удалении в середине сдвигается меньшая из двух частей списка.
+ *
+ * @param <T> тип элементов, хранимых в данном списке.
+ * @author Konstantin_Kubrak
+ */
+public class SomeArrayDeque<T> implements SomeList<T> {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * Текущее количество элементов в коллекции, по умолчанию 0.
+     */
+    private int fillCount;
+
+    /**
+     * Позиция первого элемента коллекции во внутреннем массиве.
+     */
+    private int head;
+
+    /**
+     * Массив, хранящий элементы коллекции. Его длина всегда является степенью двойки.
+     */
+    private T[] arrayOfElements;
+
+    /**
+     * Конструктор класса с начальной вместимостью коллекции по умолчанию {@link SomeArrayDeque#DEFAULT_CAPACITY}.
+     */
+    public SomeArrayDeque() {
+
+        this.arrayOfElements = (T[]) new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Конструктор класса с указанием начальной вместимости коллекции.
+     * Вместимость округляется вверх до ближайшей степени двойки.
+     *
+     * @param initialCapacity изначальная вместимость коллекции.
+     */
+    public SomeArrayDeque(int initialCapacity) {
+
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal capacity " + initialCapacity);
+        }
+        int capacity = initialCapacity <= 1 ? 1 : Integer.highestOneBit(initialCapacity - 1) << 1;
+        this.arrayOfElements = (T[]) new Object[capacity];
+    }
+
+    /**
+     * Метод вставляет элемент в конец коллекции за амортизированное O(1).
+     *
+     * @param t элемент, который необходимо вставить в коллекцию.
+     */
+    @Override
+    public void put(T t) {
+
+        checkIfCapacityExtensionRequired();
+        arrayOfElements[physicalIndex(fillCount)] = t;
+        fillCount++;
+    }
+
+    /**
+     * Метод вставляет элемент на указанную позицию. Вставка в начало и в конец выполняется за амортизированное O(1),
+     * при вставке в середину сдвигается меньшая из частей коллекции.
+     *
+     * @param t        элемент, который необходимо вставить в коллекцию.
+     * @param position индекс, указывающий позицию в коллекции, куда будет произведена вставка.
+     */
+    @Override
+    public void insert(T t, int position) {
+
+        if (position < 0 || position > fillCount) {
+            throw new ArrayIndexOutOfBoundsException("Index " + position + " out of bounds for size " + fillCount);
+        }
+        checkIfCapacityExtensionRequired();
+        if (position < fillCount - position) {
+            int oldHead = head;
+            head = (head - 1) & (arrayOfElements.length - 1);
+            moveLeft(oldHead, position);
+        } else {
+            moveRight(physicalIndex(position), fillCount - position);
+        }
+        arrayOfElements[physicalIndex(position)] = t;
+        fillCount++;
+    }
+
+    /**
+     * Метод возвращает элемент коллекции, находящийся под указанным в параметрах индексом.
+     *
+     * @param position индекс, указывающий позицию в коллекции, с которой будет взят элемент.
+     * @return возвращает элемент коллекции.
+     */
+    @Override
+    public T get(int position) {
+
+        checkIndex(position);
+        return arrayOfElements[physicalIndex(position)];
+    }
+
+    /**
+     * Метод удаляет элемент под указанным индексом. Удаление из начала и из конца выполняется за O(1),
+     * при удалении из середины сдвигается меньшая из частей коллекции.
+     *
+     * @param position индекс, указывающий позицию в коллекции, где будет произведено удаление.
+     */
+    @Override
+    public void delete(int position) {
+
+        checkIndex(position);
+        if (position < fillCount - position - 1) {
+            moveRight(head, position);
+            arrayOfElements[head] = null;
+            head = (head + 1) & (arrayOfElements.length - 1);
+        } else {
+            moveLeft(physicalIndex(position + 1), fillCount - position - 1);
+            arrayOfElements[physicalIndex(fillCount - 1)] = null;
+        }
+        fillCount--;
+    }
+
+    /**
+     * Метод удаляет все элементы коллекции, замещая занятые ячейки на null.
+     */
+    @Override
+    public void deleteAll() {
+
+        int mask = arrayOfElements.length - 1;
+        for (int i = 0; i < fillCount; i++) {
+            arrayOfElements[(head + i) & mask] = null;
+        }
+        head = 0;
+        fillCount = 0;
+    }
+
+    /**
+     * Метод заменяет элемент в коллекции под определённым индексом на другой элемент, переданный в аргументах.
+     *
+     * @param t        элемент, который необходимо вставить в коллекцию.
+     * @param position индекс, указывающий позицию в коллекции, где будет произведена замена.
+     */
+    @Override
+    public void set(T t, int position) {
+
+        checkIndex(position);
+        arrayOfElements[physicalIndex(position)] = t;
+    }
+
+    /**
+     * Метод сообщает текущий размер коллекции, используя счётчик элементов.
+     *
+     * @return возвращает текущее количество элементов коллекции {@link SomeArrayDeque#fillCount}.
+     */
+    @Override
+    public int size() {
+
+        return fillCount;
+    }
+
+    /**
+     * Метод сообщает, пустая коллекция или нет.
+     *
+     * @return возвращает true, если коллекция пустая, false если коллекция содержит элементы.
+     */
+    @Override
+    public boolean isEmpty() {
+
+        return fillCount == 0;
+    }
+
+    /**
+     * Метод сообщает индекс первого вхождения элемента в коллекции, либо -1, если элемент отсутствует.
+     *
+     * @param t элемент, индекс которого необходимо найти в коллекции.
+     * @return возвращает индекс, под которым элемент хранится в коллекции.
+     */
+    @Override
+    public int getIndex(T t) {
+
+        int mask = arrayOfElements.length - 1;
+        for (int i = 0; i < fillCount; i++) {
+            if (Objects.equals(arrayOfElements[(head + i) & mask], t)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Метод сообщает, имеется ли в коллекции переданный в параметрах элемент.
+     *
+     * @param t элемент, который необходимо найти в коллекции.
+     * @return возвращает результат поиска: true или false.
+     */
+    @Override
+    public boolean contains(T t) {
+
+        return getIndex(t) > -1;
+    }
+
+    /**
+     * Метод выполняет действие для каждого элемента коллекции, обходя кольцевой буфер двумя непрерывными участками,
+     * без вычисления физического индекса для каждого элемента и без создания итератора.
+     *
+     * @param action действие, выполняемое для каждого элемента.
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+
+        int firstEnd = Math.min(head + fillCount, arrayOfElements.length);
+        for (int i = head; i < firstEnd; i++) {
+            action.accept(arrayOfElements[i]);
+        }
+        int wrapped = fillCount - (firstEnd - head);
+        for (int i = 0; i < wrapped; i++) {
+            action.accept(arrayOfElements[i]);
+        }
+    }
+
+    /**
+     * Метод сортирует элементы коллекции в естественном порядке.
+     */
+    @Override
+    public void sort() {
+
+        sort(null);
+    }
+
+    /**
+     * Метод сортирует элементы коллекции с учётом переданного в параметрах компаратора.
+     * Если элементы переходят через конец внутреннего массива, они предварительно переносятся в начало нового массива,
+     * после чего непрерывный участок сортируется при помощи {@link AdaptiveSort}.
+     *
+     * @param comparator компаратор, используемый в сортировке; если null, используется естественный порядок.
+     */
+    @Override
+    public void sort(Comparator<T> comparator) {
+
+        if (head + fillCount > arrayOfElements.length) {
+            linearize(arrayOfElements.length);
+        }
+        Comparator<? super T> order = Objects.nonNull(comparator) ? comparator : (Comparator<T>) Comparator.naturalOrder();
+        AdaptiveSort.sort(arrayOfElements, head, head + fillCount, order);
+    }
+
+    private int physicalIndex(int position) {
+
+        return (head + position) & (arrayOfElements.length - 1);
+    }
+
+    /**
+     * Внутренний метод класса, сдвигающий {@code count} элементов, начиная с физической позиции {@code from},
+     * на одну ячейку влево. Участки, не пересекающие конец массива, копируются одним вызовом {@link System#arraycopy}.
+     */
+    private void moveLeft(int from, int count) {
+
+        int length = arrayOfElements.length;
+        int source = from;
+        int target = (from - 1) & (length - 1);
+        while (count > 0) {
+            int chunk = Math.min(count, Math.min(length - source, length - target));
+            System.arraycopy(arrayOfElements, source, arrayOfElements, target, chunk);
+            source = (source + chunk) & (length - 1);
+            target = (target + chunk) & (length - 1);
+            count -= chunk;
+        }
+    }
+
+    /**
+     * Внутренний метод класса, сдвигающий {@code count} элементов, начиная с физической позиции {@code from},
+     * на одну ячейку вправо. Копирование идёт с конца, участками, не пересекающими конец массива.
+     */
+    private void moveRight(int from, int count) {
+
+        int mask = arrayOfElements.length - 1;
+        while (count > 0) {
+            int sourceLast = (from + count - 1) & mask;
+            int targetLast = (from + count) & mask;
+            int chunk = Math.min(count, Math.min(sourceLast, targetLast) + 1);
+            System.arraycopy(arrayOfElements, sourceLast - chunk + 1, arrayOfElements, targetLast - chunk + 1, chunk);
+            count -= chunk;
+        }
+    }
+
+    private void checkIndex(int position) {
+
+        if (position < 0 || position >= fillCount) {
+            throw new ArrayIndexOutOfBoundsException("Index " + position + " out of bounds for size " + fillCount);
+        }
+    }
+
+    /**
+     * Внутренний метод класса, переносящий элементы в новый массив указанной длины, начиная с нулевой позиции.
+     */
+    private void linearize(int newCapacity) {
+
+        T[] newArrayOfElements = (T[]) new Object[newCapacity];
+        int firstPart = Math.min(fillCount, arrayOfElements.length - head);
+        System.arraycopy(arrayOfElements, head, newArrayOfElements, 0, firstPart);
+        System.arraycopy(arrayOfElements, 0, newArrayOfElements, firstPart, fillCount - firstPart);
+        arrayOfElements = newArrayOfElements;
+        head = 0;
+    }
+
+    /**
+     * Внутренний метод класса, увеличивающий вместимость коллекции.
+     * Если внутренний массив заполнен полностью, создаётся новый, в 2 раза больше, и элементы переносятся в него по порядку.
+     */
+    private void checkIfCapacityExtensionRequired() {
+
+        if (fillCount == arrayOfElements.length) {
+            if (arrayOfElements.length == MAX_CAPACITY) {
+                throw new IllegalStateException("Maximum capacity " + MAX_CAPACITY + " exceeded");
+            }
+            linearize(Math.max(arrayOfElements.length << 1, 1));
+        }
+    }
+}
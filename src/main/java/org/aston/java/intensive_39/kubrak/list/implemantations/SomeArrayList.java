@@ -1,10 +1,25 @@
 package org.aston.java.intensive_39.kubrak.list.implemantations;
 
+import org.aston.java.intensive_39.kubrak.list.interfaces.RecordCodec;
 import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
 
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Класс, представляющий из себя несинхронизированный параметризованный массив с изменяемым размером,
@@ -15,6 +30,21 @@ import java.util.Objects;
  * Вместимость всегда больше размера списочного массива.
  * С добавлением новых элементов в списочный массив вместимость автоматически увеличивается.
  *
+ * <p>Правила изменения вместимости задаются политикой {@link CapacityPolicy}, по умолчанию
+ * {@link CapacityPolicy#DEFAULT}. Политика может также сжимать массив после удаления элементов.
+ * Вместимость можно заранее увеличить методом {@link SomeArrayList#ensureCapacity(int)}
+ * и уменьшить до размера коллекции методом {@link SomeArrayList#trimToSize()}.
+ *
+ * <p>Коллекцию можно сохранить в двоичный снимок методом {@link SomeArrayList#writeTo(Path, RecordCodec)}
+ * и загрузить методом {@link SomeArrayList#readFrom(Path, RecordCodec)}: внутренний массив создаётся сразу
+ * нужной вместимости по заголовку снимка, а записи читаются крупными блоками напрямую в него.
+ *
+ * <p>Коллекции, которые часто создаются и выбрасываются, могут брать внутренние массивы из пула {@link ArrayPool}
+ * и возвращать их туда при расширении и методом {@link SomeArrayList#release()}.
+ *
+ * <p>При запуске с {@code -DsomeList.metrics=true} коллекция сообщает в {@link ListMetrics} о заменах массива,
+ * сдвигах элементов, длинах поиска и сортировках; при выключенном сборе проверки удаляются JIT-компилятором.
+ *
  * @param <T> тип элементов, хранимых в данном списочном массиве.
  * @author Konstantin_Kubrak
  */
@@ -22,6 +52,23 @@ public class SomeArrayList<T> implements SomeList<T> {
 
     private static final int DEFAULT_CAPACITY = 8;
 
+    /**
+     * Внутренний массив коллекции после {@link SomeArrayList#release()}.
+     */
+    private static final Object[] EMPTY_ELEMENTS = new Object[0];
+
+    /**
+     * Минимальный размер участка коллекции, который при параллельной сортировке выделяется в отдельную задачу.
+     */
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+    /**
+     * Минимальный размер участка коллекции, который при параллельных поэлементных операциях
+     * ({@code parallelForEach}, {@code map}, {@code filter}, {@code reduce}) выделяется в отдельную задачу.
+     * Кратен 64, чтобы участки не делили слова битовой маски при фильтрации.
+     */
+    private static final int PARALLEL_BULK_THRESHOLD = 1 << 14;
+
     /**
      * Текущее количество элементов в коллекции, по умолчанию 0.
      */
@@ -37,13 +84,33 @@ public class SomeArrayList<T> implements SomeList<T> {
      */
     private T[] arrayOfElements;
 
+    /**
+     * Политика изменения вместимости коллекции.
+     */
+    private final CapacityPolicy capacityPolicy;
+
+    /**
+     * Пул, из которого берутся и в который возвращаются внутренние массивы, либо null, если пул не используется.
+     */
+    private final ArrayPool arrayPool;
+
+    /**
+     * Количество элементов, при достижении которого вместимость увеличивается.
+     * Пересчитывается политикой только при изменении вместимости.
+     */
+    private int growthLimit;
+
+    /**
+     * Количество элементов, при падении ниже которого вместимость уменьшается.
+     */
+    private int shrinkLimit;
+
     /**
      * Конструктор класса с начальной вместимостью коллекции по умолчанию {@link org.aston.java.intensive_39.kubrak.list.implemantations.SomeArrayList#DEFAULT_CAPACITY}.
      */
     public SomeArrayList() {
 
-        this.arrayOfElements = (T[]) new Object[DEFAULT_CAPACITY];
-        capacity = DEFAULT_CAPACITY;
+        this(DEFAULT_CAPACITY, CapacityPolicy.DEFAULT);
     }
 
     /**
@@ -53,11 +120,48 @@ public class SomeArrayList<T> implements SomeList<T> {
      */
     public SomeArrayList(int initialCapacity) {
 
+        this(initialCapacity, CapacityPolicy.DEFAULT);
+    }
+
+    /**
+     * Конструктор класса с начальной вместимостью по умолчанию и указанной политикой изменения вместимости.
+     *
+     * @param capacityPolicy политика изменения вместимости коллекции.
+     */
+    public SomeArrayList(CapacityPolicy capacityPolicy) {
+
+        this(DEFAULT_CAPACITY, capacityPolicy);
+    }
+
+    /**
+     * Конструктор класса с указанием начальной вместимости коллекции и политики изменения вместимости.
+     *
+     * @param initialCapacity изначальная вместимость коллекции.
+     * @param capacityPolicy  политика изменения вместимости коллекции.
+     */
+    public SomeArrayList(int initialCapacity, CapacityPolicy capacityPolicy) {
+
+        this(initialCapacity, capacityPolicy, null);
+    }
+
+    /**
+     * Конструктор класса с указанием начальной вместимости, политики изменения вместимости и пула массивов.
+     * Внутренние массивы берутся из пула при создании и расширении коллекции и возвращаются в пул при замене,
+     * а также методом {@link SomeArrayList#release()}. Вместимость округляется вверх до класса размера пула.
+     *
+     * @param initialCapacity изначальная вместимость коллекции.
+     * @param capacityPolicy  политика изменения вместимости коллекции.
+     * @param arrayPool       пул внутренних массивов; если null, массивы создаются заново.
+     */
+    public SomeArrayList(int initialCapacity, CapacityPolicy capacityPolicy, ArrayPool arrayPool) {
+
         if (initialCapacity < 0) {
             throw new IllegalArgumentException("Illegal capacity " + initialCapacity);
         }
-        this.arrayOfElements = (T[]) new Object[initialCapacity];
-        capacity = initialCapacity;
+        this.capacityPolicy = Objects.requireNonNull(capacityPolicy);
+        this.arrayPool = arrayPool;
+        this.arrayOfElements = newArray(initialCapacity);
+        updateCapacity(arrayOfElements.length);
     }
 
     /**
@@ -84,6 +188,9 @@ public class SomeArrayList<T> implements SomeList<T> {
     public void insert(T t, int position) {
 
         checkIfCapacityExtensionRequired();
+        if (ListMetrics.ENABLED) {
+            ListMetrics.recordShift(fillCount - position);
+        }
         System.arraycopy(arrayOfElements, position, arrayOfElements, position + 1, size() - position);
         arrayOfElements[position] = t;
         fillCount++;
@@ -104,23 +211,50 @@ public class SomeArrayList<T> implements SomeList<T> {
     /**
      * Метод удаляет элемент в коллекции под указанным в параметрах индексом,
      * производя смещение элементов коллекции влево, занимая освободившееся место.
+     * Освободившаяся последняя ячейка массива обнуляется, чтобы не удерживать удалённый объект.
      *
      * @param position индекс, указывающий позицию в коллекции, где будет произведено удаление
      */
     @Override
     public void delete(int position) {
 
-        System.arraycopy(arrayOfElements, position + 1, arrayOfElements, position, size() - position);
-        fillCount--;
+        if (ListMetrics.ENABLED) {
+            ListMetrics.recordShift(fillCount - position - 1);
+        }
+        System.arraycopy(arrayOfElements, position + 1, arrayOfElements, position, size() - position - 1);
+        arrayOfElements[--fillCount] = null;
+        checkIfCapacityReductionRequired();
     }
 
     /**
-     * Метод удаляет все элементы коллекции, замещая их на null.
+     * Метод удаляет все элементы коллекции, замещая на null только занятые ячейки {@code [0, fillCount)}:
+     * остальные ячейки внутреннего массива всегда содержат null, поэтому очистка занимает O(size), а не O(capacity).
+     * Если политика вместимости допускает сжатие, внутренний массив заменяется массивом вместимости по умолчанию.
      */
     @Override
     public void deleteAll() {
 
-        Arrays.fill(arrayOfElements, null);
+        if (capacityPolicy.shrinks() && capacity > DEFAULT_CAPACITY) {
+            replaceArray(DEFAULT_CAPACITY, 0);
+        } else {
+            Arrays.fill(arrayOfElements, 0, fillCount, null);
+        }
+        fillCount = 0;
+    }
+
+    /**
+     * Метод удаляет все элементы коллекции и отдаёт внутренний массив: в пул, если коллекция создана с пулом,
+     * иначе сборщику мусора. Коллекцией можно продолжать пользоваться - новый массив будет взят
+     * при первом добавлении элемента.
+     */
+    public void release() {
+
+        T[] released = arrayOfElements;
+        arrayOfElements = (T[]) EMPTY_ELEMENTS;
+        updateCapacity(0);
+        if (Objects.nonNull(arrayPool)) {
+            arrayPool.release(released, fillCount);
+        }
         fillCount = 0;
     }
 
@@ -163,6 +297,7 @@ public class SomeArrayList<T> implements SomeList<T> {
      * Метод сообщает индекс, под которым объект хранится в коллекции.
      * При помощи цикла просматривается массив, при нахождении объекта возвращается
      * индекс объекта (номер текущей итерации цикла), в противном случае возвращается -1.
+     * Коллекция может содержать null, поиск null выполняется сравнением ссылок.
      *
      * @param t элемент, индекс которого необходимо найти в коллекции.
      * @return возвращает индекс, под которым элемент хранится в коллекции.
@@ -170,12 +305,9 @@ public class SomeArrayList<T> implements SomeList<T> {
     @Override
     public int getIndex(T t) {
 
-        int index = -1;
-        for (int i = 0; i < fillCount; i++) {
-            if (arrayOfElements[i].equals(t)) {
-                index = i;
-                break;
-            }
+        int index = indexOf(t);
+        if (ListMetrics.ENABLED) {
+            ListMetrics.recordScan(index < 0 ? fillCount : index + 1);
         }
         return index;
     }
@@ -195,83 +327,723 @@ public class SomeArrayList<T> implements SomeList<T> {
     }
 
     /**
-     * Метод сортирует элементы коллекции используя реализацию быстрого поиска {@link org.aston.java.intensive_39.kubrak.list.implemantations.SomeArrayList#quickSort(int, int, Comparator)}.
+     * Метод вставляет все элементы другой коллекции в конец коллекции.
+     * Вместимость расширяется не более одного раза, элементы другого {@code SomeArrayList} копируются одним
+     * {@link System#arraycopy(Object, int, Object, int, int)}.
+     *
+     * @param list коллекция, элементы которой необходимо вставить.
+     */
+    @Override
+    public void putAll(SomeList<? extends T> list) {
+
+        insertAll(list, fillCount);
+    }
+
+    /**
+     * Метод вставляет все элементы массива в конец коллекции, расширяя вместимость не более одного раза.
+     *
+     * @param array массив, элементы которого необходимо вставить.
+     */
+    @Override
+    public void putAll(T[] array) {
+
+        insertArray(array, array.length, fillCount);
+    }
+
+    /**
+     * Метод вставляет все элементы коллекции JDK в конец коллекции, расширяя вместимость не более одного раза.
+     *
+     * @param collection коллекция, элементы которой необходимо вставить.
+     */
+    @Override
+    public void putAll(Collection<? extends T> collection) {
+
+        Object[] array = collection.toArray();
+        insertArray(array, array.length, fillCount);
+    }
+
+    /**
+     * Метод вставляет все элементы другой коллекции на указанную позицию, смещая уже имеющиеся элементы вправо
+     * одним копированием. Вместимость расширяется не более одного раза.
+     *
+     * @param list     коллекция, элементы которой необходимо вставить.
+     * @param position индекс, указывающий позицию, куда будет вставлен первый элемент.
+     */
+    @Override
+    public void insertAll(SomeList<? extends T> list, int position) {
+
+        int count = list.size();
+        Object[] array;
+        if (list == this) {
+            array = Arrays.copyOf(arrayOfElements, count);
+        } else if (list instanceof SomeArrayList) {
+            array = ((SomeArrayList<? extends T>) list).arrayOfElements;
+        } else {
+            array = new Object[count];
+            for (int i = 0; i < count; i++) {
+                array[i] = list.get(i);
+            }
+        }
+        insertArray(array, count, position);
+    }
+
+    /**
+     * Метод вставляет все элементы массива на указанную позицию, смещая уже имеющиеся элементы вправо
+     * одним копированием. Вместимость расширяется не более одного раза.
+     *
+     * @param array    массив, элементы которого необходимо вставить.
+     * @param position индекс, указывающий позицию, куда будет вставлен первый элемент.
+     */
+    @Override
+    public void insertAll(T[] array, int position) {
+
+        insertArray(array, array.length, position);
+    }
+
+    /**
+     * Метод вставляет все элементы коллекции JDK на указанную позицию, смещая уже имеющиеся элементы вправо
+     * одним копированием. Вместимость расширяется не более одного раза.
+     *
+     * @param collection коллекция, элементы которой необходимо вставить.
+     * @param position   индекс, указывающий позицию, куда будет вставлен первый элемент.
+     */
+    @Override
+    public void insertAll(Collection<? extends T> collection, int position) {
+
+        Object[] array = collection.toArray();
+        insertArray(array, array.length, position);
+    }
+
+    /**
+     * Метод удаляет элементы на позициях {@code [from, to)}, смещая оставшийся хвост коллекции одним копированием.
+     *
+     * @param from индекс первого удаляемого элемента (включительно).
+     * @param to   индекс, до которого удаляются элементы (исключительно).
+     */
+    @Override
+    public void deleteRange(int from, int to) {
+
+        checkRange(from, to);
+        if (ListMetrics.ENABLED) {
+            ListMetrics.recordShift(fillCount - to);
+        }
+        System.arraycopy(arrayOfElements, to, arrayOfElements, from, fillCount - to);
+        int newFillCount = fillCount - (to - from);
+        Arrays.fill(arrayOfElements, newFillCount, fillCount, null);
+        fillCount = newFillCount;
+        checkIfCapacityReductionRequired();
+    }
+
+    /**
+     * Метод удаляет все элементы, удовлетворяющие условию, за один проход:
+     * сохраняемые элементы сдвигаются влево на место удалённых, после чего освободившийся хвост обнуляется.
+     * Если условие выбросит исключение, непроверенные элементы сохраняются, и коллекция остаётся согласованной.
+     *
+     * @param filter условие, при выполнении которого элемент будет удалён.
+     * @return возвращает количество удалённых элементов.
+     */
+    @Override
+    public int removeIf(Predicate<? super T> filter) {
+
+        int initialFillCount = fillCount;
+        int target = 0;
+        int current = 0;
+        try {
+            for (; current < fillCount; current++) {
+                T t = arrayOfElements[current];
+                if (!filter.test(t)) {
+                    arrayOfElements[target++] = t;
+                }
+            }
+        } finally {
+            if (current < fillCount) {
+                System.arraycopy(arrayOfElements, current, arrayOfElements, target, fillCount - current);
+                target += fillCount - current;
+            }
+            Arrays.fill(arrayOfElements, target, fillCount, null);
+            fillCount = target;
+        }
+        checkIfCapacityReductionRequired();
+        return initialFillCount - fillCount;
+    }
+
+    /**
+     * Метод выполняет действие для каждого элемента коллекции, обходя внутренний массив напрямую,
+     * без создания итератора.
+     *
+     * @param action действие, выполняемое для каждого элемента.
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+
+        for (int i = 0; i < fillCount; i++) {
+            action.accept(arrayOfElements[i]);
+        }
+    }
+
+    /**
+     * Метод возвращает разделитель по диапазону {@code [0, fillCount)} внутреннего массива,
+     * который при разделении делит диапазон пополам.
+     *
+     * @return возвращает разделитель с характеристиками {@code ORDERED}, {@code SIZED} и {@code SUBSIZED}.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+
+        return Spliterators.spliterator(arrayOfElements, 0, fillCount, Spliterator.ORDERED);
+    }
+
+    /**
+     * Метод сортирует элементы коллекции в естественном порядке, используя адаптивную сортировку {@link AdaptiveSort}:
+     * упорядоченные серии сливаются, неупорядоченные данные сортируются быстрой сортировкой с трёхсторонним разбиением.
      */
     @Override
     public void sort() {
 
-        quickSort(0, fillCount - 1, null);
+        sort(null);
     }
 
     /**
-     * Метод сортирует элементы коллекции используя реализацию быстрого поиска {@link org.aston.java.intensive_39.kubrak.list.implemantations.SomeArrayList#quickSort(int, int, Comparator)}
+     * Метод сортирует элементы коллекции, используя адаптивную сортировку {@link AdaptiveSort}
      * с учётом переданного в параметрах компаратора.
      *
-     * @param comparator, используемый в сортировке.
+     * @param comparator, используемый в сортировке; если null, используется естественный порядок.
      */
     @Override
     public void sort(Comparator<T> comparator) {
 
-        quickSort(0, fillCount - 1, comparator);
+        sortRange(0, fillCount, orderOf(comparator));
     }
 
+    /**
+     * Метод сортирует элементы коллекции в диапазоне {@code [from, to)}, не затрагивая остальные элементы.
+     *
+     * @param from       индекс первого сортируемого элемента.
+     * @param to         индекс, следующий за последним сортируемым элементом.
+     * @param comparator компаратор, используемый в сортировке; если null, используется естественный порядок.
+     */
+    public void sort(int from, int to, Comparator<T> comparator) {
 
-    private void quickSort(int leftIndex, int rightIndex, Comparator<T> comparator) {
+        checkRange(from, to);
+        sortRange(from, to, orderOf(comparator));
+    }
 
-        if (leftIndex < rightIndex) {
-            int divideIndex = partition(leftIndex, rightIndex, comparator);
+    /**
+     * Метод находит элемент, который оказался бы под индексом {@code k} после сортировки, за ожидаемое время O(n).
+     * Коллекция частично переупорядочивается: элементы левее {@code k} не больше найденного, правее не меньше.
+     *
+     * @param k          индекс искомого элемента в отсортированной коллекции, например {@code size() / 2} для медианы.
+     * @param comparator компаратор, задающий порядок; если null, используется естественный порядок.
+     * @return возвращает найденный элемент.
+     */
+    public T select(int k, Comparator<T> comparator) {
 
-            quickSort(leftIndex, divideIndex - 1, comparator);
-            quickSort(divideIndex, rightIndex, comparator);
+        if (k < 0 || k >= fillCount) {
+            throw new ArrayIndexOutOfBoundsException("Index " + k + " out of bounds for size " + fillCount);
         }
+        AdaptiveSort.select(arrayOfElements, 0, fillCount, k, orderOf(comparator));
+        return arrayOfElements[k];
     }
 
-    private int partition(int from, int to, Comparator<T> comparator) {
+    /**
+     * Метод возвращает первые {@code k} элементов коллекции в порядке компаратора за время O(n log k),
+     * не изменяя коллекцию. Для {@code k} наибольших элементов передайте обратный компаратор.
+     *
+     * @param k          количество возвращаемых элементов; если больше размера коллекции, возвращаются все элементы.
+     * @param comparator компаратор, задающий порядок; если null, используется естественный порядок.
+     * @return возвращает новую коллекцию из {@code min(k, size())} упорядоченных элементов.
+     */
+    public SomeArrayList<T> topK(int k, Comparator<T> comparator) {
 
-        int leftIndex = from;
-        int rightIndex = to;
+        if (k < 0) {
+            throw new IllegalArgumentException("Illegal number of elements " + k);
+        }
+        T[] smallest = AdaptiveSort.smallest(arrayOfElements, 0, fillCount, k, orderOf(comparator));
+        SomeArrayList<T> result = new SomeArrayList<>(Math.max(capacityPolicy.capacityFor(smallest.length), DEFAULT_CAPACITY), capacityPolicy, arrayPool);
+        result.putAll(smallest);
+        return result;
+    }
 
-        T pivot = this.arrayOfElements[from + (to - from) / 2];
-        while (leftIndex <= rightIndex) {
-            if (Objects.nonNull(comparator)) {
-                while (comparator.compare(this.arrayOfElements[leftIndex], pivot) < 0) {
-                    leftIndex++;
-                }
-                while (comparator.compare(this.arrayOfElements[rightIndex], pivot) > 0) {
-                    rightIndex--;
+    /**
+     * Метод устойчиво сортирует элементы коллекции по возрастанию ключа {@code int} поразрядной сортировкой
+     * {@link KeyedSort}: ключ извлекается из каждого элемента один раз, элементы не сравниваются.
+     * Заменяет {@code sort(Comparator.comparingInt(key))} без повторного вычисления ключей при каждом сравнении.
+     *
+     * @param key функция, извлекающая ключ сортировки из элемента.
+     */
+    public void sortByInt(ToIntFunction<? super T> key) {
+
+        KeyedSort.sortByInt(arrayOfElements, 0, fillCount, Objects.requireNonNull(key));
+    }
+
+    /**
+     * Метод устойчиво сортирует элементы коллекции по возрастанию ключа {@code long} поразрядной сортировкой
+     * {@link KeyedSort} (см. {@link SomeArrayList#sortByInt(ToIntFunction)}).
+     *
+     * @param key функция, извлекающая ключ сортировки из элемента.
+     */
+    public void sortByLong(ToLongFunction<? super T> key) {
+
+        KeyedSort.sortByLong(arrayOfElements, 0, fillCount, Objects.requireNonNull(key));
+    }
+
+    /**
+     * Метод устойчиво сортирует элементы коллекции в естественном порядке ключей. Ключ извлекается из каждого
+     * элемента один раз и хранится рядом с элементом на время сортировки, поэтому подходит для ключей,
+     * вычисление которых дороже сравнения.
+     *
+     * @param key функция, извлекающая ключ сортировки из элемента; ключи не должны быть null.
+     * @param <K> тип ключа.
+     */
+    public <K extends Comparable<? super K>> void sortBy(Function<? super T, ? extends K> key) {
+
+        KeyedSort.sortBy(arrayOfElements, 0, fillCount, Objects.requireNonNull(key));
+    }
+
+    /**
+     * Метод устойчиво сортирует элементы коллекции в естественном порядке, используя общий пул {@link ForkJoinPool}
+     * (см. {@link org.aston.java.intensive_39.kubrak.list.implemantations.SomeArrayList#parallelSort(Comparator)}).
+     */
+    public void parallelSort() {
+
+        parallelSort(null);
+    }
+
+    /**
+     * Метод устойчиво сортирует элементы коллекции с учётом переданного в параметрах компаратора,
+     * используя общий пул {@link ForkJoinPool}.
+     * Диапазон {@code [0, fillCount)} делится на части, которые сортируются параллельно и затем сливаются.
+     * Если коллекция меньше {@link org.aston.java.intensive_39.kubrak.list.implemantations.SomeArrayList#PARALLEL_SORT_THRESHOLD}
+     * или в пуле доступен только один поток, сортировка выполняется последовательно в текущем потоке.
+     *
+     * @param comparator компаратор, используемый в сортировке; если null, используется естественный порядок.
+     */
+    public void parallelSort(Comparator<T> comparator) {
+
+        Comparator<? super T> order = orderOf(comparator);
+        T[] buffer = (T[]) new Object[fillCount];
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        if (fillCount < PARALLEL_SORT_THRESHOLD || parallelism == 1) {
+            ParallelMergeSortTask.sequentialSort(arrayOfElements, buffer, 0, fillCount, order);
+        } else {
+            int threshold = Math.max(fillCount / (parallelism << 2), PARALLEL_SORT_THRESHOLD);
+            ForkJoinPool.commonPool().invoke(new ParallelMergeSortTask<>(arrayOfElements, buffer, 0, fillCount, threshold, order));
+        }
+    }
+
+    /**
+     * Метод выполняет действие для каждого элемента коллекции параллельно в общем пуле {@link ForkJoinPool}.
+     * Внутренний массив делится на участки, каждый участок обходится в своей задаче; порядок вызовов не определён.
+     * Если коллекция меньше {@link SomeArrayList#PARALLEL_BULK_THRESHOLD} или в пуле доступен только один поток,
+     * элементы обходятся последовательно в текущем потоке.
+     *
+     * @param action потокобезопасное действие, выполняемое для каждого элемента.
+     */
+    public void parallelForEach(Consumer<? super T> action) {
+
+        Objects.requireNonNull(action);
+        T[] elements = arrayOfElements;
+        int size = fillCount;
+        int chunkSize = bulkChunkSize(size);
+        ParallelChunkTask.run(chunkCount(size, chunkSize), chunk -> {
+            for (int i = chunk * chunkSize, end = Math.min(size, i + chunkSize); i < end; i++) {
+                action.accept(elements[i]);
+            }
+        });
+    }
+
+    /**
+     * Метод возвращает новую коллекцию из результатов применения функции к каждому элементу, сохраняя порядок.
+     * Результат создаётся сразу нужной вместимости, а участки внутреннего массива отображаются параллельно
+     * (см. {@link SomeArrayList#parallelForEach(Consumer)}).
+     *
+     * @param mapper функция без побочных эффектов, применяемая к каждому элементу.
+     * @param <R>    тип элементов результата.
+     * @return возвращает новую коллекцию с той же политикой вместимости и пулом массивов.
+     */
+    public <R> SomeArrayList<R> map(Function<? super T, ? extends R> mapper) {
+
+        Objects.requireNonNull(mapper);
+        T[] elements = arrayOfElements;
+        int size = fillCount;
+        SomeArrayList<R> result = new SomeArrayList<>(Math.max(capacityPolicy.capacityFor(size), DEFAULT_CAPACITY), capacityPolicy, arrayPool);
+        R[] target = result.arrayOfElements;
+        int chunkSize = bulkChunkSize(size);
+        ParallelChunkTask.run(chunkCount(size, chunkSize), chunk -> {
+            for (int i = chunk * chunkSize, end = Math.min(size, i + chunkSize); i < end; i++) {
+                target[i] = mapper.apply(elements[i]);
+            }
+        });
+        result.fillCount = size;
+        return result;
+    }
+
+    /**
+     * Метод возвращает новую коллекцию из элементов, удовлетворяющих условию, сохраняя их порядок.
+     * Сжатие выполняется в два параллельных прохода: в первом каждый участок проверяет свои элементы, запоминает
+     * результаты в битовой маске и считает подходящие, затем по количествам вычисляются смещения участков
+     * в результате, а во втором проходе каждый участок копирует подходящие элементы со своего смещения.
+     * Условие вызывается для каждого элемента один раз.
+     *
+     * @param filter условие без побочных эффектов, при выполнении которого элемент попадает в результат.
+     * @return возвращает новую коллекцию с той же политикой вместимости и пулом массивов.
+     */
+    public SomeArrayList<T> filter(Predicate<? super T> filter) {
+
+        Objects.requireNonNull(filter);
+        T[] elements = arrayOfElements;
+        int size = fillCount;
+        int chunkSize = bulkChunkSize(size);
+        int chunkCount = chunkCount(size, chunkSize);
+        long[] matches = new long[(size + Long.SIZE - 1) / Long.SIZE];
+        int[] offsets = new int[chunkCount + 1];
+        ParallelChunkTask.run(chunkCount, chunk -> {
+            int count = 0;
+            for (int i = chunk * chunkSize, end = Math.min(size, i + chunkSize); i < end; i++) {
+                if (filter.test(elements[i])) {
+                    matches[i >>> 6] |= 1L << i;
+                    count++;
                 }
-            } else {
-                while (((Comparable<T>) this.arrayOfElements[leftIndex]).compareTo(pivot) < 0) {
-                    leftIndex++;
+            }
+            offsets[chunk + 1] = count;
+        });
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            offsets[chunk + 1] += offsets[chunk];
+        }
+        int matched = offsets[chunkCount];
+        SomeArrayList<T> result = new SomeArrayList<>(Math.max(capacityPolicy.capacityFor(matched), DEFAULT_CAPACITY), capacityPolicy, arrayPool);
+        T[] target = result.arrayOfElements;
+        ParallelChunkTask.run(chunkCount, chunk -> {
+            int position = offsets[chunk];
+            for (int i = chunk * chunkSize, end = Math.min(size, i + chunkSize); i < end; i++) {
+                if ((matches[i >>> 6] & (1L << i)) != 0) {
+                    target[position++] = elements[i];
                 }
-                while (((Comparable<T>) this.arrayOfElements[rightIndex]).compareTo(pivot) > 0) {
-                    rightIndex--;
+            }
+        });
+        result.fillCount = matched;
+        return result;
+    }
+
+    /**
+     * Метод сворачивает элементы коллекции ассоциативной операцией. Каждый участок внутреннего массива
+     * сворачивается параллельно, начиная с нейтрального элемента, после чего результаты участков сворачиваются
+     * по порядку в текущем потоке. Для пустой коллекции возвращается нейтральный элемент.
+     *
+     * @param identity    нейтральный элемент операции.
+     * @param accumulator ассоциативная операция без побочных эффектов.
+     * @return возвращает результат свёртки.
+     */
+    public T reduce(T identity, BinaryOperator<T> accumulator) {
+
+        Objects.requireNonNull(accumulator);
+        T[] elements = arrayOfElements;
+        int size = fillCount;
+        int chunkSize = bulkChunkSize(size);
+        int chunkCount = chunkCount(size, chunkSize);
+        T[] partials = (T[]) new Object[chunkCount];
+        ParallelChunkTask.run(chunkCount, chunk -> {
+            T partial = identity;
+            for (int i = chunk * chunkSize, end = Math.min(size, i + chunkSize); i < end; i++) {
+                partial = accumulator.apply(partial, elements[i]);
+            }
+            partials[chunk] = partial;
+        });
+        if (chunkCount == 0) {
+            return identity;
+        }
+        T result = partials[0];
+        for (int chunk = 1; chunk < chunkCount; chunk++) {
+            result = accumulator.apply(result, partials[chunk]);
+        }
+        return result;
+    }
+
+    /**
+     * Метод увеличивает вместимость коллекции так, чтобы в неё можно было поместить не меньше указанного
+     * количества элементов без расширения внутреннего массива.
+     *
+     * @param minCapacity количество элементов, которое должно поместиться в коллекцию.
+     */
+    public void ensureCapacity(int minCapacity) {
+
+        if (minCapacity > growthLimit) {
+            resize(capacityPolicy.capacityFor(minCapacity));
+        }
+    }
+
+    /**
+     * Метод уменьшает вместимость коллекции до её текущего размера, освобождая неиспользуемые ячейки массива.
+     * Новый массив создаётся точной длины в обход пула: массив из пула округлён до класса размера и не уменьшил бы
+     * вместимость. Прежний массив возвращается в пул.
+     */
+    public void trimToSize() {
+
+        if (capacity > fillCount) {
+            if (ListMetrics.ENABLED) {
+                ListMetrics.recordResize(arrayOfElements.length, fillCount, fillCount);
+            }
+            T[] old = arrayOfElements;
+            arrayOfElements = Arrays.copyOf(old, fillCount);
+            if (Objects.nonNull(arrayPool)) {
+                arrayPool.release(old, fillCount);
+            }
+            updateCapacity(fillCount);
+        }
+    }
+
+    /**
+     * Метод сообщает текущую вместимость коллекции.
+     *
+     * @return возвращает длину внутреннего массива {@link org.aston.java.intensive_39.kubrak.list.implemantations.SomeArrayList#capacity}.
+     */
+    public int capacity() {
+
+        return capacity;
+    }
+
+    /**
+     * Метод возвращает политику изменения вместимости коллекции.
+     *
+     * @return возвращает политику, переданную при создании коллекции.
+     */
+    public CapacityPolicy getCapacityPolicy() {
+
+        return capacityPolicy;
+    }
+
+    /**
+     * Метод сохраняет элементы коллекции в двоичный снимок. Снимок записывается во временный файл,
+     * который затем атомарно заменяет указанный.
+     *
+     * @param path  путь к файлу снимка.
+     * @param codec преобразование элементов в записи фиксированной длины.
+     */
+    public void writeTo(Path path, RecordCodec<? super T> codec) throws IOException {
+
+        writeTo(path, codec, 0);
+    }
+
+    /**
+     * Метод загружает коллекцию из двоичного снимка, созданного методом {@link SomeArrayList#writeTo(Path, RecordCodec)},
+     * с политикой вместимости по умолчанию.
+     *
+     * @param path  путь к файлу снимка.
+     * @param codec преобразование записей в элементы.
+     * @return возвращает новую коллекцию с элементами снимка.
+     */
+    public static <T> SomeArrayList<T> readFrom(Path path, RecordCodec<T> codec) throws IOException {
+
+        return readFrom(path, codec, CapacityPolicy.DEFAULT);
+    }
+
+    /**
+     * Метод загружает коллекцию из двоичного снимка. Внутренний массив создаётся один раз с вместимостью,
+     * достаточной по указанной политике для количества элементов из заголовка, и заполняется без проверок вместимости.
+     *
+     * @param path           путь к файлу снимка.
+     * @param codec          преобразование записей в элементы.
+     * @param capacityPolicy политика вместимости загруженной коллекции.
+     * @return возвращает новую коллекцию с элементами снимка.
+     */
+    public static <T> SomeArrayList<T> readFrom(Path path, RecordCodec<T> codec, CapacityPolicy capacityPolicy) throws IOException {
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return readFrom(channel, SnapshotFormat.readHeader(channel, path, codec), codec, capacityPolicy);
+        }
+    }
+
+    void writeTo(Path path, RecordCodec<? super T> codec, long generation) throws IOException {
+
+        SnapshotFormat.<T>write(path, arrayOfElements, fillCount, codec, generation);
+    }
+
+    static <T> SomeArrayList<T> readFrom(FileChannel channel, SnapshotFormat.Header header, RecordCodec<T> codec,
+                                         CapacityPolicy capacityPolicy) throws IOException {
+
+        int count = (int) header.count;
+        SomeArrayList<T> list = new SomeArrayList<>(Math.max(capacityPolicy.capacityFor(count), DEFAULT_CAPACITY), capacityPolicy);
+        SnapshotFormat.readRecords(channel, list.arrayOfElements, count, codec);
+        list.fillCount = count;
+        return list;
+    }
+
+    /**
+     * Внутренний метод класса, возвращающий переданный компаратор либо, если он null, компаратор естественного порядка.
+     * Проверка выполняется один раз до начала сортировки, а не при каждом сравнении.
+     */
+    private Comparator<? super T> orderOf(Comparator<T> comparator) {
+
+        return Objects.nonNull(comparator) ? comparator : (Comparator<T>) Comparator.naturalOrder();
+    }
+
+    private int indexOf(T t) {
+
+        if (Objects.isNull(t)) {
+            for (int i = 0; i < fillCount; i++) {
+                if (arrayOfElements[i] == null) {
+                    return i;
                 }
             }
-            if (leftIndex <= rightIndex) {
-                T tmp = this.arrayOfElements[leftIndex];
-                this.arrayOfElements[leftIndex] = this.arrayOfElements[rightIndex];
-                this.arrayOfElements[rightIndex] = tmp;
-                leftIndex++;
-                rightIndex--;
+        } else {
+            for (int i = 0; i < fillCount; i++) {
+                if (t.equals(arrayOfElements[i])) {
+                    return i;
+                }
             }
         }
-        return leftIndex;
+        return -1;
+    }
+
+    private void sortRange(int from, int to, Comparator<? super T> order) {
+
+        if (ListMetrics.ENABLED) {
+            ListMetrics.sort(arrayOfElements, from, to, order);
+        } else {
+            AdaptiveSort.sort(arrayOfElements, from, to, order);
+        }
     }
 
     /**
-     * Внутренний метод класса, увеличивающий вместимость коллекции
-     * Если текущий внутренний массив заполнен, то создаётся новый, в 1.5 больше, и в него копируются элементы из старого массива.
+     * Внутренний метод класса, выбирающий размер участка для параллельных поэлементных операций:
+     * вся коллекция одним участком, если она меньше порога или в пуле один поток, иначе около четырёх участков
+     * на поток, но не меньше {@link SomeArrayList#PARALLEL_BULK_THRESHOLD}, с округлением до кратного 64.
+     */
+    private static int bulkChunkSize(int size) {
+
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        if (size < PARALLEL_BULK_THRESHOLD || parallelism == 1) {
+            return size;
+        }
+        int chunkSize = Math.max(size / (parallelism << 2), PARALLEL_BULK_THRESHOLD);
+        return (chunkSize + Long.SIZE - 1) & -Long.SIZE;
+    }
+
+    private static int chunkCount(int size, int chunkSize) {
+
+        return size == 0 ? 0 : (int) (((long) size + chunkSize - 1) / chunkSize);
+    }
+
+    private void checkRange(int from, int to) {
+
+        if (from < 0 || from > to || to > fillCount) {
+            throw new ArrayIndexOutOfBoundsException("Illegal range [" + from + ", " + to + ") for size " + fillCount);
+        }
+    }
+
+    /**
+     * Метод вставляет первые {@code count} элементов массива в конец коллекции одним копированием,
+     * расширяя вместимость не более одного раза. Используется {@link IngestionBuffer} для слива пакетов.
+     */
+    void appendArray(Object[] array, int count) {
+
+        insertArray(array, count, fillCount);
+    }
+
+    /**
+     * Метод расширяет вместимость по политике роста так, чтобы поместилось ещё {@code count} элементов.
+     * В отличие от {@link SomeArrayList#ensureCapacity(int)} сохраняет геометрический рост при многократных вызовах.
+     * Используется {@link IngestionBuffer} перед сливом нескольких пакетов.
+     */
+    void reserveAdditional(int count) {
+
+        ensureCapacityForAdditional(count);
+    }
+
+    /**
+     * Внутренний метод класса, вставляющий первые {@code count} элементов массива на указанную позицию.
+     */
+    private void insertArray(Object[] array, int count, int position) {
+
+        if (position < 0 || position > fillCount) {
+            throw new ArrayIndexOutOfBoundsException("Index " + position + " out of bounds for size " + fillCount);
+        }
+        if (count == 0) {
+            return;
+        }
+        ensureCapacityForAdditional(count);
+        if (ListMetrics.ENABLED) {
+            ListMetrics.recordShift(fillCount - position);
+        }
+        System.arraycopy(arrayOfElements, position, arrayOfElements, position + count, fillCount - position);
+        System.arraycopy(array, 0, arrayOfElements, position, count);
+        fillCount += count;
+    }
+
+    /**
+     * Внутренний метод класса, расширяющий вместимость коллекции один раз так, чтобы в неё поместилось
+     * ещё {@code count} элементов без превышения порога заполнения.
+     */
+    private void ensureCapacityForAdditional(int count) {
+
+        int required = fillCount + count;
+        if (required > growthLimit) {
+            resize(capacityPolicy.grownCapacity(arrayOfElements.length, required));
+        }
+    }
+
+    /**
+     * Внутренний метод класса, увеличивающий вместимость коллекции.
+     * Если количество элементов достигло порога заполнения, создаётся новый массив, размер которого
+     * определяет политика {@link CapacityPolicy}, и в него копируются элементы из старого массива.
      */
     private void checkIfCapacityExtensionRequired() {
 
-        if (fillCount >= (capacity * 0.75)) {
-            this.capacity = (int) (arrayOfElements.length * 1.5 + 1);
-            T[] newArrayOfElements = (T[]) new Object[capacity];
-            System.arraycopy(arrayOfElements, 0, newArrayOfElements, 0, fillCount);
-            arrayOfElements = newArrayOfElements;
+        if (fillCount >= growthLimit) {
+            resize(capacityPolicy.grownCapacity(arrayOfElements.length, fillCount + 1));
+        }
+    }
 
+    /**
+     * Внутренний метод класса, уменьшающий вместимость коллекции, если количество элементов
+     * после удаления опустилось ниже порога сжатия.
+     */
+    private void checkIfCapacityReductionRequired() {
+
+        if (fillCount < shrinkLimit && capacity > DEFAULT_CAPACITY) {
+            resize(capacityPolicy.shrunkCapacity(fillCount, DEFAULT_CAPACITY));
+        }
+    }
+
+    private void resize(int newCapacity) {
+
+        if (ListMetrics.ENABLED) {
+            ListMetrics.recordResize(arrayOfElements.length, newCapacity, fillCount);
+        }
+        replaceArray(newCapacity, fillCount);
+    }
+
+    /**
+     * Внутренний метод класса, заменяющий внутренний массив новым массивом вместимости не меньше {@code newCapacity}
+     * с переносом первых {@code count} элементов. При работе с пулом старый массив возвращается в пул.
+     */
+    private void replaceArray(int newCapacity, int count) {
+
+        T[] old = arrayOfElements;
+        if (Objects.isNull(arrayPool) && count == fillCount) {
+            arrayOfElements = Arrays.copyOf(old, newCapacity);
+        } else {
+            arrayOfElements = newArray(newCapacity);
+            System.arraycopy(old, 0, arrayOfElements, 0, count);
+            if (Objects.nonNull(arrayPool)) {
+                arrayPool.release(old, fillCount);
+            }
         }
+        updateCapacity(arrayOfElements.length);
+    }
+
+    private T[] newArray(int length) {
+
+        return (T[]) (Objects.isNull(arrayPool) ? new Object[length] : arrayPool.acquire(length));
     }
 
+    /**
+     * Внутренний метод класса, запоминающий новую вместимость и пересчитывающий пороги расширения и сжатия.
+     */
+    private void updateCapacity(int newCapacity) {
+
+        capacity = newCapacity;
+        growthLimit = capacityPolicy.growthLimit(newCapacity);
+        shrinkLimit = capacityPolicy.shrinkLimit(newCapacity);
+    }
 }
@@ -0,0 +1,578 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Класс, представляющий из себя несинхронизированный список, составленный из блоков (chunks) фиксированной вместимости.
+ *
+ * <p>Элементы хранятся последовательно в блоках по {@link SomeChunkedList#CHUNK_CAPACITY} ячеек.
+ * Количество элементов в каждом блоке учитывается деревом Фенвика, которое по номеру позиции находит блок
+ * и смещение в нём за O(log c), где c — число блоков. Поэтому:
+ * <ul>
+ *     <li>{@code get} и {@code set} выполняются за O(log c), а при последовательном обходе — за O(1)
+ *     благодаря запоминанию последнего найденного блока;</li>
+ *     <li>{@code insert} и {@code delete} в произвольной позиции сдвигают элементы только внутри одного блока;
+ *     заполненный блок делится пополам, опустевший блок удаляется, а почти пустой сливается с соседом;</li>
+ *     <li>при росте коллекции выделяются только новые блоки и массив ссылок на блоки,
+ *     уже сохранённые элементы никогда не копируются целиком.</li>
+ * </ul>
+ *
+ * @param <T> тип элементов, хранимых в данном списке.
+ * @author Konstantin_Kubrak
+ */
+public class SomeChunkedList<T> implements SomeList<T> {
+
+    /**
+     * Вместимость одного блока.
+     */
+    static final int CHUNK_CAPACITY = 1024;
+
+    /**
+     * Размер блока, ниже которого блок при удалении сливается с соседним, если их элементы помещаются в один блок.
+     */
+    private static final int MERGE_THRESHOLD = CHUNK_CAPACITY / 4;
+
+    private static final int DEFAULT_CHUNK_SLOTS = 4;
+
+    /**
+     * Текущее количество элементов в коллекции, по умолчанию 0.
+     */
+    private int fillCount;
+
+    /**
+     * Блоки, хранящие элементы коллекции. Используются первые {@link SomeChunkedList#chunkCount} блоков.
+     */
+    private T[][] chunks;
+
+    /**
+     * Количество элементов в каждом из блоков.
+     */
+    private int[] chunkSizes;
+
+    /**
+     * Количество используемых блоков.
+     */
+    private int chunkCount;
+
+    /**
+     * Дерево Фенвика (индексация с единицы) над {@link SomeChunkedList#chunkSizes}.
+     */
+    private int[] tree;
+
+    /**
+     * Номер последнего найденного блока или -1, если запомненное значение устарело.
+     */
+    private int cachedChunk = -1;
+
+    /**
+     * Позиция первого элемента последнего найденного блока.
+     */
+    private int cachedChunkStart;
+
+    /**
+     * Конструктор класса, создающий пустую коллекцию.
+     */
+    public SomeChunkedList() {
+
+        this.chunks = (T[][]) new Object[DEFAULT_CHUNK_SLOTS][];
+        this.chunkSizes = new int[DEFAULT_CHUNK_SLOTS];
+        this.tree = new int[DEFAULT_CHUNK_SLOTS + 1];
+    }
+
+    /**
+     * Метод вставляет элемент в конец коллекции. Если последний блок заполнен, добавляется новый блок.
+     *
+     * @param t элемент, который необходимо вставить в коллекцию.
+     */
+    @Override
+    public void put(T t) {
+
+        if (chunkCount == 0 || chunkSizes[chunkCount - 1] == CHUNK_CAPACITY) {
+            insertChunk(chunkCount, (T[]) new Object[CHUNK_CAPACITY], 0);
+        }
+        int last = chunkCount - 1;
+        chunks[last][chunkSizes[last]++] = t;
+        addToTree(last, 1);
+        fillCount++;
+    }
+
+    /**
+     * Метод вставляет элемент на указанную позицию, сдвигая элементы только внутри соответствующего блока.
+     * Заполненный блок предварительно делится пополам.
+     *
+     * @param t        элемент, который необходимо вставить в коллекцию.
+     * @param position индекс, указывающий позицию в коллекции, куда будет произведена вставка.
+     */
+    @Override
+    public void insert(T t, int position) {
+
+        if (position < 0 || position > fillCount) {
+            throw new ArrayIndexOutOfBoundsException("Index " + position + " out of bounds for size " + fillCount);
+        }
+        if (position == fillCount) {
+            put(t);
+            return;
+        }
+        int chunk = locate(position);
+        int offset = position - cachedChunkStart;
+        if (chunkSizes[chunk] == CHUNK_CAPACITY) {
+            splitChunk(chunk);
+            if (offset > CHUNK_CAPACITY / 2) {
+                chunk++;
+                offset -= CHUNK_CAPACITY / 2;
+            }
+        }
+        T[] elements = chunks[chunk];
+        System.arraycopy(elements, offset, elements, offset + 1, chunkSizes[chunk] - offset);
+        elements[offset] = t;
+        chunkSizes[chunk]++;
+        addToTree(chunk, 1);
+        fillCount++;
+        cachedChunk = -1;
+    }
+
+    /**
+     * Метод возвращает элемент коллекции, находящийся под указанным в параметрах индексом.
+     *
+     * @param position индекс, указывающий позицию в коллекции, с которой будет взят элемент.
+     * @return возвращает элемент коллекции.
+     */
+    @Override
+    public T get(int position) {
+
+        checkIndex(position);
+        int chunk = locate(position);
+        return chunks[chunk][position - cachedChunkStart];
+    }
+
+    /**
+     * Метод удаляет элемент под указанным индексом, сдвигая элементы только внутри соответствующего блока.
+     * Опустевший блок удаляется, а блок, в котором осталось меньше четверти элементов,
+     * сливается с соседним, если их элементы помещаются в один блок.
+     *
+     * @param position индекс, указывающий позицию в коллекции, где будет произведено удаление.
+     */
+    @Override
+    public void delete(int position) {
+
+        checkIndex(position);
+        int chunk = locate(position);
+        int offset = position - cachedChunkStart;
+        T[] elements = chunks[chunk];
+        int size = --chunkSizes[chunk];
+        System.arraycopy(elements, offset + 1, elements, offset, size - offset);
+        elements[size] = null;
+        addToTree(chunk, -1);
+        fillCount--;
+        cachedChunk = -1;
+        if (size == 0) {
+            removeChunk(chunk);
+        } else if (size < MERGE_THRESHOLD) {
+            mergeWithNeighbour(chunk);
+        }
+    }
+
+    /**
+     * Метод удаляет все элементы коллекции вместе с блоками.
+     */
+    @Override
+    public void deleteAll() {
+
+        Arrays.fill(chunks, 0, chunkCount, null);
+        Arrays.fill(chunkSizes, 0, chunkCount, 0);
+        Arrays.fill(tree, 0);
+        chunkCount = 0;
+        fillCount = 0;
+        cachedChunk = -1;
+    }
+
+    /**
+     * Метод заменяет элемент в коллекции под определённым индексом на другой элемент, переданный в аргументах.
+     *
+     * @param t        элемент, который необходимо вставить в коллекцию.
+     * @param position индекс, указывающий позицию в коллекции, где будет произведена замена.
+     */
+    @Override
+    public void set(T t, int position) {
+
+        checkIndex(position);
+        int chunk = locate(position);
+        chunks[chunk][position - cachedChunkStart] = t;
+    }
+
+    /**
+     * Метод сообщает текущий размер коллекции, используя счётчик элементов.
+     *
+     * @return возвращает текущее количество элементов коллекции {@link SomeChunkedList#fillCount}.
+     */
+    @Override
+    public int size() {
+
+        return fillCount;
+    }
+
+    /**
+     * Метод сообщает, пустая коллекция или нет.
+     *
+     * @return возвращает true, если коллекция пустая, false если коллекция содержит элементы.
+     */
+    @Override
+    public boolean isEmpty() {
+
+        return fillCount == 0;
+    }
+
+    /**
+     * Метод сообщает индекс первого вхождения элемента в коллекции, либо -1, если элемент отсутствует.
+     * Блоки просматриваются последовательно.
+     *
+     * @param t элемент, индекс которого необходимо найти в коллекции.
+     * @return возвращает индекс, под которым элемент хранится в коллекции.
+     */
+    @Override
+    public int getIndex(T t) {
+
+        int chunkStart = 0;
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            T[] elements = chunks[chunk];
+            int size = chunkSizes[chunk];
+            for (int i = 0; i < size; i++) {
+                if (Objects.equals(elements[i], t)) {
+                    return chunkStart + i;
+                }
+            }
+            chunkStart += size;
+        }
+        return -1;
+    }
+
+    /**
+     * Метод сообщает, имеется ли в коллекции переданный в параметрах элемент.
+     *
+     * @param t элемент, который необходимо найти в коллекции.
+     * @return возвращает результат поиска: true или false.
+     */
+    @Override
+    public boolean contains(T t) {
+
+        return getIndex(t) > -1;
+    }
+
+    /**
+     * Метод сортирует элементы коллекции в естественном порядке.
+     */
+    @Override
+    public void sort() {
+
+        sort(null);
+    }
+
+    /**
+     * Метод сортирует элементы коллекции с учётом переданного в параметрах компаратора.
+     * Элементы собираются во временный массив, сортируются {@link AdaptiveSort} и раскладываются обратно
+     * по тем же блокам, размеры блоков не меняются.
+     *
+     * @param comparator компаратор, используемый в сортировке; если null, используется естественный порядок.
+     */
+    @Override
+    public void sort(Comparator<T> comparator) {
+
+        T[] all = (T[]) new Object[fillCount];
+        int position = 0;
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            System.arraycopy(chunks[chunk], 0, all, position, chunkSizes[chunk]);
+            position += chunkSizes[chunk];
+        }
+        Comparator<? super T> order = Objects.nonNull(comparator) ? comparator : (Comparator<T>) Comparator.naturalOrder();
+        AdaptiveSort.sort(all, 0, fillCount, order);
+        position = 0;
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            System.arraycopy(all, position, chunks[chunk], 0, chunkSizes[chunk]);
+            position += chunkSizes[chunk];
+        }
+    }
+
+    /**
+     * Метод выполняет действие для каждого элемента коллекции, обходя блоки напрямую, без поиска позиции
+     * и без создания итератора.
+     *
+     * @param action действие, выполняемое для каждого элемента.
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            T[] elements = chunks[chunk];
+            for (int i = 0, size = chunkSizes[chunk]; i < size; i++) {
+                action.accept(elements[i]);
+            }
+        }
+    }
+
+    /**
+     * Метод возвращает разделитель, который делит диапазон позиций пополам и обходит элементы блок за блоком.
+     * Разделитель не использует запомненный блок, поэтому его части могут обходиться параллельно.
+     *
+     * @return возвращает разделитель по элементам коллекции.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+
+        return new ChunkSpliterator(0, fillCount);
+    }
+
+    private void checkIndex(int position) {
+
+        if (position < 0 || position >= fillCount) {
+            throw new ArrayIndexOutOfBoundsException("Index " + position + " out of bounds for size " + fillCount);
+        }
+    }
+
+    /**
+     * Внутренний метод класса, находящий блок, содержащий элемент с указанной позицией.
+     * Сначала проверяются последний найденный блок и следующий за ним, затем выполняется спуск по дереву Фенвика.
+     * Позиция первого элемента блока сохраняется в {@link SomeChunkedList#cachedChunkStart}.
+     *
+     * @param position позиция элемента, меньшая {@link SomeChunkedList#fillCount}.
+     * @return возвращает номер блока.
+     */
+    private int locate(int position) {
+
+        if (cachedChunk >= 0) {
+            int offset = position - cachedChunkStart;
+            if (offset >= 0 && offset < chunkSizes[cachedChunk]) {
+                return cachedChunk;
+            }
+            int next = cachedChunk + 1;
+            offset -= chunkSizes[cachedChunk];
+            if (next < chunkCount && offset >= 0 && offset < chunkSizes[next]) {
+                cachedChunkStart += chunkSizes[cachedChunk];
+                cachedChunk = next;
+                return next;
+            }
+        }
+        cachedChunk = findChunk(position);
+        cachedChunkStart = chunkStart(cachedChunk);
+        return cachedChunk;
+    }
+
+    /**
+     * Внутренний метод класса, находящий блок с указанной позицией спуском по дереву Фенвика.
+     * В отличие от {@link SomeChunkedList#locate(int)} не изменяет запомненный блок,
+     * поэтому может вызываться из нескольких потоков при параллельном обходе.
+     */
+    private int findChunk(int position) {
+
+        int node = 0;
+        int remainder = position;
+        for (int step = Integer.highestOneBit(chunkCount); step > 0; step >>= 1) {
+            int candidate = node + step;
+            if (candidate <= chunkCount && tree[candidate] <= remainder) {
+                node = candidate;
+                remainder -= tree[candidate];
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Внутренний метод класса, возвращающий позицию первого элемента блока как префиксную сумму дерева Фенвика.
+     */
+    private int chunkStart(int chunk) {
+
+        int start = 0;
+        for (int i = chunk; i > 0; i -= i & -i) {
+            start += tree[i];
+        }
+        return start;
+    }
+
+    private void addToTree(int chunk, int delta) {
+
+        for (int i = chunk + 1; i <= chunkCount; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Внутренний метод класса, перестраивающий дерево Фенвика за O(c) после изменения состава блоков.
+     */
+    private void rebuildTree() {
+
+        Arrays.fill(tree, 0);
+        for (int i = 1; i <= chunkCount; i++) {
+            tree[i] += chunkSizes[i - 1];
+            int parent = i + (i & -i);
+            if (parent <= chunkCount) {
+                tree[parent] += tree[i];
+            }
+        }
+        cachedChunk = -1;
+    }
+
+    /**
+     * Внутренний метод класса, вставляющий блок на указанное место в массиве блоков.
+     * Массив ссылок на блоки при необходимости расширяется вдвое, сами элементы при этом не копируются.
+     */
+    private void insertChunk(int index, T[] chunk, int size) {
+
+        if (chunkCount == chunks.length) {
+            int newLength = chunks.length << 1;
+            chunks = Arrays.copyOf(chunks, newLength);
+            chunkSizes = Arrays.copyOf(chunkSizes, newLength);
+            tree = new int[newLength + 1];
+        }
+        System.arraycopy(chunks, index, chunks, index + 1, chunkCount - index);
+        System.arraycopy(chunkSizes, index, chunkSizes, index + 1, chunkCount - index);
+        chunks[index] = chunk;
+        chunkSizes[index] = size;
+        chunkCount++;
+        rebuildTree();
+    }
+
+    private void removeChunk(int index) {
+
+        System.arraycopy(chunks, index + 1, chunks, index, chunkCount - index - 1);
+        System.arraycopy(chunkSizes, index + 1, chunkSizes, index, chunkCount - index - 1);
+        chunkCount--;
+        chunks[chunkCount] = null;
+        chunkSizes[chunkCount] = 0;
+        rebuildTree();
+    }
+
+    /**
+     * Внутренний метод класса, переносящий вторую половину заполненного блока в новый блок, следующий за ним.
+     */
+    private void splitChunk(int index) {
+
+        T[] left = chunks[index];
+        T[] right = (T[]) new Object[CHUNK_CAPACITY];
+        int half = CHUNK_CAPACITY / 2;
+        System.arraycopy(left, half, right, 0, CHUNK_CAPACITY - half);
+        Arrays.fill(left, half, CHUNK_CAPACITY, null);
+        chunkSizes[index] = half;
+        insertChunk(index + 1, right, CHUNK_CAPACITY - half);
+    }
+
+    /**
+     * Внутренний метод класса, сливающий блок с предыдущим или следующим блоком, если их элементы помещаются в один блок.
+     */
+    private void mergeWithNeighbour(int index) {
+
+        if (index > 0 && chunkSizes[index - 1] + chunkSizes[index] <= CHUNK_CAPACITY) {
+            appendChunkTo(index - 1, index);
+        } else if (index + 1 < chunkCount && chunkSizes[index] + chunkSizes[index + 1] <= CHUNK_CAPACITY) {
+            appendChunkTo(index, index + 1);
+        }
+    }
+
+    private void appendChunkTo(int target, int source) {
+
+        System.arraycopy(chunks[source], 0, chunks[target], chunkSizes[target], chunkSizes[source]);
+        chunkSizes[target] += chunkSizes[source];
+        removeChunk(source);
+    }
+
+    /**
+     * Разделитель по диапазону позиций {@code [index, fence)}. Блок, содержащий позицию {@code index},
+     * находится только при первом обращении к элементам, дальше обход идёт по блокам последовательно.
+     */
+    private final class ChunkSpliterator implements Spliterator<T> {
+
+        private int index;
+
+        private final int fence;
+
+        /**
+         * Номер текущего блока или -1, если он ещё не найден.
+         */
+        private int chunk = -1;
+
+        /**
+         * Смещение следующего элемента в текущем блоке.
+         */
+        private int offset;
+
+        private ChunkSpliterator(int index, int fence) {
+
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+
+            if (index >= fence) {
+                return false;
+            }
+            if (chunk < 0) {
+                findStart();
+            }
+            while (offset >= chunkSizes[chunk]) {
+                chunk++;
+                offset = 0;
+            }
+            index++;
+            action.accept(chunks[chunk][offset++]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+
+            if (index >= fence) {
+                return;
+            }
+            if (chunk < 0) {
+                findStart();
+            }
+            int remaining = fence - index;
+            index = fence;
+            for (; remaining > 0; chunk++, offset = 0) {
+                T[] elements = chunks[chunk];
+                int end = Math.min(chunkSizes[chunk], offset + remaining);
+                for (int i = offset; i < end; i++) {
+                    action.accept(elements[i]);
+                }
+                remaining -= end - offset;
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+
+            int middle = (index + fence) >>> 1;
+            if (index >= middle) {
+                return null;
+            }
+            Spliterator<T> prefix = new ChunkSpliterator(index, middle);
+            index = middle;
+            chunk = -1;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+
+            return ORDERED | SIZED | SUBSIZED;
+        }
+
+        private void findStart() {
+
+            chunk = findChunk(index);
+            offset = index - chunkStart(chunk);
+        }
+    }
+}
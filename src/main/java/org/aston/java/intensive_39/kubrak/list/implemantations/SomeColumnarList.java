@@ -0,0 +1,689 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Класс, представляющий из себя несинхронизированный список записей, хранящий каждое поле записи
+ * в отдельном примитивном массиве-столбце (struct-of-arrays).
+ *
+ * <p>Раскладка записей по столбцам задаётся {@link ColumnSchema}. Сами записи не хранятся: {@code put} и {@code set}
+ * раскладывают поля по столбцам, а {@code get} создаёт запись фабрикой схемы. Вместо объекта с заголовком
+ * и ссылки на него на запись приходится только {@link ColumnSchema#rowSize()} байт, например 20 байт
+ * для записи (long, int, double) против примерно 40 байт в {@code SomeArrayList} при сжатых указателях.
+ *
+ * <ul>
+ *     <li>для чтения без создания объектов служит многоразовое представление строки {@link Row}:
+ *     {@link SomeColumnarList#row(int)} и {@link SomeColumnarList#forEachRow(Consumer)} передвигают один
+ *     и тот же объект по строкам;</li>
+ *     <li>поиск по значению поля ({@code indexOfInt}, {@code indexOfLong}, {@code indexOfDouble}) и суммирование
+ *     ({@code sumLong}, {@code sumDouble}) проходят по одному непрерывному массиву;</li>
+ *     <li>{@link SomeColumnarList#sortBy(int)} упорядочивает строки по столбцу устойчивой поразрядной сортировкой
+ *     {@link KeyedSort} и переставляет все столбцы; сортировка компаратором записей создаёт записи
+ *     и предназначена для редких вызовов.</li>
+ * </ul>
+ * Записи сравниваются по значениям всех столбцов, а не методом {@code equals}; значения {@code double}
+ * сравниваются побитово, как в {@link Double#equals(Object)}. Значение null не поддерживается.
+ *
+ * @param <T> тип записей, хранимых в данном списке.
+ * @author Konstantin_Kubrak
+ */
+public class SomeColumnarList<T> implements SomeList<T> {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private final ColumnSchema<T> schema;
+
+    /**
+     * Текущее количество элементов в коллекции, по умолчанию 0.
+     */
+    private int fillCount;
+
+    /**
+     * Вместимость коллекции, общая для всех столбцов.
+     */
+    private int capacity;
+
+    private int[][] intColumns;
+
+    private long[][] longColumns;
+
+    private double[][] doubleColumns;
+
+    /**
+     * Представление строки, используемое {@code get} для создания записей.
+     */
+    private final Row factoryRow = new Row();
+
+    /**
+     * Многоразовое представление строки, возвращаемое {@link SomeColumnarList#row(int)}.
+     */
+    private final Row flyweight = new Row();
+
+    /**
+     * Значения полей последней разобранной записи в виде {@code long}, по одному на столбец. Общий буфер записи
+     * и поиска, чтобы {@code put}, {@code set}, {@code insert} и {@code getIndex} не создавали массив на каждый вызов.
+     */
+    private final long[] fieldValues;
+
+    /**
+     * Конструктор класса с начальной вместимостью коллекции по умолчанию {@link SomeColumnarList#DEFAULT_CAPACITY}.
+     *
+     * @param schema раскладка записей по столбцам.
+     */
+    public SomeColumnarList(ColumnSchema<T> schema) {
+
+        this(schema, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Конструктор класса с указанием начальной вместимости коллекции.
+     *
+     * @param schema          раскладка записей по столбцам.
+     * @param initialCapacity изначальная вместимость коллекции.
+     */
+    public SomeColumnarList(ColumnSchema<T> schema, int initialCapacity) {
+
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity " + initialCapacity);
+        }
+        this.schema = Objects.requireNonNull(schema);
+        this.capacity = initialCapacity;
+        this.intColumns = new int[schema.countOf(ColumnSchema.ColumnType.INT)][initialCapacity];
+        this.longColumns = new long[schema.countOf(ColumnSchema.ColumnType.LONG)][initialCapacity];
+        this.doubleColumns = new double[schema.countOf(ColumnSchema.ColumnType.DOUBLE)][initialCapacity];
+        this.fieldValues = new long[schema.columnCount()];
+    }
+
+    /**
+     * Метод вставляет запись в конец коллекции, раскладывая её поля по столбцам.
+     *
+     * @param t запись, которую необходимо вставить в коллекцию.
+     */
+    @Override
+    public void put(T t) {
+
+        ensureCapacity(fillCount + 1);
+        write(t, fillCount);
+        fillCount++;
+    }
+
+    /**
+     * Метод вставляет запись на указанную позицию, смещая последующие строки всех столбцов вправо.
+     *
+     * @param t        запись, которую необходимо вставить в коллекцию.
+     * @param position индекс, указывающий позицию в коллекции, куда будет произведена вставка.
+     */
+    @Override
+    public void insert(T t, int position) {
+
+        checkPosition(position);
+        readFields(t);
+        ensureCapacity(fillCount + 1);
+        for (Object column : columns()) {
+            System.arraycopy(column, position, column, position + 1, fillCount - position);
+        }
+        writeFields(position);
+        fillCount++;
+    }
+
+    /**
+     * Метод создаёт запись из строки под указанным индексом фабрикой схемы.
+     *
+     * @param position индекс, указывающий позицию в коллекции, с которой будет взят элемент.
+     * @return возвращает новую запись.
+     */
+    @Override
+    public T get(int position) {
+
+        checkIndex(position);
+        factoryRow.position = position;
+        return schema.factory().apply(factoryRow);
+    }
+
+    /**
+     * Метод удаляет строку под указанным индексом, смещая последующие строки всех столбцов влево.
+     *
+     * @param position индекс, указывающий позицию в коллекции, где будет произведено удаление.
+     */
+    @Override
+    public void delete(int position) {
+
+        checkIndex(position);
+        for (Object column : columns()) {
+            System.arraycopy(column, position + 1, column, position, fillCount - position - 1);
+        }
+        fillCount--;
+    }
+
+    /**
+     * Метод удаляет все элементы коллекции. Столбцы не содержат ссылок, поэтому не очищаются.
+     */
+    @Override
+    public void deleteAll() {
+
+        fillCount = 0;
+    }
+
+    /**
+     * Метод заменяет запись под определённым индексом, перезаписывая её поля в столбцах.
+     *
+     * @param t        запись, которую необходимо вставить в коллекцию.
+     * @param position индекс, указывающий позицию в коллекции, где будет произведена замена.
+     */
+    @Override
+    public void set(T t, int position) {
+
+        checkIndex(position);
+        write(t, position);
+    }
+
+    /**
+     * Метод сообщает текущий размер коллекции.
+     *
+     * @return возвращает текущее количество элементов коллекции.
+     */
+    @Override
+    public int size() {
+
+        return fillCount;
+    }
+
+    /**
+     * Метод сообщает, пустая коллекция или нет.
+     *
+     * @return возвращает true, если коллекция пустая, false если коллекция содержит элементы.
+     */
+    @Override
+    public boolean isEmpty() {
+
+        return fillCount == 0;
+    }
+
+    /**
+     * Метод сообщает индекс первой строки, совпадающей с записью по значениям всех столбцов, либо -1.
+     * Кандидаты отбираются по первому столбцу, остальные столбцы сравниваются только для них.
+     *
+     * @param t запись, индекс которой необходимо найти в коллекции.
+     * @return возвращает индекс, под которым запись хранится в коллекции.
+     */
+    @Override
+    public int getIndex(T t) {
+
+        if (Objects.isNull(t)) {
+            return -1;
+        }
+        int columnCount = schema.columnCount();
+        long[] probe = readFields(t);
+        for (int position = scan(0, 0, probe[0]); position >= 0; position = scan(0, position + 1, probe[0])) {
+            int column = 1;
+            while (column < columnCount && bitsAt(column, position) == probe[column]) {
+                column++;
+            }
+            if (column == columnCount) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Метод сообщает, имеется ли в коллекции запись с такими же значениями всех столбцов.
+     *
+     * @param t запись, которую необходимо найти в коллекции.
+     * @return возвращает результат поиска: true или false.
+     */
+    @Override
+    public boolean contains(T t) {
+
+        return getIndex(t) > -1;
+    }
+
+    /**
+     * Метод выполняет действие для каждой записи коллекции, создавая записи фабрикой схемы.
+     *
+     * @param action действие, выполняемое для каждого элемента.
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+
+        for (int i = 0; i < fillCount; i++) {
+            factoryRow.position = i;
+            action.accept(schema.factory().apply(factoryRow));
+        }
+    }
+
+    /**
+     * Метод сортирует записи в естественном порядке (см. {@link SomeColumnarList#sort(Comparator)}).
+     */
+    @Override
+    public void sort() {
+
+        sort(null);
+    }
+
+    /**
+     * Метод сортирует записи с учётом переданного в параметрах компаратора: создаёт все записи, упорядочивает
+     * номера строк и переставляет столбцы. Для сортировки по полю используйте {@link SomeColumnarList#sortBy(int)}.
+     *
+     * @param comparator компаратор, используемый в сортировке; если null, используется естественный порядок.
+     */
+    @Override
+    public void sort(Comparator<T> comparator) {
+
+        Comparator<? super T> order = Objects.nonNull(comparator) ? comparator : (Comparator<T>) Comparator.naturalOrder();
+        T[] records = (T[]) new Object[fillCount];
+        Integer[] positions = new Integer[fillCount];
+        for (int i = 0; i < fillCount; i++) {
+            records[i] = get(i);
+            positions[i] = i;
+        }
+        AdaptiveSort.sort(positions, 0, fillCount, (left, right) -> order.compare(records[left], records[right]));
+        int[] permutation = new int[fillCount];
+        for (int i = 0; i < fillCount; i++) {
+            permutation[i] = positions[i];
+        }
+        permute(permutation);
+    }
+
+    /**
+     * Метод устойчиво сортирует строки по возрастанию значений столбца поразрядной сортировкой, не создавая записей.
+     * Значения {@code double} упорядочиваются как в {@link Double#compare(double, double)}.
+     *
+     * @param column номер столбца, по которому сортируются строки.
+     */
+    public void sortBy(int column) {
+
+        long[] keys = new long[fillCount];
+        int slot = schema.slot(column);
+        switch (schema.columnType(column)) {
+            case INT:
+                int[] ints = intColumns[slot];
+                for (int i = 0; i < fillCount; i++) {
+                    keys[i] = ints[i] ^ Long.MIN_VALUE;
+                }
+                break;
+            case LONG:
+                long[] longs = longColumns[slot];
+                for (int i = 0; i < fillCount; i++) {
+                    keys[i] = longs[i] ^ Long.MIN_VALUE;
+                }
+                break;
+            default:
+                double[] doubles = doubleColumns[slot];
+                for (int i = 0; i < fillCount; i++) {
+                    long bits = Double.doubleToLongBits(doubles[i]);
+                    keys[i] = bits ^ ((bits >> (Long.SIZE - 1)) | Long.MIN_VALUE);
+                }
+        }
+        permute(KeyedSort.sortedOrder(keys, fillCount));
+    }
+
+    /**
+     * Метод возвращает многоразовое представление строки под указанным индексом. При каждом вызове возвращается
+     * один и тот же объект, поэтому представление нельзя сохранять между вызовами.
+     *
+     * @param position индекс строки.
+     * @return возвращает представление строки.
+     */
+    public Row row(int position) {
+
+        checkIndex(position);
+        flyweight.position = position;
+        return flyweight;
+    }
+
+    /**
+     * Метод выполняет действие для каждой строки коллекции, передавая одно и то же представление строки.
+     *
+     * @param action действие, выполняемое для каждой строки.
+     */
+    public void forEachRow(Consumer<? super Row> action) {
+
+        for (int i = 0; i < fillCount; i++) {
+            flyweight.position = i;
+            action.accept(flyweight);
+        }
+    }
+
+    /**
+     * Метод сообщает индекс первой строки, в которой столбец {@code int} содержит значение, либо -1.
+     *
+     * @param column номер столбца типа {@link ColumnSchema.ColumnType#INT}.
+     * @param value  искомое значение.
+     * @return возвращает индекс строки.
+     */
+    public int indexOfInt(int column, int value) {
+
+        checkType(column, ColumnSchema.ColumnType.INT);
+        return scan(column, 0, value);
+    }
+
+    /**
+     * Метод сообщает индекс первой строки, в которой столбец {@code long} содержит значение, либо -1.
+     *
+     * @param column номер столбца типа {@link ColumnSchema.ColumnType#LONG}.
+     * @param value  искомое значение.
+     * @return возвращает индекс строки.
+     */
+    public int indexOfLong(int column, long value) {
+
+        checkType(column, ColumnSchema.ColumnType.LONG);
+        return scan(column, 0, value);
+    }
+
+    /**
+     * Метод сообщает индекс первой строки, в которой столбец {@code double} содержит значение, либо -1.
+     *
+     * @param column номер столбца типа {@link ColumnSchema.ColumnType#DOUBLE}.
+     * @param value  искомое значение.
+     * @return возвращает индекс строки.
+     */
+    public int indexOfDouble(int column, double value) {
+
+        checkType(column, ColumnSchema.ColumnType.DOUBLE);
+        return scan(column, 0, Double.doubleToLongBits(value));
+    }
+
+    /**
+     * Метод суммирует значения столбца {@code int} или {@code long}.
+     *
+     * @param column номер столбца.
+     * @return возвращает сумму значений.
+     */
+    public long sumLong(int column) {
+
+        long sum = 0;
+        if (schema.columnType(column) == ColumnSchema.ColumnType.INT) {
+            int[] ints = intColumns[schema.slot(column)];
+            for (int i = 0; i < fillCount; i++) {
+                sum += ints[i];
+            }
+            return sum;
+        }
+        checkType(column, ColumnSchema.ColumnType.LONG);
+        long[] longs = longColumns[schema.slot(column)];
+        for (int i = 0; i < fillCount; i++) {
+            sum += longs[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Метод суммирует значения столбца {@code double}.
+     *
+     * @param column номер столбца типа {@link ColumnSchema.ColumnType#DOUBLE}.
+     * @return возвращает сумму значений.
+     */
+    public double sumDouble(int column) {
+
+        checkType(column, ColumnSchema.ColumnType.DOUBLE);
+        double[] doubles = doubleColumns[schema.slot(column)];
+        double sum = 0;
+        for (int i = 0; i < fillCount; i++) {
+            sum += doubles[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Метод возвращает схему коллекции.
+     *
+     * @return возвращает раскладку записей по столбцам.
+     */
+    public ColumnSchema<T> schema() {
+
+        return schema;
+    }
+
+    /**
+     * Представление строки коллекции: читает значения столбцов в текущей позиции без создания объектов.
+     * Позиция изменяется коллекцией, поэтому представление действительно только до следующего вызова,
+     * передвигающего его, и до изменения коллекции.
+     */
+    public final class Row {
+
+        private int position;
+
+        private Row() {
+
+        }
+
+        /**
+         * Метод сообщает индекс строки, на которую указывает представление.
+         *
+         * @return возвращает индекс строки.
+         */
+        public int position() {
+
+            return position;
+        }
+
+        /**
+         * Метод возвращает значение столбца {@code int} в текущей строке.
+         *
+         * @param column номер столбца.
+         * @return возвращает значение.
+         */
+        public int getInt(int column) {
+
+            checkType(column, ColumnSchema.ColumnType.INT);
+            return intColumns[schema.slot(column)][position];
+        }
+
+        /**
+         * Метод возвращает значение столбца {@code long} в текущей строке.
+         *
+         * @param column номер столбца.
+         * @return возвращает значение.
+         */
+        public long getLong(int column) {
+
+            checkType(column, ColumnSchema.ColumnType.LONG);
+            return longColumns[schema.slot(column)][position];
+        }
+
+        /**
+         * Метод возвращает значение столбца {@code double} в текущей строке.
+         *
+         * @param column номер столбца.
+         * @return возвращает значение.
+         */
+        public double getDouble(int column) {
+
+            checkType(column, ColumnSchema.ColumnType.DOUBLE);
+            return doubleColumns[schema.slot(column)][position];
+        }
+    }
+
+    private void checkIndex(int position) {
+
+        if (position < 0 || position >= fillCount) {
+            throw new ArrayIndexOutOfBoundsException("Index " + position + " out of bounds for size " + fillCount);
+        }
+    }
+
+    private void checkPosition(int position) {
+
+        if (position < 0 || position > fillCount) {
+            throw new ArrayIndexOutOfBoundsException("Index " + position + " out of bounds for size " + fillCount);
+        }
+    }
+
+    private void checkType(int column, ColumnSchema.ColumnType type) {
+
+        if (schema.columnType(column) != type) {
+            throw new IllegalArgumentException("Column " + schema.columnName(column) + " is " + schema.columnType(column) + ", not " + type);
+        }
+    }
+
+    /**
+     * Внутренний метод класса, раскладывающий поля записи по столбцам строки {@code position}.
+     * Все поля извлекаются до записи, чтобы исключение в функции доступа не оставило строку частично изменённой.
+     */
+    private void write(T t, int position) {
+
+        readFields(t);
+        writeFields(position);
+    }
+
+    /**
+     * Внутренний метод класса, извлекающий значения всех полей записи в {@link SomeColumnarList#fieldValues}.
+     */
+    private long[] readFields(T t) {
+
+        Objects.requireNonNull(t);
+        for (int column = 0; column < fieldValues.length; column++) {
+            fieldValues[column] = valueBits(t, column);
+        }
+        return fieldValues;
+    }
+
+    /**
+     * Внутренний метод класса, переносящий значения из {@link SomeColumnarList#fieldValues} в строку {@code position}.
+     */
+    private void writeFields(int position) {
+
+        for (int column = 0; column < fieldValues.length; column++) {
+            int slot = schema.slot(column);
+            switch (schema.columnType(column)) {
+                case INT:
+                    intColumns[slot][position] = (int) fieldValues[column];
+                    break;
+                case LONG:
+                    longColumns[slot][position] = fieldValues[column];
+                    break;
+                default:
+                    doubleColumns[slot][position] = Double.longBitsToDouble(fieldValues[column]);
+            }
+        }
+    }
+
+    /**
+     * Внутренний метод класса, извлекающий значение поля записи для столбца в виде {@code long};
+     * значения {@code double} представляются своими битами.
+     */
+    private long valueBits(T t, int column) {
+
+        switch (schema.columnType(column)) {
+            case INT:
+                return schema.intAccessor(column).applyAsInt(t);
+            case LONG:
+                return schema.longAccessor(column).applyAsLong(t);
+            default:
+                return Double.doubleToLongBits(schema.doubleAccessor(column).applyAsDouble(t));
+        }
+    }
+
+    private long bitsAt(int column, int position) {
+
+        int slot = schema.slot(column);
+        switch (schema.columnType(column)) {
+            case INT:
+                return intColumns[slot][position];
+            case LONG:
+                return longColumns[slot][position];
+            default:
+                return Double.doubleToLongBits(doubleColumns[slot][position]);
+        }
+    }
+
+    /**
+     * Внутренний метод класса, ищущий значение в одном столбце начиная с позиции {@code from}.
+     */
+    private int scan(int column, int from, long bits) {
+
+        int slot = schema.slot(column);
+        switch (schema.columnType(column)) {
+            case INT:
+                int[] ints = intColumns[slot];
+                int intValue = (int) bits;
+                for (int i = from; i < fillCount; i++) {
+                    if (ints[i] == intValue) {
+                        return i;
+                    }
+                }
+                return -1;
+            case LONG:
+                long[] longs = longColumns[slot];
+                for (int i = from; i < fillCount; i++) {
+                    if (longs[i] == bits) {
+                        return i;
+                    }
+                }
+                return -1;
+            default:
+                double[] doubles = doubleColumns[slot];
+                for (int i = from; i < fillCount; i++) {
+                    if (Double.doubleToLongBits(doubles[i]) == bits) {
+                        return i;
+                    }
+                }
+                return -1;
+        }
+    }
+
+    /**
+     * Внутренний метод класса, переставляющий строки всех столбцов: на позицию i встаёт строка {@code order[i]}.
+     */
+    private void permute(int[] order) {
+
+        for (int slot = 0; slot < intColumns.length; slot++) {
+            int[] source = intColumns[slot];
+            int[] target = new int[capacity];
+            for (int i = 0; i < fillCount; i++) {
+                target[i] = source[order[i]];
+            }
+            intColumns[slot] = target;
+        }
+        for (int slot = 0; slot < longColumns.length; slot++) {
+            long[] source = longColumns[slot];
+            long[] target = new long[capacity];
+            for (int i = 0; i < fillCount; i++) {
+                target[i] = source[order[i]];
+            }
+            longColumns[slot] = target;
+        }
+        for (int slot = 0; slot < doubleColumns.length; slot++) {
+            double[] source = doubleColumns[slot];
+            double[] target = new double[capacity];
+            for (int i = 0; i < fillCount; i++) {
+                target[i] = source[order[i]];
+            }
+            doubleColumns[slot] = target;
+        }
+    }
+
+    private Object[] columns() {
+
+        Object[] columns = new Object[intColumns.length + longColumns.length + doubleColumns.length];
+        System.arraycopy(intColumns, 0, columns, 0, intColumns.length);
+        System.arraycopy(longColumns, 0, columns, intColumns.length, longColumns.length);
+        System.arraycopy(doubleColumns, 0, columns, intColumns.length + longColumns.length, doubleColumns.length);
+        return columns;
+    }
+
+    /**
+     * Внутренний метод класса, расширяющий все столбцы по политике {@link CapacityPolicy#DEFAULT}.
+     */
+    private void ensureCapacity(int required) {
+
+        if (required <= capacity) {
+            return;
+        }
+        capacity = CapacityPolicy.DEFAULT.grownCapacity(capacity, required);
+        for (int slot = 0; slot < intColumns.length; slot++) {
+            intColumns[slot] = Arrays.copyOf(intColumns[slot], capacity);
+        }
+        for (int slot = 0; slot < longColumns.length; slot++) {
+            longColumns[slot] = Arrays.copyOf(longColumns[slot], capacity);
+        }
+        for (int slot = 0; slot < doubleColumns.length; slot++) {
+            doubleColumns[slot] = Arrays.copyOf(doubleColumns[slot], capacity);
+        }
+    }
+}
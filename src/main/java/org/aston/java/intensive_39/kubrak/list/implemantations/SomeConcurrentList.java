@@ -0,0 +1,504 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Класс, представляющий из себя потокобезопасный списочный массив, рассчитанный на одновременное добавление
+ * элементов из многих потоков.
+ *
+ * <p>Доступ согласуется блокировкой {@link StampedLock}:
+ * <ul>
+ *     <li>{@code put} захватывает блокировку в разделяемом режиме, поэтому добавления не исключают друг друга:
+ *     каждый поток резервирует свою ячейку сравнением с обменом (CAS) счётчика {@link SomeConcurrentList#reserved}
+ *     и публикует в ней элемент записью с семантикой release. Вставки не ждут друг друга, поэтому поток,
+ *     вытесненный посреди вставки, не задерживает остальные;</li>
+ *     <li>{@code get}, {@code getIndex} и {@code contains} читают массив оптимистично, без захвата блокировки,
+ *     и повторяют чтение под разделяемой блокировкой только если за это время выполнялась структурная операция.
+ *     Ячейка, зарезервированная, но ещё не заполненная, читается как null: {@code get} дожидается её заполнения,
+ *     а поиск её пропускает, так как такая вставка ещё не завершена;
+ *     {@code size} и {@code isEmpty} читают только счётчик зарезервированных ячеек;</li>
+ *     <li>{@code insert}, {@code delete}, {@code set}, {@code sort}, удаление диапазона и по условию,
+ *     а также расширение массива выполняются под исключительной блокировкой, которая дожидается завершения
+ *     уже начатых добавлений.</li>
+ * </ul>
+ *
+ * <p>Итератор, разделитель и {@code forEach} обходят снимок элементов, сделанный в момент вызова,
+ * и не видят последующих изменений. Null в коллекции не допускается.
+ *
+ * @param <T> тип элементов, хранимых в данном списке.
+ * @author Konstantin_Kubrak
+ */
+public class SomeConcurrentList<T> implements SomeList<T> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Количество активных ожиданий заполнения ячейки, после которого поток уступает процессор.
+     */
+    private static final int SPINS_BEFORE_YIELD = 64;
+
+    private static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    private final StampedLock lock = new StampedLock();
+
+    /**
+     * Количество зарезервированных ячеек, то есть размер коллекции. Никогда не превышает длину массива.
+     */
+    private final AtomicInteger reserved = new AtomicInteger();
+
+    /**
+     * Массив, хранящий элементы коллекции. Заменяется только под исключительной блокировкой.
+     */
+    private volatile Object[] arrayOfElements;
+
+    /**
+     * Конструктор класса с начальной вместимостью по умолчанию.
+     */
+    public SomeConcurrentList() {
+
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Конструктор класса с указанием начальной вместимости коллекции.
+     *
+     * @param initialCapacity изначальная вместимость коллекции.
+     */
+    public SomeConcurrentList(int initialCapacity) {
+
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity " + initialCapacity);
+        }
+        this.arrayOfElements = new Object[Math.max(initialCapacity, 1)];
+    }
+
+    /**
+     * Метод вставляет элемент в конец коллекции, не исключая одновременные вставки из других потоков.
+     * Если массив заполнен, вставка один раз захватывает исключительную блокировку для его расширения.
+     *
+     * @param t элемент, который необходимо вставить в коллекцию.
+     */
+    @Override
+    public void put(T t) {
+
+        Objects.requireNonNull(t);
+        long stamp = lock.readLock();
+        try {
+            while (true) {
+                Object[] array = arrayOfElements;
+                int slot = reserved.get();
+                if (slot >= array.length) {
+                    stamp = grow(stamp, slot + 1);
+                } else if (reserved.compareAndSet(slot, slot + 1)) {
+                    ELEMENTS.setRelease(array, slot, t);
+                    return;
+                }
+            }
+        } finally {
+            lock.unlock(stamp);
+        }
+    }
+
+    /**
+     * Метод вставляет элемент на указанную позицию под исключительной блокировкой.
+     *
+     * @param t        элемент, который необходимо вставить в коллекцию.
+     * @param position индекс, указывающий позицию в коллекции, где будет произведена вставка.
+     */
+    @Override
+    public void insert(T t, int position) {
+
+        Objects.requireNonNull(t);
+        long stamp = lock.writeLock();
+        try {
+            int size = reserved.get();
+            if (position < 0 || position > size) {
+                throw new ArrayIndexOutOfBoundsException("Index " + position + " out of bounds for size " + size);
+            }
+            ensureCapacity(size + 1);
+            Object[] array = arrayOfElements;
+            System.arraycopy(array, position, array, position + 1, size - position);
+            array[position] = t;
+            setSize(size + 1);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Метод возвращает элемент коллекции, читая массив без блокировки.
+     * Если во время чтения выполнялась структурная операция или ячейка ещё заполняется,
+     * чтение повторяется под разделяемой блокировкой.
+     *
+     * @param position индекс, указывающий позицию в коллекции, с которой будет взят элемент.
+     * @return возвращает элемент коллекции.
+     */
+    @Override
+    public T get(int position) {
+
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            Object[] array = arrayOfElements;
+            int size = reserved.get();
+            Object t = position >= 0 && position < Math.min(size, array.length)
+                    ? ELEMENTS.getAcquire(array, position) : null;
+            if (lock.validate(stamp)) {
+                checkIndex(position, size);
+                if (Objects.nonNull(t)) {
+                    return (T) t;
+                }
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            checkIndex(position, reserved.get());
+            return awaitElement(arrayOfElements, position);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Метод удаляет элемент под указанным индексом под исключительной блокировкой.
+     *
+     * @param position индекс, указывающий позицию в коллекции, где будет произведено удаление.
+     */
+    @Override
+    public void delete(int position) {
+
+        long stamp = lock.writeLock();
+        try {
+            int size = reserved.get();
+            checkIndex(position, size);
+            Object[] array = arrayOfElements;
+            System.arraycopy(array, position + 1, array, position, size - position - 1);
+            array[size - 1] = null;
+            setSize(size - 1);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Метод удаляет все элементы коллекции под исключительной блокировкой.
+     */
+    @Override
+    public void deleteAll() {
+
+        long stamp = lock.writeLock();
+        try {
+            Arrays.fill(arrayOfElements, 0, reserved.get(), null);
+            setSize(0);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Метод заменяет элемент под определённым индексом под исключительной блокировкой.
+     *
+     * @param t        элемент, который необходимо вставить в коллекцию.
+     * @param position индекс, указывающий позицию в коллекции, где будет произведена замена.
+     */
+    @Override
+    public void set(T t, int position) {
+
+        Objects.requireNonNull(t);
+        long stamp = lock.writeLock();
+        try {
+            checkIndex(position, reserved.get());
+            arrayOfElements[position] = t;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Метод сообщает текущий размер коллекции, не захватывая блокировку.
+     *
+     * @return возвращает количество элементов коллекции, включая вставки, которые ещё выполняются.
+     */
+    @Override
+    public int size() {
+
+        return reserved.get();
+    }
+
+    /**
+     * Метод сообщает, пустая коллекция или нет, не захватывая блокировку.
+     *
+     * @return возвращает true, если коллекция пустая, false если коллекция содержит элементы.
+     */
+    @Override
+    public boolean isEmpty() {
+
+        return reserved.get() == 0;
+    }
+
+    /**
+     * Метод находит индекс первого элемента, равного переданному, читая массив без блокировки.
+     * Если во время поиска выполнялась структурная операция, поиск повторяется под разделяемой блокировкой.
+     *
+     * @param t элемент, индекс которого необходимо найти в коллекции.
+     * @return возвращает индекс элемента, либо -1, если такого элемента нет.
+     */
+    @Override
+    public int getIndex(T t) {
+
+        if (Objects.isNull(t)) {
+            return -1;
+        }
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            int index = indexOf(t, arrayOfElements, reserved.get());
+            if (lock.validate(stamp)) {
+                return index;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return indexOf(t, arrayOfElements, reserved.get());
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Метод проверяет наличие элемента в коллекции.
+     *
+     * @param t элемент, который необходимо найти в коллекции.
+     * @return возвращает результат поиска: true или false.
+     */
+    @Override
+    public boolean contains(T t) {
+
+        return getIndex(t) > -1;
+    }
+
+    /**
+     * Метод удаляет элементы в диапазоне {@code [from, to)} под исключительной блокировкой.
+     *
+     * @param from индекс первого удаляемого элемента.
+     * @param to   индекс, следующий за последним удаляемым элементом.
+     */
+    @Override
+    public void deleteRange(int from, int to) {
+
+        long stamp = lock.writeLock();
+        try {
+            int size = reserved.get();
+            if (from < 0 || from > to || to > size) {
+                throw new ArrayIndexOutOfBoundsException("Illegal range [" + from + ", " + to + ") for size " + size);
+            }
+            Object[] array = arrayOfElements;
+            System.arraycopy(array, to, array, from, size - to);
+            int newSize = size - (to - from);
+            Arrays.fill(array, newSize, size, null);
+            setSize(newSize);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Метод удаляет все элементы, удовлетворяющие условию, за один проход под исключительной блокировкой.
+     * Условие не должно обращаться к этой же коллекции.
+     *
+     * @param filter условие, при выполнении которого элемент будет удалён.
+     * @return возвращает количество удалённых элементов.
+     */
+    @Override
+    public int removeIf(Predicate<? super T> filter) {
+
+        long stamp = lock.writeLock();
+        try {
+            Object[] array = arrayOfElements;
+            int size = reserved.get();
+            int target = 0;
+            int current = 0;
+            try {
+                for (; current < size; current++) {
+                    T t = (T) array[current];
+                    if (!filter.test(t)) {
+                        array[target++] = t;
+                    }
+                }
+            } finally {
+                System.arraycopy(array, current, array, target, size - current);
+                target += size - current;
+                Arrays.fill(array, target, size, null);
+                setSize(target);
+            }
+            return size - target;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Метод сортирует элементы коллекции в естественном порядке.
+     */
+    @Override
+    public void sort() {
+
+        sort(null);
+    }
+
+    /**
+     * Метод сортирует элементы коллекции при помощи {@link AdaptiveSort} под исключительной блокировкой.
+     *
+     * @param comparator компаратор, используемый в сортировке; если null, используется естественный порядок.
+     */
+    @Override
+    public void sort(Comparator<T> comparator) {
+
+        Comparator<? super T> order = Objects.nonNull(comparator) ? comparator : (Comparator<T>) Comparator.naturalOrder();
+        long stamp = lock.writeLock();
+        try {
+            AdaptiveSort.sort((T[]) arrayOfElements, 0, reserved.get(), order);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Метод выполняет действие для каждого элемента снимка коллекции.
+     *
+     * @param action действие, выполняемое для каждого элемента.
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+
+        for (Object t : snapshot()) {
+            action.accept((T) t);
+        }
+    }
+
+    /**
+     * Метод возвращает итератор по снимку коллекции. Удаление через итератор не поддерживается.
+     *
+     * @return возвращает итератор по элементам коллекции.
+     */
+    @Override
+    public Iterator<T> iterator() {
+
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Метод возвращает разделитель по снимку коллекции, делящий диапазон элементов пополам.
+     *
+     * @return возвращает разделитель с характеристиками {@code ORDERED}, {@code SIZED}, {@code SUBSIZED},
+     * {@code NONNULL} и {@code IMMUTABLE}.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+
+        return (Spliterator<T>) Spliterators.spliterator(snapshot(),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * Внутренний метод класса, копирующий опубликованные элементы под разделяемой блокировкой.
+     */
+    private Object[] snapshot() {
+
+        long stamp = lock.readLock();
+        try {
+            Object[] array = arrayOfElements;
+            Object[] copy = Arrays.copyOf(array, reserved.get());
+            for (int i = 0; i < copy.length; i++) {
+                if (Objects.isNull(copy[i])) {
+                    copy[i] = awaitElement(array, i);
+                }
+            }
+            return copy;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Внутренний метод класса, дожидающийся заполнения зарезервированной ячейки вставкой,
+     * которая ещё выполняется в другом потоке. Вызывается только под разделяемой блокировкой,
+     * поэтому ячейку не может очистить структурная операция.
+     */
+    private T awaitElement(Object[] array, int position) {
+
+        Object t;
+        int spins = 0;
+        while (Objects.isNull(t = ELEMENTS.getAcquire(array, position))) {
+            if (++spins < SPINS_BEFORE_YIELD) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+        return (T) t;
+    }
+
+    /**
+     * Внутренний метод класса, расширяющий массив под исключительной блокировкой.
+     * Разделяемая блокировка вызывающего потока освобождается на время расширения и захватывается снова.
+     *
+     * @return возвращает штамп вновь захваченной разделяемой блокировки.
+     */
+    private long grow(long readStamp, int required) {
+
+        lock.unlockRead(readStamp);
+        long stamp = lock.writeLock();
+        ensureCapacity(required);
+        return lock.tryConvertToReadLock(stamp);
+    }
+
+    /**
+     * Внутренний метод класса, увеличивающий массив в 1.5 раза, но не меньше чем до {@code required} ячеек.
+     * Вызывается только под исключительной блокировкой, когда незавершённых вставок нет.
+     */
+    private void ensureCapacity(int required) {
+
+        Object[] array = arrayOfElements;
+        if (required > array.length) {
+            int capacity = Math.max(array.length + (array.length >> 1) + 1, required);
+            arrayOfElements = Arrays.copyOf(array, capacity);
+        }
+    }
+
+    /**
+     * Внутренний метод класса, изменяющий размер коллекции под исключительной блокировкой.
+     */
+    private void setSize(int size) {
+
+        reserved.set(size);
+    }
+
+    private static void checkIndex(int position, int size) {
+
+        if (position < 0 || position >= size) {
+            throw new ArrayIndexOutOfBoundsException("Index " + position + " out of bounds for size " + size);
+        }
+    }
+
+    private static int indexOf(Object t, Object[] array, int size) {
+
+        for (int i = 0, end = Math.min(size, array.length); i < end; i++) {
+            if (t.equals(ELEMENTS.getAcquire(array, i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,474 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Класс, представляющий из себя несинхронизированный список со словарным кодированием элементов
+ * для коллекций с небольшим количеством различных значений (коды состояний, названия стран и т.п.).
+ *
+ * <p>Каждое различное значение хранится один раз в словаре и получает код - свой номер в словаре,
+ * а сама коллекция хранит массив кодов. Пока в словаре не больше 256 значений, коды занимают 1 байт на элемент,
+ * до 65536 значений - 2 байта, далее - 4 байта; массив кодов автоматически расширяется при росте словаря.
+ * Для миллиона ссылок на десяток строк это 1 МБ вместо 4 МБ ссылок при сжатых указателях.
+ *
+ * <ul>
+ *     <li>для каждого кода хранится количество элементов с этим кодом, поэтому {@code contains} отвечает
+ *     по словарю за O(1); {@code getIndex} находит код значения в словаре и сравнивает коды вместо вызова
+ *     {@code equals} для каждого элемента;</li>
+ *     <li>{@code sort} сортирует только словарь, после чего переписывает коды подсчётом за O(n + d log d),
+ *     где d - размер словаря.</li>
+ * </ul>
+ * Значения, удалённые из коллекции, остаются в словаре с нулевым количеством до {@link SomeDictionaryList#deleteAll()}.
+ * Поддерживается значение null.
+ *
+ * @param <T> тип элементов, хранимых в данном списке. Элементы должны корректно реализовывать
+ *            {@link Object#equals(Object)} и {@link Object#hashCode()}.
+ * @author Konstantin_Kubrak
+ */
+public class SomeDictionaryList<T> implements SomeList<T> {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private static final int BYTE_CODES = 1 << Byte.SIZE;
+
+    private static final int SHORT_CODES = 1 << Short.SIZE;
+
+    /**
+     * Текущее количество элементов в коллекции, по умолчанию 0.
+     */
+    private int fillCount;
+
+    /**
+     * Значения словаря в порядке присвоения кодов: код значения равен его индексу.
+     */
+    private T[] dictionary;
+
+    /**
+     * Количество значений в словаре.
+     */
+    private int dictionarySize;
+
+    /**
+     * Количество элементов коллекции с каждым кодом; индекс равен коду.
+     */
+    private int[] occurrences;
+
+    /**
+     * Обратный словарь: значение - код.
+     */
+    private final Map<T, Integer> codes;
+
+    /**
+     * Размер кода элемента в байтах: 1, 2 или 4. Заполнен только массив кодов текущего размера.
+     */
+    private int codeWidth;
+
+    private byte[] byteCodes;
+
+    private short[] shortCodes;
+
+    private int[] intCodes;
+
+    /**
+     * Конструктор класса с начальной вместимостью коллекции по умолчанию {@link SomeDictionaryList#DEFAULT_CAPACITY}.
+     */
+    public SomeDictionaryList() {
+
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Конструктор класса с указанием начальной вместимости коллекции.
+     *
+     * @param initialCapacity изначальная вместимость коллекции.
+     */
+    public SomeDictionaryList(int initialCapacity) {
+
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity " + initialCapacity);
+        }
+        this.dictionary = (T[]) new Object[DEFAULT_CAPACITY];
+        this.occurrences = new int[DEFAULT_CAPACITY];
+        this.codes = new HashMap<>();
+        this.codeWidth = Byte.BYTES;
+        this.byteCodes = new byte[initialCapacity];
+    }
+
+    /**
+     * Метод вставляет элемент в конец коллекции.
+     *
+     * @param t элемент, который необходимо вставить в коллекцию.
+     */
+    @Override
+    public void put(T t) {
+
+        int code = encode(t);
+        ensureCapacity(fillCount + 1);
+        setCode(fillCount++, code);
+        occurrences[code]++;
+    }
+
+    /**
+     * Метод вставляет элемент на указанную позицию, смещая коды последующих элементов вправо.
+     *
+     * @param t        элемент, который необходимо вставить в коллекцию.
+     * @param position индекс, указывающий позицию в коллекции, куда будет произведена вставка.
+     */
+    @Override
+    public void insert(T t, int position) {
+
+        checkPosition(position);
+        int code = encode(t);
+        ensureCapacity(fillCount + 1);
+        Object array = codeArray();
+        System.arraycopy(array, position, array, position + 1, fillCount - position);
+        setCode(position, code);
+        occurrences[code]++;
+        fillCount++;
+    }
+
+    /**
+     * Метод возвращает элемент коллекции, находящийся под указанным в параметрах индексом.
+     *
+     * @param position индекс, указывающий позицию в коллекции, с которой будет взят элемент.
+     * @return возвращает элемент коллекции.
+     */
+    @Override
+    public T get(int position) {
+
+        checkIndex(position);
+        return dictionary[code(position)];
+    }
+
+    /**
+     * Метод удаляет элемент под указанным индексом, смещая коды последующих элементов влево.
+     * Значение остаётся в словаре.
+     *
+     * @param position индекс, указывающий позицию в коллекции, где будет произведено удаление.
+     */
+    @Override
+    public void delete(int position) {
+
+        checkIndex(position);
+        occurrences[code(position)]--;
+        Object array = codeArray();
+        System.arraycopy(array, position + 1, array, position, fillCount - position - 1);
+        fillCount--;
+    }
+
+    /**
+     * Метод удаляет все элементы коллекции и очищает словарь. Коды снова занимают 1 байт на элемент.
+     */
+    @Override
+    public void deleteAll() {
+
+        int capacity = Math.max(codeCapacity(), DEFAULT_CAPACITY);
+        fillCount = 0;
+        dictionary = (T[]) new Object[DEFAULT_CAPACITY];
+        occurrences = new int[DEFAULT_CAPACITY];
+        dictionarySize = 0;
+        codes.clear();
+        codeWidth = Byte.BYTES;
+        byteCodes = new byte[capacity];
+        shortCodes = null;
+        intCodes = null;
+    }
+
+    /**
+     * Метод заменяет элемент под определённым индексом.
+     *
+     * @param t        элемент, который необходимо вставить в коллекцию.
+     * @param position индекс, указывающий позицию в коллекции, где будет произведена замена.
+     */
+    @Override
+    public void set(T t, int position) {
+
+        checkIndex(position);
+        int code = encode(t);
+        occurrences[code(position)]--;
+        setCode(position, code);
+        occurrences[code]++;
+    }
+
+    /**
+     * Метод сообщает текущий размер коллекции.
+     *
+     * @return возвращает текущее количество элементов коллекции.
+     */
+    @Override
+    public int size() {
+
+        return fillCount;
+    }
+
+    /**
+     * Метод сообщает, пустая коллекция или нет.
+     *
+     * @return возвращает true, если коллекция пустая, false если коллекция содержит элементы.
+     */
+    @Override
+    public boolean isEmpty() {
+
+        return fillCount == 0;
+    }
+
+    /**
+     * Метод сообщает индекс первого вхождения элемента, либо -1, если элемент отсутствует.
+     * Отсутствующее значение определяется по словарю за O(1), иначе коды сравниваются с кодом значения.
+     *
+     * @param t элемент, индекс которого необходимо найти в коллекции.
+     * @return возвращает индекс, под которым элемент хранится в коллекции.
+     */
+    @Override
+    public int getIndex(T t) {
+
+        Integer code = codes.get(t);
+        if (Objects.isNull(code) || occurrences[code] == 0) {
+            return -1;
+        }
+        switch (codeWidth) {
+            case Byte.BYTES:
+                byte byteCode = (byte) code.intValue();
+                for (int i = 0; i < fillCount; i++) {
+                    if (byteCodes[i] == byteCode) {
+                        return i;
+                    }
+                }
+                return -1;
+            case Short.BYTES:
+                short shortCode = (short) code.intValue();
+                for (int i = 0; i < fillCount; i++) {
+                    if (shortCodes[i] == shortCode) {
+                        return i;
+                    }
+                }
+                return -1;
+            default:
+                int intCode = code;
+                for (int i = 0; i < fillCount; i++) {
+                    if (intCodes[i] == intCode) {
+                        return i;
+                    }
+                }
+                return -1;
+        }
+    }
+
+    /**
+     * Метод сообщает, имеется ли в коллекции переданный в параметрах элемент. Ответ даётся по словарю
+     * и количеству элементов с кодом значения за O(1), без просмотра кодов.
+     *
+     * @param t элемент, который необходимо найти в коллекции.
+     * @return возвращает результат поиска: true или false.
+     */
+    @Override
+    public boolean contains(T t) {
+
+        Integer code = codes.get(t);
+        return Objects.nonNull(code) && occurrences[code] > 0;
+    }
+
+    /**
+     * Метод выполняет действие для каждого элемента коллекции.
+     *
+     * @param action действие, выполняемое для каждого элемента.
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+
+        for (int i = 0; i < fillCount; i++) {
+            action.accept(dictionary[code(i)]);
+        }
+    }
+
+    /**
+     * Метод сортирует элементы коллекции в естественном порядке
+     * (см. {@link SomeDictionaryList#sort(Comparator)}).
+     */
+    @Override
+    public void sort() {
+
+        sort(null);
+    }
+
+    /**
+     * Метод сортирует словарь с учётом переданного в параметрах компаратора и перенумеровывает значения
+     * в порядке сортировки, после чего записывает коды элементов подсчётом: сначала все элементы с кодом 0,
+     * затем с кодом 1 и т.д. Компаратор вызывается только для значений словаря.
+     *
+     * @param comparator компаратор, используемый в сортировке; если null, используется естественный порядок.
+     */
+    @Override
+    public void sort(Comparator<T> comparator) {
+
+        T[] sorted = Arrays.copyOf(dictionary, dictionarySize);
+        AdaptiveSort.sort(sorted, 0, dictionarySize, Objects.nonNull(comparator) ? comparator : (Comparator<T>) Comparator.naturalOrder());
+        int[] counts = new int[occurrences.length];
+        int position = 0;
+        for (int newCode = 0; newCode < dictionarySize; newCode++) {
+            int oldCode = codes.put(sorted[newCode], newCode);
+            counts[newCode] = occurrences[oldCode];
+            for (int end = position + counts[newCode]; position < end; position++) {
+                setCode(position, newCode);
+            }
+        }
+        System.arraycopy(sorted, 0, dictionary, 0, dictionarySize);
+        occurrences = counts;
+    }
+
+    /**
+     * Метод сообщает количество различных значений в словаре, включая значения, удалённые из коллекции.
+     *
+     * @return возвращает размер словаря.
+     */
+    public int dictionarySize() {
+
+        return dictionarySize;
+    }
+
+    /**
+     * Метод сообщает размер кода одного элемента в байтах: 1, 2 или 4.
+     */
+    int codeWidth() {
+
+        return codeWidth;
+    }
+
+    private void checkIndex(int position) {
+
+        if (position < 0 || position >= fillCount) {
+            throw new ArrayIndexOutOfBoundsException("Index " + position + " out of bounds for size " + fillCount);
+        }
+    }
+
+    private void checkPosition(int position) {
+
+        if (position < 0 || position > fillCount) {
+            throw new ArrayIndexOutOfBoundsException("Index " + position + " out of bounds for size " + fillCount);
+        }
+    }
+
+    /**
+     * Внутренний метод класса, возвращающий код значения и добавляющий значение в словарь, если его там нет.
+     * Если словарь перестаёт помещаться в текущий размер кода, массив кодов расширяется.
+     */
+    private int encode(T t) {
+
+        Integer code = codes.get(t);
+        if (Objects.nonNull(code)) {
+            return code;
+        }
+        int newCode = dictionarySize;
+        if (newCode == dictionary.length) {
+            dictionary = Arrays.copyOf(dictionary, CapacityPolicy.DEFAULT.grownCapacity(dictionary.length, newCode + 1));
+            occurrences = Arrays.copyOf(occurrences, dictionary.length);
+        }
+        dictionary[dictionarySize++] = t;
+        codes.put(t, newCode);
+        if (codeWidth == Byte.BYTES && dictionarySize > BYTE_CODES) {
+            widenToShort();
+        } else if (codeWidth == Short.BYTES && dictionarySize > SHORT_CODES) {
+            widenToInt();
+        }
+        return newCode;
+    }
+
+    private void widenToShort() {
+
+        shortCodes = new short[byteCodes.length];
+        for (int i = 0; i < fillCount; i++) {
+            shortCodes[i] = (short) (byteCodes[i] & 0xFF);
+        }
+        byteCodes = null;
+        codeWidth = Short.BYTES;
+    }
+
+    private void widenToInt() {
+
+        intCodes = new int[shortCodes.length];
+        for (int i = 0; i < fillCount; i++) {
+            intCodes[i] = shortCodes[i] & 0xFFFF;
+        }
+        shortCodes = null;
+        codeWidth = Integer.BYTES;
+    }
+
+    private int code(int position) {
+
+        switch (codeWidth) {
+            case Byte.BYTES:
+                return byteCodes[position] & 0xFF;
+            case Short.BYTES:
+                return shortCodes[position] & 0xFFFF;
+            default:
+                return intCodes[position];
+        }
+    }
+
+    private void setCode(int position, int code) {
+
+        switch (codeWidth) {
+            case Byte.BYTES:
+                byteCodes[position] = (byte) code;
+                break;
+            case Short.BYTES:
+                shortCodes[position] = (short) code;
+                break;
+            default:
+                intCodes[position] = code;
+        }
+    }
+
+    private Object codeArray() {
+
+        switch (codeWidth) {
+            case Byte.BYTES:
+                return byteCodes;
+            case Short.BYTES:
+                return shortCodes;
+            default:
+                return intCodes;
+        }
+    }
+
+    private int codeCapacity() {
+
+        switch (codeWidth) {
+            case Byte.BYTES:
+                return byteCodes.length;
+            case Short.BYTES:
+                return shortCodes.length;
+            default:
+                return intCodes.length;
+        }
+    }
+
+    /**
+     * Внутренний метод класса, расширяющий массив кодов текущего размера по политике {@link CapacityPolicy#DEFAULT}.
+     */
+    private void ensureCapacity(int required) {
+
+        int length = codeCapacity();
+        if (required <= length) {
+            return;
+        }
+        int capacity = CapacityPolicy.DEFAULT.grownCapacity(length, required);
+        switch (codeWidth) {
+            case Byte.BYTES:
+                byteCodes = Arrays.copyOf(byteCodes, capacity);
+                break;
+            case Short.BYTES:
+                shortCodes = Arrays.copyOf(shortCodes, capacity);
+                break;
+            default:
+                intCodes = Arrays.copyOf(intCodes, capacity);
+        }
+    }
+}
@@ -0,0 +1,494 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Класс, представляющий из себя несинхронизированный списочный массив с хеш-индексом элементов.
+ *
+ * <p>Элементы хранятся в {@link SomeArrayList}, а для каждого различного элемента в {@link HashMap} хранится
+ * количество его вхождений и позиция первого вхождения. Количество вхождений поддерживается при каждом изменении,
+ * поэтому {@code contains} выполняется за O(1). Позиции первых вхождений достоверны только для начального участка
+ * коллекции {@code [0, indexedPrefix)}: {@code put} продлевает этот участок, а {@code insert}, {@code delete}
+ * и {@code set} в позиции p сокращают его до p, так как сдвигают последующие элементы, а {@code sort} сбрасывает его.
+ * {@code getIndex} для элемента, не встречающегося в достоверном участке, один раз досчитывает индекс
+ * до конца коллекции, после чего все последующие вызовы выполняются за O(1).
+ *
+ * <p>Индекс требует дополнительной памяти: на каждый различный элемент приходится узел {@link HashMap}
+ * (около 32 байт), запись {@link IndexEntry} (около 24 байт) и ячейка таблицы хеш-таблицы,
+ * то есть порядка 60 байт при сжатых указателях на 64-битной JVM, против 4 байт на ссылку в самом массиве.
+ * Индекс оправдан, когда поиск выполняется многократно, а коллекция содержит больше нескольких десятков элементов.
+ *
+ * @param <T> тип элементов, хранимых в данном списке. Элементы должны корректно реализовывать
+ *            {@link Object#equals(Object)} и {@link Object#hashCode()}.
+ * @author Konstantin_Kubrak
+ */
+public class SomeIndexedArrayList<T> implements SomeList<T> {
+
+    /**
+     * Массив, хранящий элементы коллекции.
+     */
+    private final SomeArrayList<T> elements;
+
+    /**
+     * Индекс: элемент - количество вхождений и позиция первого вхождения.
+     */
+    private final Map<T, IndexEntry> index;
+
+    /**
+     * Длина начального участка коллекции, для которого позиции первых вхождений в индексе достоверны.
+     */
+    private int indexedPrefix;
+
+    /**
+     * Номер текущего прохода досчёта индекса.
+     */
+    private int rebuildEpoch;
+
+    /**
+     * Запись индекса об одном различном элементе.
+     */
+    private static final class IndexEntry {
+
+        /**
+         * Количество вхождений элемента в коллекцию.
+         */
+        private int count;
+
+        /**
+         * Позиция первого вхождения; достоверна, только если меньше {@link SomeIndexedArrayList#indexedPrefix}.
+         */
+        private int firstPosition = Integer.MAX_VALUE;
+
+        /**
+         * Номер прохода досчёта, в котором была записана позиция.
+         */
+        private int epoch;
+    }
+
+    /**
+     * Конструктор класса с начальной вместимостью коллекции по умолчанию.
+     */
+    public SomeIndexedArrayList() {
+
+        this.elements = new SomeArrayList<>();
+        this.index = new HashMap<>();
+    }
+
+    /**
+     * Конструктор класса с указанием начальной вместимости коллекции.
+     *
+     * @param initialCapacity изначальная вместимость коллекции.
+     */
+    public SomeIndexedArrayList(int initialCapacity) {
+
+        this.elements = new SomeArrayList<>(initialCapacity);
+        this.index = new HashMap<>();
+    }
+
+    /**
+     * Метод вставляет элемент в конец коллекции и учитывает его в индексе за O(1).
+     *
+     * @param t элемент, который необходимо вставить в коллекцию.
+     */
+    @Override
+    public void put(T t) {
+
+        int position = elements.size();
+        elements.put(t);
+        indexAppended(t, position);
+    }
+
+    /**
+     * Метод вставляет элемент на указанную позицию. Достоверный участок индекса сокращается до этой позиции.
+     *
+     * @param t        элемент, который необходимо вставить в коллекцию.
+     * @param position индекс, указывающий позицию в коллекции, куда будет произведена вставка.
+     */
+    @Override
+    public void insert(T t, int position) {
+
+        checkPosition(position);
+        elements.insert(t, position);
+        increment(t);
+        shrinkIndexedPrefix(position);
+    }
+
+    /**
+     * Метод возвращает элемент коллекции, находящийся под указанным в параметрах индексом.
+     *
+     * @param position индекс, указывающий позицию в коллекции, с которой будет взят элемент.
+     * @return возвращает элемент коллекции.
+     */
+    @Override
+    public T get(int position) {
+
+        checkIndex(position);
+        return elements.get(position);
+    }
+
+    /**
+     * Метод удаляет элемент под указанным индексом. Достоверный участок индекса сокращается до этой позиции.
+     *
+     * @param position индекс, указывающий позицию в коллекции, где будет произведено удаление.
+     */
+    @Override
+    public void delete(int position) {
+
+        checkIndex(position);
+        T t = elements.get(position);
+        elements.delete(position);
+        decrement(t);
+        shrinkIndexedPrefix(position);
+    }
+
+    /**
+     * Метод удаляет все элементы коллекции и очищает индекс.
+     */
+    @Override
+    public void deleteAll() {
+
+        elements.deleteAll();
+        index.clear();
+        indexedPrefix = 0;
+    }
+
+    /**
+     * Метод заменяет элемент под определённым индексом. Если новый элемент не равен старому,
+     * достоверный участок индекса сокращается до этой позиции.
+     *
+     * @param t        элемент, который необходимо вставить в коллекцию.
+     * @param position индекс, указывающий позицию в коллекции, где будет произведена замена.
+     */
+    @Override
+    public void set(T t, int position) {
+
+        checkIndex(position);
+        T old = elements.get(position);
+        elements.set(t, position);
+        if (!Objects.equals(old, t)) {
+            decrement(old);
+            increment(t);
+            shrinkIndexedPrefix(position);
+        }
+    }
+
+    /**
+     * Метод сообщает текущий размер коллекции.
+     *
+     * @return возвращает текущее количество элементов коллекции.
+     */
+    @Override
+    public int size() {
+
+        return elements.size();
+    }
+
+    /**
+     * Метод сообщает, пустая коллекция или нет.
+     *
+     * @return возвращает true, если коллекция пустая, false если коллекция содержит элементы.
+     */
+    @Override
+    public boolean isEmpty() {
+
+        return elements.isEmpty();
+    }
+
+    /**
+     * Метод сообщает индекс первого вхождения элемента, либо -1, если элемент отсутствует.
+     * Отсутствующий элемент определяется по индексу за O(1). Если позиция первого вхождения недостоверна,
+     * индекс один раз досчитывается от конца достоверного участка до конца коллекции.
+     *
+     * @param t элемент, индекс которого необходимо найти в коллекции.
+     * @return возвращает индекс, под которым элемент хранится в коллекции.
+     */
+    @Override
+    public int getIndex(T t) {
+
+        IndexEntry entry = index.get(t);
+        if (Objects.isNull(entry)) {
+            return -1;
+        }
+        if (entry.firstPosition >= indexedPrefix) {
+            extendIndex();
+        }
+        return entry.firstPosition;
+    }
+
+    /**
+     * Метод сообщает, имеется ли в коллекции переданный в параметрах элемент, за O(1).
+     *
+     * @param t элемент, который необходимо найти в коллекции.
+     * @return возвращает результат поиска: true или false.
+     */
+    @Override
+    public boolean contains(T t) {
+
+        return index.containsKey(t);
+    }
+
+    /**
+     * Метод выполняет действие для каждого элемента коллекции, обходя внутренний {@link SomeArrayList} напрямую.
+     *
+     * @param action действие, выполняемое для каждого элемента.
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+
+        elements.forEach(action);
+    }
+
+    /**
+     * Метод возвращает разделитель внутреннего {@link SomeArrayList}, делящий диапазон элементов пополам.
+     *
+     * @return возвращает разделитель по элементам коллекции.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+
+        return elements.spliterator();
+    }
+
+    /**
+     * Метод сортирует элементы коллекции в естественном порядке.
+     */
+    @Override
+    public void sort() {
+
+        sort(null);
+    }
+
+    /**
+     * Метод сортирует элементы коллекции с учётом переданного в параметрах компаратора.
+     * Количество вхождений при сортировке не меняется, позиции первых вхождений будут досчитаны при следующем поиске.
+     *
+     * @param comparator компаратор, используемый в сортировке; если null, используется естественный порядок.
+     */
+    @Override
+    public void sort(Comparator<T> comparator) {
+
+        elements.sort(comparator);
+        indexedPrefix = 0;
+    }
+
+    /**
+     * Метод вставляет все элементы другой коллекции в конец коллекции одним копированием и учитывает их в индексе.
+     *
+     * @param list коллекция, элементы которой необходимо вставить.
+     */
+    @Override
+    public void putAll(SomeList<? extends T> list) {
+
+        int from = elements.size();
+        elements.putAll(list);
+        indexAppended(from);
+    }
+
+    /**
+     * Метод вставляет все элементы массива в конец коллекции одним копированием и учитывает их в индексе.
+     *
+     * @param array массив, элементы которого необходимо вставить.
+     */
+    @Override
+    public void putAll(T[] array) {
+
+        int from = elements.size();
+        elements.putAll(array);
+        indexAppended(from);
+    }
+
+    /**
+     * Метод вставляет все элементы коллекции JDK в конец коллекции одним копированием и учитывает их в индексе.
+     *
+     * @param collection коллекция, элементы которой необходимо вставить.
+     */
+    @Override
+    public void putAll(Collection<? extends T> collection) {
+
+        int from = elements.size();
+        elements.putAll(collection);
+        indexAppended(from);
+    }
+
+    /**
+     * Метод вставляет все элементы другой коллекции на указанную позицию одним сдвигом и учитывает их в индексе.
+     *
+     * @param list     коллекция, элементы которой необходимо вставить.
+     * @param position индекс, указывающий позицию, куда будет вставлен первый элемент.
+     */
+    @Override
+    public void insertAll(SomeList<? extends T> list, int position) {
+
+        int sizeBefore = elements.size();
+        elements.insertAll(list, position);
+        indexInserted(position, elements.size() - sizeBefore);
+    }
+
+    /**
+     * Метод вставляет все элементы массива на указанную позицию одним сдвигом и учитывает их в индексе.
+     *
+     * @param array    массив, элементы которого необходимо вставить.
+     * @param position индекс, указывающий позицию, куда будет вставлен первый элемент.
+     */
+    @Override
+    public void insertAll(T[] array, int position) {
+
+        elements.insertAll(array, position);
+        indexInserted(position, array.length);
+    }
+
+    /**
+     * Метод вставляет все элементы коллекции JDK на указанную позицию одним сдвигом и учитывает их в индексе.
+     *
+     * @param collection коллекция, элементы которой необходимо вставить.
+     * @param position   индекс, указывающий позицию, куда будет вставлен первый элемент.
+     */
+    @Override
+    public void insertAll(Collection<? extends T> collection, int position) {
+
+        int sizeBefore = elements.size();
+        elements.insertAll(collection, position);
+        indexInserted(position, elements.size() - sizeBefore);
+    }
+
+    /**
+     * Метод удаляет элементы на позициях {@code [from, to)} одним сдвигом и исключает их из индекса.
+     *
+     * @param from индекс первого удаляемого элемента (включительно).
+     * @param to   индекс, до которого удаляются элементы (исключительно).
+     */
+    @Override
+    public void deleteRange(int from, int to) {
+
+        if (from < 0 || from > to || to > elements.size()) {
+            throw new ArrayIndexOutOfBoundsException("Illegal range [" + from + ", " + to + ") for size " + elements.size());
+        }
+        for (int i = from; i < to; i++) {
+            decrement(elements.get(i));
+        }
+        elements.deleteRange(from, to);
+        shrinkIndexedPrefix(from);
+    }
+
+    /**
+     * Метод удаляет все элементы, удовлетворяющие условию, за один проход и исключает их из индекса.
+     * Если условие выбросило исключение после части удалений, индекс позиций всё равно сбрасывается,
+     * так как эти удаления остаются в коллекции.
+     *
+     * @param filter условие, при выполнении которого элемент будет удалён.
+     * @return возвращает количество удалённых элементов.
+     */
+    @Override
+    public int removeIf(Predicate<? super T> filter) {
+
+        int size = elements.size();
+        try {
+            return elements.removeIf(t -> {
+                if (filter.test(t)) {
+                    decrement(t);
+                    return true;
+                }
+                return false;
+            });
+        } finally {
+            if (elements.size() != size) {
+                indexedPrefix = 0;
+            }
+        }
+    }
+
+    private void checkIndex(int position) {
+
+        if (position < 0 || position >= elements.size()) {
+            throw new ArrayIndexOutOfBoundsException("Index " + position + " out of bounds for size " + elements.size());
+        }
+    }
+
+    private void checkPosition(int position) {
+
+        if (position < 0 || position > elements.size()) {
+            throw new ArrayIndexOutOfBoundsException("Index " + position + " out of bounds for size " + elements.size());
+        }
+    }
+
+    private IndexEntry increment(T t) {
+
+        IndexEntry entry = index.computeIfAbsent(t, key -> new IndexEntry());
+        entry.count++;
+        return entry;
+    }
+
+    private void decrement(T t) {
+
+        IndexEntry entry = index.get(t);
+        if (--entry.count == 0) {
+            index.remove(t);
+        }
+    }
+
+    private void shrinkIndexedPrefix(int position) {
+
+        if (position < indexedPrefix) {
+            indexedPrefix = position;
+        }
+    }
+
+    /**
+     * Внутренний метод класса, учитывающий в индексе элемент, добавленный в конец коллекции.
+     * Если до добавления индекс был достоверен для всей коллекции, он остаётся достоверным.
+     */
+    private void indexAppended(T t, int position) {
+
+        IndexEntry entry = increment(t);
+        if (indexedPrefix == position) {
+            if (entry.count == 1) {
+                entry.firstPosition = position;
+            }
+            indexedPrefix++;
+        }
+    }
+
+    private void indexAppended(int from) {
+
+        int size = elements.size();
+        for (int i = from; i < size; i++) {
+            indexAppended(elements.get(i), i);
+        }
+    }
+
+    private void indexInserted(int position, int count) {
+
+        for (int i = position; i < position + count; i++) {
+            increment(elements.get(i));
+        }
+        shrinkIndexedPrefix(position);
+    }
+
+    /**
+     * Внутренний метод класса, досчитывающий позиции первых вхождений от конца достоверного участка
+     * до конца коллекции за один проход. Записи, уже достоверные до начала прохода, не изменяются,
+     * а для остальных записывается первая встреченная в проходе позиция.
+     */
+    private void extendIndex() {
+
+        int size = elements.size();
+        int epoch = ++rebuildEpoch;
+        for (int i = indexedPrefix; i < size; i++) {
+            IndexEntry entry = index.get(elements.get(i));
+            if (entry.firstPosition >= indexedPrefix && entry.epoch != epoch) {
+                entry.epoch = epoch;
+                entry.firstPosition = i;
+            }
+        }
+        indexedPrefix = size;
+    }
+}
@@ -0,0 +1,204 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeIntList;
+
+import java.util.Arrays;
+
+/**
+ * Класс, представляющий из себя несинхронизированный массив значений {@code int} с изменяемым размером.
+ *
+ * <p>В отличие от {@code SomeArrayList<Integer>} значения хранятся непосредственно в массиве {@code int[]},
+ * без упаковки в объекты {@link Integer}: на элемент приходится 4 байта вместо ссылки и отдельного объекта,
+ * а поиск и сортировка проходят по непрерывному участку памяти.
+ *
+ * @author Konstantin_Kubrak
+ */
+public class SomeIntArrayList implements SomeIntList {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    /**
+     * Текущее количество элементов в коллекции, по умолчанию 0.
+     */
+    private int fillCount;
+
+    /**
+     * Вместимость коллекции.
+     */
+    private int capacity;
+
+    /**
+     * Массив, хранящий элементы коллекции.
+     */
+    private int[] arrayOfElements;
+
+    /**
+     * Конструктор класса с начальной вместимостью коллекции по умолчанию {@link SomeIntArrayList#DEFAULT_CAPACITY}.
+     */
+    public SomeIntArrayList() {
+
+        this.arrayOfElements = new int[DEFAULT_CAPACITY];
+        capacity = DEFAULT_CAPACITY;
+    }
+
+    /**
+     * Конструктор класса с указанием начальной вместимости коллекции.
+     *
+     * @param initialCapacity изначальная вместимость коллекции.
+     */
+    public SomeIntArrayList(int initialCapacity) {
+
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity " + initialCapacity);
+        }
+        this.arrayOfElements = new int[initialCapacity];
+        capacity = initialCapacity;
+    }
+
+    /**
+     * Метод вставляет значение в конец коллекции.
+     *
+     * @param value значение, которое необходимо вставить в коллекцию.
+     */
+    @Override
+    public void put(int value) {
+
+        checkIfCapacityExtensionRequired();
+        arrayOfElements[fillCount] = value;
+        fillCount++;
+    }
+
+    /**
+     * Метод вставляет значение в коллекцию на указанную позицию, смещая уже имеющиеся элементы вправо.
+     *
+     * @param value    значение, которое необходимо вставить в коллекцию.
+     * @param position индекс, указывающий позицию в коллекции, куда будет произведена вставка.
+     */
+    @Override
+    public void insert(int value, int position) {
+
+        checkIfCapacityExtensionRequired();
+        System.arraycopy(arrayOfElements, position, arrayOfElements, position + 1, fillCount - position);
+        arrayOfElements[position] = value;
+        fillCount++;
+    }
+
+    /**
+     * Метод возвращает значение, находящееся под указанным в параметрах индексом.
+     *
+     * @param position индекс, указывающий позицию в коллекции, с которой будет взято значение.
+     * @return возвращает элемент коллекции.
+     */
+    @Override
+    public int get(int position) {
+
+        return arrayOfElements[position];
+    }
+
+    /**
+     * Метод удаляет значение под указанным в параметрах индексом, смещая последующие элементы влево.
+     *
+     * @param position индекс, указывающий позицию в коллекции, где будет произведено удаление.
+     */
+    @Override
+    public void delete(int position) {
+
+        System.arraycopy(arrayOfElements, position + 1, arrayOfElements, position, fillCount - position - 1);
+        fillCount--;
+    }
+
+    /**
+     * Метод удаляет все элементы коллекции. Поскольку примитивные значения не удерживают объекты в памяти,
+     * достаточно обнулить счётчик элементов.
+     */
+    @Override
+    public void deleteAll() {
+
+        fillCount = 0;
+    }
+
+    /**
+     * Метод заменяет значение под определённым индексом на другое значение, переданное в аргументах.
+     *
+     * @param value    значение, которое необходимо вставить в коллекцию.
+     * @param position индекс, указывающий позицию в коллекции, где будет произведена замена.
+     */
+    @Override
+    public void set(int value, int position) {
+
+        arrayOfElements[position] = value;
+    }
+
+    /**
+     * Метод сообщает текущий размер коллекции, используя счётчик элементов.
+     *
+     * @return возвращает текущее количество элементов коллекции {@link SomeIntArrayList#fillCount}.
+     */
+    @Override
+    public int size() {
+
+        return fillCount;
+    }
+
+    /**
+     * Метод сообщает, пустая коллекция или нет.
+     *
+     * @return возвращает true, если коллекция пустая, false если коллекция содержит элементы.
+     */
+    @Override
+    public boolean isEmpty() {
+
+        return fillCount == 0;
+    }
+
+    /**
+     * Метод сообщает индекс первого вхождения значения в коллекции, либо -1, если значение отсутствует.
+     *
+     * @param value значение, индекс которого необходимо найти в коллекции.
+     * @return возвращает индекс, под которым значение хранится в коллекции.
+     */
+    @Override
+    public int getIndex(int value) {
+
+        for (int i = 0; i < fillCount; i++) {
+            if (arrayOfElements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Метод сообщает, имеется ли в коллекции переданное в параметрах значение.
+     *
+     * @param value значение, которое необходимо найти в коллекции.
+     * @return возвращает результат поиска: true или false.
+     */
+    @Override
+    public boolean contains(int value) {
+
+        return getIndex(value) > -1;
+    }
+
+    /**
+     * Метод сортирует элементы коллекции по возрастанию при помощи {@link Arrays#sort(int[], int, int)},
+     * не выполняя упаковку значений.
+     */
+    @Override
+    public void sort() {
+
+        Arrays.sort(arrayOfElements, 0, fillCount);
+    }
+
+    /**
+     * Внутренний метод класса, увеличивающий вместимость коллекции.
+     * Если текущий внутренний массив заполнен, то создаётся новый, в 1.5 больше, и в него копируются элементы из старого массива.
+     */
+    private void checkIfCapacityExtensionRequired() {
+
+        if (fillCount >= (capacity * 0.75)) {
+            this.capacity = (int) (arrayOfElements.length * 1.5 + 1);
+            arrayOfElements = Arrays.copyOf(arrayOfElements, capacity);
+        }
+    }
+}
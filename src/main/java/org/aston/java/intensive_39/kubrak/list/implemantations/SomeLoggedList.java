@@ -0,0 +1,523 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.RecordCodec;
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Класс, представляющий из себя несинхронизированный списочный массив, сохраняемый на диск в режиме журнала.
+ *
+ * <p>Элементы хранятся в {@link SomeArrayList}. Состояние на диске складывается из двоичного снимка
+ * (см. {@link SomeArrayList#writeTo(Path, RecordCodec)}) и журнала: каждое изменение после снимка дописывается
+ * в конец журнала короткой записью, поэтому большая коллекция не перезаписывается целиком после каждого изменения.
+ * Записи журнала накапливаются в буфере и попадают в файл при его заполнении, при вызове
+ * {@link SomeLoggedList#flush()} и при закрытии.
+ *
+ * <p>Null не может быть сохранён в записи фиксированной длины.
+ *
+ * <p>Метод {@link SomeLoggedList#checkpoint()} записывает новый снимок и очищает журнал. Снимок и журнал помечаются
+ * номером поколения, поэтому журнал, оставшийся от прерванной контрольной точки, при открытии не применяется повторно.
+ * Сортировка и удаление по условию не выражаются отдельными записями журнала и выполняют контрольную точку.
+ * Неполная последняя запись журнала, оставшаяся после аварийного завершения, при открытии отбрасывается.
+ *
+ * @param <T> тип элементов, хранимых в данном списке.
+ * @author Konstantin_Kubrak
+ */
+public class SomeLoggedList<T> implements SomeList<T>, Closeable {
+
+    private static final int LOG_MAGIC = 0x534C4731;
+
+    private static final int LOG_HEADER_SIZE = 16;
+
+    private static final int LOG_BUFFER_SIZE = 1 << 16;
+
+    private static final byte PUT = 1;
+
+    private static final byte INSERT = 2;
+
+    private static final byte SET = 3;
+
+    private static final byte DELETE = 4;
+
+    private static final byte DELETE_RANGE = 5;
+
+    private static final byte DELETE_ALL = 6;
+
+    private final SomeArrayList<T> elements;
+
+    private final Path snapshotPath;
+
+    private final Path logPath;
+
+    private final RecordCodec<T> codec;
+
+    private final int recordSize;
+
+    /**
+     * Буфер ещё не записанных в файл записей журнала.
+     */
+    private final ByteBuffer logBuffer;
+
+    private FileChannel log;
+
+    /**
+     * Поколение текущего снимка; журнал применяется только к снимку того же поколения.
+     */
+    private long generation;
+
+    private SomeLoggedList(SomeArrayList<T> elements, Path snapshotPath, Path logPath, RecordCodec<T> codec, long generation) {
+
+        this.elements = elements;
+        this.snapshotPath = snapshotPath;
+        this.logPath = logPath;
+        this.codec = codec;
+        this.recordSize = codec.recordSize();
+        this.logBuffer = ByteBuffer.allocateDirect(Math.max(LOG_BUFFER_SIZE, 9 + recordSize)).order(ByteOrder.LITTLE_ENDIAN);
+        this.generation = generation;
+    }
+
+    /**
+     * Открытие коллекции: загрузка снимка и применение журнала того же поколения.
+     * Если снимка нет, создаётся пустая коллекция и пустой снимок.
+     *
+     * @param snapshotPath путь к файлу снимка.
+     * @param logPath      путь к файлу журнала.
+     * @param codec        преобразование элементов в записи фиксированной длины.
+     * @return возвращает коллекцию, готовую к изменениям.
+     */
+    public static <T> SomeLoggedList<T> open(Path snapshotPath, Path logPath, RecordCodec<T> codec) throws IOException {
+
+        SomeLoggedList<T> list;
+        if (Files.exists(snapshotPath)) {
+            try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+                SnapshotFormat.Header header = SnapshotFormat.readHeader(channel, snapshotPath, codec);
+                SomeArrayList<T> elements = SomeArrayList.readFrom(channel, header, codec, CapacityPolicy.DEFAULT);
+                list = new SomeLoggedList<>(elements, snapshotPath, logPath, codec, header.generation);
+            }
+            if (Files.exists(logPath) && list.replay()) {
+                list.log = FileChannel.open(logPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                return list;
+            }
+        } else {
+            list = new SomeLoggedList<>(new SomeArrayList<>(), snapshotPath, logPath, codec, 0);
+            list.elements.writeTo(snapshotPath, codec, 0);
+        }
+        list.resetLog();
+        return list;
+    }
+
+    /**
+     * Метод вставляет элемент в конец коллекции и дописывает операцию в журнал.
+     *
+     * @param t элемент, который необходимо вставить в коллекцию.
+     */
+    @Override
+    public void put(T t) {
+
+        Objects.requireNonNull(t);
+        elements.put(t);
+        appendEntry(PUT, 0);
+        appendRecord(t);
+    }
+
+    /**
+     * Метод вставляет элемент на указанную позицию и дописывает операцию в журнал.
+     *
+     * @param t        элемент, который необходимо вставить в коллекцию.
+     * @param position индекс, указывающий позицию в коллекции, где будет произведена вставка.
+     */
+    @Override
+    public void insert(T t, int position) {
+
+        Objects.requireNonNull(t);
+        if (position < 0 || position > elements.size()) {
+            throw new ArrayIndexOutOfBoundsException("Index " + position + " out of bounds for size " + elements.size());
+        }
+        elements.insert(t, position);
+        appendEntry(INSERT, Integer.BYTES);
+        logBuffer.putInt(position);
+        appendRecord(t);
+    }
+
+    /**
+     * Метод возвращает элемент коллекции, находящийся под указанным в параметрах индексом.
+     *
+     * @param position индекс, указывающий позицию в коллекции, с которой будет взят элемент.
+     * @return возвращает элемент коллекции.
+     */
+    @Override
+    public T get(int position) {
+
+        checkIndex(position);
+        return elements.get(position);
+    }
+
+    /**
+     * Метод удаляет элемент под указанным индексом и дописывает операцию в журнал.
+     *
+     * @param position индекс, указывающий позицию в коллекции, где будет произведено удаление.
+     */
+    @Override
+    public void delete(int position) {
+
+        checkIndex(position);
+        elements.delete(position);
+        appendEntry(DELETE, Integer.BYTES);
+        logBuffer.putInt(position);
+    }
+
+    /**
+     * Метод удаляет все элементы коллекции и дописывает операцию в журнал.
+     */
+    @Override
+    public void deleteAll() {
+
+        elements.deleteAll();
+        appendEntry(DELETE_ALL, 0);
+    }
+
+    /**
+     * Метод заменяет элемент под определённым индексом и дописывает операцию в журнал.
+     *
+     * @param t        элемент, который необходимо вставить в коллекцию.
+     * @param position индекс, указывающий позицию в коллекции, где будет произведена замена.
+     */
+    @Override
+    public void set(T t, int position) {
+
+        Objects.requireNonNull(t);
+        checkIndex(position);
+        elements.set(t, position);
+        appendEntry(SET, Integer.BYTES);
+        logBuffer.putInt(position);
+        appendRecord(t);
+    }
+
+    /**
+     * Метод сообщает текущий размер коллекции.
+     *
+     * @return возвращает текущее количество элементов коллекции.
+     */
+    @Override
+    public int size() {
+
+        return elements.size();
+    }
+
+    /**
+     * Метод находит индекс первого элемента, равного переданному.
+     *
+     * @param t элемент, индекс которого необходимо найти в коллекции.
+     * @return возвращает индекс элемента, либо -1, если такого элемента нет.
+     */
+    @Override
+    public int getIndex(T t) {
+
+        return elements.getIndex(t);
+    }
+
+    /**
+     * Метод сообщает, пустая коллекция или нет.
+     *
+     * @return возвращает true, если коллекция пустая, false если коллекция содержит элементы.
+     */
+    @Override
+    public boolean isEmpty() {
+
+        return elements.isEmpty();
+    }
+
+    /**
+     * Метод проверяет наличие элемента в коллекции.
+     *
+     * @param t элемент, который необходимо найти в коллекции.
+     * @return возвращает результат поиска: true или false.
+     */
+    @Override
+    public boolean contains(T t) {
+
+        return elements.contains(t);
+    }
+
+    /**
+     * Метод удаляет элементы в диапазоне {@code [from, to)} и дописывает в журнал одну операцию.
+     *
+     * @param from индекс первого удаляемого элемента.
+     * @param to   индекс, следующий за последним удаляемым элементом.
+     */
+    @Override
+    public void deleteRange(int from, int to) {
+
+        elements.deleteRange(from, to);
+        appendEntry(DELETE_RANGE, 2 * Integer.BYTES);
+        logBuffer.putInt(from).putInt(to);
+    }
+
+    /**
+     * Метод удаляет элементы, удовлетворяющие условию, и, если что-то было удалено, выполняет контрольную точку.
+     * Контрольная точка выполняется и тогда, когда условие выбросило исключение после части удалений,
+     * так как эти удаления остаются в коллекции.
+     *
+     * @param filter условие, при выполнении которого элемент будет удалён.
+     * @return возвращает количество удалённых элементов.
+     */
+    @Override
+    public int removeIf(Predicate<? super T> filter) {
+
+        int size = elements.size();
+        try {
+            return elements.removeIf(filter);
+        } finally {
+            if (elements.size() != size) {
+                checkpoint();
+            }
+        }
+    }
+
+    /**
+     * Метод сортирует элементы коллекции в естественном порядке и выполняет контрольную точку.
+     */
+    @Override
+    public void sort() {
+
+        sort(null);
+    }
+
+    /**
+     * Метод сортирует элементы коллекции и выполняет контрольную точку, в том числе когда компаратор выбросил
+     * исключение и элементы остались частично переставленными.
+     *
+     * @param comparator компаратор, используемый в сортировке; если null, используется естественный порядок.
+     */
+    @Override
+    public void sort(Comparator<T> comparator) {
+
+        try {
+            elements.sort(comparator);
+        } finally {
+            checkpoint();
+        }
+    }
+
+    /**
+     * Метод выполняет действие для каждого элемента коллекции, обходя внутренний {@link SomeArrayList} напрямую.
+     *
+     * @param action действие, выполняемое для каждого элемента.
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+
+        elements.forEach(action);
+    }
+
+    /**
+     * Метод возвращает разделитель внутреннего {@link SomeArrayList}, делящий диапазон элементов пополам.
+     *
+     * @return возвращает разделитель по элементам коллекции.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+
+        return elements.spliterator();
+    }
+
+    /**
+     * Метод записывает новый снимок коллекции и очищает журнал.
+     */
+    public void checkpoint() {
+
+        try {
+            SnapshotFormat.drain(log, logBuffer);
+            elements.writeTo(snapshotPath, codec, generation + 1);
+            generation++;
+            log.close();
+            resetLog();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Метод записывает накопленные записи журнала в файл.
+     */
+    public void flush() {
+
+        try {
+            SnapshotFormat.drain(log, logBuffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Метод записывает накопленные записи журнала, сбрасывает журнал на диск и закрывает его.
+     */
+    @Override
+    public void close() throws IOException {
+
+        if (log.isOpen()) {
+            flush();
+            log.force(false);
+            log.close();
+        }
+    }
+
+    private void checkIndex(int position) {
+
+        if (position < 0 || position >= elements.size()) {
+            throw new ArrayIndexOutOfBoundsException("Index " + position + " out of bounds for size " + elements.size());
+        }
+    }
+
+    /**
+     * Внутренний метод класса, начинающий запись журнала: при нехватке места буфер записывается в файл,
+     * затем записываются код операции и {@code length} байт её аргументов вызывающим методом.
+     */
+    private void appendEntry(byte operation, int length) {
+
+        if (logBuffer.remaining() < 1 + length + recordSize) {
+            flush();
+        }
+        logBuffer.put(operation);
+    }
+
+    private void appendRecord(T t) {
+
+        int offset = logBuffer.position();
+        codec.write(logBuffer, offset, t);
+        logBuffer.position(offset + recordSize);
+    }
+
+    /**
+     * Внутренний метод класса, создающий пустой журнал текущего поколения.
+     */
+    private void resetLog() throws IOException {
+
+        log = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        logBuffer.clear();
+        logBuffer.putInt(LOG_MAGIC).putInt(recordSize).putLong(generation);
+        flush();
+    }
+
+    /**
+     * Внутренний метод класса, применяющий записи журнала к загруженному снимку.
+     * Неполная последняя запись отбрасывается, а файл журнала усекается до последней полной записи.
+     *
+     * @return возвращает false, если журнал относится к другому поколению снимка и не был применён.
+     */
+    private boolean replay() throws IOException {
+
+        try (FileChannel channel = FileChannel.open(logPath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(Math.max(SnapshotFormat.BUFFER_SIZE, LOG_HEADER_SIZE + 9 + recordSize))
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            SnapshotFormat.fill(channel, buffer);
+            buffer.flip();
+            if (buffer.remaining() < LOG_HEADER_SIZE || buffer.getInt() != LOG_MAGIC
+                    || buffer.getInt() != recordSize || buffer.getLong() != generation) {
+                return false;
+            }
+            long applied = LOG_HEADER_SIZE;
+            while (true) {
+                int start = buffer.position();
+                if (!applyEntry(buffer)) {
+                    buffer.position(start);
+                    buffer.compact();
+                    int before = buffer.position();
+                    SnapshotFormat.fill(channel, buffer);
+                    boolean exhausted = buffer.position() == before;
+                    buffer.flip();
+                    if (exhausted) {
+                        break;
+                    }
+                    continue;
+                }
+                applied += buffer.position() - start;
+            }
+            channel.truncate(applied);
+            return true;
+        }
+    }
+
+    /**
+     * Внутренний метод класса, применяющий одну запись журнала, если она целиком находится в буфере.
+     */
+    private boolean applyEntry(ByteBuffer buffer) throws IOException {
+
+        if (!buffer.hasRemaining()) {
+            return false;
+        }
+        byte operation = buffer.get(buffer.position());
+        int length;
+        switch (operation) {
+            case PUT:
+                length = recordSize;
+                break;
+            case INSERT:
+            case SET:
+                length = Integer.BYTES + recordSize;
+                break;
+            case DELETE:
+                length = Integer.BYTES;
+                break;
+            case DELETE_RANGE:
+                length = 2 * Integer.BYTES;
+                break;
+            case DELETE_ALL:
+                length = 0;
+                break;
+            default:
+                throw new IOException("Unknown log operation " + operation + " in " + logPath);
+        }
+        if (buffer.remaining() < 1 + length) {
+            return false;
+        }
+        buffer.get();
+        switch (operation) {
+            case PUT:
+                elements.put(readRecord(buffer));
+                break;
+            case INSERT:
+                int insertPosition = buffer.getInt();
+                elements.insert(readRecord(buffer), insertPosition);
+                break;
+            case SET:
+                int setPosition = buffer.getInt();
+                elements.set(readRecord(buffer), setPosition);
+                break;
+            case DELETE:
+                elements.delete(buffer.getInt());
+                break;
+            case DELETE_RANGE:
+                int from = buffer.getInt();
+                elements.deleteRange(from, buffer.getInt());
+                break;
+            default:
+                elements.deleteAll();
+                break;
+        }
+        return true;
+    }
+
+    private T readRecord(ByteBuffer buffer) {
+
+        int offset = buffer.position();
+        T t = codec.read(buffer, offset);
+        buffer.position(offset + recordSize);
+        return t;
+    }
+}
@@ -0,0 +1,570 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.RecordCodec;
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * Класс, представляющий из себя несинхронизированный список записей фиксированной длины,
+ * хранящихся в отображённом в память файле, а не в куче.
+ *
+ * <p>Элемент преобразуется в запись и обратно при помощи {@link RecordCodec}. Файл начинается с заголовка
+ * длиной {@link SomeMappedList#HEADER_SIZE} байт, в котором хранятся длина записи, размер сегмента и количество
+ * элементов, за ним следуют записи. Записи отображаются в память сегментами по {@code recordsPerSegment} записей
+ * (степень двойки, сегмент не превышает 2 ГБ), поэтому позиция записи находится сдвигом и маской.
+ * При заполнении коллекции отображается следующий сегмент файла, уже записанные данные не копируются.
+ *
+ * <p>Количество элементов обновляется в заголовке при каждом изменении, поэтому файл можно повторно открыть методом
+ * {@link SomeMappedList#open(Path, RecordCodec)}: отображаются только сегменты, сами записи не читаются.
+ * Записанные данные попадают на диск при вызове {@link SomeMappedList#force()}, при закрытии
+ * или по усмотрению операционной системы.
+ *
+ * <p>{@code get} и {@code set} выполняются за O(1), {@code insert} и {@code delete} сдвигают записи копированием
+ * байтов. {@code getIndex} и {@code contains} читают записи последовательно. {@code sort} сортирует каждый сегмент
+ * в куче, после чего сливает отсортированные сегменты через временный файл, поэтому в куче одновременно находится
+ * не больше одного сегмента элементов.
+ *
+ * <p>Null не может быть сохранён в записи фиксированной длины. Отображённые сегменты освобождаются сборщиком мусора
+ * после закрытия коллекции; обращение к коллекции после {@link SomeMappedList#close()} не допускается.
+ *
+ * @param <T> тип элементов, хранимых в данном списке.
+ * @author Konstantin_Kubrak
+ */
+public class SomeMappedList<T> implements SomeList<T>, Closeable {
+
+    /**
+     * Длина заголовка файла в байтах.
+     */
+    static final int HEADER_SIZE = 64;
+
+    /**
+     * Количество записей в сегменте по умолчанию.
+     */
+    public static final int DEFAULT_RECORDS_PER_SEGMENT = 1 << 20;
+
+    private static final int MAGIC = 0x534D4C31;
+
+    private static final int MAGIC_OFFSET = 0;
+
+    private static final int RECORD_SIZE_OFFSET = 4;
+
+    private static final int RECORDS_PER_SEGMENT_OFFSET = 8;
+
+    private static final int FILL_COUNT_OFFSET = 16;
+
+    private final Path path;
+
+    private final FileChannel channel;
+
+    private final RecordCodec<T> codec;
+
+    private final int recordSize;
+
+    private final int segmentShift;
+
+    private final int segmentMask;
+
+    private final MappedByteBuffer header;
+
+    /**
+     * Отображённые сегменты записей. Используются первые {@link SomeMappedList#segmentCount} сегментов.
+     */
+    private MappedByteBuffer[] segments;
+
+    private int segmentCount;
+
+    /**
+     * Текущее количество элементов в коллекции, по умолчанию 0.
+     */
+    private int fillCount;
+
+    private SomeMappedList(Path path, FileChannel channel, RecordCodec<T> codec, int recordsPerSegment) throws IOException {
+
+        this.path = path;
+        this.channel = channel;
+        this.codec = codec;
+        this.recordSize = codec.recordSize();
+        this.segmentShift = Integer.numberOfTrailingZeros(recordsPerSegment);
+        this.segmentMask = recordsPerSegment - 1;
+        this.header = map(channel, 0, HEADER_SIZE);
+        this.segments = new MappedByteBuffer[4];
+    }
+
+    /**
+     * Создание новой коллекции в указанном файле с количеством записей в сегменте по умолчанию.
+     * Существующий файл перезаписывается.
+     *
+     * @param path  путь к файлу коллекции.
+     * @param codec преобразование элементов в записи.
+     * @return возвращает пустую коллекцию.
+     */
+    public static <T> SomeMappedList<T> create(Path path, RecordCodec<T> codec) throws IOException {
+
+        return create(path, codec, DEFAULT_RECORDS_PER_SEGMENT);
+    }
+
+    /**
+     * Создание новой коллекции в указанном файле. Существующий файл перезаписывается.
+     *
+     * @param path              путь к файлу коллекции.
+     * @param codec             преобразование элементов в записи.
+     * @param recordsPerSegment количество записей в одном отображаемом сегменте, степень двойки.
+     * @return возвращает пустую коллекцию.
+     */
+    public static <T> SomeMappedList<T> create(Path path, RecordCodec<T> codec, int recordsPerSegment) throws IOException {
+
+        int recordSize = codec.recordSize();
+        if (recordSize <= 0) {
+            throw new IllegalArgumentException("Illegal record size " + recordSize);
+        }
+        if (recordsPerSegment <= 0 || Integer.bitCount(recordsPerSegment) != 1
+                || (long) recordsPerSegment * recordSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Illegal records per segment " + recordsPerSegment);
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            SomeMappedList<T> list = new SomeMappedList<>(path, channel, codec, recordsPerSegment);
+            list.header.putInt(MAGIC_OFFSET, MAGIC);
+            list.header.putInt(RECORD_SIZE_OFFSET, recordSize);
+            list.header.putInt(RECORDS_PER_SEGMENT_OFFSET, recordsPerSegment);
+            list.header.putLong(FILL_COUNT_OFFSET, 0);
+            return list;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Открытие коллекции, ранее созданной методом {@link SomeMappedList#create(Path, RecordCodec, int)}.
+     * Отображаются только сегменты, содержащие записи; сами записи не читаются.
+     *
+     * @param path  путь к файлу коллекции.
+     * @param codec преобразование элементов в записи, длина записи должна совпадать с длиной, указанной в заголовке.
+     * @return возвращает коллекцию с сохранёнными в файле элементами.
+     */
+    public static <T> SomeMappedList<T> open(Path path, RecordCodec<T> codec) throws IOException {
+
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("File " + path + " is too short for a mapped list header");
+            }
+            MappedByteBuffer header = map(channel, 0, HEADER_SIZE);
+            if (header.getInt(MAGIC_OFFSET) != MAGIC) {
+                throw new IOException("File " + path + " is not a mapped list");
+            }
+            if (header.getInt(RECORD_SIZE_OFFSET) != codec.recordSize()) {
+                throw new IOException("Record size " + header.getInt(RECORD_SIZE_OFFSET)
+                        + " does not match codec record size " + codec.recordSize());
+            }
+            int recordsPerSegment = header.getInt(RECORDS_PER_SEGMENT_OFFSET);
+            if (recordsPerSegment <= 0 || Integer.bitCount(recordsPerSegment) != 1) {
+                throw new IOException("File " + path + " has illegal segment size " + recordsPerSegment);
+            }
+            long fillCount = header.getLong(FILL_COUNT_OFFSET);
+            if (fillCount < 0 || fillCount > Integer.MAX_VALUE
+                    || HEADER_SIZE + fillCount * codec.recordSize() > channel.size()) {
+                throw new IOException("File " + path + " is truncated or corrupted");
+            }
+            SomeMappedList<T> list = new SomeMappedList<>(path, channel, codec, recordsPerSegment);
+            list.ensureCapacity((int) fillCount);
+            list.fillCount = (int) fillCount;
+            return list;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Метод вставляет элемент в конец коллекции, при необходимости отображая новый сегмент файла.
+     *
+     * @param t элемент, который необходимо вставить в коллекцию.
+     */
+    @Override
+    public void put(T t) {
+
+        Objects.requireNonNull(t);
+        ensureCapacity(fillCount + 1);
+        write(fillCount, t);
+        updateFillCount(fillCount + 1);
+    }
+
+    /**
+     * Метод вставляет элемент в коллекцию на указанную позицию, сдвигая последующие записи вправо.
+     *
+     * @param t        элемент, который необходимо вставить в коллекцию.
+     * @param position индекс, указывающий позицию в коллекции, где будет произведена вставка.
+     */
+    @Override
+    public void insert(T t, int position) {
+
+        Objects.requireNonNull(t);
+        if (position < 0 || position > fillCount) {
+            throw new ArrayIndexOutOfBoundsException("Index " + position + " out of bounds for size " + fillCount);
+        }
+        ensureCapacity(fillCount + 1);
+        moveRecords(position, position + 1, fillCount - position);
+        write(position, t);
+        updateFillCount(fillCount + 1);
+    }
+
+    /**
+     * Метод читает элемент коллекции, находящийся под указанным индексом.
+     *
+     * @param position индекс, указывающий позицию в коллекции, с которой будет взят элемент.
+     * @return возвращает элемент коллекции.
+     */
+    @Override
+    public T get(int position) {
+
+        checkIndex(position);
+        return codec.read(segments[position >>> segmentShift], (position & segmentMask) * recordSize);
+    }
+
+    /**
+     * Метод удаляет элемент под указанным индексом, сдвигая последующие записи влево.
+     *
+     * @param position индекс, указывающий позицию в коллекции, где будет произведено удаление.
+     */
+    @Override
+    public void delete(int position) {
+
+        checkIndex(position);
+        moveRecords(position + 1, position, fillCount - position - 1);
+        updateFillCount(fillCount - 1);
+    }
+
+    /**
+     * Метод удаляет все элементы коллекции. Файл и отображённые сегменты сохраняются для последующих вставок.
+     */
+    @Override
+    public void deleteAll() {
+
+        updateFillCount(0);
+    }
+
+    /**
+     * Метод перезаписывает запись под указанным индексом.
+     *
+     * @param t        элемент, который необходимо вставить в коллекцию.
+     * @param position индекс, указывающий позицию в коллекции, где будет произведена замена.
+     */
+    @Override
+    public void set(T t, int position) {
+
+        Objects.requireNonNull(t);
+        checkIndex(position);
+        write(position, t);
+    }
+
+    /**
+     * Метод сообщает текущий размер коллекции.
+     *
+     * @return возвращает текущее количество элементов коллекции.
+     */
+    @Override
+    public int size() {
+
+        return fillCount;
+    }
+
+    /**
+     * Метод проверяет, пуста ли коллекция.
+     *
+     * @return возвращает true, если коллекция пуста, иначе false.
+     */
+    @Override
+    public boolean isEmpty() {
+
+        return fillCount == 0;
+    }
+
+    /**
+     * Метод последовательно читает записи и находит индекс первого элемента, равного переданному.
+     *
+     * @param t элемент, индекс которого необходимо найти в коллекции.
+     * @return возвращает индекс первого равного элемента, либо -1, если такого элемента нет.
+     */
+    @Override
+    public int getIndex(T t) {
+
+        for (int i = 0; i < fillCount; i++) {
+            if (Objects.equals(t, get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Метод проверяет наличие элемента в коллекции.
+     *
+     * @param t элемент, который необходимо найти в коллекции.
+     * @return возвращает результат поиска: true или false.
+     */
+    @Override
+    public boolean contains(T t) {
+
+        return getIndex(t) > -1;
+    }
+
+    /**
+     * Метод удаляет элементы в диапазоне {@code [from, to)}, сдвигая последующие записи одним копированием.
+     *
+     * @param from индекс первого удаляемого элемента.
+     * @param to   индекс, следующий за последним удаляемым элементом.
+     */
+    @Override
+    public void deleteRange(int from, int to) {
+
+        if (from < 0 || from > to || to > fillCount) {
+            throw new ArrayIndexOutOfBoundsException("Illegal range [" + from + ", " + to + ") for size " + fillCount);
+        }
+        moveRecords(to, from, fillCount - to);
+        updateFillCount(fillCount - (to - from));
+    }
+
+    /**
+     * Метод сортирует элементы коллекции в естественном порядке.
+     */
+    @Override
+    public void sort() {
+
+        sort(null);
+    }
+
+    /**
+     * Метод устойчиво сортирует элементы коллекции с учётом переданного компаратора.
+     * Каждый сегмент сортируется в куче устойчивой сортировкой слиянием
+     * {@link ParallelMergeSortTask#sequentialSort}, затем отсортированные сегменты
+     * сливаются во временный файл в том же каталоге, откуда записи копируются обратно.
+     *
+     * @param comparator компаратор, используемый в сортировке; если null, используется естественный порядок.
+     */
+    @Override
+    public void sort(Comparator<T> comparator) {
+
+        Comparator<? super T> order = Objects.nonNull(comparator) ? comparator : (Comparator<T>) Comparator.naturalOrder();
+        int recordsPerSegment = segmentMask + 1;
+        T[] buffer = (T[]) new Object[Math.min(fillCount, recordsPerSegment)];
+        T[] mergeBuffer = (T[]) new Object[buffer.length];
+        for (int from = 0; from < fillCount; from += recordsPerSegment) {
+            sortRange(buffer, mergeBuffer, from, Math.min(fillCount, from + recordsPerSegment), order);
+        }
+        if (fillCount > recordsPerSegment) {
+            try {
+                mergeSegments(order);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Метод записывает на диск изменённые сегменты и заголовок.
+     */
+    public void force() {
+
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i].force();
+        }
+        header.force();
+    }
+
+    /**
+     * Метод записывает изменения на диск и закрывает файл коллекции.
+     */
+    @Override
+    public void close() throws IOException {
+
+        if (channel.isOpen()) {
+            force();
+            channel.close();
+        }
+    }
+
+    /**
+     * Путь к файлу коллекции.
+     *
+     * @return возвращает путь, переданный при создании или открытии коллекции.
+     */
+    public Path getPath() {
+
+        return path;
+    }
+
+    private void checkIndex(int position) {
+
+        if (position < 0 || position >= fillCount) {
+            throw new ArrayIndexOutOfBoundsException("Index " + position + " out of bounds for size " + fillCount);
+        }
+    }
+
+    private void write(int position, T t) {
+
+        codec.write(segments[position >>> segmentShift], (position & segmentMask) * recordSize, t);
+    }
+
+    private void updateFillCount(int newFillCount) {
+
+        fillCount = newFillCount;
+        header.putLong(FILL_COUNT_OFFSET, newFillCount);
+    }
+
+    /**
+     * Внутренний метод класса, отображающий сегменты файла до тех пор, пока в них не поместится
+     * {@code required} записей. Файл при отображении автоматически удлиняется.
+     */
+    private void ensureCapacity(int required) {
+
+        long segmentBytes = (long) (segmentMask + 1) * recordSize;
+        while (((long) segmentCount << segmentShift) < required) {
+            if (segmentCount == segments.length) {
+                segments = Arrays.copyOf(segments, segmentCount << 1);
+            }
+            try {
+                segments[segmentCount] = map(channel, HEADER_SIZE + segmentCount * segmentBytes, segmentBytes);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            segmentCount++;
+        }
+    }
+
+    /**
+     * Внутренний метод класса, перемещающий {@code count} записей с позиции {@code from} на позицию {@code to}.
+     * Записи копируются участками, не пересекающими границы сегментов; при сдвиге вправо копирование идёт с конца,
+     * чтобы перекрывающиеся участки не затирали ещё не скопированные записи.
+     */
+    private void moveRecords(int from, int to, int count) {
+
+        int recordsPerSegment = segmentMask + 1;
+        if (to > from) {
+            int sourceEnd = from + count;
+            int targetEnd = to + count;
+            while (count > 0) {
+                int chunk = Math.min(count, Math.min(((sourceEnd - 1) & segmentMask) + 1, ((targetEnd - 1) & segmentMask) + 1));
+                copyRecords(sourceEnd - chunk, targetEnd - chunk, chunk);
+                sourceEnd -= chunk;
+                targetEnd -= chunk;
+                count -= chunk;
+            }
+        } else {
+            while (count > 0) {
+                int chunk = Math.min(count, Math.min(recordsPerSegment - (from & segmentMask), recordsPerSegment - (to & segmentMask)));
+                copyRecords(from, to, chunk);
+                from += chunk;
+                to += chunk;
+                count -= chunk;
+            }
+        }
+    }
+
+    /**
+     * Внутренний метод класса, копирующий записи в пределах одного сегмента источника и одного сегмента назначения.
+     * Перекрывающиеся участки одного сегмента копируются корректно.
+     */
+    private void copyRecords(int from, int to, int count) {
+
+        segments[to >>> segmentShift].put((to & segmentMask) * recordSize,
+                segments[from >>> segmentShift], (from & segmentMask) * recordSize, count * recordSize);
+    }
+
+    private void sortRange(T[] buffer, T[] mergeBuffer, int from, int to, Comparator<? super T> order) {
+
+        for (int i = from; i < to; i++) {
+            buffer[i - from] = get(i);
+        }
+        ParallelMergeSortTask.sequentialSort(buffer, mergeBuffer, 0, to - from, order);
+        for (int i = from; i < to; i++) {
+            write(i, buffer[i - from]);
+        }
+        Arrays.fill(buffer, null);
+        Arrays.fill(mergeBuffer, null);
+    }
+
+    /**
+     * Внутренний метод класса, сливающий отсортированные сегменты при помощи кучи курсоров.
+     * Записи копируются побайтно, элементы читаются только для сравнения; при равенстве элементов
+     * первой берётся запись из сегмента с меньшим номером, что сохраняет устойчивость сортировки.
+     */
+    private void mergeSegments(Comparator<? super T> order) throws IOException {
+
+        int recordsPerSegment = segmentMask + 1;
+        long segmentBytes = (long) recordsPerSegment * recordSize;
+        Path directory = path.toAbsolutePath().getParent();
+        Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".sort");
+        try (FileChannel output = FileChannel.open(temporary, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.DELETE_ON_CLOSE)) {
+            MappedByteBuffer[] merged = new MappedByteBuffer[segmentCount];
+            PriorityQueue<SegmentCursor<T>> queue = new PriorityQueue<>((left, right) -> {
+                int result = order.compare(left.current, right.current);
+                return result != 0 ? result : Integer.compare(left.position, right.position);
+            });
+            for (int from = 0; from < fillCount; from += recordsPerSegment) {
+                SegmentCursor<T> cursor = new SegmentCursor<>(from, Math.min(fillCount, from + recordsPerSegment));
+                cursor.current = get(from);
+                queue.add(cursor);
+            }
+            for (int target = 0; target < fillCount; target++) {
+                int segment = target >>> segmentShift;
+                if (Objects.isNull(merged[segment])) {
+                    merged[segment] = map(output, segment * segmentBytes, segmentBytes);
+                }
+                SegmentCursor<T> cursor = queue.poll();
+                int source = cursor.position;
+                merged[segment].put((target & segmentMask) * recordSize,
+                        segments[source >>> segmentShift], (source & segmentMask) * recordSize, recordSize);
+                if (++cursor.position < cursor.end) {
+                    cursor.current = get(cursor.position);
+                    queue.add(cursor);
+                }
+            }
+            for (int segment = 0; (long) segment << segmentShift < fillCount; segment++) {
+                long records = Math.min(recordsPerSegment, fillCount - ((long) segment << segmentShift));
+                segments[segment].put(0, merged[segment], 0, (int) records * recordSize);
+            }
+        }
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, long position, long size) throws IOException {
+
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, position, size);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+
+    /**
+     * Курсор по отсортированному сегменту при слиянии.
+     */
+    private static final class SegmentCursor<T> {
+
+        private int position;
+
+        private final int end;
+
+        private T current;
+
+        private SegmentCursor(int position, int end) {
+
+            this.position = position;
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,704 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Класс, представляющий из себя неизменяемый (персистентный) список, элементы которого хранятся в 32-ичном
+ * префиксном дереве: внутренние узлы содержат до 32 ссылок на дочерние узлы, листья содержат по 32 элемента,
+ * а последние от 1 до 32 элементов хранятся отдельно в «хвосте».
+ *
+ * <p>Экземпляр никогда не изменяется, поэтому его можно без копирования передавать другим потокам как снимок.
+ * Методы {@code with...} возвращают новую версию списка, которая разделяет с исходной все неизменённые узлы:
+ * <ul>
+ *     <li>{@link SomePersistentList#withPut(Object)}, {@link SomePersistentList#withSet(Object, int)} и удаление
+ *     последнего элемента копируют только путь от корня до листа, то есть не более
+ *     {@code log32(n)} массивов по 32 ссылки;</li>
+ *     <li>вставка и удаление в середине сдвигают индексы всех следующих элементов, поэтому листья до изменённой
+ *     позиции переносятся в новое дерево целиком без копирования, а остальные элементы перекладываются заново
+ *     за {@code O(n - position)}.</li>
+ * </ul>
+ *
+ * <p>Изменяющие методы интерфейса {@link SomeList} бросают {@link UnsupportedOperationException}.
+ * Для построения списка из большого количества элементов используется {@link Builder}, который изменяет
+ * принадлежащие ему узлы на месте и строит список за {@code O(n)}; в том числе так выполняются преобразования
+ * {@link SomePersistentList#copyOf(SomeList)} и {@link SomePersistentList#toSomeArrayList()}.
+ *
+ * @param <T> тип элементов, хранимых в данном списке.
+ * @author Konstantin_Kubrak
+ */
+public final class SomePersistentList<T> implements SomeList<T> {
+
+    private static final int BITS = 5;
+
+    private static final int WIDTH = 1 << BITS;
+
+    private static final int MASK = WIDTH - 1;
+
+    private static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+
+    private static final SomePersistentList<?> EMPTY = new SomePersistentList<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    /**
+     * Количество элементов в списке.
+     */
+    private final int fillCount;
+
+    /**
+     * Сдвиг индекса, соответствующий уровню корня: {@code BITS * (высота дерева)}.
+     */
+    private final int shift;
+
+    private final Node root;
+
+    /**
+     * Последние элементы списка, ещё не помещённые в дерево. Длина массива равна количеству элементов в нём.
+     */
+    private final Object[] tail;
+
+    private SomePersistentList(int fillCount, int shift, Node root, Object[] tail) {
+
+        this.fillCount = fillCount;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Узел дерева. Узел может изменяться на месте только построителем, чей маркер совпадает с {@code edit};
+     * узлы опубликованных списков больше не изменяются.
+     */
+    private static final class Node {
+
+        private final Object edit;
+
+        private final Object[] array;
+
+        private Node(Object edit, Object[] array) {
+
+            this.edit = edit;
+            this.array = array;
+        }
+    }
+
+    /**
+     * Метод возвращает пустой список.
+     *
+     * @return возвращает пустой список.
+     */
+    public static <T> SomePersistentList<T> empty() {
+
+        return (SomePersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Метод создаёт неизменяемый список с элементами переданной коллекции за один проход по ней.
+     *
+     * @param list коллекция, элементы которой будут скопированы.
+     * @return возвращает новый список.
+     */
+    public static <T> SomePersistentList<T> copyOf(SomeList<? extends T> list) {
+
+        Builder<T> builder = new Builder<>();
+        list.forEach(builder::put);
+        return builder.build();
+    }
+
+    /**
+     * Метод создаёт построитель для пустого списка.
+     *
+     * @return возвращает новый построитель.
+     */
+    public static <T> Builder<T> builder() {
+
+        return new Builder<>();
+    }
+
+    /**
+     * Метод создаёт построитель, начинающий с элементов этого списка. Узлы списка не копируются заранее:
+     * построитель копирует узел только при первом изменении, сам список при этом не меняется.
+     *
+     * @return возвращает новый построитель.
+     */
+    public Builder<T> toBuilder() {
+
+        return new Builder<>(this);
+    }
+
+    /**
+     * Метод копирует элементы в новый {@link SomeArrayList}, создавая его внутренний массив один раз
+     * и перенося элементы целыми листьями.
+     *
+     * @return возвращает новый изменяемый списочный массив.
+     */
+    public SomeArrayList<T> toSomeArrayList() {
+
+        SomeArrayList<T> list = new SomeArrayList<>(CapacityPolicy.DEFAULT.capacityFor(fillCount));
+        int tailOffset = tailOffset();
+        for (int i = 0; i < tailOffset; i += WIDTH) {
+            list.putAll((T[]) leafFor(i));
+        }
+        list.putAll((T[]) tail);
+        return list;
+    }
+
+    /**
+     * Метод возвращает новую версию списка с элементом, добавленным в конец.
+     *
+     * @param t элемент, который необходимо добавить.
+     * @return возвращает новую версию списка.
+     */
+    public SomePersistentList<T> withPut(T t) {
+
+        if (fillCount - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = t;
+            return new SomePersistentList<>(fillCount + 1, shift, root, newTail);
+        }
+        Node tailNode = new Node(null, tail);
+        if ((fillCount >>> BITS) > (1 << shift)) {
+            Node newRoot = new Node(null, new Object[WIDTH]);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, shift, tailNode);
+            return new SomePersistentList<>(fillCount + 1, shift + BITS, newRoot, new Object[]{t});
+        }
+        return new SomePersistentList<>(fillCount + 1, shift, pushTail(null, fillCount, shift, root, tailNode), new Object[]{t});
+    }
+
+    /**
+     * Метод возвращает новую версию списка с замещённым элементом.
+     *
+     * @param t        элемент, которым будет замещён старый.
+     * @param position индекс замещаемого элемента.
+     * @return возвращает новую версию списка.
+     */
+    public SomePersistentList<T> withSet(T t, int position) {
+
+        checkIndex(position, fillCount);
+        if (position >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[position & MASK] = t;
+            return new SomePersistentList<>(fillCount, shift, root, newTail);
+        }
+        return new SomePersistentList<>(fillCount, shift, setInPath(shift, root, position, t), tail);
+    }
+
+    /**
+     * Метод возвращает новую версию списка с элементом, вставленным на указанную позицию.
+     *
+     * @param t        элемент, который необходимо вставить.
+     * @param position индекс, на который будет вставлен элемент.
+     * @return возвращает новую версию списка.
+     */
+    public SomePersistentList<T> withInsert(T t, int position) {
+
+        if (position < 0 || position > fillCount) {
+            throw new ArrayIndexOutOfBoundsException("Index " + position + " out of bounds for size " + fillCount);
+        }
+        if (position == fillCount) {
+            return withPut(t);
+        }
+        int leafStart = position & ~MASK;
+        Builder<T> builder = prefixBuilder(leafStart);
+        appendRange(builder, leafStart, position);
+        builder.put(t);
+        appendRange(builder, position, fillCount);
+        return builder.build();
+    }
+
+    /**
+     * Метод возвращает новую версию списка без элемента под указанным индексом.
+     *
+     * @param position индекс удаляемого элемента.
+     * @return возвращает новую версию списка.
+     */
+    public SomePersistentList<T> withDelete(int position) {
+
+        checkIndex(position, fillCount);
+        if (position == fillCount - 1) {
+            return withoutLast();
+        }
+        int leafStart = position & ~MASK;
+        Builder<T> builder = prefixBuilder(leafStart);
+        appendRange(builder, leafStart, position);
+        appendRange(builder, position + 1, fillCount);
+        return builder.build();
+    }
+
+    /**
+     * Метод возвращает новую версию списка, отсортированную при помощи {@link AdaptiveSort}.
+     *
+     * @param comparator компаратор, используемый в сортировке; если null, используется естественный порядок.
+     * @return возвращает новую версию списка.
+     */
+    public SomePersistentList<T> sorted(Comparator<T> comparator) {
+
+        Comparator<? super T> order = Objects.nonNull(comparator) ? comparator : (Comparator<T>) Comparator.naturalOrder();
+        T[] array = (T[]) new Object[fillCount];
+        int tailOffset = tailOffset();
+        for (int i = 0; i < tailOffset; i += WIDTH) {
+            System.arraycopy(leafFor(i), 0, array, i, WIDTH);
+        }
+        System.arraycopy(tail, 0, array, tailOffset, tail.length);
+        AdaptiveSort.sort(array, 0, fillCount, order);
+        Builder<T> builder = new Builder<>();
+        for (T t : array) {
+            builder.put(t);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Метод возвращает элемент списка, спускаясь от корня не более чем на {@code log32(n)} уровней.
+     *
+     * @param position индекс, указывающий позицию в коллекции, с которой будет взят элемент.
+     * @return возвращает элемент коллекции.
+     */
+    @Override
+    public T get(int position) {
+
+        checkIndex(position, fillCount);
+        return (T) leafFor(position)[position & MASK];
+    }
+
+    @Override
+    public int size() {
+
+        return fillCount;
+    }
+
+    @Override
+    public boolean isEmpty() {
+
+        return fillCount == 0;
+    }
+
+    /**
+     * Метод находит индекс первого элемента, равного переданному, обходя листья по порядку.
+     *
+     * @param t элемент, индекс которого необходимо найти в коллекции.
+     * @return возвращает индекс элемента, либо -1, если такого элемента нет.
+     */
+    @Override
+    public int getIndex(T t) {
+
+        int tailOffset = tailOffset();
+        for (int i = 0; i < tailOffset; i += WIDTH) {
+            int index = indexOf(t, leafFor(i), WIDTH);
+            if (index >= 0) {
+                return i + index;
+            }
+        }
+        int index = indexOf(t, tail, tail.length);
+        return index >= 0 ? tailOffset + index : -1;
+    }
+
+    @Override
+    public boolean contains(T t) {
+
+        return getIndex(t) > -1;
+    }
+
+    /**
+     * Метод выполняет действие для каждого элемента, обходя листья по порядку.
+     *
+     * @param action действие, выполняемое для каждого элемента.
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+
+        int tailOffset = tailOffset();
+        for (int i = 0; i < tailOffset; i += WIDTH) {
+            for (Object t : leafFor(i)) {
+                action.accept((T) t);
+            }
+        }
+        for (Object t : tail) {
+            action.accept((T) t);
+        }
+    }
+
+    /**
+     * @throws UnsupportedOperationException список неизменяемый, используйте {@link SomePersistentList#withPut(Object)}.
+     */
+    @Override
+    public void put(T t) {
+
+        throw immutable();
+    }
+
+    /**
+     * @throws UnsupportedOperationException список неизменяемый, используйте {@link SomePersistentList#withInsert(Object, int)}.
+     */
+    @Override
+    public void insert(T t, int position) {
+
+        throw immutable();
+    }
+
+    /**
+     * @throws UnsupportedOperationException список неизменяемый, используйте {@link SomePersistentList#withDelete(int)}.
+     */
+    @Override
+    public void delete(int position) {
+
+        throw immutable();
+    }
+
+    /**
+     * @throws UnsupportedOperationException список неизменяемый, используйте {@link SomePersistentList#empty()}.
+     */
+    @Override
+    public void deleteAll() {
+
+        throw immutable();
+    }
+
+    /**
+     * @throws UnsupportedOperationException список неизменяемый, используйте {@link SomePersistentList#withSet(Object, int)}.
+     */
+    @Override
+    public void set(T t, int position) {
+
+        throw immutable();
+    }
+
+    /**
+     * @throws UnsupportedOperationException список неизменяемый, используйте {@link SomePersistentList#sorted(Comparator)}.
+     */
+    @Override
+    public void sort() {
+
+        throw immutable();
+    }
+
+    /**
+     * @throws UnsupportedOperationException список неизменяемый, используйте {@link SomePersistentList#sorted(Comparator)}.
+     */
+    @Override
+    public void sort(Comparator<T> comparator) {
+
+        throw immutable();
+    }
+
+    /**
+     * @throws UnsupportedOperationException список неизменяемый.
+     */
+    @Override
+    public void deleteRange(int from, int to) {
+
+        throw immutable();
+    }
+
+    /**
+     * @throws UnsupportedOperationException список неизменяемый.
+     */
+    @Override
+    public int removeIf(Predicate<? super T> filter) {
+
+        throw immutable();
+    }
+
+    /**
+     * Построитель неизменяемого списка. Узлы, созданные построителем, помечаются его маркером и изменяются на месте,
+     * поэтому добавление элемента в среднем не создаёт новых массивов, кроме листа на каждые 32 элемента.
+     * После вызова {@link Builder#build()} построитель больше не может использоваться.
+     *
+     * @param <T> тип элементов списка.
+     */
+    public static final class Builder<T> {
+
+        private Object edit = new Object();
+
+        private int fillCount;
+
+        private int shift;
+
+        private Node root;
+
+        /**
+         * Хвост построителя всегда имеет длину 32.
+         */
+        private Object[] tail;
+
+        /**
+         * Лист чужого списка, массив которого сейчас используется как хвост. Такой хвост всегда заполнен
+         * и переносится в дерево без копирования.
+         */
+        private Node sharedTail;
+
+        private Builder() {
+
+            this.shift = BITS;
+            this.root = EMPTY_NODE;
+            this.tail = new Object[WIDTH];
+        }
+
+        private Builder(SomePersistentList<T> list) {
+
+            this.fillCount = list.fillCount;
+            this.shift = list.shift;
+            this.root = list.root;
+            this.tail = Arrays.copyOf(list.tail, WIDTH);
+        }
+
+        /**
+         * Метод добавляет элемент в конец строящегося списка.
+         *
+         * @param t элемент, который необходимо добавить.
+         * @return возвращает этот же построитель.
+         */
+        public Builder<T> put(T t) {
+
+            checkEditable();
+            if (fillCount - tailOffset(fillCount) == WIDTH) {
+                pushFullTail();
+                tail = new Object[WIDTH];
+            }
+            tail[fillCount & MASK] = t;
+            fillCount++;
+            return this;
+        }
+
+        /**
+         * Метод сообщает количество добавленных элементов.
+         *
+         * @return возвращает размер строящегося списка.
+         */
+        public int size() {
+
+            return fillCount;
+        }
+
+        /**
+         * Метод завершает построение и возвращает неизменяемый список.
+         *
+         * @return возвращает построенный список.
+         */
+        public SomePersistentList<T> build() {
+
+            checkEditable();
+            edit = null;
+            if (fillCount == 0) {
+                return empty();
+            }
+            return new SomePersistentList<>(fillCount, shift, root, Arrays.copyOf(tail, fillCount - tailOffset(fillCount)));
+        }
+
+        /**
+         * Внутренний метод класса, добавляющий целый лист другого списка без копирования.
+         * Количество элементов построителя должно быть кратно 32.
+         */
+        private void putLeaf(Node leaf) {
+
+            if (fillCount > 0) {
+                pushFullTail();
+            }
+            tail = leaf.array;
+            sharedTail = leaf;
+            fillCount += WIDTH;
+        }
+
+        /**
+         * Внутренний метод класса, переносящий заполненный хвост в дерево.
+         */
+        private void pushFullTail() {
+
+            Node tailNode = Objects.nonNull(sharedTail) ? sharedTail : new Node(edit, tail);
+            sharedTail = null;
+            if ((fillCount >>> BITS) > (1 << shift)) {
+                Node newRoot = new Node(edit, new Object[WIDTH]);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(edit, shift, tailNode);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(edit, fillCount, shift, root, tailNode);
+            }
+        }
+
+        private void checkEditable() {
+
+            if (Objects.isNull(edit)) {
+                throw new IllegalStateException("Builder has already been built");
+            }
+        }
+    }
+
+    /**
+     * Внутренний метод класса, создающий построитель, в который без копирования перенесены листья,
+     * содержащие первые {@code limit} элементов. Значение {@code limit} кратно 32 и не превышает начала хвоста.
+     */
+    private Builder<T> prefixBuilder(int limit) {
+
+        Builder<T> builder = new Builder<>();
+        for (int i = 0; i < limit; i += WIDTH) {
+            builder.putLeaf(leafNodeFor(i));
+        }
+        return builder;
+    }
+
+    /**
+     * Внутренний метод класса, добавляющий в построитель элементы с индексами {@code [from, to)}.
+     */
+    private void appendRange(Builder<T> builder, int from, int to) {
+
+        for (int i = from; i < to; i++) {
+            builder.put((T) leafFor(i)[i & MASK]);
+        }
+    }
+
+    private SomePersistentList<T> withoutLast() {
+
+        if (fillCount == 1) {
+            return empty();
+        }
+        if (fillCount - tailOffset() > 1) {
+            return new SomePersistentList<>(fillCount - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+        Object[] newTail = leafFor(fillCount - 2);
+        Node newRoot = popTail(shift, root);
+        int newShift = shift;
+        if (Objects.isNull(newRoot)) {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > BITS && Objects.isNull(newRoot.array[1])) {
+            newRoot = (Node) newRoot.array[0];
+            newShift -= BITS;
+        }
+        return new SomePersistentList<>(fillCount - 1, newShift, newRoot, newTail);
+    }
+
+    /**
+     * Внутренний метод класса, возвращающий копию пути к последнему листу дерева без этого листа,
+     * либо null, если узел после удаления листа становится пустым.
+     */
+    private Node popTail(int level, Node node) {
+
+        int index = ((fillCount - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Node child = popTail(level - BITS, (Node) node.array[index]);
+            if (Objects.isNull(child) && index == 0) {
+                return null;
+            }
+            Node copy = new Node(null, node.array.clone());
+            copy.array[index] = child;
+            return copy;
+        }
+        if (index == 0) {
+            return null;
+        }
+        Node copy = new Node(null, node.array.clone());
+        copy.array[index] = null;
+        return copy;
+    }
+
+    private Node setInPath(int level, Node node, int position, T t) {
+
+        Node copy = new Node(null, node.array.clone());
+        if (level == 0) {
+            copy.array[position & MASK] = t;
+        } else {
+            int index = (position >>> level) & MASK;
+            copy.array[index] = setInPath(level - BITS, (Node) node.array[index], position, t);
+        }
+        return copy;
+    }
+
+    private int tailOffset() {
+
+        return tailOffset(fillCount);
+    }
+
+    /**
+     * Внутренний метод класса, возвращающий массив элементов, в котором хранится элемент с указанным индексом.
+     */
+    private Object[] leafFor(int position) {
+
+        if (position >= tailOffset()) {
+            return tail;
+        }
+        return leafNodeFor(position).array;
+    }
+
+    private Node leafNodeFor(int position) {
+
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(position >>> level) & MASK];
+        }
+        return node;
+    }
+
+    /**
+     * Внутренний метод класса, возвращающий индекс первого элемента в начале хвоста при указанном размере.
+     */
+    private static int tailOffset(int fillCount) {
+
+        return fillCount < WIDTH ? 0 : ((fillCount - 1) >>> BITS) << BITS;
+    }
+
+    /**
+     * Внутренний метод класса, помещающий заполненный хвост в дерево как последний лист. Узлы, принадлежащие
+     * построителю с маркером {@code edit}, изменяются на месте, остальные узлы пути копируются.
+     */
+    private static Node pushTail(Object edit, int fillCount, int level, Node parent, Node tailNode) {
+
+        Node node = editable(edit, parent);
+        int index = ((fillCount - 1) >>> level) & MASK;
+        if (level == BITS) {
+            node.array[index] = tailNode;
+        } else {
+            Node child = (Node) node.array[index];
+            node.array[index] = Objects.nonNull(child)
+                    ? pushTail(edit, fillCount, level - BITS, child, tailNode)
+                    : newPath(edit, level - BITS, tailNode);
+        }
+        return node;
+    }
+
+    private static Node newPath(Object edit, int level, Node node) {
+
+        if (level == 0) {
+            return node;
+        }
+        Node path = new Node(edit, new Object[WIDTH]);
+        path.array[0] = newPath(edit, level - BITS, node);
+        return path;
+    }
+
+    private static Node editable(Object edit, Node node) {
+
+        if (Objects.nonNull(edit) && node.edit == edit) {
+            return node;
+        }
+        return new Node(edit, node.array.clone());
+    }
+
+    private static int indexOf(Object t, Object[] array, int count) {
+
+        for (int i = 0; i < count; i++) {
+            if (Objects.equals(t, array[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void checkIndex(int position, int size) {
+
+        if (position < 0 || position >= size) {
+            throw new ArrayIndexOutOfBoundsException("Index " + position + " out of bounds for size " + size);
+        }
+    }
+
+    private static UnsupportedOperationException immutable() {
+
+        return new UnsupportedOperationException("Persistent list is immutable, use the with... methods");
+    }
+}
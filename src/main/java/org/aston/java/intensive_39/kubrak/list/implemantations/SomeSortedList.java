@@ -0,0 +1,453 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Класс, представляющий из себя несинхронизированный списочный массив, элементы которого всегда упорядочены
+ * в соответствии с компаратором, переданным при создании.
+ *
+ * <p>{@code put} вставляет элемент в позицию, найденную двоичным поиском (после всех равных ему элементов),
+ * {@code getIndex} и {@code contains} выполняются за O(log n). Равенство элементов определяется компаратором,
+ * а не методом {@link Object#equals(Object)}. Групповая вставка {@code putAll} сортирует вставляемые элементы
+ * и сливает их с уже имеющимися за один проход.
+ *
+ * <p>{@code insert} и {@code set} допускаются только тогда, когда новый элемент не нарушает порядок,
+ * иначе выбрасывается {@link IllegalArgumentException}.
+ *
+ * @param <T> тип элементов, хранимых в данном списке.
+ * @author Konstantin_Kubrak
+ */
+public class SomeSortedList<T> implements SomeList<T> {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    /**
+     * Компаратор, задающий порядок элементов коллекции.
+     */
+    private final Comparator<? super T> comparator;
+
+    /**
+     * Текущее количество элементов в коллекции, по умолчанию 0.
+     */
+    private int fillCount;
+
+    /**
+     * Вместимость коллекции.
+     */
+    private int capacity;
+
+    /**
+     * Массив, хранящий элементы коллекции в упорядоченном виде.
+     */
+    private T[] arrayOfElements;
+
+    /**
+     * Конструктор класса, упорядочивающий элементы в естественном порядке.
+     */
+    public SomeSortedList() {
+
+        this((Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    /**
+     * Конструктор класса, упорядочивающий элементы с учётом переданного компаратора.
+     *
+     * @param comparator компаратор, задающий порядок элементов.
+     */
+    public SomeSortedList(Comparator<? super T> comparator) {
+
+        this(comparator, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Конструктор класса с указанием компаратора и начальной вместимости коллекции.
+     *
+     * @param comparator      компаратор, задающий порядок элементов.
+     * @param initialCapacity изначальная вместимость коллекции.
+     */
+    public SomeSortedList(Comparator<? super T> comparator, int initialCapacity) {
+
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity " + initialCapacity);
+        }
+        this.comparator = Objects.requireNonNull(comparator);
+        this.arrayOfElements = (T[]) new Object[initialCapacity];
+        this.capacity = initialCapacity;
+    }
+
+    /**
+     * Метод вставляет элемент в позицию, сохраняющую порядок коллекции, после всех равных ему элементов.
+     *
+     * @param t элемент, который необходимо вставить в коллекцию.
+     */
+    @Override
+    public void put(T t) {
+
+        insertAt(t, AdaptiveSort.upperBound(arrayOfElements, 0, fillCount, t, comparator));
+    }
+
+    /**
+     * Метод вставляет элемент на указанную позицию, если это не нарушает порядок коллекции.
+     *
+     * @param t        элемент, который необходимо вставить в коллекцию.
+     * @param position индекс, указывающий позицию в коллекции, куда будет произведена вставка.
+     * @throws IllegalArgumentException если элемент на этой позиции нарушил бы порядок коллекции.
+     */
+    @Override
+    public void insert(T t, int position) {
+
+        if (position < 0 || position > fillCount) {
+            throw new ArrayIndexOutOfBoundsException("Index " + position + " out of bounds for size " + fillCount);
+        }
+        checkOrder(t, position - 1, position);
+        insertAt(t, position);
+    }
+
+    /**
+     * Метод возвращает элемент коллекции, находящийся под указанным в параметрах индексом.
+     *
+     * @param position индекс, указывающий позицию в коллекции, с которой будет взят элемент.
+     * @return возвращает элемент коллекции.
+     */
+    @Override
+    public T get(int position) {
+
+        checkIndex(position);
+        return arrayOfElements[position];
+    }
+
+    /**
+     * Метод удаляет элемент под указанным индексом, смещая последующие элементы влево.
+     *
+     * @param position индекс, указывающий позицию в коллекции, где будет произведено удаление.
+     */
+    @Override
+    public void delete(int position) {
+
+        checkIndex(position);
+        System.arraycopy(arrayOfElements, position + 1, arrayOfElements, position, fillCount - position - 1);
+        arrayOfElements[--fillCount] = null;
+    }
+
+    /**
+     * Метод удаляет все элементы коллекции, замещая занятые ячейки на null.
+     */
+    @Override
+    public void deleteAll() {
+
+        Arrays.fill(arrayOfElements, 0, fillCount, null);
+        fillCount = 0;
+    }
+
+    /**
+     * Метод заменяет элемент под определённым индексом, если новый элемент не нарушает порядок коллекции.
+     *
+     * @param t        элемент, который необходимо вставить в коллекцию.
+     * @param position индекс, указывающий позицию в коллекции, где будет произведена замена.
+     * @throws IllegalArgumentException если элемент на этой позиции нарушил бы порядок коллекции.
+     */
+    @Override
+    public void set(T t, int position) {
+
+        checkIndex(position);
+        checkOrder(t, position - 1, position + 1);
+        arrayOfElements[position] = t;
+    }
+
+    /**
+     * Метод сообщает текущий размер коллекции, используя счётчик элементов.
+     *
+     * @return возвращает текущее количество элементов коллекции {@link SomeSortedList#fillCount}.
+     */
+    @Override
+    public int size() {
+
+        return fillCount;
+    }
+
+    /**
+     * Метод сообщает, пустая коллекция или нет.
+     *
+     * @return возвращает true, если коллекция пустая, false если коллекция содержит элементы.
+     */
+    @Override
+    public boolean isEmpty() {
+
+        return fillCount == 0;
+    }
+
+    /**
+     * Метод двоичным поиском находит индекс первого элемента, равного переданному с точки зрения компаратора.
+     *
+     * @param t элемент, индекс которого необходимо найти в коллекции.
+     * @return возвращает индекс первого равного элемента, либо -1, если такого элемента нет.
+     */
+    @Override
+    public int getIndex(T t) {
+
+        int index = indexOfFirstGreaterOrEqual(t);
+        return index < fillCount && comparator.compare(arrayOfElements[index], t) == 0 ? index : -1;
+    }
+
+    /**
+     * Метод двоичным поиском определяет, имеется ли в коллекции элемент, равный переданному с точки зрения компаратора.
+     *
+     * @param t элемент, который необходимо найти в коллекции.
+     * @return возвращает результат поиска: true или false.
+     */
+    @Override
+    public boolean contains(T t) {
+
+        return getIndex(t) > -1;
+    }
+
+    /**
+     * Коллекция всегда упорядочена, поэтому метод ничего не делает.
+     */
+    @Override
+    public void sort() {
+    }
+
+    /**
+     * Коллекция всегда упорядочена компаратором, переданным при создании, поэтому сортировка этим же компаратором
+     * (или null) ничего не делает, а другим компаратором не поддерживается.
+     *
+     * @param comparator компаратор, используемый в сортировке.
+     * @throws UnsupportedOperationException если передан компаратор, отличный от компаратора коллекции.
+     */
+    @Override
+    public void sort(Comparator<T> comparator) {
+
+        if (Objects.nonNull(comparator) && !comparator.equals(this.comparator)) {
+            throw new UnsupportedOperationException("Sorted list order is fixed by its comparator");
+        }
+    }
+
+    /**
+     * Метод выполняет действие для каждого элемента коллекции в порядке возрастания, обходя внутренний массив напрямую,
+     * без создания итератора.
+     *
+     * @param action действие, выполняемое для каждого элемента.
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+
+        for (int i = 0; i < fillCount; i++) {
+            action.accept(arrayOfElements[i]);
+        }
+    }
+
+    /**
+     * Метод возвращает разделитель по диапазону {@code [0, fillCount)} внутреннего массива,
+     * который при разделении делит диапазон пополам.
+     *
+     * @return возвращает разделитель с характеристиками {@code ORDERED}, {@code SIZED} и {@code SUBSIZED}.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+
+        return Spliterators.spliterator(arrayOfElements, 0, fillCount, Spliterator.ORDERED);
+    }
+
+    /**
+     * Метод двоичным поиском находит индекс первого элемента, не меньшего переданного.
+     *
+     * @param t граница поиска.
+     * @return возвращает индекс первого элемента, не меньшего {@code t}, либо размер коллекции, если такого нет.
+     */
+    public int indexOfFirstGreaterOrEqual(T t) {
+
+        return AdaptiveSort.lowerBound(arrayOfElements, 0, fillCount, t, comparator);
+    }
+
+    /**
+     * Метод двоичным поиском находит индекс первого элемента, строго большего переданного.
+     *
+     * @param t граница поиска.
+     * @return возвращает индекс первого элемента, большего {@code t}, либо размер коллекции, если такого нет.
+     */
+    public int indexOfFirstGreater(T t) {
+
+        return AdaptiveSort.upperBound(arrayOfElements, 0, fillCount, t, comparator);
+    }
+
+    /**
+     * Метод возвращает новую упорядоченную коллекцию с элементами из диапазона значений {@code [from, to)}.
+     * Границы находятся двоичным поиском, элементы копируются одним вызовом {@link System#arraycopy}.
+     *
+     * @param from нижняя граница диапазона (включительно).
+     * @param to   верхняя граница диапазона (исключительно).
+     * @return возвращает коллекцию с элементами диапазона.
+     */
+    public SomeSortedList<T> subRange(T from, T to) {
+
+        int start = indexOfFirstGreaterOrEqual(from);
+        int end = Math.max(start, indexOfFirstGreaterOrEqual(to));
+        SomeSortedList<T> range = new SomeSortedList<>(comparator, end - start);
+        System.arraycopy(arrayOfElements, start, range.arrayOfElements, 0, end - start);
+        range.fillCount = end - start;
+        return range;
+    }
+
+    /**
+     * Метод вставляет все элементы другой коллекции, сохраняя порядок (см. {@link SomeSortedList#putAll(Object[])}).
+     *
+     * @param list коллекция, элементы которой необходимо вставить.
+     */
+    @Override
+    public void putAll(SomeList<? extends T> list) {
+
+        int count = list.size();
+        T[] batch = (T[]) new Object[count];
+        for (int i = 0; i < count; i++) {
+            batch[i] = list.get(i);
+        }
+        mergeBatch(batch);
+    }
+
+    /**
+     * Метод вставляет все элементы массива, сохраняя порядок коллекции.
+     * Копия массива сортируется (для уже упорядоченного массива это занимает O(m)),
+     * после чего сливается с коллекцией за один проход с конца, с однократным расширением вместимости.
+     *
+     * @param array массив, элементы которого необходимо вставить.
+     */
+    @Override
+    public void putAll(T[] array) {
+
+        mergeBatch(array.clone());
+    }
+
+    /**
+     * Метод вставляет все элементы коллекции JDK, сохраняя порядок (см. {@link SomeSortedList#putAll(Object[])}).
+     *
+     * @param collection коллекция, элементы которой необходимо вставить.
+     */
+    @Override
+    public void putAll(Collection<? extends T> collection) {
+
+        mergeBatch((T[]) collection.toArray());
+    }
+
+    /**
+     * Метод удаляет элементы на позициях {@code [from, to)} одним сдвигом хвоста коллекции.
+     *
+     * @param from индекс первого удаляемого элемента (включительно).
+     * @param to   индекс, до которого удаляются элементы (исключительно).
+     */
+    @Override
+    public void deleteRange(int from, int to) {
+
+        if (from < 0 || from > to || to > fillCount) {
+            throw new ArrayIndexOutOfBoundsException("Illegal range [" + from + ", " + to + ") for size " + fillCount);
+        }
+        System.arraycopy(arrayOfElements, to, arrayOfElements, from, fillCount - to);
+        int newFillCount = fillCount - (to - from);
+        Arrays.fill(arrayOfElements, newFillCount, fillCount, null);
+        fillCount = newFillCount;
+    }
+
+    /**
+     * Метод удаляет все элементы, удовлетворяющие условию, за один проход. Порядок оставшихся элементов сохраняется.
+     *
+     * @param filter условие, при выполнении которого элемент будет удалён.
+     * @return возвращает количество удалённых элементов.
+     */
+    @Override
+    public int removeIf(Predicate<? super T> filter) {
+
+        int initialFillCount = fillCount;
+        int target = 0;
+        int current = 0;
+        try {
+            for (; current < fillCount; current++) {
+                T t = arrayOfElements[current];
+                if (!filter.test(t)) {
+                    arrayOfElements[target++] = t;
+                }
+            }
+        } finally {
+            if (current < fillCount) {
+                System.arraycopy(arrayOfElements, current, arrayOfElements, target, fillCount - current);
+                target += fillCount - current;
+            }
+            Arrays.fill(arrayOfElements, target, fillCount, null);
+            fillCount = target;
+        }
+        return initialFillCount - fillCount;
+    }
+
+    private void checkIndex(int position) {
+
+        if (position < 0 || position >= fillCount) {
+            throw new ArrayIndexOutOfBoundsException("Index " + position + " out of bounds for size " + fillCount);
+        }
+    }
+
+    /**
+     * Внутренний метод класса, проверяющий, что элемент не меньше элемента на позиции {@code previous}
+     * и не больше элемента на позиции {@code next} (если эти позиции существуют).
+     */
+    private void checkOrder(T t, int previous, int next) {
+
+        if ((previous >= 0 && comparator.compare(arrayOfElements[previous], t) > 0)
+                || (next < fillCount && comparator.compare(t, arrayOfElements[next]) > 0)) {
+            throw new IllegalArgumentException("Element " + t + " violates the order of the sorted list");
+        }
+    }
+
+    private void insertAt(T t, int position) {
+
+        ensureCapacityForAdditional(1);
+        System.arraycopy(arrayOfElements, position, arrayOfElements, position + 1, fillCount - position);
+        arrayOfElements[position] = t;
+        fillCount++;
+    }
+
+    /**
+     * Внутренний метод класса, сливающий массив с коллекцией. Массив сортируется на месте,
+     * затем элементы обеих последовательностей переносятся в конец расширенного массива, начиная с наибольших.
+     * При равенстве первым размещается элемент коллекции, поэтому вставленные элементы следуют за равными им.
+     */
+    private void mergeBatch(T[] batch) {
+
+        if (batch.length == 0) {
+            return;
+        }
+        AdaptiveSort.sort(batch, 0, batch.length, comparator);
+        ensureCapacityForAdditional(batch.length);
+        int existing = fillCount - 1;
+        int incoming = batch.length - 1;
+        int target = fillCount + batch.length - 1;
+        while (incoming >= 0) {
+            if (existing >= 0 && comparator.compare(arrayOfElements[existing], batch[incoming]) > 0) {
+                arrayOfElements[target--] = arrayOfElements[existing--];
+            } else {
+                arrayOfElements[target--] = batch[incoming--];
+            }
+        }
+        fillCount += batch.length;
+    }
+
+    /**
+     * Внутренний метод класса, расширяющий вместимость коллекции один раз так, чтобы в неё поместилось
+     * ещё {@code count} элементов без превышения порога заполнения.
+     */
+    private void ensureCapacityForAdditional(int count) {
+
+        int required = fillCount + count;
+        if (required >= (capacity * 0.75)) {
+            this.capacity = Math.max((int) (arrayOfElements.length * 1.5 + 1), (int) (required / 0.75) + 1);
+            arrayOfElements = Arrays.copyOf(arrayOfElements, capacity);
+        }
+    }
+}
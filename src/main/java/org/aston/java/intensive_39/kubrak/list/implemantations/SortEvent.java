@@ -0,0 +1,30 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Событие JDK Flight Recorder о сортировке {@link SomeArrayList}. Длительность события равна времени сортировки.
+ *
+ * @author Konstantin_Kubrak
+ */
+@Name("someList.Sort")
+@Label("SomeList Sort")
+@Category("SomeList")
+@Description("Range of a SomeArrayList was sorted")
+final class SortEvent extends jdk.jfr.Event {
+
+    @Label("Size")
+    int size;
+
+    @Label("Comparisons")
+    long comparisons;
+
+    @Label("Swaps")
+    long swaps;
+
+    @Label("Max Depth")
+    int maxDepth;
+}
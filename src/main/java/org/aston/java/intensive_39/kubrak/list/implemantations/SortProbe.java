@@ -0,0 +1,48 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import java.util.Comparator;
+
+/**
+ * Компаратор-обёртка, подсчитывающий сравнения одной сортировки для {@link ListMetrics}.
+ * Через него же {@link AdaptiveSort} сообщает о перестановках и глубине разбиения, если сбор счётчиков включён.
+ * Используется одним потоком, поэтому счётчики не синхронизированы.
+ *
+ * @param <T> тип сравниваемых элементов.
+ * @author Konstantin_Kubrak
+ */
+final class SortProbe<T> implements Comparator<T> {
+
+    private final Comparator<? super T> comparator;
+
+    private final int initialDepthBudget;
+
+    private int minDepthBudget;
+
+    long comparisons;
+
+    long swaps;
+
+    SortProbe(Comparator<? super T> comparator, int length) {
+
+        this.comparator = comparator;
+        this.initialDepthBudget = AdaptiveSort.depthBudget(length);
+        this.minDepthBudget = initialDepthBudget;
+    }
+
+    @Override
+    public int compare(T left, T right) {
+
+        comparisons++;
+        return comparator.compare(left, right);
+    }
+
+    void recordDepth(int depthBudget) {
+
+        minDepthBudget = Math.min(minDepthBudget, depthBudget);
+    }
+
+    int maxDepth() {
+
+        return initialDepthBudget - minDepthBudget;
+    }
+}
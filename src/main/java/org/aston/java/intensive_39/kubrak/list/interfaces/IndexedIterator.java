@@ -0,0 +1,58 @@
+package org.aston.java.intensive_39.kubrak.list.interfaces;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Итератор по умолчанию для {@link SomeList}, обходящий коллекцию по индексам при помощи {@link SomeList#get(int)}.
+ * Поддерживает удаление последнего возвращённого элемента через {@link SomeList#delete(int)}.
+ *
+ * @param <T> тип элементов коллекции.
+ * @author Konstantin_Kubrak
+ */
+class IndexedIterator<T> implements Iterator<T> {
+
+    private final SomeList<T> list;
+
+    /**
+     * Индекс элемента, который будет возвращён следующим.
+     */
+    private int cursor;
+
+    /**
+     * Индекс последнего возвращённого элемента или -1, если удалять нечего.
+     */
+    private int lastReturned = -1;
+
+    IndexedIterator(SomeList<T> list) {
+
+        this.list = list;
+    }
+
+    @Override
+    public boolean hasNext() {
+
+        return cursor < list.size();
+    }
+
+    @Override
+    public T next() {
+
+        if (cursor >= list.size()) {
+            throw new NoSuchElementException();
+        }
+        lastReturned = cursor;
+        return list.get(cursor++);
+    }
+
+    @Override
+    public void remove() {
+
+        if (lastReturned < 0) {
+            throw new IllegalStateException();
+        }
+        list.delete(lastReturned);
+        cursor = lastReturned;
+        lastReturned = -1;
+    }
+}
@@ -0,0 +1,76 @@
+package org.aston.java.intensive_39.kubrak.list.interfaces;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Разделитель по умолчанию для {@link SomeList}, обходящий диапазон индексов {@code [index, fence)}
+ * при помощи {@link SomeList#get(int)} и делящий его пополам.
+ *
+ * @param <T> тип элементов коллекции.
+ * @author Konstantin_Kubrak
+ */
+class IndexedSpliterator<T> implements Spliterator<T> {
+
+    private final SomeList<T> list;
+
+    /**
+     * Индекс следующего обходимого элемента.
+     */
+    private int index;
+
+    /**
+     * Индекс, на котором обход заканчивается (исключительно).
+     */
+    private final int fence;
+
+    IndexedSpliterator(SomeList<T> list, int index, int fence) {
+
+        this.list = list;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+
+        if (index < fence) {
+            action.accept(list.get(index++));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+
+        for (int i = index; i < fence; i++) {
+            action.accept(list.get(i));
+        }
+        index = fence;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+
+        int middle = (index + fence) >>> 1;
+        if (index >= middle) {
+            return null;
+        }
+        Spliterator<T> prefix = new IndexedSpliterator<>(list, index, middle);
+        index = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+
+        return ORDERED | SIZED | SUBSIZED;
+    }
+}
@@ -0,0 +1,41 @@
+package org.aston.java.intensive_39.kubrak.list.interfaces;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Параметризованный интерфейс, описывающий преобразование элемента в запись фиксированной длины и обратно.
+ * Используется коллекциями, хранящими элементы вне кучи.
+ *
+ * <p>Методы работают с абсолютными смещениями и не изменяют позицию буфера, поэтому одна и та же реализация
+ * может одновременно читать записи из разных потоков.
+ *
+ * @param <T> тип элементов, преобразуемых в записи.
+ * @author Konstantin_Kubrak
+ */
+public interface RecordCodec<T> {
+
+    /**
+     * Длина записи в байтах.
+     *
+     * @return возвращает количество байт, занимаемых одной записью; всегда больше 0.
+     */
+    int recordSize();
+
+    /**
+     * Запись элемента в буфер.
+     *
+     * @param buffer буфер, в который записывается элемент.
+     * @param offset смещение в буфере, начиная с которого записывается {@link RecordCodec#recordSize()} байт.
+     * @param t      записываемый элемент.
+     */
+    void write(ByteBuffer buffer, int offset, T t);
+
+    /**
+     * Чтение элемента из буфера.
+     *
+     * @param buffer буфер, из которого читается элемент.
+     * @param offset смещение в буфере, начиная с которого читается {@link RecordCodec#recordSize()} байт.
+     * @return возвращает прочитанный элемент.
+     */
+    T read(ByteBuffer buffer, int offset);
+}
@@ -1,6 +1,12 @@
 package org.aston.java.intensive_39.kubrak.list.interfaces;
 
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Параметризованный интерфейс, отображающий методы без реализации, необходимые для хранения и обработки списка элементов.
@@ -8,7 +14,7 @@ import java.util.Comparator;
  * @param <T> тип элементов, с которым будет работать  класс, имплементирующий данный интерфейс.
  * @author Konstantin_Kubrak
  */
-public interface SomeList<T> {
+public interface SomeList<T> extends Iterable<T> {
 
     /**
      * Вставка элемента в конец коллекци.
@@ -94,4 +100,167 @@ public interface SomeList<T> {
      * @param comparator компаратор для изменения условий сортировки
      */
     void sort(Comparator<T> comparator);
+
+    /**
+     * Вставка всех элементов другой коллекции в конец коллекции.
+     *
+     * @param list коллекция, элементы которой будут вставлены.
+     */
+    default void putAll(SomeList<? extends T> list) {
+
+        int count = list.size();
+        for (int i = 0; i < count; i++) {
+            put(list.get(i));
+        }
+    }
+
+    /**
+     * Вставка всех элементов массива в конец коллекции.
+     *
+     * @param array массив, элементы которого будут вставлены.
+     */
+    default void putAll(T[] array) {
+
+        for (T t : array) {
+            put(t);
+        }
+    }
+
+    /**
+     * Вставка всех элементов коллекции JDK в конец коллекции в порядке её обхода.
+     *
+     * @param collection коллекция, элементы которой будут вставлены.
+     */
+    default void putAll(Collection<? extends T> collection) {
+
+        for (T t : collection) {
+            put(t);
+        }
+    }
+
+    /**
+     * Вставка всех элементов другой коллекции на определённую позицию со смещением уже имеющихся элементов вправо.
+     *
+     * @param list  коллекция, элементы которой будут вставлены.
+     * @param index позиция, на которую будет вставлен первый элемент.
+     */
+    default void insertAll(SomeList<? extends T> list, int index) {
+
+        int count = list.size();
+        for (int i = 0; i < count; i++) {
+            insert(list.get(i), index + i);
+        }
+    }
+
+    /**
+     * Вставка всех элементов массива на определённую позицию со смещением уже имеющихся элементов вправо.
+     *
+     * @param array массив, элементы которого будут вставлены.
+     * @param index позиция, на которую будет вставлен первый элемент.
+     */
+    default void insertAll(T[] array, int index) {
+
+        for (int i = 0; i < array.length; i++) {
+            insert(array[i], index + i);
+        }
+    }
+
+    /**
+     * Вставка всех элементов коллекции JDK на определённую позицию со смещением уже имеющихся элементов вправо.
+     *
+     * @param collection коллекция, элементы которой будут вставлены.
+     * @param index      позиция, на которую будет вставлен первый элемент.
+     */
+    default void insertAll(Collection<? extends T> collection, int index) {
+
+        for (T t : collection) {
+            insert(t, index++);
+        }
+    }
+
+    /**
+     * Удаление элементов коллекции на позициях {@code [from, to)}.
+     *
+     * @param from индекс первого удаляемого элемента (включительно).
+     * @param to   индекс, до которого удаляются элементы (исключительно).
+     */
+    default void deleteRange(int from, int to) {
+
+        for (int i = from; i < to; i++) {
+            delete(from);
+        }
+    }
+
+    /**
+     * Удаление всех элементов коллекции, удовлетворяющих условию.
+     *
+     * @param filter условие, при выполнении которого элемент будет удалён.
+     * @return возвращает количество удалённых элементов.
+     */
+    default int removeIf(Predicate<? super T> filter) {
+
+        int removed = 0;
+        for (int i = size() - 1; i >= 0; i--) {
+            if (filter.test(get(i))) {
+                delete(i);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Удаление всех элементов коллекции, не удовлетворяющих условию.
+     *
+     * @param filter условие, при выполнении которого элемент будет сохранён.
+     * @return возвращает количество удалённых элементов.
+     */
+    default int retainIf(Predicate<? super T> filter) {
+
+        return removeIf(filter.negate());
+    }
+
+    /**
+     * Получение итератора, обходящего коллекцию по индексам от первого элемента к последнему.
+     * Итератор поддерживает удаление последнего возвращённого элемента.
+     *
+     * @return возвращает итератор по элементам коллекции.
+     */
+    @Override
+    default Iterator<T> iterator() {
+
+        return new IndexedIterator<>(this);
+    }
+
+    /**
+     * Получение разделителя с характеристиками {@link Spliterator#ORDERED}, {@link Spliterator#SIZED}
+     * и {@link Spliterator#SUBSIZED}, делящего диапазон индексов коллекции пополам.
+     *
+     * @return возвращает разделитель по элементам коллекции.
+     */
+    @Override
+    default Spliterator<T> spliterator() {
+
+        return new IndexedSpliterator<>(this, 0, size());
+    }
+
+    /**
+     * Получение последовательного потока элементов коллекции.
+     *
+     * @return возвращает поток элементов коллекции.
+     */
+    default Stream<T> stream() {
+
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Получение параллельного потока элементов коллекции.
+     *
+     * @return возвращает параллельный поток элементов коллекции.
+     */
+    default Stream<T> parallelStream() {
+
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
@@ -0,0 +1,88 @@
+package org.aston.java.intensive_39.kubrak.list.interfaces;
+
+/**
+ * Интерфейс списка элементов примитивного типа {@code long}, повторяющий набор операций {@link SomeList}
+ * без упаковки значений в объекты-обёртки.
+ *
+ * @author Konstantin_Kubrak
+ */
+public interface SomeLongList {
+
+    /**
+     * Вставка элемента в конец коллекции.
+     *
+     * @param value значение, которое будет вставлено в коллекцию.
+     */
+    void put(long value);
+
+    /**
+     * Вставка элемента в коллекцию на определённую позицию со смещением уже имеющихся элементов вправо.
+     *
+     * @param value значение, которое будет вставлено в коллекцию.
+     * @param index позиция, на которую будет произведена вставка.
+     */
+    void insert(long value, int index);
+
+    /**
+     * Получение элемента коллекции на определённой позиции.
+     *
+     * @param index номер позиции, с которой будет получено значение.
+     * @return возвращает элемент коллекции.
+     */
+    long get(int index);
+
+    /**
+     * Удаление элемента коллекции на определённой позиции.
+     *
+     * @param index индекс позиции, на которой будет удалено значение.
+     */
+    void delete(int index);
+
+    /**
+     * Удаление всех элементов коллекции.
+     */
+    void deleteAll();
+
+    /**
+     * Замещение одного элемента коллекции на другой.
+     *
+     * @param value значение, которым будет замещено старое значение.
+     * @param index позиция, на которой будет произведена замена.
+     */
+    void set(long value, int index);
+
+    /**
+     * Получение текущего размера коллекции.
+     *
+     * @return возвращает текущий размер коллекции.
+     */
+    int size();
+
+    /**
+     * Получение индекса, под которым значение хранится в коллекции.
+     *
+     * @param value значение, чей индекс необходимо найти.
+     * @return возвращает индекс или -1, если значение отсутствует.
+     */
+    int getIndex(long value);
+
+    /**
+     * Проверка, является ли коллекция пустой.
+     *
+     * @return возвращает результат проверки.
+     */
+    boolean isEmpty();
+
+    /**
+     * Проверка, содержится ли значение в коллекции.
+     *
+     * @param value значение, в отношении которого будет произведён поиск.
+     * @return возвращает результат проверки.
+     */
+    boolean contains(long value);
+
+    /**
+     * Сортировка элементов коллекции по возрастанию.
+     */
+    void sort();
+}
@@ -0,0 +1,68 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import org.junit.jupiter.api.*;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ArrayPoolTest {
+
+    @DisplayName("Повторное использование очищенных массивов по классам размера")
+    @Test
+    void acquireAndReleaseTest() {
+
+        //given
+        ArrayPool pool = new ArrayPool(1024, 2);
+        Object[] array = pool.acquire(100);
+        array[0] = "used";
+        array[99] = "used";
+
+        //when
+        pool.release(array, 100);
+        Object[] reused = pool.acquire(65);
+        Object[] fresh = pool.acquire(65);
+
+        //then
+        assertThat(array.length).isEqualTo(128);
+        assertThat(reused).isSameAs(array);
+        assertThat(reused).containsOnlyNulls();
+        assertThat(fresh).isNotSameAs(array).hasSize(128);
+        assertThat(pool.acquire(0)).hasSize(ArrayPool.MIN_POOLED_LENGTH);
+        assertThat(pool.acquire(2000)).hasSize(2000);
+    }
+
+    @DisplayName("Ограничение кэша потока и отбрасывание чужих длин")
+    @Test
+    void cacheLimitsTest() throws InterruptedException {
+
+        //given
+        ArrayPool pool = new ArrayPool(1024, 2);
+
+        //when
+        pool.release(new Object[64], 0);
+        pool.release(new Object[64], 0);
+        pool.release(new Object[64], 0);
+        pool.release(new Object[100], 0);
+        pool.release(new Object[2048], 0);
+        AtomicReference<Integer> otherThread = new AtomicReference<>();
+        Thread thread = new Thread(() -> otherThread.set(pool.cachedArrays()));
+        thread.start();
+        thread.join();
+
+        //then
+        assertThat(pool.cachedArrays()).isEqualTo(2);
+        assertThat(otherThread.get()).isZero();
+    }
+
+    @DisplayName("Недопустимые параметры пула (negative)")
+    @Test
+    void invalidParametersTest() {
+
+        assertThrows(IllegalArgumentException.class, () -> {new ArrayPool(1000, 2);});
+        assertThrows(IllegalArgumentException.class, () -> {new ArrayPool(4, 2);});
+        assertThrows(IllegalArgumentException.class, () -> {new ArrayPool(1024, 0);});
+        assertThrows(IllegalArgumentException.class, () -> {new ArrayPool().acquire(-1);});
+    }
+}
@@ -0,0 +1,104 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExternalSortTest {
+
+    @TempDir
+    Path directory;
+
+    private Path temporaryDirectory;
+
+    private long[] values;
+
+    @BeforeEach
+    void setUp() throws IOException {
+
+        temporaryDirectory = Files.createDirectory(directory.resolve("runs"));
+        values = new Random(39).longs(10_000, 0, 5_000).toArray();
+    }
+
+    @DisplayName("Сортировка в несколько проходов слияния с записью в файл снимка")
+    @Test
+    void sortToFileTest() throws IOException {
+
+        //given
+        SomeArrayList<Long> input = new SomeArrayList<>();
+        Arrays.stream(values).forEach(input::put);
+        ExternalSort<Long> sort = new ExternalSort<>(RecordCodecs.LONG, null, 300, 3, temporaryDirectory);
+        Path output = directory.resolve("sorted.snapshot");
+
+        //when
+        long count = sort.sort(input, output);
+        SomeArrayList<Long> sorted = SomeArrayList.readFrom(output, RecordCodecs.LONG);
+
+        //then
+        assertThat(count).isEqualTo(values.length);
+        assertThat(sorted.stream().collect(Collectors.toList()))
+                .isEqualTo(Arrays.stream(values).sorted().boxed().collect(Collectors.toList()));
+        try (Stream<Path> files = Files.list(temporaryDirectory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @DisplayName("Сортировка потока по компаратору с добавлением в коллекцию")
+    @Test
+    void sortStreamToListTest() throws IOException {
+
+        //given
+        Stream<Long> input = Arrays.stream(values).boxed();
+        ExternalSort<Long> sort = new ExternalSort<>(RecordCodecs.LONG, Comparator.reverseOrder(), 1000, 64, temporaryDirectory);
+        SomeArrayList<Long> output = new SomeArrayList<>();
+        output.put(-1L);
+
+        //when
+        sort.sort(input::iterator, output);
+
+        //then
+        List<Long> expected = Arrays.stream(values).boxed().sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+        assertThat(output.size()).isEqualTo(values.length + 1);
+        assertThat(output.get(0)).isEqualTo(-1L);
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(output.get(i + 1)).isEqualTo(expected.get(i));
+        }
+    }
+
+    @DisplayName("Данные, поместившиеся в память, сортируются без временных файлов")
+    @Test
+    void sortInMemoryTest() throws IOException {
+
+        //given
+        SomeArrayList<Long> input = new SomeArrayList<>();
+        input.putAll(new Long[]{3L, 1L, 2L});
+        ExternalSort<Long> sort = new ExternalSort<>(RecordCodecs.LONG, null, 1000, 2, directory.resolve("missing"));
+        SomeArrayList<Long> output = new SomeArrayList<>();
+
+        //when
+        sort.sort(input, output);
+
+        //then
+        assertThat(output.stream().collect(Collectors.toList())).containsExactly(1L, 2L, 3L);
+    }
+
+    @DisplayName("Недопустимые параметры сортировки (negative)")
+    @Test
+    void invalidParametersTest() {
+
+        assertThrows(IllegalArgumentException.class, () -> {new ExternalSort<>(RecordCodecs.LONG, null, 0, 2, temporaryDirectory);});
+        assertThrows(IllegalArgumentException.class, () -> {new ExternalSort<>(RecordCodecs.LONG, null, 100, 1, temporaryDirectory);});
+    }
+}
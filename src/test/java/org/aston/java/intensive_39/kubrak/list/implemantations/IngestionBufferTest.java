@@ -0,0 +1,122 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IngestionBufferTest {
+
+    @DisplayName("Одновременное добавление из многих потоков с обратным давлением")
+    @Test
+    void concurrentPutTest() throws Exception {
+
+        //given
+        SomeArrayList<Integer> list = new SomeArrayList<>();
+        IngestionBuffer<Integer> buffer = new IngestionBuffer<>(list, 4, 64, 2, Duration.ofMillis(1));
+        int threads = 16;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < threads; thread++) {
+            int base = thread * perThread;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    buffer.put(base + i);
+                }
+                return null;
+            }));
+        }
+
+        //when
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        buffer.close();
+
+        //then
+        assertThat(list.size()).isEqualTo(threads * perThread);
+        boolean[] seen = new boolean[threads * perThread];
+        int[] lastOfThread = new int[threads];
+        Arrays.fill(lastOfThread, -1);
+        list.forEach(value -> {
+            assertThat(seen[value]).isFalse();
+            seen[value] = true;
+            int thread = value / perThread;
+            assertThat(value).isGreaterThan(lastOfThread[thread]);
+            lastOfThread[thread] = value;
+        });
+    }
+
+    @DisplayName("Слив пакетов: заполненные пакеты, flush, фоновый слив и close")
+    @Test
+    void flushTest() throws InterruptedException {
+
+        //given
+        SomeArrayList<String> list = new SomeArrayList<>();
+        IngestionBuffer<String> buffer = new IngestionBuffer<>(list, 1, 4, 1, Duration.ZERO);
+        SomeArrayList<String> timedList = new SomeArrayList<>();
+        IngestionBuffer<String> timedBuffer = new IngestionBuffer<>(timedList, 2, 100, 4, Duration.ofMillis(5));
+        AtomicInteger size = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            buffer.put("testString" + i);
+        }
+        buffer.read(target -> size.set(target.size()));
+        int sizeBeforeFlush = size.get();
+        buffer.flush();
+        buffer.read(target -> size.set(target.size()));
+        int sizeAfterFlush = size.get();
+        timedBuffer.put("testString");
+        for (int i = 0; i < 500 && size.get() != 1; i++) {
+            Thread.sleep(10);
+            timedBuffer.read(target -> size.set(target.size()));
+        }
+        buffer.close();
+        timedBuffer.close();
+
+        //then
+        assertThat(sizeBeforeFlush).isEqualTo(8);
+        assertThat(sizeAfterFlush).isEqualTo(10);
+        assertThat(size.get()).isEqualTo(1);
+        for (int i = 0; i < 10; i++) {
+            assertThat(list.get(i)).isEqualTo("testString" + i);
+        }
+        assertThat(timedList.get(0)).isEqualTo("testString");
+    }
+
+    @DisplayName("Недопустимые параметры и добавление после закрытия (negative)")
+    @Test
+    void invalidUsageTest() {
+
+        //given
+        SomeArrayList<String> list = new SomeArrayList<>();
+        IngestionBuffer<String> buffer = new IngestionBuffer<>(list);
+
+        //when
+        buffer.close();
+
+        //then
+        assertThrows(IllegalStateException.class, () -> {buffer.put("testString");});
+        assertThrows(IllegalArgumentException.class, () -> {new IngestionBuffer<>(list, 3, 16, 4, Duration.ZERO);});
+        assertThrows(IllegalArgumentException.class, () -> {new IngestionBuffer<>(list, 4, 0, 4, Duration.ZERO);});
+        assertThrows(IllegalArgumentException.class, () -> {new IngestionBuffer<>(list, 4, 16, 0, Duration.ZERO);});
+        assertThrows(IllegalArgumentException.class,
+                () -> {new IngestionBuffer<>(list, 4, 16, 4, Duration.ofMillis(-1));});
+    }
+}
@@ -0,0 +1,101 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ListMetricsTest {
+
+    @TempDir
+    static Path directory;
+
+    private SomeArrayList<Integer> someListInteger;
+
+    @BeforeEach
+    void setUp() {
+
+        assumeTrue(ListMetrics.isEnabled(), "Run with -DsomeList.metrics=true");
+        someListInteger = new SomeArrayList<>();
+        ListMetrics.reset();
+    }
+
+    @DisplayName("Подсчёт расширений массива, сдвигов и длины поиска")
+    @Test
+    void countersTest() {
+
+        //when
+        for (int i = 0; i < 100; i++) {
+            someListInteger.put(i);
+        }
+        someListInteger.insert(-1, 10);
+        someListInteger.delete(0);
+        someListInteger.getIndex(49);
+        someListInteger.contains(-2);
+
+        //then
+        assertThat(ListMetrics.resizes()).isGreaterThan(0);
+        assertThat(ListMetrics.bytesCopied()).isGreaterThanOrEqualTo(4 * ListMetrics.resizes());
+        assertThat(ListMetrics.elementsShifted()).isEqualTo(90 + 100);
+        assertThat(ListMetrics.indexScans()).isEqualTo(2);
+        assertThat(ListMetrics.scannedElements()).isEqualTo(50 + 100);
+    }
+
+    @DisplayName("Подсчёт сравнений, перестановок и глубины сортировки")
+    @Test
+    void sortCountersTest() {
+
+        //given
+        new Random(39).ints(10_000).forEach(someListInteger::put);
+
+        //when
+        someListInteger.sort();
+
+        //then
+        assertThat(ListMetrics.sorts()).isEqualTo(1);
+        assertThat(ListMetrics.sortComparisons()).isGreaterThan(10_000);
+        assertThat(ListMetrics.sortSwaps()).isGreaterThan(0);
+        assertThat(ListMetrics.maxSortDepth()).isBetween(1L, 2L * 13);
+    }
+
+    @DisplayName("Запись событий расширения и сортировки в JDK Flight Recorder")
+    @Test
+    void flightRecorderEventsTest() throws IOException {
+
+        //given
+        Path file = directory.resolve("list.jfr");
+
+        //when
+        try (Recording recording = new Recording()) {
+            recording.enable("someList.Resize");
+            recording.enable("someList.Sort");
+            recording.start();
+            for (int i = 0; i < 1000; i++) {
+                someListInteger.put(1000 - i);
+            }
+            someListInteger.sort();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        //then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.getEventType().getName()).isEqualTo("someList.Resize");
+            assertThat(event.getInt("newCapacity")).isGreaterThan(event.getInt("oldCapacity"));
+        });
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.getEventType().getName()).isEqualTo("someList.Sort");
+            assertThat(event.getInt("size")).isEqualTo(1000);
+        });
+    }
+}
@@ -0,0 +1,266 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SomeArrayDequeTest {
+
+    private static SomeList<String> someListString;
+
+
+    private static final String TEST_STRING_0 = "testString0";
+    private static final String TEST_STRING_1 = "testString1";
+
+
+    @BeforeAll
+    static void setUpInit() {
+
+        someListString = new SomeArrayDeque<>();
+    }
+
+
+    @BeforeEach
+    void setUp() {
+
+        someListString.put(TEST_STRING_0);
+        someListString.put(TEST_STRING_1);
+    }
+
+    @AfterEach
+    void cleanUp() {
+
+        someListString.deleteAll();
+    }
+
+    @DisplayName("Сохранение и получение элемента")
+    @Test
+    void putAndGetTest() {
+
+        //when
+        someListString.put("testString2");
+        someListString.put("testString3");
+
+        //then
+        assertThat(someListString.size()).isEqualTo(4);
+        for (int i = 0; i < someListString.size(); i++) {
+            assertThat(someListString.get(i)).isEqualTo("testString" + i);
+        }
+    }
+
+    @DisplayName("Вставка элемента в начало, середину и конец")
+    @Test
+    void insertTest() {
+
+        //when
+        someListString.insert("testString2", 2);
+        someListString.insert("testStringHead", 0);
+        someListString.insert("testStringMiddle", 2);
+
+        //then
+        assertThat(someListString.size()).isEqualTo(5);
+        assertThat(someListString.get(0)).isEqualTo("testStringHead");
+        assertThat(someListString.get(1)).isEqualTo(TEST_STRING_0);
+        assertThat(someListString.get(2)).isEqualTo("testStringMiddle");
+        assertThat(someListString.get(3)).isEqualTo(TEST_STRING_1);
+        assertThat(someListString.get(4)).isEqualTo("testString2");
+    }
+
+    @DisplayName("Вставка,замена,удаление,получение элемента (negative)")
+    @Test
+    void indexOutOfBoundsTest() {
+
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someListString.get(696);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someListString.get(-1);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someListString.set("test", 696);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someListString.delete(696);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someListString.insert("test", 696);});
+    }
+
+    @DisplayName("Удаление элемента из начала и конца")
+    @Test
+    void deleteTest() {
+
+        //given
+        someListString.put("testString2");
+
+        //when
+        someListString.delete(0);
+        someListString.delete(someListString.size() - 1);
+
+        //then
+        assertThat(someListString.size()).isEqualTo(1);
+        assertThat(someListString.get(0)).isEqualTo(TEST_STRING_1);
+    }
+
+    @DisplayName("Использование в качестве очереди с переходом через конец массива")
+    @Test
+    void fifoWrapAroundTest() {
+
+        for (int i = 0; i < 1000; i++) {
+            //when
+            someListString.put("testString" + (i + 2));
+            String first = someListString.get(0);
+            someListString.delete(0);
+
+            //then
+            assertThat(first).isEqualTo("testString" + i);
+            assertThat(someListString.size()).isEqualTo(2);
+        }
+    }
+
+    @DisplayName("Использование в качестве стека")
+    @Test
+    void lifoTest() {
+
+        //when
+        for (int i = 2; i < 100; i++) {
+            someListString.insert("testString" + i, 0);
+        }
+
+        //then
+        for (int i = 99; i > 1; i--) {
+            assertThat(someListString.get(0)).isEqualTo("testString" + i);
+            someListString.delete(0);
+        }
+        assertThat(someListString.get(0)).isEqualTo(TEST_STRING_0);
+        assertThat(someListString.get(1)).isEqualTo(TEST_STRING_1);
+    }
+
+    @DisplayName("Случайные вставки и удаления совпадают с ArrayList")
+    @Test
+    void randomOperationsTest() {
+
+        //given
+        SomeList<Integer> deque = new SomeArrayDeque<>(4);
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(39);
+
+        //when
+        for (int i = 0; i < 10_000; i++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                int position = random.nextInt(expected.size() + 1);
+                deque.insert(i, position);
+                expected.add(position, i);
+            } else {
+                int position = random.nextInt(expected.size());
+                deque.delete(position);
+                expected.remove(position);
+            }
+        }
+
+        //then
+        assertThat(deque.size()).isEqualTo(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(deque.get(i)).isEqualTo(expected.get(i));
+        }
+    }
+
+    @DisplayName("Удаление всех элементов коллекции")
+    @Test
+    void deleteAllTest() {
+
+        //when
+        someListString.deleteAll();
+
+        //then
+        assertThat(someListString.size()).isZero();
+        assertThat(someListString.isEmpty()).isTrue();
+        assertThat(someListString.contains(TEST_STRING_0)).isFalse();
+        assertThat(someListString.contains(TEST_STRING_1)).isFalse();
+    }
+
+    @DisplayName("Поиск индекса элемента, в том числе null")
+    @Test
+    void getIndexTest() {
+
+        //given
+        someListString.put(null);
+
+        //then
+        assertThat(someListString.getIndex(TEST_STRING_1)).isEqualTo(1);
+        assertThat(someListString.getIndex(null)).isEqualTo(2);
+        assertThat(someListString.contains("testString2")).isFalse();
+    }
+
+    @DisplayName("Сортировка с переходом через конец массива")
+    @Test
+    void sortTest() {
+
+        //given
+        someListString.insert("testString5", 0);
+        someListString.insert("testString3", 0);
+        someListString.put("testString4");
+        someListString.put("testString2");
+
+        //when
+        someListString.sort();
+
+        //then
+        for (int i = 0; i < someListString.size(); i++) {
+            assertThat(someListString.get(i)).isEqualTo("testString" + i);
+        }
+    }
+
+    @DisplayName("Сортировка с компаратором")
+    @Test
+    void sortWitchComparatorTest() {
+
+        //given
+        someListString.put("testString3");
+        someListString.put("testString2");
+        int size = someListString.size() - 1;
+
+        //when
+        someListString.sort(Comparator.reverseOrder());
+
+        //then
+        for (int i = 0; i < someListString.size(); i++) {
+            assertThat(someListString.get(i)).isEqualTo("testString" + (size - i));
+        }
+    }
+
+    @DisplayName("Обход методом forEach элементов, переходящих через конец внутреннего массива")
+    @Test
+    void forEachWrappedTest() {
+
+        //given
+        SomeArrayDeque<Integer> deque = new SomeArrayDeque<>();
+        for (int i = 0; i < 6; i++) {
+            deque.put(i);
+        }
+        deque.delete(0);
+        deque.delete(0);
+        for (int i = 6; i < 10; i++) {
+            deque.put(i);
+        }
+        List<Integer> visited = new ArrayList<>();
+
+        //when
+        deque.forEach(visited::add);
+
+        //then
+        assertThat(visited).containsExactly(2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(deque.stream().mapToInt(Integer::intValue).sum()).isEqualTo(44);
+    }
+
+    @DisplayName("Замена элемента коллекции")
+    @Test
+    void setTest() {
+
+        //when
+        someListString.set("testString2", 1);
+
+        //then
+        assertThat(someListString.size()).isEqualTo(2);
+        assertThat(someListString.get(0)).isEqualTo(TEST_STRING_0);
+        assertThat(someListString.get(1)).isEqualTo("testString2");
+    }
+}
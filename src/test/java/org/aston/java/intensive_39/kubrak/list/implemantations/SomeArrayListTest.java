@@ -1,9 +1,22 @@
 package org.aston.java.intensive_39.kubrak.list.implemantations;
 
+import org.aston.java.intensive_39.kubrak.list.interfaces.RecordCodec;
 import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -156,6 +169,19 @@ class SomeArrayListTest {
         assertThat(someListString.contains(TEST_STRING_1)).isFalse();
     }
 
+    @DisplayName("Поиск элемента в коллекции, содержащей null")
+    @Test
+    void getIndexWithNullTest() {
+
+        //given
+        someListString.insert(null, 0);
+
+        //then
+        assertThat(someListString.getIndex(TEST_STRING_1)).isEqualTo(2);
+        assertThat(someListString.getIndex(null)).isZero();
+        assertThat(someListString.contains("testString2")).isFalse();
+    }
+
     @DisplayName("Увеличение вместимости коллекции")
     @Test
     void checkCapacityExtensionTest() {
@@ -215,6 +241,648 @@ class SomeArrayListTest {
         }
     }
 
+    @DisplayName("Сортировка больших коллекций разной структуры")
+    @Test
+    void sortShapesTest() {
+
+        Random random = new Random(39);
+        int size = 50_000;
+        Integer[] randomValues = new Integer[size];
+        Integer[] nearlySorted = new Integer[size];
+        Integer[] reversed = new Integer[size];
+        Integer[] duplicates = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            randomValues[i] = random.nextInt();
+            nearlySorted[i] = i % 100 == 0 ? random.nextInt(size) : i;
+            reversed[i] = size - i;
+            duplicates[i] = random.nextInt(4);
+        }
+
+        for (Integer[] values : new Integer[][]{randomValues, nearlySorted, reversed, duplicates}) {
+            //given
+            SomeArrayList<Integer> someListInteger = new SomeArrayList<>();
+            for (Integer value : values) {
+                someListInteger.put(value);
+            }
+            Integer[] expected = values.clone();
+            Arrays.sort(expected, Comparator.reverseOrder());
+
+            //when
+            someListInteger.sort(Comparator.reverseOrder());
+
+            //then
+            for (int i = 0; i < size; i++) {
+                assertThat(someListInteger.get(i)).isEqualTo(expected[i]);
+            }
+        }
+    }
+
+    @DisplayName("Параллельная сортировка")
+    @Test
+    void parallelSortTest() {
+
+        //given
+        SomeArrayList<Integer> someListInteger = new SomeArrayList<>();
+        Random random = new Random(39);
+        for (int i = 0; i < 100_000; i++) {
+            someListInteger.put(random.nextInt(1000));
+        }
+
+        //when
+        someListInteger.parallelSort();
+
+        //then
+        assertThat(someListInteger.size()).isEqualTo(100_000);
+        for (int i = 1; i < someListInteger.size(); i++) {
+            assertThat(someListInteger.get(i - 1)).isLessThanOrEqualTo(someListInteger.get(i));
+        }
+    }
+
+    @DisplayName("Параллельная сортировка с компаратором сохраняет порядок равных элементов")
+    @Test
+    void parallelSortStabilityTest() {
+
+        //given
+        SomeArrayList<int[]> someListPairs = new SomeArrayList<>();
+        Random random = new Random(39);
+        for (int i = 0; i < 100_000; i++) {
+            someListPairs.put(new int[]{random.nextInt(16), i});
+        }
+
+        //when
+        someListPairs.parallelSort(Comparator.comparingInt(pair -> pair[0]));
+
+        //then
+        for (int i = 1; i < someListPairs.size(); i++) {
+            int[] previous = someListPairs.get(i - 1);
+            int[] current = someListPairs.get(i);
+            assertThat(previous[0]).isLessThanOrEqualTo(current[0]);
+            if (previous[0] == current[0]) {
+                assertThat(previous[1]).isLessThan(current[1]);
+            }
+        }
+    }
+
+    @DisplayName("Вставка всех элементов в конец коллекции")
+    @Test
+    void putAllTest() {
+
+        //given
+        SomeList<String> otherList = new SomeArrayList<>();
+        otherList.put("testString4");
+        otherList.put("testString5");
+
+        //when
+        someListString.putAll(new String[]{"testString2", "testString3"});
+        someListString.putAll(otherList);
+        someListString.putAll(List.of("testString6", "testString7"));
+
+        //then
+        assertThat(someListString.size()).isEqualTo(8);
+        for (int i = 0; i < someListString.size(); i++) {
+            assertThat(someListString.get(i)).isEqualTo("testString" + i);
+        }
+    }
+
+    @DisplayName("Вставка коллекции в саму себя")
+    @Test
+    void putAllSelfTest() {
+
+        //when
+        someListString.putAll(someListString);
+
+        //then
+        assertThat(someListString.size()).isEqualTo(4);
+        assertThat(someListString.get(2)).isEqualTo(TEST_STRING_0);
+        assertThat(someListString.get(3)).isEqualTo(TEST_STRING_1);
+    }
+
+    @DisplayName("Вставка всех элементов на позицию")
+    @Test
+    void insertAllTest() {
+
+        //given
+        SomeList<String> otherList = new SomeArrayList<>();
+        otherList.put("testString3");
+
+        //when
+        someListString.insertAll(new String[]{"testString1", "testString2"}, 1);
+        someListString.insertAll(otherList, 3);
+        someListString.insertAll(List.of("testString4"), 4);
+
+        //then
+        assertThat(someListString.size()).isEqualTo(6);
+        for (int i = 0; i < 5; i++) {
+            assertThat(someListString.get(i)).isEqualTo("testString" + i);
+        }
+        assertThat(someListString.get(5)).isEqualTo(TEST_STRING_1);
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someListString.insertAll(List.of("test"), 696);});
+    }
+
+    @DisplayName("Удаление диапазона элементов")
+    @Test
+    void deleteRangeTest() {
+
+        //given
+        someListString.putAll(new String[]{"testString2", "testString3", "testString4"});
+
+        //when
+        someListString.deleteRange(1, 4);
+
+        //then
+        assertThat(someListString.size()).isEqualTo(2);
+        assertThat(someListString.get(0)).isEqualTo(TEST_STRING_0);
+        assertThat(someListString.get(1)).isEqualTo("testString4");
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someListString.deleteRange(1, 696);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someListString.deleteRange(2, 1);});
+    }
+
+    @DisplayName("Удаление и сохранение элементов по условию")
+    @Test
+    void removeIfAndRetainIfTest() {
+
+        //given
+        someListString.putAll(new String[]{"testString2", "testString3", "testString4", "testString5"});
+
+        //when
+        int removed = someListString.removeIf(t -> t.endsWith("1") || t.endsWith("3"));
+        int notRetained = someListString.retainIf(t -> !t.endsWith("5"));
+
+        //then
+        assertThat(removed).isEqualTo(2);
+        assertThat(notRetained).isEqualTo(1);
+        assertThat(someListString.size()).isEqualTo(3);
+        assertThat(someListString.get(0)).isEqualTo(TEST_STRING_0);
+        assertThat(someListString.get(1)).isEqualTo("testString2");
+        assertThat(someListString.get(2)).isEqualTo("testString4");
+    }
+
+    @DisplayName("Удаление по условию, выбросившему исключение")
+    @Test
+    void removeIfExceptionTest() {
+
+        //given
+        someListString.put("testString2");
+
+        //when
+        assertThatThrownBy(() -> someListString.removeIf(t -> {
+            if (t.equals("testString2")) {
+                throw new IllegalStateException();
+            }
+            return t.equals(TEST_STRING_0);
+        })).isInstanceOf(IllegalStateException.class);
+
+        //then
+        assertThat(someListString.size()).isEqualTo(2);
+        assertThat(someListString.get(0)).isEqualTo(TEST_STRING_1);
+        assertThat(someListString.get(1)).isEqualTo("testString2");
+    }
+
+    @DisplayName("Обход коллекции итератором и удаление через итератор")
+    @Test
+    void iteratorTest() {
+
+        //given
+        someListString.put("testString2");
+        List<String> visited = new ArrayList<>();
+
+        //when
+        Iterator<String> iterator = someListString.iterator();
+        while (iterator.hasNext()) {
+            String t = iterator.next();
+            visited.add(t);
+            if (t.equals(TEST_STRING_1)) {
+                iterator.remove();
+            }
+        }
+
+        //then
+        assertThat(visited).containsExactly(TEST_STRING_0, TEST_STRING_1, "testString2");
+        assertThat(someListString.size()).isEqualTo(2);
+        assertThat(someListString.get(1)).isEqualTo("testString2");
+    }
+
+    @DisplayName("Обход коллекции методом forEach и циклом for-each")
+    @Test
+    void forEachTest() {
+
+        //given
+        List<String> visitedByForEach = new ArrayList<>();
+        List<String> visitedByLoop = new ArrayList<>();
+
+        //when
+        someListString.forEach(visitedByForEach::add);
+        for (String t : someListString) {
+            visitedByLoop.add(t);
+        }
+
+        //then
+        assertThat(visitedByForEach).containsExactly(TEST_STRING_0, TEST_STRING_1);
+        assertThat(visitedByLoop).containsExactly(TEST_STRING_0, TEST_STRING_1);
+    }
+
+    @DisplayName("Разделение разделителя пополам")
+    @Test
+    void spliteratorTest() {
+
+        //given
+        for (int i = 2; i < 10; i++) {
+            someListString.put("testString" + i);
+        }
+
+        //when
+        Spliterator<String> suffix = someListString.spliterator();
+        Spliterator<String> prefix = suffix.trySplit();
+
+        //then
+        assertThat(suffix.hasCharacteristics(Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED)).isTrue();
+        assertThat(prefix.estimateSize()).isEqualTo(5);
+        assertThat(suffix.estimateSize()).isEqualTo(5);
+        List<String> visited = new ArrayList<>();
+        prefix.forEachRemaining(visited::add);
+        suffix.forEachRemaining(visited::add);
+        for (int i = 0; i < visited.size(); i++) {
+            assertThat(visited.get(i)).isEqualTo("testString" + i);
+        }
+    }
+
+    @DisplayName("Последовательный и параллельный потоки элементов коллекции")
+    @Test
+    void streamTest() {
+
+        //given
+        SomeArrayList<Integer> list = new SomeArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            list.put(i);
+        }
+
+        //when
+        long sequentialSum = list.stream().mapToLong(Integer::longValue).sum();
+        long parallelSum = list.parallelStream().mapToLong(Integer::longValue).sum();
+        List<Integer> collected = list.parallelStream().filter(i -> i % 1000 == 0).collect(Collectors.toList());
+
+        //then
+        assertThat(sequentialSum).isEqualTo(99_999L * 100_000 / 2);
+        assertThat(parallelSum).isEqualTo(sequentialSum);
+        assertThat(collected).hasSize(100);
+        for (int i = 0; i < collected.size(); i++) {
+            assertThat(collected.get(i)).isEqualTo(i * 1000);
+        }
+    }
+
+    @DisplayName("Предварительное расширение и сжатие вместимости до размера коллекции")
+    @Test
+    void ensureCapacityAndTrimToSizeTest() {
+
+        //given
+        SomeArrayList<Integer> list = new SomeArrayList<>();
+
+        //when
+        list.ensureCapacity(1000);
+        int ensuredCapacity = list.capacity();
+        for (int i = 0; i < 1000; i++) {
+            list.put(i);
+        }
+        int filledCapacity = list.capacity();
+        list.deleteRange(10, 1000);
+        list.trimToSize();
+
+        //then
+        assertThat(ensuredCapacity).isGreaterThanOrEqualTo(1000);
+        assertThat(filledCapacity).isEqualTo(ensuredCapacity);
+        assertThat(list.capacity()).isEqualTo(10);
+        list.put(10);
+        for (int i = 0; i < list.size(); i++) {
+            assertThat(list.get(i)).isEqualTo(i);
+        }
+    }
+
+    @DisplayName("Сжатие вместимости после удаления по экономной политике")
+    @Test
+    void compactPolicyShrinkTest() {
+
+        //given
+        SomeArrayList<Integer> list = new SomeArrayList<>(CapacityPolicy.COMPACT);
+        for (int i = 0; i < 10_000; i++) {
+            list.put(i);
+        }
+        int grownCapacity = list.capacity();
+
+        //when
+        while (list.size() > 100) {
+            list.delete(list.size() - 1);
+        }
+        int shrunkCapacity = list.capacity();
+        list.deleteAll();
+
+        //then
+        assertThat(grownCapacity).isBetween(10_000, 12_500);
+        assertThat(shrunkCapacity).isLessThan(grownCapacity / 4);
+        assertThat(list.capacity()).isLessThan(shrunkCapacity);
+        assertThat(list.isEmpty()).isTrue();
+    }
+
+    @DisplayName("Политика с порогом сжатия без гистерезиса не создаётся")
+    @Test
+    void invalidCapacityPolicyTest() {
+
+        assertThrows(IllegalArgumentException.class, () -> {
+            new CapacityPolicy(2.0, 1.0, 1024, 0.5);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new CapacityPolicy(1.0, 0.75, 1024, 0);
+        });
+    }
+
+    @DisplayName("Сохранение коллекции в снимок и загрузка из него")
+    @Test
+    void snapshotTest(@TempDir Path directory) throws IOException {
+
+        //given
+        Path path = directory.resolve("list.snapshot");
+        SomeArrayList<Long> list = new SomeArrayList<>();
+        for (long i = 0; i < 300_000; i++) {
+            list.put(i * 31);
+        }
+
+        //when
+        list.writeTo(path, RecordCodecs.LONG);
+        SomeArrayList<Long> loaded = SomeArrayList.readFrom(path, RecordCodecs.LONG);
+
+        //then
+        assertThat(loaded.size()).isEqualTo(list.size());
+        assertThat(loaded.capacity()).isGreaterThanOrEqualTo(list.size());
+        for (int i = 0; i < list.size(); i++) {
+            assertThat(loaded.get(i)).isEqualTo(list.get(i));
+        }
+        assertThrows(IOException.class, () -> {
+            SomeArrayList.readFrom(path, RecordCodecs.INTEGER);
+        });
+    }
+
+    @DisplayName("Снимок с длиной записи, не кратной размеру буфера")
+    @Test
+    void snapshotUnalignedRecordTest(@TempDir Path directory) throws IOException {
+
+        //given
+        RecordCodec<Long> codec = new RecordCodec<>() {
+            @Override
+            public int recordSize() {
+
+                return 12;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Long t) {
+
+                buffer.putLong(offset, t);
+                buffer.putInt(offset + Long.BYTES, (int) (t >>> 7));
+            }
+
+            @Override
+            public Long read(ByteBuffer buffer, int offset) {
+
+                assertThat(buffer.getInt(offset + Long.BYTES)).isEqualTo((int) (buffer.getLong(offset) >>> 7));
+                return buffer.getLong(offset);
+            }
+        };
+        Path path = directory.resolve("list.snapshot");
+        SomeArrayList<Long> list = new SomeArrayList<>();
+        for (long i = 0; i < 200_000; i++) {
+            list.put(i * 31);
+        }
+
+        //when
+        list.writeTo(path, codec);
+        SomeArrayList<Long> loaded = SomeArrayList.readFrom(path, codec);
+
+        //then
+        assertThat(loaded.size()).isEqualTo(list.size());
+        for (int i = 0; i < list.size(); i++) {
+            assertThat(loaded.get(i)).isEqualTo(list.get(i));
+        }
+    }
+
+    @DisplayName("Выбор k-го элемента совпадает с элементом отсортированной коллекции")
+    @Test
+    void selectTest() {
+
+        //given
+        Random random = new Random(39);
+        SomeArrayList<Integer> list = new SomeArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            list.put(random.nextInt(1000));
+        }
+        List<Integer> expected = list.stream().sorted().collect(Collectors.toList());
+
+        for (int k : new int[]{0, 1, 5000, 9998, 9999}) {
+            //when
+            Integer selected = list.select(k, null);
+
+            //then
+            assertThat(selected).isEqualTo(expected.get(k));
+            for (int i = 0; i < list.size(); i++) {
+                if (i < k) {
+                    assertThat(list.get(i)).isLessThanOrEqualTo(selected);
+                } else {
+                    assertThat(list.get(i)).isGreaterThanOrEqualTo(selected);
+                }
+            }
+        }
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {list.select(10_000, null);});
+    }
+
+    @DisplayName("Получение k наибольших элементов без изменения коллекции")
+    @Test
+    void topKTest() {
+
+        //given
+        Random random = new Random(39);
+        SomeArrayList<Integer> list = new SomeArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            list.put(random.nextInt());
+        }
+        List<Integer> before = list.stream().collect(Collectors.toList());
+
+        //when
+        SomeList<Integer> top = list.topK(100, Comparator.reverseOrder());
+        SomeList<Integer> all = list.topK(20_000, null);
+
+        //then
+        assertThat(top.stream().collect(Collectors.toList()))
+                .isEqualTo(before.stream().sorted(Comparator.reverseOrder()).limit(100).collect(Collectors.toList()));
+        assertThat(all.stream().collect(Collectors.toList())).isEqualTo(before.stream().sorted().collect(Collectors.toList()));
+        assertThat(list.stream().collect(Collectors.toList())).isEqualTo(before);
+        assertThat(list.topK(0, null).isEmpty()).isTrue();
+    }
+
+    @DisplayName("Сортировка диапазона коллекции")
+    @Test
+    void sortRangeTest() {
+
+        //given
+        SomeArrayList<Integer> list = new SomeArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.put(99 - i);
+        }
+
+        //when
+        list.sort(10, 90, null);
+
+        //then
+        for (int i = 0; i < 100; i++) {
+            assertThat(list.get(i)).isEqualTo(i < 10 || i >= 90 ? 99 - i : i);
+        }
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {list.sort(50, 101, null);});
+    }
+
+    @DisplayName("Коллекция с пулом массивов: расширение, очистка и возврат массива")
+    @Test
+    void arrayPoolTest() {
+
+        //given
+        ArrayPool pool = new ArrayPool();
+        SomeArrayList<Integer> list = new SomeArrayList<>(10, CapacityPolicy.DEFAULT, pool);
+
+        //when
+        for (int i = 0; i < 1000; i++) {
+            list.put(i);
+        }
+        int cachedAfterGrowth = pool.cachedArrays();
+        list.deleteAll();
+        list.put(-1);
+        list.release();
+        int cachedAfterRelease = pool.cachedArrays();
+        SomeArrayList<Integer> next = new SomeArrayList<>(1000, CapacityPolicy.DEFAULT, pool);
+        next.putAll(new Integer[]{1, 2, 3});
+
+        //then
+        assertThat(list.capacity()).isZero();
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(cachedAfterGrowth).isPositive();
+        assertThat(cachedAfterRelease).isEqualTo(cachedAfterGrowth + 1);
+        assertThat(pool.cachedArrays()).isEqualTo(cachedAfterRelease - 1);
+        assertThat(next.capacity()).isEqualTo(1024);
+        assertThat(next.stream().collect(Collectors.toList())).containsExactly(1, 2, 3);
+        list.put(7);
+        assertThat(list.get(0)).isEqualTo(7);
+        assertThat(list.capacity()).isEqualTo(ArrayPool.MIN_POOLED_LENGTH);
+    }
+
+    @DisplayName("Уменьшение вместимости коллекции с пулом массивов до точного размера")
+    @Test
+    void trimToSizeWithArrayPoolTest() {
+
+        //given
+        ArrayPool pool = new ArrayPool();
+        SomeArrayList<Integer> list = new SomeArrayList<>(10, CapacityPolicy.DEFAULT, pool);
+        for (int i = 0; i < 100; i++) {
+            list.put(i);
+        }
+        int cachedBefore = pool.cachedArrays();
+
+        //when
+        list.trimToSize();
+        int cachedAfterTrim = pool.cachedArrays();
+        list.trimToSize();
+
+        //then
+        assertThat(list.capacity()).isEqualTo(100);
+        assertThat(cachedAfterTrim).isEqualTo(cachedBefore + 1);
+        assertThat(pool.cachedArrays()).isEqualTo(cachedAfterTrim);
+        assertThat(list.stream().collect(Collectors.toList())).hasSize(100).startsWith(0, 1, 2).endsWith(99);
+    }
+
+    @DisplayName("Параллельные обход, отображение, фильтрация и свёртка")
+    @Test
+    void parallelBulkOperationsTest() {
+
+        for (int size : new int[]{0, 1000, 200_003}) {
+
+            //given
+            SomeArrayList<Integer> list = new SomeArrayList<>();
+            List<Integer> expected = new ArrayList<>();
+            Random random = new Random(39);
+            for (int i = 0; i < size; i++) {
+                int value = random.nextInt(1000);
+                list.put(value);
+                expected.add(value);
+            }
+            LongAdder visited = new LongAdder();
+
+            //when
+            list.parallelForEach(visited::add);
+            SomeArrayList<String> mapped = list.map(String::valueOf);
+            SomeArrayList<Integer> filtered = list.filter(value -> value % 3 == 0);
+            Integer sum = list.reduce(0, Integer::sum);
+            String concatenated = mapped.reduce("", String::concat);
+
+            //then
+            assertThat(visited.sum()).isEqualTo(expected.stream().mapToLong(Integer::longValue).sum());
+            assertThat(mapped.stream().collect(Collectors.toList()))
+                    .isEqualTo(expected.stream().map(String::valueOf).collect(Collectors.toList()));
+            assertThat(filtered.stream().collect(Collectors.toList()))
+                    .isEqualTo(expected.stream().filter(value -> value % 3 == 0).collect(Collectors.toList()));
+            assertThat(sum).isEqualTo(expected.stream().mapToInt(Integer::intValue).sum());
+            assertThat(concatenated).isEqualTo(String.join("", mapped.stream().collect(Collectors.toList())));
+            assertThat(list.size()).isEqualTo(size);
+        }
+    }
+
+    @DisplayName("Устойчивая поразрядная сортировка по ключам int и long")
+    @Test
+    void sortByPrimitiveKeyTest() {
+
+        //given
+        Random random = new Random(39);
+        for (int size : new int[]{20, 10_000}) {
+            SomeArrayList<int[]> byInt = new SomeArrayList<>();
+            SomeArrayList<int[]> byLong = new SomeArrayList<>();
+            List<int[]> expected = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                int[] element = {random.nextInt(1000) - 500, i};
+                byInt.put(element);
+                byLong.put(element);
+                expected.add(element);
+            }
+            expected.sort(Comparator.comparingInt(element -> element[0]));
+
+            //when
+            byInt.sortByInt(element -> element[0]);
+            byLong.sortByLong(element -> (long) element[0] << 32);
+
+            //then
+            assertThat(byInt.stream().collect(Collectors.toList())).isEqualTo(expected);
+            assertThat(byLong.stream().collect(Collectors.toList())).isEqualTo(expected);
+        }
+    }
+
+    @DisplayName("Устойчивая сортировка по ключу Comparable с однократным вычислением ключей")
+    @Test
+    void sortByComparableKeyTest() {
+
+        //given
+        Random random = new Random(39);
+        SomeArrayList<String> list = new SomeArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.put("key" + random.nextInt(100) + "#" + i);
+        }
+        List<String> expected = list.stream()
+                .sorted(Comparator.comparing(s -> s.substring(0, s.indexOf('#'))))
+                .collect(Collectors.toList());
+        int[] calls = new int[1];
+
+        //when
+        list.sortBy(s -> {
+            calls[0]++;
+            return s.substring(0, s.indexOf('#'));
+        });
+
+        //then
+        assertThat(list.stream().collect(Collectors.toList())).isEqualTo(expected);
+        assertThat(calls[0]).isEqualTo(1000);
+    }
+
     @DisplayName("Замена элемента коллекции")
     @Test
     void setTest() {
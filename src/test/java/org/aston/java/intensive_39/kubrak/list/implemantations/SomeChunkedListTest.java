@@ -0,0 +1,299 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SomeChunkedListTest {
+
+    private static SomeList<String> someListString;
+
+
+    private static final String TEST_STRING_0 = "testString0";
+    private static final String TEST_STRING_1 = "testString1";
+
+
+    @BeforeAll
+    static void setUpInit() {
+
+        someListString = new SomeChunkedList<>();
+    }
+
+
+    @BeforeEach
+    void setUp() {
+
+        someListString.put(TEST_STRING_0);
+        someListString.put(TEST_STRING_1);
+    }
+
+    @AfterEach
+    void cleanUp() {
+
+        someListString.deleteAll();
+    }
+
+    @DisplayName("Сохранение и получение элемента")
+    @Test
+    void putAndGetTest() {
+
+        //when
+        someListString.put("testString2");
+        someListString.put("testString3");
+
+        //then
+        assertThat(someListString.size()).isEqualTo(4);
+        for (int i = 0; i < someListString.size(); i++) {
+            assertThat(someListString.get(i)).isEqualTo("testString" + i);
+        }
+    }
+
+    @DisplayName("Вставка элемента в начало, середину и конец")
+    @Test
+    void insertTest() {
+
+        //when
+        someListString.insert("testString2", 2);
+        someListString.insert("testStringHead", 0);
+        someListString.insert("testStringMiddle", 2);
+
+        //then
+        assertThat(someListString.size()).isEqualTo(5);
+        assertThat(someListString.get(0)).isEqualTo("testStringHead");
+        assertThat(someListString.get(1)).isEqualTo(TEST_STRING_0);
+        assertThat(someListString.get(2)).isEqualTo("testStringMiddle");
+        assertThat(someListString.get(3)).isEqualTo(TEST_STRING_1);
+        assertThat(someListString.get(4)).isEqualTo("testString2");
+    }
+
+    @DisplayName("Вставка,замена,удаление,получение элемента (negative)")
+    @Test
+    void indexOutOfBoundsTest() {
+
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someListString.get(696);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someListString.get(-1);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someListString.set("test", 696);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someListString.delete(696);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someListString.insert("test", 696);});
+    }
+
+    @DisplayName("Удаление элемента из начала и конца")
+    @Test
+    void deleteTest() {
+
+        //given
+        someListString.put("testString2");
+
+        //when
+        someListString.delete(0);
+        someListString.delete(someListString.size() - 1);
+
+        //then
+        assertThat(someListString.size()).isEqualTo(1);
+        assertThat(someListString.get(0)).isEqualTo(TEST_STRING_1);
+    }
+
+    @DisplayName("Случайные вставки и удаления совпадают с ArrayList")
+    @Test
+    void randomOperationsTest() {
+
+        //given
+        SomeList<Integer> chunkedList = new SomeChunkedList<>();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(39);
+
+        //when
+        for (int i = 0; i < 20 * SomeChunkedList.CHUNK_CAPACITY; i++) {
+            chunkedList.put(i);
+            expected.add(i);
+        }
+        for (int i = 0; i < 100_000; i++) {
+            int operation = random.nextInt(5);
+            if (expected.isEmpty() || operation < 2) {
+                int position = random.nextInt(expected.size() + 1);
+                chunkedList.insert(i, position);
+                expected.add(position, i);
+            } else if (operation == 4) {
+                int position = random.nextInt(expected.size());
+                chunkedList.set(-i, position);
+                expected.set(position, -i);
+            } else {
+                int position = random.nextInt(expected.size());
+                chunkedList.delete(position);
+                expected.remove(position);
+            }
+        }
+
+        //then
+        assertThat(chunkedList.size()).isEqualTo(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(chunkedList.get(i)).isEqualTo(expected.get(i));
+        }
+        for (int i = expected.size() - 1; i >= 0; i -= 97) {
+            assertThat(chunkedList.get(i)).isEqualTo(expected.get(i));
+            assertThat(chunkedList.getIndex(expected.get(i))).isEqualTo(expected.indexOf(expected.get(i)));
+        }
+    }
+
+    @DisplayName("Удаление всех элементов из середины и повторное заполнение")
+    @Test
+    void drainAndRefillTest() {
+
+        //given
+        SomeList<Integer> chunkedList = new SomeChunkedList<>();
+        int size = 5 * SomeChunkedList.CHUNK_CAPACITY;
+        for (int i = 0; i < size; i++) {
+            chunkedList.put(i);
+        }
+
+        //when
+        while (chunkedList.size() > 1) {
+            chunkedList.delete(chunkedList.size() / 2);
+        }
+        for (int i = 1; i < size; i++) {
+            chunkedList.put(i);
+        }
+
+        //then
+        assertThat(chunkedList.size()).isEqualTo(size);
+        assertThat(chunkedList.get(0)).isZero();
+        for (int i = 1; i < size; i++) {
+            assertThat(chunkedList.get(i)).isEqualTo(i);
+        }
+    }
+
+    @DisplayName("Сортировка большой коллекции")
+    @Test
+    void sortLargeTest() {
+
+        //given
+        SomeList<Integer> chunkedList = new SomeChunkedList<>();
+        Random random = new Random(39);
+        for (int i = 0; i < 10 * SomeChunkedList.CHUNK_CAPACITY; i++) {
+            chunkedList.insert(random.nextInt(), random.nextInt(chunkedList.size() + 1));
+        }
+
+        //when
+        chunkedList.sort();
+
+        //then
+        for (int i = 1; i < chunkedList.size(); i++) {
+            assertThat(chunkedList.get(i - 1)).isLessThanOrEqualTo(chunkedList.get(i));
+        }
+    }
+
+    @DisplayName("Удаление всех элементов коллекции")
+    @Test
+    void deleteAllTest() {
+
+        //when
+        someListString.deleteAll();
+
+        //then
+        assertThat(someListString.size()).isZero();
+        assertThat(someListString.isEmpty()).isTrue();
+        assertThat(someListString.contains(TEST_STRING_0)).isFalse();
+        assertThat(someListString.contains(TEST_STRING_1)).isFalse();
+    }
+
+    @DisplayName("Поиск индекса элемента, в том числе null")
+    @Test
+    void getIndexTest() {
+
+        //given
+        someListString.put(null);
+
+        //then
+        assertThat(someListString.getIndex(TEST_STRING_1)).isEqualTo(1);
+        assertThat(someListString.getIndex(null)).isEqualTo(2);
+        assertThat(someListString.contains("testString2")).isFalse();
+    }
+
+    @DisplayName("Сортировка")
+    @Test
+    void sortTest() {
+
+        //given
+        someListString.insert("testString5", 0);
+        someListString.insert("testString3", 0);
+        someListString.put("testString4");
+        someListString.put("testString2");
+
+        //when
+        someListString.sort();
+
+        //then
+        for (int i = 0; i < someListString.size(); i++) {
+            assertThat(someListString.get(i)).isEqualTo("testString" + i);
+        }
+    }
+
+    @DisplayName("Сортировка с компаратором")
+    @Test
+    void sortWitchComparatorTest() {
+
+        //given
+        someListString.put("testString3");
+        someListString.put("testString2");
+        int size = someListString.size() - 1;
+
+        //when
+        someListString.sort(Comparator.reverseOrder());
+
+        //then
+        for (int i = 0; i < someListString.size(); i++) {
+            assertThat(someListString.get(i)).isEqualTo("testString" + (size - i));
+        }
+    }
+
+    @DisplayName("Обход коллекции из нескольких блоков методом forEach и параллельным потоком")
+    @Test
+    void streamTest() {
+
+        //given
+        SomeChunkedList<Integer> list = new SomeChunkedList<>();
+        int size = SomeChunkedList.CHUNK_CAPACITY * 20 + 7;
+        for (int i = 0; i < size; i++) {
+            list.put(i);
+        }
+        for (int i = 0; i < size; i += 3) {
+            list.insert(-1, i);
+        }
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < list.size(); i++) {
+            expected.add(list.get(i));
+        }
+        List<Integer> visited = new ArrayList<>();
+
+        //when
+        list.forEach(visited::add);
+        List<Integer> collected = list.parallelStream().collect(Collectors.toList());
+        List<Integer> sequential = list.stream().skip(100).limit(3000).collect(Collectors.toList());
+
+        //then
+        assertThat(visited).isEqualTo(expected);
+        assertThat(collected).isEqualTo(expected);
+        assertThat(sequential).isEqualTo(expected.subList(100, 3100));
+    }
+
+    @DisplayName("Замена элемента коллекции")
+    @Test
+    void setTest() {
+
+        //when
+        someListString.set("testString2", 1);
+
+        //then
+        assertThat(someListString.size()).isEqualTo(2);
+        assertThat(someListString.get(0)).isEqualTo(TEST_STRING_0);
+        assertThat(someListString.get(1)).isEqualTo("testString2");
+    }
+}
@@ -0,0 +1,170 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SomeColumnarListTest {
+
+    private static final ColumnSchema<Trade> SCHEMA = ColumnSchema.<Trade>builder()
+            .longColumn("timestamp", Trade::timestamp)
+            .intColumn("id", Trade::id)
+            .doubleColumn("price", Trade::price)
+            .build(row -> new Trade(row.getLong(0), row.getInt(1), row.getDouble(2)));
+
+    private static final int TIMESTAMP = SCHEMA.columnIndex("timestamp");
+    private static final int ID = SCHEMA.columnIndex("id");
+    private static final int PRICE = SCHEMA.columnIndex("price");
+
+    private SomeColumnarList<Trade> list;
+
+    private List<Trade> expected;
+
+    @BeforeEach
+    void setUp() {
+
+        list = new SomeColumnarList<>(SCHEMA);
+        expected = new ArrayList<>();
+        Random random = new Random(39);
+        for (int i = 0; i < 1000; i++) {
+            Trade trade = new Trade(1_700_000_000_000L + i, random.nextInt(100) - 50, random.nextInt(2000) / 10.0 - 100);
+            list.put(trade);
+            expected.add(trade);
+        }
+    }
+
+    @DisplayName("Вставка, получение, замена и удаление записей")
+    @Test
+    void modificationTest() {
+
+        //given
+        Trade first = new Trade(1L, 7, -0.5);
+        Trade middle = new Trade(2L, Integer.MIN_VALUE, Double.MAX_VALUE);
+
+        //when
+        list.insert(first, 0);
+        expected.add(0, first);
+        list.insert(middle, 500);
+        expected.add(500, middle);
+        list.set(first, 999);
+        expected.set(999, first);
+        list.delete(1001);
+        expected.remove(1001);
+
+        //then
+        assertThat(list.size()).isEqualTo(expected.size());
+        assertThat(list.stream().collect(Collectors.toList())).isEqualTo(expected);
+        list.deleteAll();
+        assertThat(list.isEmpty()).isTrue();
+    }
+
+    @DisplayName("Поиск записи и значения поля по столбцам")
+    @Test
+    void getIndexTest() {
+
+        //given
+        Trade trade = expected.get(777);
+
+        //then
+        assertThat(list.getIndex(trade)).isEqualTo(777);
+        assertThat(list.contains(new Trade(trade.timestamp(), trade.id() + 1, trade.price()))).isFalse();
+        assertThat(list.indexOfInt(ID, trade.id()))
+                .isEqualTo(expected.stream().map(Trade::id).collect(Collectors.toList()).indexOf(trade.id()));
+        assertThat(list.indexOfLong(TIMESTAMP, trade.timestamp())).isEqualTo(777);
+        assertThat(list.indexOfDouble(PRICE, 1000.0)).isEqualTo(-1);
+        assertThat(list.getIndex(null)).isEqualTo(-1);
+    }
+
+    @DisplayName("Чтение строк через многоразовое представление и суммирование столбцов")
+    @Test
+    void rowAndSumTest() {
+
+        //given
+        List<Long> timestamps = new ArrayList<>();
+
+        //when
+        list.forEachRow(row -> timestamps.add(row.getLong(TIMESTAMP)));
+        SomeColumnarList<Trade>.Row row = list.row(5);
+
+        //then
+        assertThat(timestamps).isEqualTo(expected.stream().map(Trade::timestamp).collect(Collectors.toList()));
+        assertThat(row.position()).isEqualTo(5);
+        assertThat(row.getDouble(PRICE)).isEqualTo(expected.get(5).price());
+        assertThat(list.row(6)).isSameAs(row);
+        assertThat(list.sumLong(ID)).isEqualTo(expected.stream().mapToLong(Trade::id).sum());
+        assertThat(list.sumLong(TIMESTAMP)).isEqualTo(expected.stream().mapToLong(Trade::timestamp).sum());
+        assertThat(list.sumDouble(PRICE)).isCloseTo(expected.stream().mapToDouble(Trade::price).sum(), within(1e-6));
+    }
+
+    @DisplayName("Устойчивая сортировка по столбцу и сортировка компаратором записей")
+    @Test
+    void sortTest() {
+
+        //when
+        list.sortBy(PRICE);
+        List<Trade> byPrice = list.stream().collect(Collectors.toList());
+        list.sortBy(ID);
+        List<Trade> byIdThenPrice = list.stream().collect(Collectors.toList());
+        list.sort(Comparator.comparingLong(Trade::timestamp).reversed());
+
+        //then
+        expected.sort(Comparator.comparingDouble(Trade::price));
+        assertThat(byPrice).isEqualTo(expected);
+        expected.sort(Comparator.comparingInt(Trade::id));
+        assertThat(byIdThenPrice).isEqualTo(expected);
+        expected.sort(Comparator.comparingLong(Trade::timestamp).reversed());
+        assertThat(list.stream().collect(Collectors.toList())).isEqualTo(expected);
+    }
+
+    @DisplayName("Обращение к столбцу другого типа и к несуществующей строке (negative)")
+    @Test
+    void negativeTest() {
+
+        assertThrows(IllegalArgumentException.class, () -> {list.row(0).getInt(PRICE);});
+        assertThrows(IllegalArgumentException.class, () -> {list.sumDouble(ID);});
+        assertThrows(IllegalArgumentException.class, () -> {SCHEMA.columnIndex("volume");});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {list.get(1000);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {list.insert(new Trade(0L, 0, 0.0), 1001);});
+        assertThrows(NullPointerException.class, () -> {list.put(null);});
+    }
+
+    @DisplayName("Исключение в функции доступа не изменяет коллекцию (negative)")
+    @Test
+    void failingAccessorTest() {
+
+        //given
+        ColumnSchema<Trade> checked = ColumnSchema.<Trade>builder()
+                .longColumn("timestamp", Trade::timestamp)
+                .intColumn("id", trade -> {
+                    if (trade.id() < 0) {
+                        throw new IllegalStateException();
+                    }
+                    return trade.id();
+                })
+                .doubleColumn("price", Trade::price)
+                .build(row -> new Trade(row.getLong(0), row.getInt(1), row.getDouble(2)));
+        SomeColumnarList<Trade> checkedList = new SomeColumnarList<>(checked);
+        List<Trade> trades = List.of(new Trade(1L, 1, 1.5), new Trade(2L, 2, 2.5), new Trade(3L, 3, 3.5));
+        trades.forEach(checkedList::put);
+
+        //when
+        assertThrows(IllegalStateException.class, () -> {checkedList.insert(new Trade(4L, -4, 4.5), 1);});
+        assertThrows(IllegalStateException.class, () -> {checkedList.set(new Trade(5L, -5, 5.5), 2);});
+        assertThrows(IllegalStateException.class, () -> {checkedList.getIndex(new Trade(6L, -6, 6.5));});
+
+        //then
+        assertThat(checkedList.stream().collect(Collectors.toList())).isEqualTo(trades);
+        assertThat(checkedList.getIndex(trades.get(2))).isEqualTo(2);
+    }
+
+    record Trade(long timestamp, int id, double price) {
+    }
+}
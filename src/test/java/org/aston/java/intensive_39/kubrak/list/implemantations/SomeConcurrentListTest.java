@@ -0,0 +1,211 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SomeConcurrentListTest {
+
+    private static SomeList<String> someListString;
+
+
+    private static final String TEST_STRING_0 = "testString0";
+    private static final String TEST_STRING_1 = "testString1";
+
+
+    @BeforeAll
+    static void setUpInit() {
+
+        someListString = new SomeConcurrentList<>();
+    }
+
+
+    @BeforeEach
+    void setUp() {
+
+        someListString.put(TEST_STRING_0);
+        someListString.put(TEST_STRING_1);
+    }
+
+    @AfterEach
+    void cleanUp() {
+
+        someListString.deleteAll();
+    }
+
+    @DisplayName("Сохранение и получение элемента")
+    @Test
+    void putAndGetTest() {
+
+        //when
+        for (int i = 2; i < 40; i++) {
+            someListString.put("testString" + i);
+        }
+
+        //then
+        assertThat(someListString.size()).isEqualTo(40);
+        for (int i = 0; i < someListString.size(); i++) {
+            assertThat(someListString.get(i)).isEqualTo("testString" + i);
+        }
+    }
+
+    @DisplayName("Вставка, замена и удаление элемента")
+    @Test
+    void insertSetDeleteTest() {
+
+        //when
+        someListString.insert("testStringHead", 0);
+        someListString.set("testStringMiddle", 1);
+        someListString.delete(2);
+
+        //then
+        assertThat(someListString.size()).isEqualTo(2);
+        assertThat(someListString.get(0)).isEqualTo("testStringHead");
+        assertThat(someListString.get(1)).isEqualTo("testStringMiddle");
+        assertThat(someListString.contains(TEST_STRING_1)).isFalse();
+    }
+
+    @DisplayName("Вставка,замена,удаление,получение элемента (negative)")
+    @Test
+    void indexOutOfBoundsTest() {
+
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someListString.get(696);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someListString.get(-1);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someListString.set("test", 2);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someListString.delete(696);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someListString.insert("test", 696);});
+    }
+
+    @DisplayName("Сортировка коллекции с использованием компаратора")
+    @Test
+    void sortWitchComparatorTest() {
+
+        //given
+        someListString.put("testString3");
+        someListString.put("testString2");
+
+        //when
+        someListString.sort(Comparator.reverseOrder());
+
+        //then
+        for (int i = 0; i < someListString.size(); i++) {
+            assertThat(someListString.get(i)).isEqualTo("testString" + (3 - i));
+        }
+    }
+
+    @DisplayName("Одновременная вставка из нескольких потоков не теряет элементов")
+    @Test
+    void concurrentPutTest() throws Exception {
+
+        //given
+        SomeConcurrentList<Integer> list = new SomeConcurrentList<>(1);
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        //when
+        for (int thread = 0; thread < threads; thread++) {
+            int base = thread * perThread;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    list.put(base + i);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        //then
+        assertThat(list.size()).isEqualTo(threads * perThread);
+        boolean[] seen = new boolean[threads * perThread];
+        int[] lastOfThread = new int[threads];
+        Arrays.fill(lastOfThread, -1);
+        list.forEach(value -> {
+            assertThat(seen[value]).isFalse();
+            seen[value] = true;
+            int thread = value / perThread;
+            assertThat(value).isGreaterThan(lastOfThread[thread]);
+            lastOfThread[thread] = value;
+        });
+    }
+
+    @DisplayName("Чтение во время вставок и структурных изменений видит только записанные элементы")
+    @Test
+    void concurrentReadWhileModifyingTest() throws Exception {
+
+        //given
+        SomeConcurrentList<Integer> list = new SomeConcurrentList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        //when
+        for (int writer = 0; writer < 2; writer++) {
+            int markerBase = -(writer + 1) * 1000;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 50_000; i++) {
+                    list.put(i);
+                    if (i % 100 == 99) {
+                        list.insert(markerBase - i / 100, list.size() / 2);
+                    }
+                    if (i % 10_000 == 9_999) {
+                        list.sort();
+                    }
+                }
+                return null;
+            }));
+        }
+        for (int reader = 0; reader < 2; reader++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 50_000; i++) {
+                    int size = list.size();
+                    if (size > 0) {
+                        assertThat(list.get(i % size / 2)).isNotNull();
+                    }
+                    list.contains(-2);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        //then
+        assertThat(list.size()).isEqualTo(101_000);
+        int[] counts = new int[50_000];
+        List<Integer> markers = new ArrayList<>();
+        list.forEach(value -> {
+            if (value >= 0) {
+                counts[value]++;
+            } else {
+                markers.add(value);
+            }
+        });
+        assertThat(counts).containsOnly(2);
+        assertThat(markers).hasSize(1000).doesNotHaveDuplicates();
+    }
+}
@@ -0,0 +1,165 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SomeDictionaryListTest {
+
+    private static final String[] STATUSES = {"NEW", "ACTIVE", "BLOCKED", "CLOSED"};
+
+    private SomeDictionaryList<String> list;
+
+    private List<String> expected;
+
+    @BeforeEach
+    void setUp() {
+
+        list = new SomeDictionaryList<>();
+        expected = new ArrayList<>();
+        Random random = new Random(39);
+        for (int i = 0; i < 1000; i++) {
+            String status = STATUSES[random.nextInt(STATUSES.length)];
+            list.put(status);
+            expected.add(status);
+        }
+    }
+
+    @DisplayName("Вставка, замена и удаление элементов с повторяющимися значениями")
+    @Test
+    void modificationTest() {
+
+        //when
+        list.insert("ARCHIVED", 0);
+        expected.add(0, "ARCHIVED");
+        list.insert(null, 500);
+        expected.add(500, null);
+        list.set("NEW", 1);
+        expected.set(1, "NEW");
+        list.delete(999);
+        expected.remove(999);
+
+        //then
+        assertThat(list.size()).isEqualTo(expected.size());
+        assertThat(list.stream().collect(Collectors.toList())).isEqualTo(expected);
+        assertThat(list.dictionarySize()).isEqualTo(STATUSES.length + 2);
+        assertThat(list.codeWidth()).isEqualTo(1);
+    }
+
+    @DisplayName("Поиск элемента через словарь")
+    @Test
+    void getIndexTest() {
+
+        //when
+        list.set("RARE", 777);
+
+        //then
+        assertThat(list.getIndex("RARE")).isEqualTo(777);
+        assertThat(list.getIndex(STATUSES[2])).isEqualTo(expected.indexOf(STATUSES[2]));
+        assertThat(list.getIndex("MISSING")).isEqualTo(-1);
+        assertThat(list.contains(null)).isFalse();
+        list.delete(777);
+        assertThat(list.contains("RARE")).isFalse();
+    }
+
+    @DisplayName("Наличие элемента по количеству кодов совпадает с ArrayList")
+    @Test
+    void containsTest() {
+
+        //given
+        Random random = new Random(39);
+
+        for (int i = 0; i < 5000; i++) {
+            //when
+            int operation = random.nextInt(6);
+            String value = "VALUE" + random.nextInt(12);
+            if (expected.isEmpty() || operation == 0) {
+                int position = random.nextInt(expected.size() + 1);
+                list.insert(value, position);
+                expected.add(position, value);
+            } else if (operation == 1) {
+                int position = random.nextInt(expected.size());
+                list.set(value, position);
+                expected.set(position, value);
+            } else if (operation < 4) {
+                int position = random.nextInt(expected.size());
+                list.delete(position);
+                expected.remove(position);
+            } else if (operation == 4 && random.nextInt(100) == 0) {
+                list.sort();
+                expected.sort(null);
+            } else if (operation == 5 && random.nextInt(100) == 0) {
+                list.removeIf(value::equals);
+                expected.removeIf(value::equals);
+            }
+
+            //then
+            String probe = random.nextBoolean() ? "VALUE" + random.nextInt(14) : STATUSES[random.nextInt(STATUSES.length)];
+            assertThat(list.contains(probe)).isEqualTo(expected.contains(probe));
+            assertThat(list.getIndex(probe)).isEqualTo(expected.indexOf(probe));
+        }
+        assertThat(list.stream().collect(Collectors.toList())).isEqualTo(expected);
+    }
+
+    @DisplayName("Расширение кодов при росте словаря")
+    @Test
+    void widenCodesTest() {
+
+        //given
+        SomeDictionaryList<Integer> numbers = new SomeDictionaryList<>();
+        List<Integer> numbersExpected = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < 120_000; i++) {
+            Integer value = i % 3 == 0 ? -1 : i;
+            numbers.put(value);
+            numbersExpected.add(value);
+            if (i == 500) {
+                assertThat(numbers.codeWidth()).isEqualTo(2);
+            }
+        }
+
+        //then
+        assertThat(numbers.codeWidth()).isEqualTo(4);
+        assertThat(numbers.stream().collect(Collectors.toList())).isEqualTo(numbersExpected);
+        assertThat(numbers.getIndex(119_998)).isEqualTo(119_998);
+        numbers.deleteAll();
+        assertThat(numbers.codeWidth()).isEqualTo(1);
+        assertThat(numbers.dictionarySize()).isZero();
+    }
+
+    @DisplayName("Сортировка словаря вместо элементов")
+    @Test
+    void sortTest() {
+
+        //when
+        list.sort();
+        List<String> natural = list.stream().collect(Collectors.toList());
+        list.sort(Comparator.reverseOrder());
+        List<String> reversed = list.stream().collect(Collectors.toList());
+
+        //then
+        assertThat(natural).isEqualTo(expected.stream().sorted().collect(Collectors.toList()));
+        assertThat(reversed).isEqualTo(expected.stream().sorted(Comparator.reverseOrder()).collect(Collectors.toList()));
+        list.put("ACTIVE");
+        assertThat(list.get(list.size() - 1)).isEqualTo("ACTIVE");
+        assertThat(list.dictionarySize()).isEqualTo(STATUSES.length);
+    }
+
+    @DisplayName("Вставка,замена,удаление,получение элемента (negative)")
+    @Test
+    void indexOutOfBoundsTest() {
+
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {list.get(1000);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {list.insert("NEW", 1001);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {list.set("NEW", -1);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {list.delete(1000);});
+    }
+}
@@ -0,0 +1,204 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeDoubleList;
+import org.junit.jupiter.api.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SomeDoubleArrayListTest {
+
+    private static SomeDoubleList someDoubleList;
+
+
+    private static final double TEST_VALUE_0 = 10.0;
+    private static final double TEST_VALUE_1 = 11.0;
+
+
+    @BeforeAll
+    static void setUpInit() {
+
+        someDoubleList = new SomeDoubleArrayList();
+    }
+
+
+    @BeforeEach
+    void setUp() {
+
+        someDoubleList.put(TEST_VALUE_0);
+        someDoubleList.put(TEST_VALUE_1);
+    }
+
+    @AfterEach
+    void cleanUp() {
+
+        someDoubleList.deleteAll();
+    }
+
+    @DisplayName("Сохранение и получение элемента")
+    @Test
+    void putAndGetTest() {
+
+        //given
+        int initialSize = someDoubleList.size();
+
+        //when
+        someDoubleList.put(12);
+        someDoubleList.put(13);
+
+        //then
+        assertThat(someDoubleList.size()).isEqualTo(initialSize + 2);
+        assertThat(someDoubleList.get(2)).isEqualTo(12);
+        assertThat(someDoubleList.get(3)).isEqualTo(13);
+    }
+
+    @DisplayName("Вставка элемента")
+    @Test
+    void insertTest() {
+
+        //given
+        int initialSize = someDoubleList.size();
+
+        //when
+        someDoubleList.insert(12, 1);
+
+        //then
+        assertThat(someDoubleList.size()).isEqualTo(initialSize + 1);
+        assertThat(someDoubleList.get(0)).isEqualTo(TEST_VALUE_0);
+        assertThat(someDoubleList.get(1)).isEqualTo(12);
+        assertThat(someDoubleList.get(2)).isEqualTo(TEST_VALUE_1);
+    }
+
+    @DisplayName("Вставка,замена,удаление,получение элемента (negative)")
+    @Test
+    void indexOutOfBoundsTest() {
+
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someDoubleList.get(696);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someDoubleList.set(12, 696);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someDoubleList.delete(696);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someDoubleList.insert(12, 696);});
+    }
+
+    @DisplayName("Удаление элемента")
+    @Test
+    void deleteTest() {
+
+        //given
+        someDoubleList.put(12);
+        int initialSize = someDoubleList.size();
+
+        //when
+        someDoubleList.delete(1);
+
+        //then
+        assertThat(someDoubleList.size()).isEqualTo(initialSize - 1);
+        assertThat(someDoubleList.get(0)).isEqualTo(TEST_VALUE_0);
+        assertThat(someDoubleList.get(1)).isEqualTo(12);
+        assertThat(someDoubleList.contains(TEST_VALUE_1)).isFalse();
+    }
+
+    @DisplayName("Удаление всех элементов коллекции")
+    @Test
+    void deleteAllTest() {
+
+        //when
+        someDoubleList.deleteAll();
+
+        //then
+        assertThat(someDoubleList.size()).isZero();
+        assertThat(someDoubleList.isEmpty()).isTrue();
+        assertThat(someDoubleList.contains(TEST_VALUE_0)).isFalse();
+        assertThat(someDoubleList.contains(TEST_VALUE_1)).isFalse();
+    }
+
+    @DisplayName("Поиск индекса элемента")
+    @Test
+    void getIndexTest() {
+
+        assertThat(someDoubleList.getIndex(TEST_VALUE_0)).isZero();
+        assertThat(someDoubleList.getIndex(TEST_VALUE_1)).isEqualTo(1);
+        assertThat(someDoubleList.getIndex(12)).isEqualTo(-1);
+        assertThat(someDoubleList.contains(TEST_VALUE_1)).isTrue();
+        assertThat(someDoubleList.contains(12)).isFalse();
+    }
+
+    @DisplayName("Поиск и сортировка специальных значений")
+    @Test
+    void specialValuesTest() {
+
+        //given
+        someDoubleList.put(Double.NaN);
+        someDoubleList.put(-0.0);
+        someDoubleList.put(0.0);
+
+        //when
+        someDoubleList.sort();
+
+        //then
+        assertThat(someDoubleList.getIndex(Double.NaN)).isEqualTo(4);
+        assertThat(someDoubleList.get(0)).isEqualTo(-0.0);
+        assertThat(someDoubleList.get(1)).isEqualTo(0.0);
+        assertThat(someDoubleList.getIndex(0.0)).isEqualTo(1);
+    }
+
+    @DisplayName("Увеличение вместимости коллекции")
+    @Test
+    void checkCapacityExtensionTest() {
+
+        //given
+        int initialSize = someDoubleList.size();
+
+        //when
+        for (int i = 0; i < 1000; i++) {
+            someDoubleList.put(i);
+        }
+
+        //then
+        assertThat(someDoubleList.size()).isEqualTo(initialSize + 1000);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(someDoubleList.get(initialSize + i)).isEqualTo(i);
+        }
+    }
+
+    @DisplayName("Сортировка")
+    @Test
+    void sortTest() {
+
+        //given
+        someDoubleList.put(15);
+        someDoubleList.put(14);
+        someDoubleList.put(13);
+        someDoubleList.put(12);
+
+        //when
+        someDoubleList.sort();
+
+        //then
+        for (int i = 0; i < someDoubleList.size(); i++) {
+            assertThat(someDoubleList.get(i)).isEqualTo(TEST_VALUE_0 + i);
+        }
+    }
+
+    @DisplayName("Замена элемента коллекции")
+    @Test
+    void setTest() {
+
+        //given
+        int initialSize = someDoubleList.size();
+
+        //when
+        someDoubleList.set(12, 1);
+
+        //then
+        assertThat(someDoubleList.size()).isEqualTo(initialSize);
+        assertThat(someDoubleList.get(0)).isEqualTo(TEST_VALUE_0);
+        assertThat(someDoubleList.get(1)).isEqualTo(12);
+    }
+
+    @DisplayName("Получение размера коллекции")
+    @Test
+    void getLengthTest() {
+
+        assertThat(someDoubleList.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,268 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeList;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SomeIndexedArrayListTest {
+
+    private static SomeList<String> someListString;
+
+
+    private static final String TEST_STRING_0 = "testString0";
+    private static final String TEST_STRING_1 = "testString1";
+
+
+    @BeforeAll
+    static void setUpInit() {
+
+        someListString = new SomeIndexedArrayList<>();
+    }
+
+
+    @BeforeEach
+    void setUp() {
+
+        someListString.put(TEST_STRING_0);
+        someListString.put(TEST_STRING_1);
+    }
+
+    @AfterEach
+    void cleanUp() {
+
+        someListString.deleteAll();
+    }
+
+    @DisplayName("Сохранение и получение элемента")
+    @Test
+    void putAndGetTest() {
+
+        //when
+        someListString.put("testString2");
+        someListString.put("testString3");
+
+        //then
+        assertThat(someListString.size()).isEqualTo(4);
+        for (int i = 0; i < someListString.size(); i++) {
+            assertThat(someListString.get(i)).isEqualTo("testString" + i);
+        }
+    }
+
+    @DisplayName("Вставка элемента в начало, середину и конец")
+    @Test
+    void insertTest() {
+
+        //when
+        someListString.insert("testString2", 2);
+        someListString.insert("testStringHead", 0);
+        someListString.insert("testStringMiddle", 2);
+
+        //then
+        assertThat(someListString.size()).isEqualTo(5);
+        assertThat(someListString.get(0)).isEqualTo("testStringHead");
+        assertThat(someListString.get(1)).isEqualTo(TEST_STRING_0);
+        assertThat(someListString.get(2)).isEqualTo("testStringMiddle");
+        assertThat(someListString.get(3)).isEqualTo(TEST_STRING_1);
+        assertThat(someListString.get(4)).isEqualTo("testString2");
+    }
+
+    @DisplayName("Вставка,замена,удаление,получение элемента (negative)")
+    @Test
+    void indexOutOfBoundsTest() {
+
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someListString.get(696);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someListString.get(-1);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someListString.set("test", 696);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someListString.delete(696);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someListString.insert("test", 696);});
+    }
+
+    @DisplayName("Удаление элемента из начала и конца")
+    @Test
+    void deleteTest() {
+
+        //given
+        someListString.put("testString2");
+
+        //when
+        someListString.delete(0);
+        someListString.delete(someListString.size() - 1);
+
+        //then
+        assertThat(someListString.size()).isEqualTo(1);
+        assertThat(someListString.get(0)).isEqualTo(TEST_STRING_1);
+    }
+
+    @DisplayName("Случайные операции совпадают с ArrayList")
+    @Test
+    void randomOperationsTest() {
+
+        //given
+        SomeList<Integer> indexedList = new SomeIndexedArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(39);
+
+        for (int i = 0; i < 20_000; i++) {
+            //when
+            int operation = random.nextInt(8);
+            int value = random.nextInt(200);
+            if (expected.isEmpty() || operation < 3) {
+                indexedList.put(value);
+                expected.add(value);
+            } else if (operation == 3) {
+                int position = random.nextInt(expected.size() + 1);
+                indexedList.insert(value, position);
+                expected.add(position, value);
+            } else if (operation == 4) {
+                int position = random.nextInt(expected.size());
+                indexedList.set(value, position);
+                expected.set(position, value);
+            } else if (operation == 5) {
+                int position = random.nextInt(expected.size());
+                indexedList.delete(position);
+                expected.remove(position);
+            } else if (operation == 6 && random.nextInt(50) == 0) {
+                indexedList.sort();
+                expected.sort(null);
+            }
+
+            //then
+            Integer probe = random.nextInt(220);
+            assertThat(indexedList.getIndex(probe)).isEqualTo(expected.indexOf(probe));
+            assertThat(indexedList.contains(probe)).isEqualTo(expected.contains(probe));
+        }
+        assertThat(indexedList.size()).isEqualTo(expected.size());
+    }
+
+    @DisplayName("Групповые операции поддерживают индекс")
+    @Test
+    void bulkOperationsTest() {
+
+        //when
+        someListString.putAll(new String[]{"testString2", "testString3", "testString2"});
+        someListString.insertAll(List.of("testString4"), 0);
+        someListString.deleteRange(1, 2);
+        int removed = someListString.removeIf(t -> t.equals("testString3"));
+
+        //then
+        assertThat(removed).isEqualTo(1);
+        assertThat(someListString.size()).isEqualTo(4);
+        assertThat(someListString.getIndex("testString4")).isZero();
+        assertThat(someListString.getIndex(TEST_STRING_1)).isEqualTo(1);
+        assertThat(someListString.getIndex("testString2")).isEqualTo(2);
+        assertThat(someListString.contains(TEST_STRING_0)).isFalse();
+        assertThat(someListString.contains("testString3")).isFalse();
+    }
+
+    @DisplayName("Индекс после removeIf, прерванного исключением")
+    @Test
+    void interruptedRemoveIfTest() {
+
+        //given
+        SomeIndexedArrayList<Integer> list = new SomeIndexedArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            list.put(i);
+        }
+        int indexBefore = list.getIndex(9);
+
+        //when
+        assertThrows(IllegalStateException.class, () -> {list.removeIf(value -> {
+            if (value == 5) {
+                throw new IllegalStateException();
+            }
+            return value % 2 == 0;
+        });});
+
+        //then
+        assertThat(indexBefore).isEqualTo(9);
+        assertThat(list.size()).isEqualTo(7);
+        assertThat(list.getIndex(9)).isEqualTo(6);
+        assertThat(list.getIndex(3)).isEqualTo(1);
+        assertThat(list.contains(4)).isFalse();
+    }
+
+    @DisplayName("Удаление всех элементов коллекции")
+    @Test
+    void deleteAllTest() {
+
+        //when
+        someListString.deleteAll();
+
+        //then
+        assertThat(someListString.size()).isZero();
+        assertThat(someListString.isEmpty()).isTrue();
+        assertThat(someListString.contains(TEST_STRING_0)).isFalse();
+        assertThat(someListString.contains(TEST_STRING_1)).isFalse();
+    }
+
+    @DisplayName("Поиск индекса элемента, в том числе null")
+    @Test
+    void getIndexTest() {
+
+        //given
+        someListString.put(null);
+
+        //then
+        assertThat(someListString.getIndex(TEST_STRING_1)).isEqualTo(1);
+        assertThat(someListString.getIndex(null)).isEqualTo(2);
+        assertThat(someListString.contains("testString2")).isFalse();
+    }
+
+    @DisplayName("Сортировка и поиск после неё")
+    @Test
+    void sortTest() {
+
+        //given
+        someListString.insert("testString5", 0);
+        someListString.insert("testString3", 0);
+        someListString.put("testString4");
+        someListString.put("testString2");
+
+        //when
+        someListString.sort();
+
+        //then
+        for (int i = 0; i < someListString.size(); i++) {
+            assertThat(someListString.get(i)).isEqualTo("testString" + i);
+            assertThat(someListString.getIndex("testString" + i)).isEqualTo(i);
+        }
+    }
+
+    @DisplayName("Сортировка с компаратором")
+    @Test
+    void sortWitchComparatorTest() {
+
+        //given
+        someListString.put("testString3");
+        someListString.put("testString2");
+        int size = someListString.size() - 1;
+
+        //when
+        someListString.sort(Comparator.reverseOrder());
+
+        //then
+        for (int i = 0; i < someListString.size(); i++) {
+            assertThat(someListString.get(i)).isEqualTo("testString" + (size - i));
+        }
+    }
+
+    @DisplayName("Замена элемента коллекции")
+    @Test
+    void setTest() {
+
+        //when
+        someListString.set("testString2", 1);
+
+        //then
+        assertThat(someListString.size()).isEqualTo(2);
+        assertThat(someListString.get(0)).isEqualTo(TEST_STRING_0);
+        assertThat(someListString.get(1)).isEqualTo("testString2");
+    }
+}
@@ -0,0 +1,185 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeIntList;
+import org.junit.jupiter.api.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SomeIntArrayListTest {
+
+    private static SomeIntList someIntList;
+
+
+    private static final int TEST_VALUE_0 = 10;
+    private static final int TEST_VALUE_1 = 11;
+
+
+    @BeforeAll
+    static void setUpInit() {
+
+        someIntList = new SomeIntArrayList();
+    }
+
+
+    @BeforeEach
+    void setUp() {
+
+        someIntList.put(TEST_VALUE_0);
+        someIntList.put(TEST_VALUE_1);
+    }
+
+    @AfterEach
+    void cleanUp() {
+
+        someIntList.deleteAll();
+    }
+
+    @DisplayName("Сохранение и получение элемента")
+    @Test
+    void putAndGetTest() {
+
+        //given
+        int initialSize = someIntList.size();
+
+        //when
+        someIntList.put(12);
+        someIntList.put(13);
+
+        //then
+        assertThat(someIntList.size()).isEqualTo(initialSize + 2);
+        assertThat(someIntList.get(2)).isEqualTo(12);
+        assertThat(someIntList.get(3)).isEqualTo(13);
+    }
+
+    @DisplayName("Вставка элемента")
+    @Test
+    void insertTest() {
+
+        //given
+        int initialSize = someIntList.size();
+
+        //when
+        someIntList.insert(12, 1);
+
+        //then
+        assertThat(someIntList.size()).isEqualTo(initialSize + 1);
+        assertThat(someIntList.get(0)).isEqualTo(TEST_VALUE_0);
+        assertThat(someIntList.get(1)).isEqualTo(12);
+        assertThat(someIntList.get(2)).isEqualTo(TEST_VALUE_1);
+    }
+
+    @DisplayName("Вставка,замена,удаление,получение элемента (negative)")
+    @Test
+    void indexOutOfBoundsTest() {
+
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someIntList.get(696);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someIntList.set(12, 696);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someIntList.delete(696);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someIntList.insert(12, 696);});
+    }
+
+    @DisplayName("Удаление элемента")
+    @Test
+    void deleteTest() {
+
+        //given
+        someIntList.put(12);
+        int initialSize = someIntList.size();
+
+        //when
+        someIntList.delete(1);
+
+        //then
+        assertThat(someIntList.size()).isEqualTo(initialSize - 1);
+        assertThat(someIntList.get(0)).isEqualTo(TEST_VALUE_0);
+        assertThat(someIntList.get(1)).isEqualTo(12);
+        assertThat(someIntList.contains(TEST_VALUE_1)).isFalse();
+    }
+
+    @DisplayName("Удаление всех элементов коллекции")
+    @Test
+    void deleteAllTest() {
+
+        //when
+        someIntList.deleteAll();
+
+        //then
+        assertThat(someIntList.size()).isZero();
+        assertThat(someIntList.isEmpty()).isTrue();
+        assertThat(someIntList.contains(TEST_VALUE_0)).isFalse();
+        assertThat(someIntList.contains(TEST_VALUE_1)).isFalse();
+    }
+
+    @DisplayName("Поиск индекса элемента")
+    @Test
+    void getIndexTest() {
+
+        assertThat(someIntList.getIndex(TEST_VALUE_0)).isZero();
+        assertThat(someIntList.getIndex(TEST_VALUE_1)).isEqualTo(1);
+        assertThat(someIntList.getIndex(12)).isEqualTo(-1);
+        assertThat(someIntList.contains(TEST_VALUE_1)).isTrue();
+        assertThat(someIntList.contains(12)).isFalse();
+    }
+
+    @DisplayName("Увеличение вместимости коллекции")
+    @Test
+    void checkCapacityExtensionTest() {
+
+        //given
+        int initialSize = someIntList.size();
+
+        //when
+        for (int i = 0; i < 1000; i++) {
+            someIntList.put(i);
+        }
+
+        //then
+        assertThat(someIntList.size()).isEqualTo(initialSize + 1000);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(someIntList.get(initialSize + i)).isEqualTo(i);
+        }
+    }
+
+    @DisplayName("Сортировка")
+    @Test
+    void sortTest() {
+
+        //given
+        someIntList.put(15);
+        someIntList.put(14);
+        someIntList.put(13);
+        someIntList.put(12);
+
+        //when
+        someIntList.sort();
+
+        //then
+        for (int i = 0; i < someIntList.size(); i++) {
+            assertThat(someIntList.get(i)).isEqualTo(TEST_VALUE_0 + i);
+        }
+    }
+
+    @DisplayName("Замена элемента коллекции")
+    @Test
+    void setTest() {
+
+        //given
+        int initialSize = someIntList.size();
+
+        //when
+        someIntList.set(12, 1);
+
+        //then
+        assertThat(someIntList.size()).isEqualTo(initialSize);
+        assertThat(someIntList.get(0)).isEqualTo(TEST_VALUE_0);
+        assertThat(someIntList.get(1)).isEqualTo(12);
+    }
+
+    @DisplayName("Получение размера коллекции")
+    @Test
+    void getLengthTest() {
+
+        assertThat(someIntList.size()).isEqualTo(2);
+    }
+}
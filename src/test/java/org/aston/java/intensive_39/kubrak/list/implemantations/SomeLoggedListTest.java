@@ -0,0 +1,210 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SomeLoggedListTest {
+
+    @TempDir
+    Path directory;
+
+    private Path snapshot;
+
+    private Path log;
+
+    private SomeLoggedList<Long> someListLong;
+
+
+    private static final Long TEST_LONG_0 = 100L;
+    private static final Long TEST_LONG_1 = 101L;
+
+
+    @BeforeEach
+    void setUp() throws IOException {
+
+        snapshot = directory.resolve("list.snapshot");
+        log = directory.resolve("list.log");
+        someListLong = SomeLoggedList.open(snapshot, log, RecordCodecs.LONG);
+        someListLong.put(TEST_LONG_0);
+        someListLong.put(TEST_LONG_1);
+    }
+
+    @AfterEach
+    void cleanUp() throws IOException {
+
+        someListLong.close();
+    }
+
+    @DisplayName("Изменения восстанавливаются из журнала после повторного открытия")
+    @Test
+    void replayTest() throws IOException {
+
+        //given
+        Random random = new Random(39);
+        List<Long> expected = new ArrayList<>(List.of(TEST_LONG_0, TEST_LONG_1));
+        for (int i = 0; i < 20_000; i++) {
+            int operation = random.nextInt(5);
+            long value = random.nextLong();
+            if (operation == 0 || expected.size() < 2) {
+                someListLong.put(value);
+                expected.add(value);
+            } else if (operation == 1) {
+                int position = random.nextInt(expected.size() + 1);
+                someListLong.insert(value, position);
+                expected.add(position, value);
+            } else if (operation == 2) {
+                int position = random.nextInt(expected.size());
+                someListLong.set(value, position);
+                expected.set(position, value);
+            } else if (operation == 3) {
+                int position = random.nextInt(expected.size());
+                someListLong.delete(position);
+                expected.remove(position);
+            } else {
+                int from = random.nextInt(expected.size());
+                int to = Math.min(expected.size(), from + random.nextInt(3));
+                someListLong.deleteRange(from, to);
+                expected.subList(from, to).clear();
+            }
+        }
+
+        //when
+        someListLong.close();
+        someListLong = SomeLoggedList.open(snapshot, log, RecordCodecs.LONG);
+
+        //then
+        assertThat(someListLong.size()).isEqualTo(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(someListLong.get(i)).isEqualTo(expected.get(i));
+        }
+    }
+
+    @DisplayName("Контрольная точка переносит изменения в снимок и очищает журнал")
+    @Test
+    void checkpointTest() throws IOException {
+
+        //given
+        someListLong.put(99L);
+
+        //when
+        someListLong.sort(Comparator.naturalOrder());
+        someListLong.put(102L);
+        someListLong.close();
+        long logSize = Files.size(log);
+        SomeArrayList<Long> fromSnapshot = SomeArrayList.readFrom(snapshot, RecordCodecs.LONG);
+        someListLong = SomeLoggedList.open(snapshot, log, RecordCodecs.LONG);
+
+        //then
+        assertThat(fromSnapshot.size()).isEqualTo(3);
+        assertThat(fromSnapshot.get(0)).isEqualTo(99L);
+        assertThat(logSize).isLessThan(32);
+        assertThat(someListLong.size()).isEqualTo(4);
+        assertThat(someListLong.get(3)).isEqualTo(102L);
+    }
+
+    @DisplayName("Прерванные исключением removeIf и сортировка сохраняют согласованность с журналом")
+    @Test
+    void interruptedBulkOperationTest() throws IOException {
+
+        //given
+        someListLong.deleteAll();
+        for (long i = 0; i < 10; i++) {
+            someListLong.put(i);
+        }
+
+        //when
+        assertThrows(IllegalStateException.class, () -> {someListLong.removeIf(value -> {
+            if (value == 5) {
+                throw new IllegalStateException();
+            }
+            return value % 2 == 0;
+        });});
+        someListLong.delete(0);
+        List<Long> afterRemoveIf = new ArrayList<>();
+        someListLong.forEach(afterRemoveIf::add);
+        someListLong.put(1L);
+        assertThrows(IllegalStateException.class, () -> {someListLong.sort((left, right) -> {
+            if (left == 1 || right == 1) {
+                throw new IllegalStateException();
+            }
+            return Long.compare(right, left);
+        });});
+        someListLong.delete(0);
+        List<Long> expected = new ArrayList<>();
+        someListLong.forEach(expected::add);
+        someListLong.close();
+        someListLong = SomeLoggedList.open(snapshot, log, RecordCodecs.LONG);
+
+        //then
+        assertThat(afterRemoveIf).containsExactly(3L, 5L, 6L, 7L, 8L, 9L);
+        assertThat(expected).hasSize(6);
+        assertThat(someListLong.size()).isEqualTo(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(someListLong.get(i)).isEqualTo(expected.get(i));
+        }
+    }
+
+    @DisplayName("Журнал предыдущего поколения не применяется повторно")
+    @Test
+    void staleLogTest() throws IOException {
+
+        //given
+        someListLong.close();
+        byte[] staleLog = Files.readAllBytes(log);
+        someListLong = SomeLoggedList.open(snapshot, log, RecordCodecs.LONG);
+        someListLong.checkpoint();
+        someListLong.close();
+
+        //when
+        Files.write(log, staleLog);
+        someListLong = SomeLoggedList.open(snapshot, log, RecordCodecs.LONG);
+
+        //then
+        assertThat(someListLong.size()).isEqualTo(2);
+        assertThat(someListLong.get(1)).isEqualTo(TEST_LONG_1);
+    }
+
+    @DisplayName("Неполная последняя запись журнала отбрасывается")
+    @Test
+    void tornTailTest() throws IOException {
+
+        //given
+        someListLong.put(102L);
+        someListLong.close();
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        //when
+        someListLong = SomeLoggedList.open(snapshot, log, RecordCodecs.LONG);
+        someListLong.put(103L);
+        someListLong.close();
+        someListLong = SomeLoggedList.open(snapshot, log, RecordCodecs.LONG);
+
+        //then
+        assertThat(someListLong.size()).isEqualTo(3);
+        assertThat(someListLong.get(2)).isEqualTo(103L);
+    }
+
+    @DisplayName("Получение элемента за пределами коллекции")
+    @Test
+    void getOutOfBoundsTest() {
+
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {
+            someListLong.set(1L, 2);
+        });
+    }
+}
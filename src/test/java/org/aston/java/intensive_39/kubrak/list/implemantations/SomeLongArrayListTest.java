@@ -0,0 +1,185 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import org.aston.java.intensive_39.kubrak.list.interfaces.SomeLongList;
+import org.junit.jupiter.api.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SomeLongArrayListTest {
+
+    private static SomeLongList someLongList;
+
+
+    private static final long TEST_VALUE_0 = 10L;
+    private static final long TEST_VALUE_1 = 11L;
+
+
+    @BeforeAll
+    static void setUpInit() {
+
+        someLongList = new SomeLongArrayList();
+    }
+
+
+    @BeforeEach
+    void setUp() {
+
+        someLongList.put(TEST_VALUE_0);
+        someLongList.put(TEST_VALUE_1);
+    }
+
+    @AfterEach
+    void cleanUp() {
+
+        someLongList.deleteAll();
+    }
+
+    @DisplayName("Сохранение и получение элемента")
+    @Test
+    void putAndGetTest() {
+
+        //given
+        int initialSize = someLongList.size();
+
+        //when
+        someLongList.put(12);
+        someLongList.put(13);
+
+        //then
+        assertThat(someLongList.size()).isEqualTo(initialSize + 2);
+        assertThat(someLongList.get(2)).isEqualTo(12);
+        assertThat(someLongList.get(3)).isEqualTo(13);
+    }
+
+    @DisplayName("Вставка элемента")
+    @Test
+    void insertTest() {
+
+        //given
+        int initialSize = someLongList.size();
+
+        //when
+        someLongList.insert(12, 1);
+
+        //then
+        assertThat(someLongList.size()).isEqualTo(initialSize + 1);
+        assertThat(someLongList.get(0)).isEqualTo(TEST_VALUE_0);
+        assertThat(someLongList.get(1)).isEqualTo(12);
+        assertThat(someLongList.get(2)).isEqualTo(TEST_VALUE_1);
+    }
+
+    @DisplayName("Вставка,замена,удаление,получение элемента (negative)")
+    @Test
+    void indexOutOfBoundsTest() {
+
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someLongList.get(696);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someLongList.set(12, 696);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someLongList.delete(696);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someLongList.insert(12, 696);});
+    }
+
+    @DisplayName("Удаление элемента")
+    @Test
+    void deleteTest() {
+
+        //given
+        someLongList.put(12);
+        int initialSize = someLongList.size();
+
+        //when
+        someLongList.delete(1);
+
+        //then
+        assertThat(someLongList.size()).isEqualTo(initialSize - 1);
+        assertThat(someLongList.get(0)).isEqualTo(TEST_VALUE_0);
+        assertThat(someLongList.get(1)).isEqualTo(12);
+        assertThat(someLongList.contains(TEST_VALUE_1)).isFalse();
+    }
+
+    @DisplayName("Удаление всех элементов коллекции")
+    @Test
+    void deleteAllTest() {
+
+        //when
+        someLongList.deleteAll();
+
+        //then
+        assertThat(someLongList.size()).isZero();
+        assertThat(someLongList.isEmpty()).isTrue();
+        assertThat(someLongList.contains(TEST_VALUE_0)).isFalse();
+        assertThat(someLongList.contains(TEST_VALUE_1)).isFalse();
+    }
+
+    @DisplayName("Поиск индекса элемента")
+    @Test
+    void getIndexTest() {
+
+        assertThat(someLongList.getIndex(TEST_VALUE_0)).isZero();
+        assertThat(someLongList.getIndex(TEST_VALUE_1)).isEqualTo(1);
+        assertThat(someLongList.getIndex(12)).isEqualTo(-1);
+        assertThat(someLongList.contains(TEST_VALUE_1)).isTrue();
+        assertThat(someLongList.contains(12)).isFalse();
+    }
+
+    @DisplayName("Увеличение вместимости коллекции")
+    @Test
+    void checkCapacityExtensionTest() {
+
+        //given
+        int initialSize = someLongList.size();
+
+        //when
+        for (int i = 0; i < 1000; i++) {
+            someLongList.put(i);
+        }
+
+        //then
+        assertThat(someLongList.size()).isEqualTo(initialSize + 1000);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(someLongList.get(initialSize + i)).isEqualTo(i);
+        }
+    }
+
+    @DisplayName("Сортировка")
+    @Test
+    void sortTest() {
+
+        //given
+        someLongList.put(15);
+        someLongList.put(14);
+        someLongList.put(13);
+        someLongList.put(12);
+
+        //when
+        someLongList.sort();
+
+        //then
+        for (int i = 0; i < someLongList.size(); i++) {
+            assertThat(someLongList.get(i)).isEqualTo(TEST_VALUE_0 + i);
+        }
+    }
+
+    @DisplayName("Замена элемента коллекции")
+    @Test
+    void setTest() {
+
+        //given
+        int initialSize = someLongList.size();
+
+        //when
+        someLongList.set(12, 1);
+
+        //then
+        assertThat(someLongList.size()).isEqualTo(initialSize);
+        assertThat(someLongList.get(0)).isEqualTo(TEST_VALUE_0);
+        assertThat(someLongList.get(1)).isEqualTo(12);
+    }
+
+    @DisplayName("Получение размера коллекции")
+    @Test
+    void getLengthTest() {
+
+        assertThat(someLongList.size()).isEqualTo(2);
+    }
+}
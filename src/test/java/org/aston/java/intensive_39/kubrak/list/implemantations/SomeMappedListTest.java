@@ -0,0 +1,236 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SomeMappedListTest {
+
+    private static final int RECORDS_PER_SEGMENT = 8;
+
+    @TempDir
+    static Path directory;
+
+    private static SomeMappedList<Long> someListLong;
+
+
+    private static final Long TEST_LONG_0 = 100L;
+    private static final Long TEST_LONG_1 = 101L;
+
+
+    @BeforeAll
+    static void setUpInit() throws IOException {
+
+        someListLong = SomeMappedList.create(directory.resolve("list.bin"), RecordCodecs.LONG, RECORDS_PER_SEGMENT);
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+
+        someListLong.close();
+    }
+
+
+    @BeforeEach
+    void setUp() {
+
+        someListLong.put(TEST_LONG_0);
+        someListLong.put(TEST_LONG_1);
+    }
+
+    @AfterEach
+    void cleanUp() {
+
+        someListLong.deleteAll();
+    }
+
+    @DisplayName("Сохранение и получение элемента")
+    @Test
+    void putAndGetTest() {
+
+        //when
+        someListLong.put(102L);
+
+        //then
+        assertThat(someListLong.size()).isEqualTo(3);
+        assertThat(someListLong.get(0)).isEqualTo(TEST_LONG_0);
+        assertThat(someListLong.get(2)).isEqualTo(102L);
+    }
+
+    @DisplayName("Получение элемента за пределами коллекции")
+    @Test
+    void getOutOfBoundsTest() {
+
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {
+            someListLong.get(2);
+        });
+    }
+
+    @DisplayName("Вставка, удаление и замена через границы сегментов совпадают с ArrayList")
+    @Test
+    void randomEditsTest() {
+
+        //given
+        Random random = new Random(39);
+        List<Long> expected = new ArrayList<>(List.of(TEST_LONG_0, TEST_LONG_1));
+
+        //when
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(4);
+            long value = random.nextLong();
+            if (operation == 0 || expected.isEmpty()) {
+                int position = random.nextInt(expected.size() + 1);
+                someListLong.insert(value, position);
+                expected.add(position, value);
+            } else if (operation == 1) {
+                someListLong.put(value);
+                expected.add(value);
+            } else if (operation == 2) {
+                int position = random.nextInt(expected.size());
+                someListLong.delete(position);
+                expected.remove(position);
+            } else {
+                int position = random.nextInt(expected.size());
+                someListLong.set(value, position);
+                expected.set(position, value);
+            }
+        }
+
+        //then
+        assertThat(someListLong.size()).isEqualTo(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(someListLong.get(i)).isEqualTo(expected.get(i));
+        }
+    }
+
+    @DisplayName("Удаление диапазона элементов через границы сегментов")
+    @Test
+    void deleteRangeTest() {
+
+        //given
+        for (long i = 2; i < 30; i++) {
+            someListLong.put(100 + i);
+        }
+
+        //when
+        someListLong.deleteRange(5, 21);
+
+        //then
+        assertThat(someListLong.size()).isEqualTo(14);
+        for (int i = 0; i < someListLong.size(); i++) {
+            assertThat(someListLong.get(i)).isEqualTo(i < 5 ? 100L + i : 116L + i);
+        }
+    }
+
+    @DisplayName("Сортировка нескольких сегментов в естественном порядке и по компаратору")
+    @Test
+    void sortTest() {
+
+        //given
+        Random random = new Random(39);
+        List<Long> expected = new ArrayList<>(List.of(TEST_LONG_0, TEST_LONG_1));
+        for (int i = 0; i < 101; i++) {
+            long value = random.nextInt(50);
+            someListLong.put(value);
+            expected.add(value);
+        }
+
+        //when
+        someListLong.sort();
+        List<Long> ascending = new ArrayList<>();
+        someListLong.forEach(ascending::add);
+        someListLong.sort(Comparator.reverseOrder());
+
+        //then
+        expected.sort(null);
+        assertThat(ascending).isEqualTo(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(someListLong.get(i)).isEqualTo(expected.get(expected.size() - 1 - i));
+        }
+    }
+
+    @DisplayName("Сортировка по ключу с повторами устойчива")
+    @Test
+    void stableSortTest() throws IOException {
+
+        //given
+        List<Long> expected = new ArrayList<>();
+        Comparator<Long> byKey = Comparator.comparingLong(value -> value % 5);
+        try (SomeMappedList<Long> list = SomeMappedList.create(directory.resolve("stable.bin"), RecordCodecs.LONG, 1024)) {
+            Random random = new Random(39);
+            for (int i = 0; i < 3000; i++) {
+                long value = random.nextInt(1_000_000) * 3000L + i;
+                list.put(value);
+                expected.add(value);
+            }
+
+            //when
+            list.sort(byKey);
+
+            //then
+            expected.sort(byKey);
+            assertThat(list.size()).isEqualTo(expected.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertThat(list.get(i)).isEqualTo(expected.get(i));
+            }
+        }
+    }
+
+    @DisplayName("Поиск индекса и проверка наличия элемента")
+    @Test
+    void getIndexAndContainsTest() {
+
+        assertThat(someListLong.getIndex(TEST_LONG_1)).isEqualTo(1);
+        assertThat(someListLong.contains(TEST_LONG_0)).isTrue();
+        assertThat(someListLong.contains(-1L)).isFalse();
+    }
+
+    @DisplayName("Повторное открытие файла сохраняет элементы")
+    @Test
+    void reopenTest() throws IOException {
+
+        //given
+        Path path = directory.resolve("reopen.bin");
+        try (SomeMappedList<Long> list = SomeMappedList.create(path, RecordCodecs.LONG, RECORDS_PER_SEGMENT)) {
+            for (long i = 0; i < 50; i++) {
+                list.put(i * i);
+            }
+            list.delete(0);
+        }
+
+        //when
+        try (SomeMappedList<Long> reopened = SomeMappedList.open(path, RecordCodecs.LONG)) {
+            reopened.put(-1L);
+
+            //then
+            assertThat(reopened.size()).isEqualTo(50);
+            for (int i = 0; i < 49; i++) {
+                assertThat(reopened.get(i)).isEqualTo((long) (i + 1) * (i + 1));
+            }
+            assertThat(reopened.get(49)).isEqualTo(-1L);
+        }
+    }
+
+    @DisplayName("Открытие файла с другой длиной записи")
+    @Test
+    void reopenWithWrongCodecTest() throws IOException {
+
+        //given
+        Path path = directory.resolve("codec.bin");
+        SomeMappedList.create(path, RecordCodecs.LONG, RECORDS_PER_SEGMENT).close();
+
+        //then
+        assertThrows(IOException.class, () -> {
+            SomeMappedList.open(path, RecordCodecs.INTEGER);
+        });
+    }
+}
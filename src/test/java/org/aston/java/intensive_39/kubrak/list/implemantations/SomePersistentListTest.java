@@ -0,0 +1,207 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SomePersistentListTest {
+
+    private SomePersistentList<String> someListString;
+
+
+    private static final String TEST_STRING_0 = "testString0";
+    private static final String TEST_STRING_1 = "testString1";
+
+
+    @BeforeEach
+    void setUp() {
+
+        someListString = SomePersistentList.<String>empty().withPut(TEST_STRING_0).withPut(TEST_STRING_1);
+    }
+
+    @DisplayName("Новые версии не изменяют предыдущие")
+    @Test
+    void withPutKeepsOldVersionTest() {
+
+        //given
+        List<SomePersistentList<Integer>> versions = new ArrayList<>();
+        SomePersistentList<Integer> list = SomePersistentList.empty();
+
+        //when
+        for (int i = 0; i < 40_000; i++) {
+            versions.add(list);
+            list = list.withPut(i);
+        }
+
+        //then
+        assertThat(list.size()).isEqualTo(40_000);
+        for (int i = 0; i < list.size(); i++) {
+            assertThat(list.get(i)).isEqualTo(i);
+        }
+        for (int size : new int[]{0, 1, 32, 33, 1024, 1057, 32_768, 32_800}) {
+            SomePersistentList<Integer> version = versions.get(size);
+            assertThat(version.size()).isEqualTo(size);
+            for (int i = 0; i < size; i++) {
+                assertThat(version.get(i)).isEqualTo(i);
+            }
+        }
+    }
+
+    @DisplayName("Замена элемента создаёт новую версию")
+    @Test
+    void withSetTest() {
+
+        //when
+        SomePersistentList<String> changed = someListString.withSet("testStringNew", 0);
+
+        //then
+        assertThat(changed.get(0)).isEqualTo("testStringNew");
+        assertThat(someListString.get(0)).isEqualTo(TEST_STRING_0);
+        assertThat(changed.get(1)).isEqualTo(TEST_STRING_1);
+    }
+
+    @DisplayName("Вставка, удаление и замена совпадают с ArrayList и не меняют предыдущие версии")
+    @Test
+    void randomEditsTest() {
+
+        //given
+        Random random = new Random(39);
+        SomePersistentList<Integer> list = SomePersistentList.empty();
+        List<Integer> expected = new ArrayList<>();
+        List<SomePersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < 3000; i++) {
+            int operation = random.nextInt(5);
+            if (operation <= 1 || expected.isEmpty()) {
+                int position = random.nextInt(expected.size() + 1);
+                list = list.withInsert(i, position);
+                expected.add(position, i);
+            } else if (operation == 2) {
+                list = list.withPut(i);
+                expected.add(i);
+            } else if (operation == 3) {
+                int position = random.nextInt(expected.size());
+                list = list.withDelete(position);
+                expected.remove(position);
+            } else {
+                int position = random.nextInt(expected.size());
+                list = list.withSet(i, position);
+                expected.set(position, i);
+            }
+            if (i % 500 == 0) {
+                versions.add(list);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+
+        //then
+        assertThat(list.toSomeArrayList().stream().toList()).isEqualTo(expected);
+        for (int i = 0; i < versions.size(); i++) {
+            assertThat(versions.get(i).stream().toList()).isEqualTo(expectedVersions.get(i));
+        }
+    }
+
+    @DisplayName("Удаление последних элементов уменьшает высоту дерева")
+    @Test
+    void withDeleteLastTest() {
+
+        //given
+        SomePersistentList.Builder<Integer> builder = SomePersistentList.builder();
+        for (int i = 0; i < 1100; i++) {
+            builder.put(i);
+        }
+        SomePersistentList<Integer> list = builder.build();
+
+        //when
+        for (int i = 1099; i >= 0; i--) {
+            list = list.withDelete(i);
+
+            //then
+            assertThat(list.size()).isEqualTo(i);
+            if (i > 0) {
+                assertThat(list.get(i - 1)).isEqualTo(i - 1);
+            }
+        }
+        assertThat(list.isEmpty()).isTrue();
+    }
+
+    @DisplayName("Преобразование в SomeArrayList и обратно")
+    @Test
+    void someArrayListConversionTest() {
+
+        //given
+        SomeArrayList<Integer> source = new SomeArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            source.put(i * 7 % 5000);
+        }
+
+        //when
+        SomePersistentList<Integer> persistent = SomePersistentList.copyOf(source);
+        SomeArrayList<Integer> copy = persistent.toSomeArrayList();
+        copy.set(-1, 0);
+
+        //then
+        assertThat(persistent.size()).isEqualTo(5000);
+        assertThat(copy.size()).isEqualTo(5000);
+        for (int i = 1; i < 5000; i++) {
+            assertThat(copy.get(i)).isEqualTo(source.get(i));
+        }
+        assertThat(persistent.get(0)).isEqualTo(0);
+        assertThat(persistent.getIndex(4999 * 7 % 5000)).isEqualTo(4999);
+        assertThat(persistent.contains(-1)).isFalse();
+    }
+
+    @DisplayName("Построитель продолжает существующий список, не изменяя его")
+    @Test
+    void toBuilderTest() {
+
+        //given
+        SomePersistentList.Builder<String> builder = someListString.toBuilder();
+
+        //when
+        for (int i = 2; i < 100; i++) {
+            builder.put("testString" + i);
+        }
+        SomePersistentList<String> built = builder.build();
+
+        //then
+        assertThat(someListString.size()).isEqualTo(2);
+        assertThat(built.size()).isEqualTo(100);
+        assertThat(built.get(99)).isEqualTo("testString99");
+        assertThrows(IllegalStateException.class, () -> {builder.put("test");});
+    }
+
+    @DisplayName("Сортировка возвращает новую версию")
+    @Test
+    void sortedTest() {
+
+        //when
+        SomePersistentList<String> sorted = someListString.withPut("testString2").sorted(Comparator.reverseOrder());
+
+        //then
+        for (int i = 0; i < sorted.size(); i++) {
+            assertThat(sorted.get(i)).isEqualTo("testString" + (2 - i));
+        }
+        assertThat(someListString.get(0)).isEqualTo(TEST_STRING_0);
+    }
+
+    @DisplayName("Изменяющие методы и обращение за пределами коллекции (negative)")
+    @Test
+    void unsupportedAndOutOfBoundsTest() {
+
+        assertThrows(UnsupportedOperationException.class, () -> {someListString.put("test");});
+        assertThrows(UnsupportedOperationException.class, () -> {someListString.delete(0);});
+        assertThrows(UnsupportedOperationException.class, () -> {someListString.sort();});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someListString.get(2);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someListString.withSet("test", -1);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someListString.withInsert("test", 3);});
+    }
+}
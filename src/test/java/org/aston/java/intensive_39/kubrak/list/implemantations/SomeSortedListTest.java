@@ -0,0 +1,185 @@
+package org.aston.java.intensive_39.kubrak.list.implemantations;
+
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SomeSortedListTest {
+
+    private static SomeSortedList<String> someSortedList;
+
+
+    private static final String TEST_STRING_0 = "testString0";
+    private static final String TEST_STRING_1 = "testString1";
+
+
+    @BeforeAll
+    static void setUpInit() {
+
+        someSortedList = new SomeSortedList<>();
+    }
+
+
+    @BeforeEach
+    void setUp() {
+
+        someSortedList.put(TEST_STRING_1);
+        someSortedList.put(TEST_STRING_0);
+    }
+
+    @AfterEach
+    void cleanUp() {
+
+        someSortedList.deleteAll();
+    }
+
+    @DisplayName("Вставка сохраняет порядок")
+    @Test
+    void putTest() {
+
+        //when
+        someSortedList.put("testString3");
+        someSortedList.put("testString2");
+
+        //then
+        assertThat(someSortedList.size()).isEqualTo(4);
+        for (int i = 0; i < someSortedList.size(); i++) {
+            assertThat(someSortedList.get(i)).isEqualTo("testString" + i);
+        }
+    }
+
+    @DisplayName("Вставка и замена на позицию допускаются только без нарушения порядка")
+    @Test
+    void insertAndSetTest() {
+
+        //when
+        someSortedList.insert("testString05", 1);
+        someSortedList.set("testString06", 1);
+
+        //then
+        assertThat(someSortedList.get(1)).isEqualTo("testString06");
+        assertThrows(IllegalArgumentException.class, () -> {someSortedList.insert("testString2", 0);});
+        assertThrows(IllegalArgumentException.class, () -> {someSortedList.set("testString2", 1);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someSortedList.get(696);});
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {someSortedList.delete(696);});
+    }
+
+    @DisplayName("Поиск индекса двоичным поиском")
+    @Test
+    void getIndexTest() {
+
+        //given
+        someSortedList.put(TEST_STRING_1);
+
+        //then
+        assertThat(someSortedList.getIndex(TEST_STRING_0)).isZero();
+        assertThat(someSortedList.getIndex(TEST_STRING_1)).isEqualTo(1);
+        assertThat(someSortedList.getIndex("testString2")).isEqualTo(-1);
+        assertThat(someSortedList.contains(TEST_STRING_1)).isTrue();
+        assertThat(someSortedList.contains("testString05")).isFalse();
+    }
+
+    @DisplayName("Поиск границ и выборка диапазона")
+    @Test
+    void rangeQueriesTest() {
+
+        //given
+        someSortedList.putAll(new String[]{"testString4", "testString2", "testString3"});
+
+        //when
+        SomeSortedList<String> range = someSortedList.subRange("testString1", "testString35");
+
+        //then
+        assertThat(someSortedList.indexOfFirstGreaterOrEqual("testString2")).isEqualTo(2);
+        assertThat(someSortedList.indexOfFirstGreater("testString2")).isEqualTo(3);
+        assertThat(someSortedList.indexOfFirstGreaterOrEqual("testString9")).isEqualTo(5);
+        assertThat(range.size()).isEqualTo(3);
+        assertThat(range.get(0)).isEqualTo(TEST_STRING_1);
+        assertThat(range.get(2)).isEqualTo("testString3");
+        assertThat(someSortedList.subRange("testString3", "testString2").isEmpty()).isTrue();
+    }
+
+    @DisplayName("Групповая вставка совпадает с поэлементной")
+    @Test
+    void putAllTest() {
+
+        //given
+        SomeSortedList<Integer> merged = new SomeSortedList<>(Comparator.reverseOrder());
+        SomeSortedList<Integer> oneByOne = new SomeSortedList<>(Comparator.reverseOrder());
+        Random random = new Random(39);
+
+        for (int batch = 0; batch < 20; batch++) {
+            List<Integer> values = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                values.add(random.nextInt(1000));
+            }
+
+            //when
+            merged.putAll(values);
+            for (Integer value : values) {
+                oneByOne.put(value);
+            }
+        }
+
+        //then
+        assertThat(merged.size()).isEqualTo(oneByOne.size());
+        for (int i = 0; i < merged.size(); i++) {
+            assertThat(merged.get(i)).isEqualTo(oneByOne.get(i));
+        }
+        for (int i = 1; i < merged.size(); i++) {
+            assertThat(merged.get(i - 1)).isGreaterThanOrEqualTo(merged.get(i));
+        }
+    }
+
+    @DisplayName("Удаление элементов")
+    @Test
+    void deleteTest() {
+
+        //given
+        someSortedList.putAll(List.of("testString2", "testString3", "testString4"));
+
+        //when
+        someSortedList.delete(0);
+        someSortedList.deleteRange(1, 2);
+        int removed = someSortedList.removeIf(t -> t.endsWith("4"));
+
+        //then
+        assertThat(removed).isEqualTo(1);
+        assertThat(someSortedList.size()).isEqualTo(2);
+        assertThat(someSortedList.get(0)).isEqualTo(TEST_STRING_1);
+        assertThat(someSortedList.get(1)).isEqualTo("testString3");
+    }
+
+    @DisplayName("Сортировка")
+    @Test
+    void sortTest() {
+
+        //when
+        someSortedList.sort();
+        someSortedList.sort(null);
+
+        //then
+        assertThat(someSortedList.get(0)).isEqualTo(TEST_STRING_0);
+        assertThat(someSortedList.get(1)).isEqualTo(TEST_STRING_1);
+        assertThrows(UnsupportedOperationException.class, () -> {someSortedList.sort(Comparator.reverseOrder());});
+    }
+
+    @DisplayName("Удаление всех элементов коллекции")
+    @Test
+    void deleteAllTest() {
+
+        //when
+        someSortedList.deleteAll();
+
+        //then
+        assertThat(someSortedList.size()).isZero();
+        assertThat(someSortedList.isEmpty()).isTrue();
+        assertThat(someSortedList.contains(TEST_STRING_0)).isFalse();
+    }
+}